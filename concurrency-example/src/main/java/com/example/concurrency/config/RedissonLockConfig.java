@@ -0,0 +1,30 @@
+package com.example.concurrency.config;
+
+import org.redisson.spring.starter.RedissonAutoConfigurationCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Redisson 락 Watchdog 설정
+ *
+ * tryLock()에 leaseTime을 주지 않으면 Watchdog이 lockWatchdogTimeout 만큼의 리스로 락을 잡고,
+ * 소유 스레드가 살아 있는 동안 lockWatchdogTimeout / 3 간격으로 리스를 다시 연장합니다.
+ *
+ * [기본값 30초의 문제]
+ * - 소유 프로세스가 죽으면 최대 30초 동안 아무도 락을 잡지 못함
+ *
+ * [짧은 리스 (500ms)]
+ * - 정상 작업: 약 166ms마다 연장되므로 작업 시간과 무관하게 락 유지
+ * - 프로세스 장애: 500ms 안에 다음 소유자에게 인계
+ * - 연장이 끊긴 뒤 늦게 도착한 쓰기는 펜싱 토큰이 막아줌 (RedissonStockService 참고)
+ */
+@Configuration
+public class RedissonLockConfig {
+
+    private static final long LOCK_WATCHDOG_TIMEOUT_MS = 500L;
+
+    @Bean
+    public RedissonAutoConfigurationCustomizer lockWatchdogCustomizer() {
+        return config -> config.setLockWatchdogTimeout(LOCK_WATCHDOG_TIMEOUT_MS);
+    }
+}
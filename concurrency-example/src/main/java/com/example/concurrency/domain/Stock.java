@@ -31,6 +31,13 @@ public class Stock {
      */
     private Long quantity;
 
+    /**
+     * 펜싱 토큰 (Fencing Token)
+     * 이 재고를 마지막으로 수정한 락 소유자의 토큰입니다.
+     * 락 리스가 만료된 뒤 늦게 도착한 이전 소유자의 쓰기는 토큰이 더 작으므로 거부됩니다.
+     */
+    private Long fenceToken = 0L;
+
     /**
      * 생성자
      * @param productId 상품 ID
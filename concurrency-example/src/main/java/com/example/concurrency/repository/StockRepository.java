@@ -2,6 +2,9 @@ package com.example.concurrency.repository;
 
 import com.example.concurrency.domain.Stock;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 /**
  * Stock 엔티티에 대한 Repository
@@ -15,4 +18,43 @@ public interface StockRepository extends JpaRepository<Stock, Long> {
     // - findById()
     // - saveAndFlush()
     // - deleteAll()
+
+    /**
+     * 조건부 UPDATE로 재고를 원자적으로 감소
+     *
+     * [실행 SQL]
+     * UPDATE stock SET quantity = quantity - ? WHERE id = ? AND quantity >= ?
+     *
+     * - 조회 없이 DB가 한 문장 안에서 검사와 감소를 함께 수행합니다
+     * - 재고가 부족하면 WHERE 조건을 만족하지 않아 0건이 갱신됩니다
+     *
+     * @param id 재고 ID
+     * @param quantity 감소할 수량
+     * @return 갱신된 행 수 (1: 성공, 0: 재고 부족 또는 재고 없음)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Stock s SET s.quantity = s.quantity - :quantity WHERE s.id = :id AND s.quantity >= :quantity")
+    int decreaseQuantity(@Param("id") Long id, @Param("quantity") Long quantity);
+
+    /**
+     * 펜싱 토큰을 검사하며 재고를 감소
+     *
+     * [실행 SQL]
+     * UPDATE stock SET quantity = quantity - ?, fence_token = ?
+     * WHERE id = ? AND fence_token < ? AND quantity >= ?
+     *
+     * - 더 큰 토큰으로 이미 수정된 행이면 0건이 갱신됩니다 (리스가 만료된 이전 락 소유자)
+     * - 재고가 부족해도 0건이 갱신됩니다
+     *
+     * @param id 재고 ID
+     * @param quantity 감소할 수량
+     * @param token 현재 락 소유자의 펜싱 토큰
+     * @return 갱신된 행 수 (1: 성공, 0: 토큰 만료, 재고 부족 또는 재고 없음)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Stock s SET s.quantity = s.quantity - :quantity, s.fenceToken = :token " +
+            "WHERE s.id = :id AND s.fenceToken < :token AND s.quantity >= :quantity")
+    int decreaseQuantityWithFence(@Param("id") Long id,
+                                  @Param("quantity") Long quantity,
+                                  @Param("token") Long token);
 }
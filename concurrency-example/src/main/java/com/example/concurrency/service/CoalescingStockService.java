@@ -0,0 +1,248 @@
+package com.example.concurrency.service;
+
+import com.example.concurrency.domain.Stock;
+import com.example.concurrency.repository.StockRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 요청 병합(Request Coalescing)을 사용한 재고 관리 서비스
+ *
+ * [동작 원리]
+ * 같은 재고 ID에 대한 동시 요청을 짧은 시간(윈도우) 동안 모아서
+ * 하나의 트랜잭션, 하나의 조건부 UPDATE로 합산 감소를 수행합니다.
+ * 각 요청자는 CompletableFuture로 자신의 결과(성공/재고 부족)를 받습니다.
+ *
+ * [락 기반 방식과의 차이]
+ * ```
+ * [Redisson] 1,000명 구매 → 락 획득/해제 1,000번 + 트랜잭션 1,000번
+ * [Coalescing] 1,000명 구매 → 배치 N개 (요청 최대 100개씩) → 트랜잭션 N번
+ * ```
+ *
+ * [배치 실행 흐름]
+ * ```
+ * 요청 1 (수량 1) ─┐
+ * 요청 2 (수량 2) ─┼─ 5ms 윈도우 또는 100개 도달 → UPDATE stock SET quantity = quantity - 6
+ * 요청 3 (수량 3) ─┘                              WHERE id = ? AND quantity >= 6
+ *                                                  ↓
+ *                                   1건 갱신 → 모든 Future 성공
+ *                                   0건 갱신 → 요청별 조건부 UPDATE로 분할 처리
+ * ```
+ *
+ * [장점]
+ * 1. 락이 필요 없음 - DB의 조건부 UPDATE가 원자성을 보장
+ * 2. 인기 상품(Hot Row)에 몰린 요청을 소수의 트랜잭션으로 처리
+ * 3. 분산 환경에서도 안전 (각 서버의 배치가 각각 조건부 UPDATE 실행)
+ *
+ * [단점]
+ * 1. 윈도우 시간만큼 응답 지연이 추가됨
+ * 2. 재고가 거의 소진되면 요청별 분할 처리로 전환되어 이득이 줄어듦
+ * 3. 엔티티의 도메인 로직(Stock.decrease)을 거치지 않음
+ *
+ * [주의사항]
+ * - 배치는 별도 스레드에서 실행되므로 호출자의 트랜잭션에 참여하지 않습니다
+ * - 재고 부족은 예외가 아니라 Future 결과 false로 전달됩니다
+ */
+@Slf4j
+@Service
+public class CoalescingStockService {
+
+    private static final long BATCH_WINDOW_MS = 5L;  // 요청을 모으는 최대 시간
+    private static final int MAX_BATCH_SIZE = 100;   // 배치당 최대 요청 수
+
+    private final StockRepository stockRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 재고 ID별로 현재 요청을 모으고 있는 배치
+     */
+    private final ConcurrentHashMap<Long, PendingBatch> pendingBatches = new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService windowScheduler = Executors.newSingleThreadScheduledExecutor();
+    private final ExecutorService batchExecutor = Executors.newFixedThreadPool(4);
+
+    /**
+     * 실행된 배치 트랜잭션 수 (성능 비교용)
+     */
+    private final AtomicLong executedBatchCount = new AtomicLong();
+
+    public CoalescingStockService(StockRepository stockRepository,
+                                  PlatformTransactionManager transactionManager) {
+        this.stockRepository = stockRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 재고 감소 요청을 배치에 등록
+     *
+     * [동작 과정]
+     * 1. 해당 재고 ID의 열린 배치가 없으면 새로 만들고 윈도우 타이머 등록
+     * 2. 배치에 요청 추가
+     * 3. 배치가 가득 차면 즉시 실행, 아니면 윈도우 만료 시 실행
+     *
+     * @param id 재고 ID
+     * @param quantity 감소할 수량
+     * @return 성공 시 true, 재고 부족 시 false로 완료되는 Future
+     */
+    public CompletableFuture<Boolean> decrease(Long id, Long quantity) {
+        if (quantity == null || quantity <= 0) {
+            throw new IllegalArgumentException("감소 수량은 1개 이상이어야 합니다.");
+        }
+
+        DecreaseRequest request = new DecreaseRequest(quantity);
+
+        while (true) {
+            PendingBatch batch = pendingBatches.computeIfAbsent(id, this::openBatch);
+            int size = batch.add(request);
+
+            if (size < 0) {
+                // 이미 실행이 시작된 배치 - 새 배치로 다시 시도
+                continue;
+            }
+            if (size >= MAX_BATCH_SIZE) {
+                flush(id, batch);
+            }
+            return request.future;
+        }
+    }
+
+    /**
+     * 재고 조회
+     *
+     * @param id 재고 ID
+     * @return 재고 엔티티
+     */
+    public Stock getStock(Long id) {
+        return stockRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("재고를 찾을 수 없습니다."));
+    }
+
+    /**
+     * 지금까지 실행된 배치 트랜잭션 수
+     */
+    public long getExecutedBatchCount() {
+        return executedBatchCount.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        windowScheduler.shutdown();
+        batchExecutor.shutdown();
+    }
+
+    private PendingBatch openBatch(Long id) {
+        PendingBatch batch = new PendingBatch();
+        windowScheduler.schedule(() -> flush(id, batch), BATCH_WINDOW_MS, TimeUnit.MILLISECONDS);
+        return batch;
+    }
+
+    /**
+     * 배치를 닫고 실행 스레드에 넘김
+     * 윈도우 만료와 배치 가득 참이 동시에 발생해도 한 번만 실행됩니다.
+     */
+    private void flush(Long id, PendingBatch batch) {
+        List<DecreaseRequest> requests = batch.close();
+        if (requests == null) {
+            return;
+        }
+        pendingBatches.remove(id, batch);
+        batchExecutor.execute(() -> execute(id, requests));
+    }
+
+    private void execute(Long id, List<DecreaseRequest> requests) {
+        long totalQuantity = requests.stream().mapToLong(request -> request.quantity).sum();
+
+        try {
+            boolean[] results = transactionTemplate.execute(status -> apply(id, requests, totalQuantity));
+            executedBatchCount.incrementAndGet();
+
+            for (int i = 0; i < requests.size(); i++) {
+                requests.get(i).future.complete(results[i]);
+            }
+        } catch (Exception e) {
+            log.error("[Coalescing] 배치 실행 실패 - 재고 ID: {}, 요청 수: {}", id, requests.size(), e);
+            requests.forEach(request -> request.future.completeExceptionally(e));
+        }
+    }
+
+    /**
+     * 하나의 트랜잭션 안에서 배치 적용
+     *
+     * 1. 합산 수량으로 조건부 UPDATE 1회 → 성공하면 전체 성공
+     * 2. 실패(재고 부족)하면 요청 순서대로 조건부 UPDATE → 가능한 요청만 성공
+     */
+    private boolean[] apply(Long id, List<DecreaseRequest> requests, long totalQuantity) {
+        boolean[] results = new boolean[requests.size()];
+
+        if (stockRepository.decreaseQuantity(id, totalQuantity) == 1) {
+            log.info("[Coalescing] 배치 감소 완료 - 재고 ID: {}, 요청 수: {}, 합산 수량: {}",
+                    id, requests.size(), totalQuantity);
+            Arrays.fill(results, true);
+            return results;
+        }
+
+        log.info("[Coalescing] 합산 감소 실패, 요청별 처리로 전환 - 재고 ID: {}, 요청 수: {}, 합산 수량: {}",
+                id, requests.size(), totalQuantity);
+        for (int i = 0; i < requests.size(); i++) {
+            results[i] = stockRepository.decreaseQuantity(id, requests.get(i).quantity) == 1;
+        }
+        return results;
+    }
+
+    /**
+     * 개별 재고 감소 요청
+     */
+    private static class DecreaseRequest {
+        private final long quantity;
+        private final CompletableFuture<Boolean> future = new CompletableFuture<>();
+
+        private DecreaseRequest(long quantity) {
+            this.quantity = quantity;
+        }
+    }
+
+    /**
+     * 요청을 모으는 배치
+     * 닫힌 뒤에는 요청을 받지 않으므로 실행 중인 배치에 요청이 섞이지 않습니다.
+     */
+    private static class PendingBatch {
+        private final List<DecreaseRequest> requests = new ArrayList<>();
+        private boolean closed;
+
+        /**
+         * @return 추가 후 배치 크기, 이미 닫힌 배치이면 -1
+         */
+        synchronized int add(DecreaseRequest request) {
+            if (closed) {
+                return -1;
+            }
+            requests.add(request);
+            return requests.size();
+        }
+
+        /**
+         * @return 배치의 요청 목록, 이미 닫힌 배치이면 null
+         */
+        synchronized List<DecreaseRequest> close() {
+            if (closed) {
+                return null;
+            }
+            closed = true;
+            return requests;
+        }
+    }
+}
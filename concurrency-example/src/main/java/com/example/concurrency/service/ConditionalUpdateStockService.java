@@ -0,0 +1,83 @@
+package com.example.concurrency.service;
+
+import com.example.concurrency.domain.Stock;
+import com.example.concurrency.repository.StockRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 조건부 UPDATE를 사용한 재고 관리 서비스
+ *
+ * [동작 원리]
+ * 재고를 조회-수정-저장(Read-Modify-Write)하지 않고,
+ * DB에 UPDATE 문 하나로 검사와 감소를 함께 맡깁니다.
+ * ```
+ * UPDATE stock SET quantity = quantity - ? WHERE id = ? AND quantity >= ?
+ * ```
+ *
+ * [왜 락이 필요 없는가?]
+ * - Lost Update는 "읽은 값"을 기준으로 계산한 결과를 덮어쓸 때 발생합니다
+ * - 이 방식은 애플리케이션이 값을 읽지 않으므로 덮어쓸 값 자체가 없습니다
+ * - DB가 해당 행에 쓰기 락을 걸고 현재 값 기준으로 감소시키므로 동시 요청도 순서대로 반영됩니다
+ *
+ * [장점]
+ * 1. 락(synchronized, Redis)이 필요 없음
+ * 2. DB 왕복 1회 (조회 + 저장 → UPDATE 1회)
+ * 3. 분산 환경에서도 안전 (여러 서버/Pod)
+ * 4. 재고가 음수가 되지 않음 (WHERE quantity >= ?)
+ *
+ * [단점]
+ * 1. 엔티티의 도메인 로직(Stock.decrease)을 거치지 않음
+ * 2. 감소 외에 복잡한 검증이 필요한 경우 SQL로 표현해야 함
+ * 3. 같은 행에 대한 요청은 DB 행 락에서 순차 처리됨
+ *
+ * [주의사항]
+ * - 벌크 UPDATE는 영속성 컨텍스트를 거치지 않으므로 clearAutomatically로 캐시를 비웁니다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ConditionalUpdateStockService {
+
+    private final StockRepository stockRepository;
+
+    /**
+     * 조건부 UPDATE를 사용한 재고 감소
+     *
+     * [동작 과정]
+     * 1. UPDATE ... WHERE id = ? AND quantity >= ? 실행
+     * 2. 갱신된 행이 1건이면 성공
+     * 3. 0건이면 재고가 없거나 부족한 경우이므로 원인을 구분하여 예외 발생
+     *
+     * @param id 재고 ID
+     * @param quantity 감소할 수량
+     * @throws IllegalArgumentException 재고를 찾을 수 없거나 재고가 부족한 경우
+     */
+    @Transactional
+    public void decrease(Long id, Long quantity) {
+        int updated = stockRepository.decreaseQuantity(id, quantity);
+
+        if (updated == 0) {
+            if (!stockRepository.existsById(id)) {
+                throw new IllegalArgumentException("재고를 찾을 수 없습니다.");
+            }
+            throw new IllegalArgumentException("재고는 0개 미만이 될 수 없습니다.");
+        }
+
+        log.info("[Conditional Update] 재고 감소 완료 - ID: {}, 수량: {}, 스레드: {}",
+                id, quantity, Thread.currentThread().getName());
+    }
+
+    /**
+     * 재고 조회
+     *
+     * @param id 재고 ID
+     * @return 재고 엔티티
+     */
+    public Stock getStock(Long id) {
+        return stockRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("재고를 찾을 수 없습니다."));
+    }
+}
@@ -4,10 +4,10 @@ import com.example.concurrency.domain.Stock;
 import com.example.concurrency.repository.StockRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.redisson.api.RLock;
+import org.redisson.api.RFencedLock;
 import org.redisson.api.RedissonClient;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.concurrent.TimeUnit;
 
@@ -63,9 +63,19 @@ import java.util.concurrent.TimeUnit;
  * ✅ 높은 트래픽 환경 (Lettuce보다 성능 좋음)
  *
  * [트랜잭션 처리]
- * - @Transactional을 반드시 사용해야 합니다!
- * - 락 획득 후 DB 작업 중 예외 발생 시 롤백 필요
- * - 락은 finally 블록에서 해제, 트랜잭션은 @Transactional이 자동 롤백
+ * - 메서드 전체에 @Transactional을 걸면 unlock()이 커밋보다 먼저 실행됩니다!
+ *   → 다음 소유자가 커밋 전 데이터를 읽을 수 있음
+ * - TransactionTemplate으로 락 안에서만 트랜잭션을 열고, 커밋 후 락을 해제합니다
+ * - DB 작업 중 예외 발생 시 트랜잭션 롤백, 락은 finally 블록에서 해제
+ *
+ * [리스 연장(Watchdog) + 펜싱 토큰]
+ * - 고정 leaseTime(3초)은 GC 일시 정지나 느린 쿼리로 작업이 길어지면
+ *   작업 도중 락이 만료되어 두 번째 소유자가 들어올 수 있습니다
+ * - leaseTime을 지정하지 않으면 Watchdog이 작업 중인 락을 주기적으로 연장합니다
+ *   (RedissonLockConfig에서 리스를 수백 ms로 짧게 설정 → 크래시 시 빠른 인계)
+ * - 그래도 프로세스가 멈춰 연장이 끊기면 락이 넘어갈 수 있으므로,
+ *   RFencedLock이 발급하는 단조 증가 토큰을 재고 행에 기록하고 UPDATE에서 검사합니다
+ * - 이전 소유자가 늦게 쓰기를 시도해도 토큰이 더 작아 0건 갱신 → 거부
  *
  * [주의사항]
  * - tryLock() 타임아웃 설정 필수
@@ -79,21 +89,21 @@ public class RedissonStockService {
 
     private final StockRepository stockRepository;
     private final RedissonClient redissonClient;
+    private final TransactionTemplate transactionTemplate;
 
     private static final String LOCK_KEY_PREFIX = "stock:lock:";
     private static final long LOCK_WAIT_TIME_SECONDS = 5L;  // 락 획득 대기 시간
-    private static final long LOCK_LEASE_TIME_SECONDS = 3L; // 락 유지 시간
+    // 락 유지 시간은 지정하지 않음 → Watchdog 자동 연장 (RedissonLockConfig 참고)
 
     /**
      * Redisson 분산 락을 사용한 재고 감소
      *
      * [동작 과정]
-     * 1. Redisson RLock 객체 생성 (재고 ID별)
-     * 2. tryLock()으로 락 획득 시도 (최대 5초 대기)
+     * 1. Redisson RFencedLock 객체 생성 (재고 ID별)
+     * 2. tryLockAndGetToken()으로 락 획득 시도 (최대 5초 대기) → 펜싱 토큰 발급
      * 3. 락 획득 성공 시:
-     *    - 트랜잭션 시작 (@Transactional)
-     *    - 재고 조회 및 감소
-     *    - DB 저장
+     *    - 트랜잭션 시작 (TransactionTemplate)
+     *    - 토큰 검사 + 재고 감소 UPDATE
      *    - 트랜잭션 커밋
      *    - 락 해제 (finally)
      * 4. 락 획득 실패 시: 예외 발생
@@ -128,68 +138,53 @@ public class RedissonStockService {
      *
      * [트랜잭션과 락의 범위]
      * ```
-     * tryLock()              ← 락 시작
+     * tryLockAndGetToken()    ← 락 시작 (토큰 발급, Watchdog 연장 시작)
      *   ↓
-     * @Transactional 시작    ← 트랜잭션 시작
+     * 트랜잭션 시작           ← TransactionTemplate
      *   ↓
-     * DB 조회/수정/저장
+     * UPDATE ... WHERE fence_token < 토큰
      *   ↓
-     * @Transactional 커밋    ← 트랜잭션 종료
+     * 트랜잭션 커밋           ← 트랜잭션 종료
      *   ↓
-     * unlock()              ← 락 해제
+     * unlock()               ← 락 해제
      * ```
      * 락의 범위가 트랜잭션보다 크므로 안전합니다!
      *
      * [예외 발생 시 처리]
-     * - DB 작업 중 예외 발생 → @Transactional이 자동 롤백
+     * - DB 작업 중 예외 발생 → 트랜잭션 롤백
      * - finally 블록에서 락 해제
      * - 따라서 데이터 일관성 보장
      *
      * @param id 재고 ID
      * @param quantity 감소할 수량
-     * @throws IllegalArgumentException 재고를 찾을 수 없는 경우
-     * @throws IllegalStateException 재고가 부족하거나 락 획득 실패한 경우
+     * @throws IllegalArgumentException 재고를 찾을 수 없거나 재고가 부족한 경우
+     * @throws IllegalStateException 락 획득에 실패했거나 펜싱 토큰이 만료된 경우
      */
-    @Transactional
     public void decrease(Long id, Long quantity) {
         String lockKey = LOCK_KEY_PREFIX + id;
-        RLock lock = redissonClient.getLock(lockKey);
+        RFencedLock lock = redissonClient.getFencedLock(lockKey);
 
         log.info("[Redisson Lock] 락 획득 시도 - 재고 ID: {}, 스레드: {}",
                 id, Thread.currentThread().getName());
 
         try {
-            // tryLock(대기시간, 락유지시간, 시간단위)
+            // tryLockAndGetToken(대기시간, 시간단위)
             // - 대기시간: 락 획득을 위해 최대 얼마나 기다릴지
-            // - 락유지시간: 락을 획득한 후 최대 얼마나 유지할지 (Watchdog 사용 시 자동 연장)
-            boolean available = lock.tryLock(LOCK_WAIT_TIME_SECONDS, LOCK_LEASE_TIME_SECONDS, TimeUnit.SECONDS);
+            // - 락유지시간을 지정하지 않으므로 Watchdog이 작업 중 리스를 자동 연장
+            // - 반환값: 단조 증가하는 펜싱 토큰 (획득 실패 시 null)
+            Long token = lock.tryLockAndGetToken(LOCK_WAIT_TIME_SECONDS, TimeUnit.SECONDS);
 
-            if (!available) {
+            if (token == null) {
                 log.error("[Redisson Lock] 락 획득 타임아웃 - 재고 ID: {}, 스레드: {}",
                         id, Thread.currentThread().getName());
                 throw new IllegalStateException("락 획득에 실패했습니다. 잠시 후 다시 시도해주세요.");
             }
 
-            log.info("[Redisson Lock] 락 획득 성공 - 재고 ID: {}, 스레드: {}",
-                    id, Thread.currentThread().getName());
-
-            // 트랜잭션 시작 (@Transactional)
-            // 락 획득 후 DB 작업 수행
-            Stock stock = stockRepository.findById(id)
-                    .orElseThrow(() -> new IllegalArgumentException("재고를 찾을 수 없습니다."));
-
-            stock.decrease(quantity);
-            stockRepository.saveAndFlush(stock);
+            log.info("[Redisson Lock] 락 획득 성공 - 재고 ID: {}, 토큰: {}, 스레드: {}",
+                    id, token, Thread.currentThread().getName());
 
-            log.info("[Redisson Lock] 재고 감소 완료 - ID: {}, 남은 재고: {}, 스레드: {}",
-                    id, stock.getQuantity(), Thread.currentThread().getName());
-
-            // 트랜잭션 커밋 (@Transactional)
-
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            log.error("[Redisson Lock] 락 획득 중 인터럽트 발생 - 재고 ID: {}", id, e);
-            throw new IllegalStateException("재고 감소 처리 중 오류가 발생했습니다.", e);
+            // 락 안에서 트랜잭션 시작 → 커밋 후 락 해제
+            transactionTemplate.executeWithoutResult(status -> decreaseWithFence(id, quantity, token));
 
         } finally {
             // 락 해제
@@ -203,6 +198,32 @@ public class RedissonStockService {
         }
     }
 
+    /**
+     * 펜싱 토큰을 검사하며 재고 감소 (트랜잭션 안에서 실행)
+     *
+     * 0건이 갱신되면 원인을 구분하기 위해 한 번 더 조회합니다.
+     * - 행의 토큰이 내 토큰 이상: 리스가 만료되어 더 최신 소유자가 이미 수정함
+     * - 그 외: 재고 부족
+     */
+    private void decreaseWithFence(Long id, Long quantity, Long token) {
+        int updated = stockRepository.decreaseQuantityWithFence(id, quantity, token);
+
+        if (updated == 0) {
+            Stock stock = stockRepository.findById(id)
+                    .orElseThrow(() -> new IllegalArgumentException("재고를 찾을 수 없습니다."));
+
+            if (stock.getFenceToken() >= token) {
+                log.error("[Redisson Lock] 펜싱 토큰 만료로 쓰기 거부 - 재고 ID: {}, 내 토큰: {}, 현재 토큰: {}",
+                        id, token, stock.getFenceToken());
+                throw new IllegalStateException("락 리스가 만료되어 다른 요청이 먼저 재고를 변경했습니다.");
+            }
+            throw new IllegalArgumentException("재고는 0개 미만이 될 수 없습니다.");
+        }
+
+        log.info("[Redisson Lock] 재고 감소 완료 - ID: {}, 토큰: {}, 스레드: {}",
+                id, token, Thread.currentThread().getName());
+    }
+
     /**
      * 재고 조회
      *
@@ -0,0 +1,75 @@
+package com.example.concurrency.benchmark;
+
+import java.util.Arrays;
+
+/**
+ * 벤치마크 한 케이스(전략 × 스레드 수 × 키 분포 × 수량)의 측정 결과
+ *
+ * JSON 결과 파일의 한 항목으로 그대로 직렬화됩니다.
+ *
+ * @param strategy            동시성 제어 방식
+ * @param threads             동시 요청 스레드 수
+ * @param distribution        키 분포 (HOT / UNIFORM / ZIPF)
+ * @param keys                사용한 재고 키 개수
+ * @param quantity            요청당 감소 수량
+ * @param requests            전체 요청 수
+ * @param successes           성공 요청 수
+ * @param failures            실패 요청 수 (락 획득 실패, 재고 부족 등)
+ * @param elapsedMillis       전체 소요 시간
+ * @param throughputPerSecond 초당 성공 요청 수
+ * @param p50Millis           지연 시간 50번째 백분위
+ * @param p99Millis           지연 시간 99번째 백분위
+ * @param p999Millis          지연 시간 99.9번째 백분위
+ * @param maxMillis           최대 지연 시간
+ * @param dbStatements        실행된 JDBC 문장 수 (Hibernate Statistics)
+ * @param dbStatementsPerSuccess 성공 1건당 DB 왕복 횟수
+ * @param stockConsistent     최종 재고 합계가 성공 요청 수와 정확히 일치하는지
+ */
+public record BenchmarkResult(
+        String strategy,
+        int threads,
+        KeyDistribution distribution,
+        int keys,
+        long quantity,
+        int requests,
+        int successes,
+        int failures,
+        long elapsedMillis,
+        double throughputPerSecond,
+        double p50Millis,
+        double p99Millis,
+        double p999Millis,
+        double maxMillis,
+        long dbStatements,
+        double dbStatementsPerSuccess,
+        boolean stockConsistent
+) {
+
+    /**
+     * 요청별 지연 시간(ns)으로부터 결과 생성
+     */
+    public static BenchmarkResult of(String strategy, int threads, KeyDistribution distribution, int keys,
+                                     long quantity, long[] latencyNanos, int successes, long elapsedMillis,
+                                     long dbStatements, boolean stockConsistent) {
+        long[] sorted = latencyNanos.clone();
+        Arrays.sort(sorted);
+
+        int requests = sorted.length;
+        double throughput = elapsedMillis == 0 ? 0.0 : successes * 1000.0 / elapsedMillis;
+        double statementsPerSuccess = successes == 0 ? 0.0 : (double) dbStatements / successes;
+
+        return new BenchmarkResult(strategy, threads, distribution, keys, quantity, requests,
+                successes, requests - successes, elapsedMillis, throughput,
+                percentileMillis(sorted, 0.50), percentileMillis(sorted, 0.99),
+                percentileMillis(sorted, 0.999), percentileMillis(sorted, 1.0),
+                dbStatements, statementsPerSuccess, stockConsistent);
+    }
+
+    private static double percentileMillis(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0.0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,279 @@
+package com.example.concurrency.benchmark;
+
+import com.example.concurrency.domain.Stock;
+import com.example.concurrency.repository.StockRepository;
+import com.example.concurrency.service.CoalescingStockService;
+import com.example.concurrency.service.ConditionalUpdateStockService;
+import com.example.concurrency.service.RedisStockService;
+import com.example.concurrency.service.RedissonStockService;
+import com.example.concurrency.service.SynchronizedStockService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 동시성 제어 방식 벤치마크
+ *
+ * [목적]
+ * 각 서비스 테스트는 "최종 재고가 맞는지"만 검증합니다.
+ * 이 벤치마크는 같은 조건에서 모든 방식을 돌려 성능 지표를 한 파일로 비교합니다.
+ *
+ * [측정 매트릭스]
+ * - 방식: synchronized / Lettuce 스핀 락 / Redisson / 조건부 UPDATE / 요청 병합
+ * - 스레드 수: benchmark.threads (기본 1, 16, 64)
+ * - 키 분포: HOT(1개 키) / UNIFORM / ZIPF (benchmark.keys개 키, 기본 100)
+ * - 요청당 수량: benchmark.quantities (기본 1, 5)
+ *
+ * [측정 지표]
+ * - 처리량, p50/p99/p999 지연 시간, 실패 수
+ * - 성공 1건당 DB 왕복 횟수 (Hibernate Statistics의 JDBC 문장 수)
+ * - 최종 재고 정합성
+ *
+ * [실행 방법]
+ * 일반 테스트(./gradlew test)에서는 제외되며, Docker가 필요합니다.
+ *   ./gradlew benchmark
+ *   ./gradlew benchmark -Dbenchmark.threads=8,32 -Dbenchmark.requests=2000
+ *
+ * 결과는 build/benchmark/lock-benchmark.json에 저장됩니다.
+ */
+@Tag("benchmark")
+@Testcontainers
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "logging.level.com.example.concurrency=WARN",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN"
+})
+class LockBenchmarkTest {
+
+    private static final String MYSQL_IMAGE = "mysql:8.0";
+    private static final String REDIS_IMAGE = "redis:7-alpine";
+    private static final int WARMUP_REQUESTS = 200;
+
+    @Container
+    static MySQLContainer<?> mysql = new MySQLContainer<>(MYSQL_IMAGE)
+            .withDatabaseName("concurrency_db");
+
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>(REDIS_IMAGE)
+            .withExposedPorts(6379);
+
+    @DynamicPropertySource
+    static void containerProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", mysql::getJdbcUrl);
+        registry.add("spring.datasource.username", mysql::getUsername);
+        registry.add("spring.datasource.password", mysql::getPassword);
+        registry.add("spring.data.redis.host", redis::getHost);
+        registry.add("spring.data.redis.port", () -> redis.getMappedPort(6379));
+    }
+
+    @Autowired
+    private SynchronizedStockService synchronizedStockService;
+
+    @Autowired
+    private RedisStockService redisStockService;
+
+    @Autowired
+    private RedissonStockService redissonStockService;
+
+    @Autowired
+    private ConditionalUpdateStockService conditionalUpdateStockService;
+
+    @Autowired
+    private CoalescingStockService coalescingStockService;
+
+    @Autowired
+    private StockRepository stockRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @DisplayName("동시성 제어 방식별 성능 비교")
+    void lockStrategyBenchmark() throws Exception {
+        int[] threadCounts = intListProperty("benchmark.threads", "1,16,64");
+        long[] quantities = Arrays.stream(intListProperty("benchmark.quantities", "1,5"))
+                .asLongStream().toArray();
+        int requests = Integer.getInteger("benchmark.requests", 500);
+        int cardinality = Integer.getInteger("benchmark.keys", 100);
+        Path output = Path.of(System.getProperty("benchmark.output", "build/benchmark/lock-benchmark.json"));
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        Map<String, StockDecreaser> strategies = strategies();
+        List<BenchmarkResult> results = new ArrayList<>();
+
+        for (Map.Entry<String, StockDecreaser> strategy : strategies.entrySet()) {
+            // JIT 워밍업 (결과에는 포함하지 않음)
+            runCase(strategy.getKey(), strategy.getValue(), 8, KeyDistribution.HOT, 1, 1L,
+                    WARMUP_REQUESTS, statistics);
+
+            for (int threads : threadCounts) {
+                for (KeyDistribution distribution : KeyDistribution.values()) {
+                    for (long quantity : quantities) {
+                        BenchmarkResult result = runCase(strategy.getKey(), strategy.getValue(), threads,
+                                distribution, cardinality, quantity, requests, statistics);
+                        results.add(result);
+
+                        System.out.printf("%-20s threads=%-3d %-7s qty=%d  %8.1f ops/s  p50=%6.2fms  p99=%7.2fms  p999=%7.2fms  fail=%d  db/op=%.2f%n",
+                                result.strategy(), threads, distribution, quantity,
+                                result.throughputPerSecond(), result.p50Millis(), result.p99Millis(),
+                                result.p999Millis(), result.failures(), result.dbStatementsPerSuccess());
+                    }
+                }
+            }
+        }
+
+        writeResults(output, requests, cardinality, results);
+        System.out.println("벤치마크 결과 저장: " + output.toAbsolutePath());
+
+        // 방식과 관계없이 재고 정합성은 항상 지켜져야 함
+        assertThat(results).allMatch(BenchmarkResult::stockConsistent);
+    }
+
+    /**
+     * 비교 대상 방식 (실행 순서 유지)
+     */
+    private Map<String, StockDecreaser> strategies() {
+        Map<String, StockDecreaser> strategies = new LinkedHashMap<>();
+        strategies.put("synchronized", synchronizedStockService::decrease);
+        strategies.put("redis-spin-lock", redisStockService::decrease);
+        strategies.put("redisson", redissonStockService::decrease);
+        strategies.put("conditional-update", conditionalUpdateStockService::decrease);
+        strategies.put("coalescing", (id, quantity) -> {
+            if (!coalescingStockService.decrease(id, quantity).join()) {
+                throw new IllegalStateException("재고가 부족합니다.");
+            }
+        });
+        return strategies;
+    }
+
+    /**
+     * 한 케이스 실행
+     *
+     * 키마다 모든 요청을 처리할 수 있을 만큼 재고를 채워두므로
+     * 실패는 재고 부족이 아닌 락 획득 실패 등 방식 자체의 한계를 의미합니다.
+     */
+    private BenchmarkResult runCase(String name, StockDecreaser decreaser, int threads,
+                                    KeyDistribution distribution, int cardinality, long quantity,
+                                    int requests, Statistics statistics) throws InterruptedException {
+        int keys = distribution.effectiveCardinality(cardinality);
+        long initialQuantity = requests * quantity;
+
+        List<Stock> stocks = new ArrayList<>();
+        for (int i = 0; i < keys; i++) {
+            stocks.add(new Stock((long) i, initialQuantity));
+        }
+        List<Long> ids = stockRepository.saveAllAndFlush(stocks).stream().map(Stock::getId).toList();
+
+        KeyDistribution.Sampler sampler = distribution.sampler(keys);
+        long[] latencyNanos = new long[requests];
+        AtomicInteger successCount = new AtomicInteger();
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch doneLatch = new CountDownLatch(requests);
+
+        for (int i = 0; i < requests; i++) {
+            int requestIndex = i;
+            Long id = ids.get(sampler.nextIndex());
+            executorService.submit(() -> {
+                try {
+                    startLatch.await();
+                    long start = System.nanoTime();
+                    try {
+                        decreaser.decrease(id, quantity);
+                        successCount.incrementAndGet();
+                    } catch (Exception e) {
+                        // 실패 수는 전체 요청 수에서 성공 수를 빼서 계산
+                    } finally {
+                        latencyNanos[requestIndex] = System.nanoTime() - start;
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    doneLatch.countDown();
+                }
+            });
+        }
+
+        statistics.clear();
+        long startTime = System.currentTimeMillis();
+        startLatch.countDown();
+        doneLatch.await();
+        long elapsedMillis = System.currentTimeMillis() - startTime;
+        long dbStatements = statistics.getPrepareStatementCount();
+        executorService.shutdown();
+
+        long remaining = stockRepository.findAllById(ids).stream().mapToLong(Stock::getQuantity).sum();
+        boolean consistent = keys * initialQuantity - remaining == successCount.get() * quantity;
+        stockRepository.deleteAllByIdInBatch(ids);
+
+        return BenchmarkResult.of(name, threads, distribution, keys, quantity, latencyNanos,
+                successCount.get(), elapsedMillis, dbStatements, consistent);
+    }
+
+    private void writeResults(Path output, int requests, int cardinality,
+                              List<BenchmarkResult> results) throws IOException {
+        Map<String, Object> environment = new LinkedHashMap<>();
+        environment.put("mysql", MYSQL_IMAGE);
+        environment.put("redis", REDIS_IMAGE);
+        environment.put("javaVersion", System.getProperty("java.version"));
+        environment.put("availableProcessors", Runtime.getRuntime().availableProcessors());
+        environment.put("requestsPerCase", requests);
+        environment.put("keyCardinality", cardinality);
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("generatedAt", Instant.now().toString());
+        report.put("environment", environment);
+        report.put("results", results);
+
+        if (output.getParent() != null) {
+            Files.createDirectories(output.getParent());
+        }
+        new ObjectMapper()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(output.toFile(), report);
+    }
+
+    private static int[] intListProperty(String key, String defaultValue) {
+        return Arrays.stream(System.getProperty(key, defaultValue).split(","))
+                .map(String::trim)
+                .mapToInt(Integer::parseInt)
+                .toArray();
+    }
+
+    @FunctionalInterface
+    private interface StockDecreaser {
+        void decrease(Long id, Long quantity) throws Exception;
+    }
+}
@@ -0,0 +1,229 @@
+package com.example.concurrency.service;
+
+import com.example.concurrency.domain.Stock;
+import com.example.concurrency.repository.StockRepository;
+import com.example.concurrency.support.ConcurrentExecutor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 요청 병합(Request Coalescing) 배치 감소 테스트
+ *
+ * [테스트 목적]
+ * 같은 재고 ID에 몰린 동시 요청을 배치로 묶어 조건부 UPDATE 한 번으로 처리하는 것을 검증합니다.
+ *
+ * [테스트 환경]
+ * - 단일 JVM (Spring Boot 테스트)
+ * - 멀티 스레드 (ExecutorService)
+ * - MySQL 데이터베이스
+ * - Redis (Redisson 비교용)
+ *
+ * [핵심 포인트]
+ * - 락 없이 DB 조건부 UPDATE로 정확성 보장
+ * - 요청 수보다 훨씬 적은 트랜잭션 수
+ * - 재고 부족 요청은 예외가 아닌 false 결과로 전달
+ */
+@SpringBootTest
+class CoalescingStockServiceTest {
+
+    @Autowired
+    private CoalescingStockService coalescingStockService;
+
+    @Autowired
+    private RedissonStockService redissonStockService;
+
+    @Autowired
+    private StockRepository stockRepository;
+
+    @Autowired
+    private RedissonClient redissonClient;
+
+    private Long stockId;
+
+    /**
+     * 각 테스트 실행 전 초기 재고 설정
+     */
+    @BeforeEach
+    void setUp() {
+        Stock stock = new Stock(1L, 100L); // 재고 100개로 설정
+        stockId = stockRepository.saveAndFlush(stock).getId();
+    }
+
+    /**
+     * 각 테스트 실행 후 모든 재고 데이터 삭제
+     */
+    @AfterEach
+    void tearDown() {
+        stockRepository.deleteAll();
+        redissonClient.getKeys().deleteByPattern("stock:lock:*");
+    }
+
+    @Test
+    @DisplayName("요청 병합을 사용한 동시성 제어 - 100개 스레드 테스트")
+    void coalescingConcurrencyTest() throws InterruptedException {
+        /*
+         * [시나리오]
+         * - 초기 재고: 100개
+         * - 100개의 스레드가 동시에 각각 1개씩 구매 시도
+         * - 예상 결과: 100 - 100 = 0개
+         * - 요청들이 배치로 묶여 소수의 트랜잭션으로 처리됨
+         */
+
+        // given
+        int threadCount = 100;
+        long batchCountBefore = coalescingStockService.getExecutedBatchCount();
+
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicInteger successCount = new AtomicInteger();
+
+        long startTime = System.currentTimeMillis();
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    if (coalescingStockService.decrease(stockId, 1L).join()) {
+                        successCount.incrementAndGet();
+                    }
+                } catch (Exception e) {
+                    System.out.println("예외 발생: " + e.getMessage());
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        executorService.shutdown();
+
+        long executionTime = System.currentTimeMillis() - startTime;
+        long batchCount = coalescingStockService.getExecutedBatchCount() - batchCountBefore;
+
+        // then
+        Stock stock = stockRepository.findById(stockId).orElseThrow();
+
+        System.out.println("\n" + "=".repeat(70));
+        System.out.println("🎯 [요청 병합 테스트 결과]");
+        System.out.println("=".repeat(70));
+        System.out.println("📊 성공 요청: " + successCount.get() + "개");
+        System.out.println("📊 실제 재고: " + stock.getQuantity() + "개");
+        System.out.println("📊 실행된 배치 트랜잭션: " + batchCount + "개 (요청 " + threadCount + "개)");
+        System.out.println("⏱️  실행 시간: " + executionTime + "ms");
+        System.out.println("=".repeat(70));
+
+        assertThat(successCount.get()).isEqualTo(threadCount);
+        assertThat(stock.getQuantity()).isEqualTo(0L);
+        assertThat(batchCount).isLessThan(threadCount);
+    }
+
+    @Test
+    @DisplayName("재고보다 많은 요청 - 초과 요청만 재고 부족으로 실패")
+    void coalescingOutOfStockTest() throws InterruptedException {
+        /*
+         * [시나리오]
+         * - 초기 재고: 100개
+         * - 150개의 스레드가 동시에 각각 1개씩 구매 시도
+         * - 예상 결과: 100개 성공, 50개 재고 부족(false), 최종 재고 0개
+         * - 합산 UPDATE가 실패한 배치는 요청별 조건부 UPDATE로 분할 처리됨
+         */
+
+        // given
+        int threadCount = 150;
+
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger outOfStockCount = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    if (coalescingStockService.decrease(stockId, 1L).join()) {
+                        successCount.incrementAndGet();
+                    } else {
+                        outOfStockCount.incrementAndGet();
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        executorService.shutdown();
+
+        // then
+        Stock stock = stockRepository.findById(stockId).orElseThrow();
+
+        System.out.println("\n" + "=".repeat(70));
+        System.out.println("🎯 [재고 부족 테스트 결과]");
+        System.out.println("=".repeat(70));
+        System.out.println("📊 성공 요청: " + successCount.get() + "개 (예상: 100개)");
+        System.out.println("📊 재고 부족: " + outOfStockCount.get() + "개 (예상: 50개)");
+        System.out.println("📊 최종 재고: " + stock.getQuantity() + "개");
+        System.out.println("=".repeat(70));
+
+        assertThat(successCount.get()).isEqualTo(100);
+        assertThat(outOfStockCount.get()).isEqualTo(50);
+        assertThat(stock.getQuantity()).isEqualTo(0L);
+    }
+
+    @Test
+    @DisplayName("Redisson vs 요청 병합 성능 비교 - 인기 상품에 요청 집중")
+    void coalescingVsRedissonBenchmark() throws InterruptedException {
+        /*
+         * [목적]
+         * 하나의 재고 행(Hot Row)에 요청이 몰릴 때 두 방식의 처리 시간을 비교합니다.
+         *
+         * [비교]
+         * - Redisson: 요청마다 락 획득 → 조회 → 저장 → 락 해제 (요청 수만큼 트랜잭션)
+         * - 요청 병합: 윈도우 동안 모은 요청을 조건부 UPDATE 한 번으로 처리
+         */
+
+        // given
+        int requestCount = 500;
+        int threadCount = 100;
+        Long redissonStockId = stockRepository.saveAndFlush(new Stock(2L, (long) requestCount)).getId();
+        Long coalescingStockId = stockRepository.saveAndFlush(new Stock(3L, (long) requestCount)).getId();
+
+        // when
+        long redissonTime = ConcurrentExecutor.run(requestCount, threadCount,
+                () -> redissonStockService.decrease(redissonStockId, 1L));
+
+        long batchCountBefore = coalescingStockService.getExecutedBatchCount();
+        long coalescingTime = ConcurrentExecutor.run(requestCount, threadCount,
+                () -> coalescingStockService.decrease(coalescingStockId, 1L).join());
+        long batchCount = coalescingStockService.getExecutedBatchCount() - batchCountBefore;
+
+        // then
+        Stock redissonStock = stockRepository.findById(redissonStockId).orElseThrow();
+        Stock coalescingStock = stockRepository.findById(coalescingStockId).orElseThrow();
+
+        System.out.println("\n" + "=".repeat(70));
+        System.out.println("⏱️  [Redisson vs 요청 병합 성능 비교]");
+        System.out.println("=".repeat(70));
+        System.out.println("요청 수: " + requestCount + ", 스레드 수: " + threadCount);
+        System.out.println("📊 Redisson  : " + redissonTime + "ms, 트랜잭션 " + requestCount
+                + "개, 남은 재고 " + redissonStock.getQuantity() + "개");
+        System.out.println("📊 요청 병합 : " + coalescingTime + "ms, 트랜잭션 " + batchCount
+                + "개, 남은 재고 " + coalescingStock.getQuantity() + "개");
+        System.out.println("=".repeat(70));
+
+        assertThat(coalescingStock.getQuantity()).isEqualTo(0L);
+        assertThat(batchCount).isLessThan(requestCount);
+    }
+}
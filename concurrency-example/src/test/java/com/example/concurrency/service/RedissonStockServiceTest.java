@@ -9,6 +9,7 @@ import org.junit.jupiter.api.Test;
 import org.redisson.api.RedissonClient;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
@@ -49,6 +50,9 @@ class RedissonStockServiceTest {
     @Autowired
     private RedissonClient redissonClient;
 
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
     /**
      * 각 테스트 실행 전 초기 재고 설정
      */
@@ -382,4 +386,29 @@ class RedissonStockServiceTest {
         stockRepository.deleteById(2L);
         redissonClient.getKeys().delete("stock:lock:2");
     }
+
+    @Test
+    @DisplayName("펜싱 토큰 - 리스가 만료된 이전 소유자의 늦은 쓰기는 거부")
+    void staleFencingTokenRejectedTest() {
+        /*
+         * [시나리오]
+         * - 소유자 A가 토큰 9로 락 획득 후 GC로 멈춤 → 리스 만료
+         * - 소유자 B가 토큰 10으로 락 획득 후 재고 감소 (100 → 99)
+         * - A가 깨어나 토큰 9로 쓰기 시도 → fence_token(10) < 9 가 거짓이므로 0건 갱신
+         */
+        Long stockId = 1L;
+
+        // when
+        Integer newerOwner = transactionTemplate.execute(status ->
+                stockRepository.decreaseQuantityWithFence(stockId, 1L, 10L));
+        Integer staleOwner = transactionTemplate.execute(status ->
+                stockRepository.decreaseQuantityWithFence(stockId, 1L, 9L));
+
+        // then
+        Stock stock = stockRepository.findById(stockId).orElseThrow();
+        assertThat(newerOwner).isEqualTo(1);
+        assertThat(staleOwner).isEqualTo(0);
+        assertThat(stock.getQuantity()).isEqualTo(99L);
+        assertThat(stock.getFenceToken()).isEqualTo(10L);
+    }
 }
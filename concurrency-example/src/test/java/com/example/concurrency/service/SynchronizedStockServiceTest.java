@@ -2,6 +2,7 @@ package com.example.concurrency.service;
 
 import com.example.concurrency.domain.Stock;
 import com.example.concurrency.repository.StockRepository;
+import com.example.concurrency.support.ConcurrentExecutor;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -36,6 +37,9 @@ class SynchronizedStockServiceTest {
     @Autowired
     private SynchronizedStockService synchronizedStockService;
 
+    @Autowired
+    private ConditionalUpdateStockService conditionalUpdateStockService;
+
     @Autowired
     private StockRepository stockRepository;
 
@@ -236,4 +240,51 @@ class SynchronizedStockServiceTest {
 
         assertThat(stock.getQuantity()).isEqualTo(50L);
     }
+
+    @Test
+    @DisplayName("synchronized vs 조건부 UPDATE - 100개 스레드 성능 비교")
+    void synchronizedVsConditionalUpdateTest() throws InterruptedException {
+        /*
+         * ===================================================================
+         * Synchronized vs 조건부 UPDATE 비교
+         * ===================================================================
+         *
+         * [목적]
+         * 같은 100개 스레드 조건에서 조회-수정-저장(synchronized로 보호)과
+         * 조건부 UPDATE(락 없음)의 결과와 실행 시간을 비교합니다.
+         *
+         * [차이점]
+         * - Synchronized: SELECT + UPDATE, JVM 전체가 순차 처리
+         * - 조건부 UPDATE: UPDATE 1회, DB 행 락만 사용 (분산 환경에서도 동작)
+         */
+
+        // given: 재고 ID 1 (synchronized용), 새 재고 (조건부 UPDATE용) 각각 100개
+        Long synchronizedStockId = 1L;
+        Long conditionalStockId = stockRepository.saveAndFlush(new Stock(2L, 100L)).getId();
+        int threadCount = 100;
+
+        // when
+        long synchronizedTime = ConcurrentExecutor.run(threadCount,
+                () -> synchronizedStockService.decrease(synchronizedStockId, 1L));
+        long conditionalTime = ConcurrentExecutor.run(threadCount,
+                () -> conditionalUpdateStockService.decrease(conditionalStockId, 1L));
+
+        // then
+        Stock synchronizedStock = stockRepository.findById(synchronizedStockId).orElseThrow();
+        Stock conditionalStock = stockRepository.findById(conditionalStockId).orElseThrow();
+
+        System.out.println("\n" + "=".repeat(70));
+        System.out.println("⏱️  [Synchronized vs 조건부 UPDATE 성능 비교]");
+        System.out.println("=".repeat(70));
+        System.out.println("📊 Synchronized   : " + synchronizedTime + "ms, 최종 재고 " + synchronizedStock.getQuantity() + "개");
+        System.out.println("📊 조건부 UPDATE  : " + conditionalTime + "ms, 최종 재고 " + conditionalStock.getQuantity() + "개");
+        System.out.println();
+        System.out.println("📝 [분석]");
+        System.out.println("  - 조건부 UPDATE는 조회 없이 DB 왕복 1회로 처리");
+        System.out.println("  - 애플리케이션 락 없이도 재고가 정확히 0개");
+        System.out.println("=".repeat(70));
+
+        assertThat(synchronizedStock.getQuantity()).isEqualTo(0L);
+        assertThat(conditionalStock.getQuantity()).isEqualTo(0L);
+    }
 }
@@ -0,0 +1,58 @@
+package com.example.concurrency.support;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 동시 요청 실행 테스트 도구
+ *
+ * [사용처]
+ * 여러 재고 감소 방식을 같은 조건(요청 수, 스레드 수)으로 실행하여 결과와 실행 시간을 비교하는 테스트
+ *
+ * [동작 방식]
+ * - 고정 크기 스레드 풀에 요청 수만큼 작업 제출
+ * - CountDownLatch로 모든 작업이 끝날 때까지 대기
+ * - 작업 중 발생한 예외는 출력만 하고 다음 작업 계속 진행
+ */
+public final class ConcurrentExecutor {
+
+    private ConcurrentExecutor() {
+    }
+
+    /**
+     * threadCount개 스레드가 각각 task를 1번씩 실행
+     *
+     * @return 실행 시간 (ms)
+     */
+    public static long run(int threadCount, Runnable task) throws InterruptedException {
+        return run(threadCount, threadCount, task);
+    }
+
+    /**
+     * threadCount개 스레드로 task를 requestCount번 실행
+     *
+     * @return 실행 시간 (ms)
+     */
+    public static long run(int requestCount, int threadCount, Runnable task) throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(requestCount);
+
+        long startTime = System.currentTimeMillis();
+        for (int i = 0; i < requestCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    task.run();
+                } catch (Exception e) {
+                    System.out.println("예외 발생: " + e.getMessage());
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        executorService.shutdown();
+        return System.currentTimeMillis() - startTime;
+    }
+}
@@ -168,6 +168,20 @@ public class PostController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 게시글 조회 통계 (조회수 + 순 방문자 수)
+     *
+     * GET /api/posts/{id}/views
+     *
+     * 순 방문자 수는 HyperLogLog 근사값 (표준 오차 약 0.81%)
+     */
+    @GetMapping("/{id}/views")
+    public ResponseEntity<ViewStatsResponse> getViewStats(@PathVariable Long id) {
+        log.info("게시글 조회 통계 요청: id={}", id);
+        ViewStatsResponse response = postService.getViewStats(id);
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 조회수 상위 게시글 조회
      *
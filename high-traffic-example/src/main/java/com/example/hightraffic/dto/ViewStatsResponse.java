@@ -0,0 +1,25 @@
+package com.example.hightraffic.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 게시글 조회 통계
+ *
+ * - viewCount: 원시 조회수 (Redis INCR)
+ * - uniqueVisitors*: 순 방문자 수 (HyperLogLog 근사값, 표준 오차 약 0.81%)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ViewStatsResponse {
+
+    private Long postId;
+    private Long viewCount;
+    private Long uniqueVisitorsToday;
+    private Long uniqueVisitorsLast7Days;
+    private Long uniqueVisitorsLast30Days;
+}
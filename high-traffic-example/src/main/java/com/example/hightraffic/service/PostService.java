@@ -56,6 +56,7 @@ public class PostService {
      *    - 초과 시: 조회는 가능하지만 조회수 증가 없음
      * 2. 중복 방지: 5초 이내 재조회 차단 (IP + 게시글)
      *    - 중복 시: 조회는 가능하지만 조회수 증가 없음
+     *    - 순 방문자 수(HyperLogLog) 사용 시에는 생략하고 방문자를 HLL에 기록
      * 3. 조회수 증가: Redis INCR (고성능)
      *
      * @param id 게시글 ID
@@ -208,6 +209,15 @@ public class PostService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 조회 통계 (조회수 + 순 방문자 수)
+     * 조회 자체는 조회수를 올리지 않음
+     */
+    public ViewStatsResponse getViewStats(Long id) {
+        findPostById(id);
+        return viewCountService.getViewStats(id);
+    }
+
     /**
      * 좋아요 상위 게시글 조회
      */
@@ -2,13 +2,20 @@ package com.example.hightraffic.service;
 
 import com.example.hightraffic.domain.Post;
 import com.example.hightraffic.repository.PostRepository;
+import com.example.hightraffic.dto.ViewStatsResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
@@ -36,9 +43,18 @@ import java.util.concurrent.TimeUnit;
  *    - 애플리케이션 재시작 시 DB → Redis 초기화
  *    - 데이터 영속성 보장
  *
+ * 4. 순 방문자 수 (HyperLogLog, app.view-count.unique-visitors.enabled)
+ *    - 게시글 + 날짜별 HLL에 방문자(IP) PFADD → PFCOUNT로 근사 순 방문자 수 (표준 오차 약 0.81%)
+ *    - 방문자가 아무리 많아도 키 1개당 최대 12KB (적을 때는 sparse 표현으로 수백 바이트)
+ *    - 최근 7일/30일 순 방문자 = 여러 날짜 HLL을 합친 PFCOUNT (중복 방문자는 한 번만 셈)
+ *    - 사용 시 정책 A(게시글 × IP마다 5초짜리 키)를 쓰지 않음
+ *      → 대량 트래픽에서 수백만 개의 단기 키가 생기지 않음
+ *      → 원시 조회수는 매 조회마다 증가, 어뷰징은 정책 B(Rate Limit)와 순 방문자 지표로 대응
+ *
  * Redis Key 구조:
  * - post:viewcount:{postId} : 조회수 저장 (영구)
- * - post:viewed:{postId}:{identifier} : 중복 방지 플래그 (TTL 5초)
+ * - post:viewed:{postId}:{identifier} : 중복 방지 플래그 (TTL 5초, 순 방문자 미사용 시)
+ * - post:uv:{postId}:{yyyyMMdd} : 날짜별 순 방문자 HLL (TTL 31일, 해시 태그로 같은 게시글은 같은 슬롯)
  *
  * 성능 개선 효과:
  * - DB UPDATE 횟수: 매 조회 → 5분마다 1회
@@ -56,10 +72,23 @@ public class ViewCountService {
     // Redis Key Prefix
     private static final String VIEW_COUNT_KEY_PREFIX = "post:viewcount:";
     private static final String VIEW_DUPLICATE_KEY_PREFIX = "post:viewed:";
+    private static final String UNIQUE_VISITOR_KEY_PREFIX = "post:uv:";
 
     // 중복 방지 시간 (5초)
     private static final int DUPLICATE_PREVENTION_SECONDS = 5;
 
+    // 순 방문자 HLL 보관 기간 (최근 30일 합산 + 여유 1일)
+    private static final Duration UNIQUE_VISITOR_TTL = Duration.ofDays(31);
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+
+    /**
+     * 순 방문자 수(HyperLogLog) 사용 여부
+     * true면 5초 중복 방지 키 대신 HLL에 방문자를 기록합니다.
+     */
+    @Value("${app.view-count.unique-visitors.enabled:true}")
+    private boolean uniqueVisitorsEnabled;
+
     /**
      * 조회수 증가 (중복 체크 포함)
      *
@@ -74,6 +103,10 @@ public class ViewCountService {
      * @return 증가된 조회수
      */
     public Long increaseViewCount(Long postId, String identifier) {
+        if (uniqueVisitorsEnabled) {
+            return increaseViewCountWithUniqueVisitor(postId, identifier);
+        }
+
         // ========================================
         // Redis Key 생성
         // ========================================
@@ -123,6 +156,73 @@ public class ViewCountService {
         return newViewCount;
     }
 
+    /**
+     * 조회수 증가 + 순 방문자 기록 (중복 방지 키 없음)
+     *
+     * INCR, PFADD, EXPIRE를 파이프라인으로 보내 Redis 왕복 1번으로 처리합니다.
+     * 같은 방문자가 다시 조회해도 PFADD는 HLL을 바꾸지 않으므로 순 방문자 수는 그대로입니다.
+     *
+     * @param postId 게시글 ID
+     * @param identifier 사용자 식별자 (IP 주소)
+     * @return 증가된 조회수
+     */
+    private Long increaseViewCountWithUniqueVisitor(Long postId, String identifier) {
+        String viewCountKey = VIEW_COUNT_KEY_PREFIX + postId;
+        String uniqueVisitorKey = uniqueVisitorKey(postId, LocalDate.now());
+
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            stringConnection.incr(viewCountKey);
+            stringConnection.pfAdd(uniqueVisitorKey, identifier);
+            stringConnection.expire(uniqueVisitorKey, UNIQUE_VISITOR_TTL.toSeconds());
+            return null;
+        });
+
+        Long newViewCount = (Long) results.get(0);
+        log.debug("조회수 증가 (순 방문자 기록): postId={}, identifier={}, newCount={}", postId, identifier, newViewCount);
+        return newViewCount;
+    }
+
+    /**
+     * 조회수 + 순 방문자 수 (오늘, 최근 7일, 최근 30일)
+     *
+     * 여러 날짜의 HLL을 한 번에 PFCOUNT하면 Redis가 합집합으로 세므로
+     * 7일 동안 매일 방문한 사용자도 1명으로 계산됩니다. (PFMERGE로 따로 저장하지 않음)
+     *
+     * @param postId 게시글 ID
+     * @return 조회 통계
+     */
+    public ViewStatsResponse getViewStats(Long postId) {
+        LocalDate today = LocalDate.now();
+        return ViewStatsResponse.builder()
+                .postId(postId)
+                .viewCount(getCurrentViewCount(postId))
+                .uniqueVisitorsToday(countUniqueVisitors(postId, today, 1))
+                .uniqueVisitorsLast7Days(countUniqueVisitors(postId, today, 7))
+                .uniqueVisitorsLast30Days(countUniqueVisitors(postId, today, 30))
+                .build();
+    }
+
+    /**
+     * 오늘부터 거슬러 올라간 days일 동안의 순 방문자 수 (HLL 합집합 PFCOUNT)
+     */
+    private Long countUniqueVisitors(Long postId, LocalDate today, int days) {
+        String[] keys = new String[days];
+        for (int i = 0; i < days; i++) {
+            keys[i] = uniqueVisitorKey(postId, today.minusDays(i));
+        }
+        Long count = redisTemplate.opsForHyperLogLog().size(keys);
+        return count != null ? count : 0L;
+    }
+
+    /**
+     * 예: "post:uv:{1}:20261019"
+     * {postId} 해시 태그: Redis Cluster에서도 같은 게시글의 날짜별 키가 같은 슬롯에 있어야 다중 키 PFCOUNT 가능
+     */
+    private String uniqueVisitorKey(Long postId, LocalDate date) {
+        return UNIQUE_VISITOR_KEY_PREFIX + "{" + postId + "}:" + DATE_FORMAT.format(date);
+    }
+
     /**
      * 현재 조회수 조회
      *
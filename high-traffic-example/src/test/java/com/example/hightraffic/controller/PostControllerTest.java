@@ -4,6 +4,7 @@ import com.example.hightraffic.domain.Post;
 import com.example.hightraffic.dto.PostCreateRequest;
 import com.example.hightraffic.dto.PostUpdateRequest;
 import com.example.hightraffic.repository.PostRepository;
+import com.example.hightraffic.service.ViewCountService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -11,6 +12,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
@@ -41,6 +43,12 @@ class PostControllerTest {
     @Autowired
     private PostRepository postRepository;
 
+    @Autowired
+    private ViewCountService viewCountService;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
     @BeforeEach
     void setUp() {
         postRepository.deleteAll();
@@ -90,6 +98,37 @@ class PostControllerTest {
                 .andExpect(jsonPath("$.viewCount").value(1)); // 조회 시 조회수 증가
     }
 
+    @Test
+    @DisplayName("게시글 조회 통계 테스트 - 순 방문자 수(HyperLogLog)")
+    void getViewStats() throws Exception {
+        // given
+        Post savedPost = postRepository.save(Post.builder()
+                .title("테스트 게시글")
+                .content("테스트 내용입니다.")
+                .author("테스터")
+                .build());
+        Long postId = savedPost.getId();
+        redisTemplate.delete(redisTemplate.keys("post:uv:{" + postId + "}:*"));
+        redisTemplate.delete("post:viewcount:" + postId);
+
+        // 방문자 2명이 총 5번 조회
+        for (int i = 0; i < 3; i++) {
+            viewCountService.increaseViewCount(postId, "10.0.0.1");
+        }
+        viewCountService.increaseViewCount(postId, "10.0.0.2");
+        viewCountService.increaseViewCount(postId, "10.0.0.2");
+
+        // when & then
+        mockMvc.perform(get("/api/posts/{id}/views", postId))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.postId").value(postId))
+                .andExpect(jsonPath("$.viewCount").value(5))
+                .andExpect(jsonPath("$.uniqueVisitorsToday").value(2))
+                .andExpect(jsonPath("$.uniqueVisitorsLast7Days").value(2))
+                .andExpect(jsonPath("$.uniqueVisitorsLast30Days").value(2));
+    }
+
     @Test
     @DisplayName("게시글 목록 조회 테스트 - 페이지 번호 방식")
     void getPostsByPage() throws Exception {
@@ -1,8 +1,5 @@
 package com.traffic.mastery.week3.config;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
@@ -19,11 +16,17 @@ import java.time.Duration;
 
 /**
  * Week 3-4: Redis 캐시 설정
+ *
+ * 캐시 값은 JSON 대신 CompactRedisSerializer(Smile + LZ4 + 버전 헤더)로 저장합니다.
+ * - 클래스 이름/필드 이름이 반복되는 JSON보다 작고 역직렬화가 빠름
+ * - 이전 JSON 값이 남아 있으면 캐시 미스로 처리되어 다시 적재됨
  */
 @Configuration
 @EnableCaching
 public class RedisConfig {
 
+    private static final int COMPRESSION_THRESHOLD_BYTES = 1024;
+
     @Bean
     public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory connectionFactory) {
         RedisTemplate<String, Object> template = new RedisTemplate<>();
@@ -42,18 +45,8 @@ public class RedisConfig {
 
     @Bean
     public CacheManager cacheManager(RedisConnectionFactory connectionFactory) {
-        // ObjectMapper 설정 - 타입 정보를 포함하여 저장
-        ObjectMapper objectMapper = new ObjectMapper();
-        objectMapper.registerModule(new JavaTimeModule());
-        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
-        objectMapper.activateDefaultTyping(
-            objectMapper.getPolymorphicTypeValidator(),
-            ObjectMapper.DefaultTyping.NON_FINAL
-        );
-
-        // JSON 직렬화 설정
-        GenericJackson2JsonRedisSerializer serializer =
-            new GenericJackson2JsonRedisSerializer(objectMapper);
+        // 바이너리 직렬화 설정 (1KB 이상이면 LZ4 압축)
+        CompactRedisSerializer serializer = new CompactRedisSerializer(COMPRESSION_THRESHOLD_BYTES);
 
         // 기본 캐시 설정: TTL 5분
         RedisCacheConfiguration defaultConfig = RedisCacheConfiguration.defaultCacheConfig()
@@ -0,0 +1,126 @@
+package com.traffic.mastery.week3.config;
+
+import com.traffic.mastery.week1.dto.ProductResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 캐시 값 바이너리 직렬화 테스트 (redis-learning-project의 CompactRedisSerializerTest와 같은 시나리오)
+ * - 기존 JSON(@class 타입 정보 포함)과 같은 값을 복원하는지 확인
+ * - 이 모듈의 캐시 값(week1 ProductResponse, products::all 목록) 기준
+ */
+class CompactRedisSerializerTest {
+
+    private static final int PRODUCT_COUNT = 100;
+
+    private final CompactRedisSerializer compact = new CompactRedisSerializer(1024);
+    private final GenericJackson2JsonRedisSerializer json = new GenericJackson2JsonRedisSerializer();
+
+    @Test
+    @DisplayName("List<ProductResponse>를 원래 타입 그대로 복원")
+    void roundTripTest() {
+        // given
+        List<ProductResponse> products = products(PRODUCT_COUNT);
+
+        // when
+        Object restored = compact.deserialize(compact.serialize(products));
+
+        // then
+        assertThat(restored).isInstanceOf(List.class);
+        assertThat((List<?>) restored).first().isInstanceOf(ProductResponse.class);
+        assertThat(restored).usingRecursiveComparison().isEqualTo(products);
+    }
+
+    @Test
+    @DisplayName("단건 ProductResponse(products::{id}) 복원")
+    void singleValueRoundTripTest() {
+        // given
+        ProductResponse product = products(1).get(0);
+
+        // when
+        Object restored = compact.deserialize(compact.serialize(product));
+
+        // then
+        assertThat(restored).isInstanceOf(ProductResponse.class);
+        assertThat(restored).usingRecursiveComparison().isEqualTo(product);
+    }
+
+    @Test
+    @DisplayName("기준 크기 이상인 값만 LZ4 압축")
+    void compressionThresholdTest() {
+        // when
+        byte[] small = compact.serialize(products(1));
+        byte[] large = compact.serialize(products(PRODUCT_COUNT));
+
+        // then
+        assertThat(small[3] & CompactRedisSerializer.FLAG_LZ4).isZero();
+        assertThat(large[3] & CompactRedisSerializer.FLAG_LZ4).isNotZero();
+        assertThat(compact.deserialize(small)).usingRecursiveComparison().isEqualTo(products(1));
+        assertThat(compact.deserialize(large)).usingRecursiveComparison().isEqualTo(products(PRODUCT_COUNT));
+    }
+
+    @Test
+    @DisplayName("헤더가 다른 값(이전 JSON 값, 다른 버전)은 오류 대신 캐시 미스(null)")
+    void rejectUnknownFormatTest() {
+        // given
+        byte[] legacyJson = json.serialize(products(3));
+        byte[] otherVersion = compact.serialize(products(3));
+        otherVersion[2] = CompactRedisSerializer.VERSION + 1;
+
+        // when & then
+        assertThat(compact.deserialize(legacyJson)).isNull();
+        assertThat(compact.deserialize(otherVersion)).isNull();
+        assertThat(compact.deserialize(new byte[0])).isNull();
+    }
+
+    @Test
+    @DisplayName("손상된 압축 값의 원본 길이는 큰 배열을 할당하기 전에 거부")
+    void rejectCorruptedLengthTest() {
+        // given
+        byte[] corrupted = compact.serialize(products(PRODUCT_COUNT));
+        ByteBuffer.wrap(corrupted, 4, 4).putInt(Integer.MAX_VALUE);
+
+        // when & then
+        assertThatThrownBy(() -> compact.deserialize(corrupted))
+                .isInstanceOf(SerializationException.class)
+                .hasMessageContaining("원본 길이");
+    }
+
+    @Test
+    @DisplayName("products::all (상품 100개) 크기 - JSON보다 작음")
+    void sizeTest() {
+        // given
+        List<ProductResponse> products = products(PRODUCT_COUNT);
+
+        // when
+        int jsonBytes = json.serialize(products).length;
+        int compactBytes = compact.serialize(products).length;
+
+        // then
+        System.out.println("products::all 직렬화 크기 - JSON: " + jsonBytes + " bytes, Smile + LZ4: " + compactBytes + " bytes");
+        assertThat(compactBytes).isLessThan(jsonBytes);
+    }
+
+    private List<ProductResponse> products(int count) {
+        List<ProductResponse> products = new ArrayList<>();
+        for (long id = 1; id <= count; id++) {
+            products.add(new ProductResponse(
+                    id,
+                    "상품 " + id,
+                    10_000 + (int) id * 100,
+                    "상품 " + id + "의 상세 설명입니다.",
+                    (int) id * 10
+            ));
+        }
+        return products;
+    }
+}
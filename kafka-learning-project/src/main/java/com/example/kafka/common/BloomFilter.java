@@ -0,0 +1,123 @@
+package com.example.kafka.common;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열 Bloom Filter
+ * - mightContain이 false면 확실히 없음, true면 falsePositiveRate 확률로 오탐
+ * - 비트 배열은 AtomicLongArray이므로 여러 스레드가 동시에 put/mightContain 해도 안전
+ * - 담은 수가 expectedInsertions를 넘으면 오탐률이 올라가므로 호출하는 쪽에서 isFull()을 보고 교체
+ *
+ * 크기 (n: expectedInsertions, p: 오탐률)
+ *   비트 수 m = -n·ln(p) / (ln 2)²   (n=100만, p=1% → 약 958만 비트 ≈ 1.2MB)
+ *   해시 수 k = m/n · ln 2          (약 7개)
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashCount;
+    private final long expectedInsertions;
+    private final AtomicLong insertions = new AtomicLong();
+
+    private BloomFilter(long bitSize, long expectedInsertions) {
+        long words = Math.max(1, (bitSize + 63) / 64);
+        if (words > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Bloom Filter 크기가 너무 큽니다: " + bitSize + " bits");
+        }
+        this.bits = new AtomicLongArray((int) words);
+        this.bitSize = words * 64;
+        this.expectedInsertions = expectedInsertions;
+        this.hashCount = Math.max(1, (int) Math.round((double) this.bitSize / expectedInsertions * Math.log(2)));
+    }
+
+    /**
+     * 오탐률 기준으로 생성 (maxBytes를 넘으면 maxBytes에 맞춤)
+     */
+    public static BloomFilter create(long expectedInsertions, double falsePositiveRate, long maxBytes) {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("expectedInsertions는 1 이상이어야 합니다: " + expectedInsertions);
+        }
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("falsePositiveRate는 0과 1 사이여야 합니다: " + falsePositiveRate);
+        }
+        long required = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        return new BloomFilter(Math.min(required, Math.max(64, maxBytes * 8)), expectedInsertions);
+    }
+
+    public void put(String value) {
+        long hash = hash(value);
+        long h1 = mix(hash);
+        long h2 = mix(hash + 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long index = Long.remainderUnsigned(h1 + i * h2, bitSize);
+            int word = (int) (index >>> 6);
+            long mask = 1L << index;
+            long current;
+            while (((current = bits.get(word)) & mask) == 0) {
+                if (bits.compareAndSet(word, current, current | mask)) {
+                    break;
+                }
+            }
+        }
+        insertions.incrementAndGet();
+    }
+
+    public boolean mightContain(String value) {
+        long hash = hash(value);
+        long h1 = mix(hash);
+        long h2 = mix(hash + 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long index = Long.remainderUnsigned(h1 + i * h2, bitSize);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public boolean isFull() {
+        return insertions.get() >= expectedInsertions;
+    }
+
+    public long getBitSize() {
+        return bitSize;
+    }
+
+    public int getHashCount() {
+        return hashCount;
+    }
+
+    /**
+     * expectedInsertions개를 담았을 때의 오탐률 (1 - e^(-kn/m))^k
+     */
+    public double expectedFalsePositiveRate() {
+        return Math.pow(1 - Math.exp(-(double) hashCount * expectedInsertions / bitSize), hashCount);
+    }
+
+    /**
+     * FNV-1a 64bit
+     */
+    private static long hash(String value) {
+        long hash = 0xCBF29CE484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001B3L;
+        }
+        return hash;
+    }
+
+    /**
+     * MurmurHash3 fmix64 (비트를 고르게 섞음)
+     */
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB93E53BCE62BL;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -1,9 +1,10 @@
 package com.example.kafka.common;
 
+import com.example.kafka.domain.ProducerProfileStats;
 import com.example.kafka.enums.MessageCategory;
 import com.example.kafka.properties.KafkaTopicProperties;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.KafkaHeaders;
 import org.springframework.kafka.support.SendResult;
@@ -11,6 +12,7 @@ import org.springframework.messaging.Message;
 import org.springframework.messaging.support.MessageBuilder;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -18,15 +20,20 @@ import java.util.concurrent.CompletableFuture;
  * - 모든 도메인에서 재사용 가능한 범용 Producer
  * - MessageBuilder 패턴을 사용한 메시지 전송
  * - Enum 기반 토픽 관리로 타입 안전성 확보
+ * - 토픽에 설정된 Producer 프로파일(kafka.topics[].producer-profile)의 KafkaTemplate으로 전송
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
-public class KafkaProducerCluster {
+public class KafkaProducerCluster implements DisposableBean {
 
-    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final ProfiledKafkaTemplates<Object> kafkaTemplates;
     private final KafkaTopicProperties topicProperties;
 
+    public KafkaProducerCluster(KafkaTemplate<String, Object> kafkaTemplate, KafkaTopicProperties topicProperties) {
+        this.kafkaTemplates = new ProfiledKafkaTemplates<>("cluster", kafkaTemplate, topicProperties);
+        this.topicProperties = topicProperties;
+    }
+
     /**
      * 메시지 전송 (비동기)
      * - MessageCategory Enum으로 토픽 지정
@@ -52,7 +59,7 @@ public class KafkaProducerCluster {
                     .setHeader(KafkaHeaders.TOPIC, topic)
                     .build();
 
-            CompletableFuture<SendResult<String, Object>> future = kafkaTemplate.send(message);
+            CompletableFuture<SendResult<String, Object>> future = kafkaTemplates.forTopic(topic).send(message);
 
             future.whenComplete((result, ex) -> {
                 if (ex == null) {
@@ -98,7 +105,7 @@ public class KafkaProducerCluster {
                     .setHeader(KafkaHeaders.KEY, key)
                     .build();
 
-            CompletableFuture<SendResult<String, Object>> future = kafkaTemplate.send(message);
+            CompletableFuture<SendResult<String, Object>> future = kafkaTemplates.forTopic(topic).send(message);
 
             future.whenComplete((result, ex) -> {
                 if (ex == null) {
@@ -143,7 +150,7 @@ public class KafkaProducerCluster {
                     .setHeader(KafkaHeaders.TOPIC, topic)
                     .build();
 
-            SendResult<String, Object> result = kafkaTemplate.send(message).get();
+            SendResult<String, Object> result = kafkaTemplates.forTopic(topic).send(message).get();
 
             log.info("Successfully sent message (sync) - topic: {}, partition: {}, offset: {}",
                     topic,
@@ -182,7 +189,7 @@ public class KafkaProducerCluster {
                     .setHeader(KafkaHeaders.PARTITION, partition)
                     .build();
 
-            CompletableFuture<SendResult<String, Object>> future = kafkaTemplate.send(message);
+            CompletableFuture<SendResult<String, Object>> future = kafkaTemplates.forTopic(topic).send(message);
 
             future.whenComplete((result, ex) -> {
                 if (ex == null) {
@@ -201,4 +208,40 @@ public class KafkaProducerCluster {
             throw e;
         }
     }
+
+    /**
+     * 메시지 전송 (Key 포함, 전송 결과 반환)
+     * - 여러 건을 send한 뒤 flush하고 결과를 한 번에 확인하는 배치 전송용 (건별 로그 없음)
+     *
+     * @param key   메시지 Key
+     * @param data  전송할 데이터
+     * @param topic 토픽명
+     */
+    public CompletableFuture<SendResult<String, Object>> send(String key, Object data, String topic) {
+        Message<Object> message = MessageBuilder
+                .withPayload(data)
+                .setHeader(KafkaHeaders.TOPIC, topic)
+                .setHeader(KafkaHeaders.KEY, key)
+                .build();
+        return kafkaTemplates.forTopic(topic).send(message);
+    }
+
+    /**
+     * 모든 프로파일의 Producer 버퍼를 즉시 전송
+     */
+    public void flush() {
+        kafkaTemplates.flush();
+    }
+
+    /**
+     * Producer 프로파일별 전송 지표
+     */
+    public List<ProducerProfileStats> profileStats() {
+        return kafkaTemplates.stats();
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        kafkaTemplates.destroy();
+    }
 }
@@ -0,0 +1,128 @@
+package com.example.kafka.common;
+
+import com.example.kafka.domain.ProducerProfileStats;
+import com.example.kafka.properties.KafkaProducerProfile;
+import com.example.kafka.properties.KafkaTopicProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.Metric;
+import org.apache.kafka.common.MetricName;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 토픽별 Producer 프로파일 KafkaTemplate 모음
+ * - kafka.producer-profiles의 프로파일마다 기본 ProducerFactory 설정에 프로파일 설정을 덮어쓴 KafkaTemplate 생성
+ *   (프로파일마다 별도 KafkaProducer → 별도 배치/압축/linger)
+ * - 토픽명으로 해당 토픽의 프로파일 KafkaTemplate 조회 (프로파일이 없는 토픽은 기본 KafkaTemplate)
+ *
+ * @param <V> 메시지 Value 타입
+ */
+@Slf4j
+public class ProfiledKafkaTemplates<V> implements DisposableBean {
+
+    public static final String DEFAULT_PROFILE = "default";
+
+    private final String source;
+    private final KafkaTopicProperties topicProperties;
+    private final Map<String, KafkaTemplate<String, V>> templates = new LinkedHashMap<>();
+
+    public ProfiledKafkaTemplates(String source, KafkaTemplate<String, V> defaultTemplate,
+                                  KafkaTopicProperties topicProperties) {
+        this.source = source;
+        this.topicProperties = topicProperties;
+
+        templates.put(DEFAULT_PROFILE, defaultTemplate);
+        topicProperties.getProducerProfiles().forEach((name, profile) -> {
+            templates.put(name, createTemplate(defaultTemplate, profile));
+            log.info("Producer 프로파일 등록 - source: {}, profile: {}, linger: {}ms, batch: {}bytes, 압축: {}",
+                    source, name, profile.getLingerMs(), profile.getBatchSize(), profile.getCompressionType());
+        });
+
+        topicProperties.getTopics().forEach(topic -> {
+            String profile = topic.getProducerProfile();
+            if (profile != null && !templates.containsKey(profile)) {
+                throw new IllegalStateException(
+                        "정의되지 않은 Producer 프로파일입니다 - topic: " + topic.getName() + ", profile: " + profile);
+            }
+        });
+    }
+
+    private KafkaTemplate<String, V> createTemplate(KafkaTemplate<String, V> defaultTemplate, KafkaProducerProfile profile) {
+        // 기본 ProducerFactory의 설정/Serializer를 복사하고 프로파일 설정만 덮어씀
+        return new KafkaTemplate<>(defaultTemplate.getProducerFactory(), profile.toConfigOverrides());
+    }
+
+    /**
+     * 토픽에 설정된 프로파일의 KafkaTemplate
+     */
+    public KafkaTemplate<String, V> forTopic(String topic) {
+        String profile = topicProperties.getProducerProfileName(topic).orElse(DEFAULT_PROFILE);
+        return templates.get(profile);
+    }
+
+    /**
+     * 모든 프로파일의 Producer 버퍼를 즉시 전송
+     */
+    public void flush() {
+        templates.values().forEach(KafkaTemplate::flush);
+    }
+
+    /**
+     * 프로파일별 전송 지표
+     */
+    public List<ProducerProfileStats> stats() {
+        List<ProducerProfileStats> stats = new ArrayList<>(templates.size());
+        templates.forEach((profile, template) -> stats.add(toStats(profile, template)));
+        return stats;
+    }
+
+    private ProducerProfileStats toStats(String profile, KafkaTemplate<String, V> template) {
+        Map<String, Object> config = template.getProducerFactory().getConfigurationProperties();
+        int batchSize = Integer.parseInt(String.valueOf(config.get(ProducerConfig.BATCH_SIZE_CONFIG)));
+
+        Map<String, Double> metrics = new LinkedHashMap<>();
+        for (Map.Entry<MetricName, ? extends Metric> entry : template.metrics().entrySet()) {
+            if ("producer-metrics".equals(entry.getKey().group())
+                    && entry.getValue().metricValue() instanceof Double value
+                    && Double.isFinite(value)) {
+                metrics.put(entry.getKey().name(), value);
+            }
+        }
+
+        double recordsPerSec = metrics.getOrDefault("record-send-rate", 0.0);
+        double batchSizeAvg = metrics.getOrDefault("batch-size-avg", 0.0);
+        return ProducerProfileStats.builder()
+                .source(source)
+                .profile(profile)
+                .lingerMs(Integer.parseInt(String.valueOf(config.get(ProducerConfig.LINGER_MS_CONFIG))))
+                .batchSize(batchSize)
+                .compressionType(String.valueOf(config.get(ProducerConfig.COMPRESSION_TYPE_CONFIG)))
+                .recordsPerSec(recordsPerSec)
+                .recordSizeAvg(metrics.getOrDefault("record-size-avg", 0.0))
+                .bytesPerRecord(recordsPerSec > 0 ? metrics.getOrDefault("outgoing-byte-rate", 0.0) / recordsPerSec : 0.0)
+                .batchSizeAvg(batchSizeAvg)
+                .batchFillRatio(batchSize > 0 ? batchSizeAvg / batchSize : 0.0)
+                .compressionRate(metrics.getOrDefault("compression-rate-avg", 1.0))
+                .recordQueueTimeAvgMs(metrics.getOrDefault("record-queue-time-avg", 0.0))
+                .build();
+    }
+
+    /**
+     * 프로파일별로 생성한 ProducerFactory 종료 (기본 KafkaTemplate은 Spring Bean이므로 제외)
+     */
+    @Override
+    public void destroy() throws Exception {
+        for (Map.Entry<String, KafkaTemplate<String, V>> entry : templates.entrySet()) {
+            if (!DEFAULT_PROFILE.equals(entry.getKey())
+                    && entry.getValue().getProducerFactory() instanceof DisposableBean factory) {
+                factory.destroy();
+            }
+        }
+    }
+}
@@ -6,16 +6,27 @@ import com.example.kafka.properties.KafkaSSLProperties;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
 import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.ConsumerAwareRebalanceListener;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.util.backoff.FixedBackOff;
 
+import java.util.Map;
 import java.util.Properties;
+import java.util.stream.Collectors;
 
 /**
  * Kafka Consumer 설정
@@ -40,11 +51,7 @@ public class KafkaConsumerConfig {
     public ConsumerFactory<String, Order> consumerFactory() {
         Properties props = buildConsumerProperties();
         return new DefaultKafkaConsumerFactory<>(
-                props.entrySet().stream()
-                        .collect(java.util.stream.Collectors.toMap(
-                                e -> e.getKey().toString(),
-                                e -> e.getValue()
-                        )),
+                toConfigMap(props),
                 new StringDeserializer(),
                 new JsonDeserializer<>(Order.class, false)
         );
@@ -66,6 +73,62 @@ public class KafkaConsumerConfig {
         return factory;
     }
 
+    /**
+     * 배치 리스너용 Consumer Factory
+     * - Key: String
+     * - Value: byte[] (Avro 디코딩은 리스너에서 레코드별로 수행, SalesOrderMessageCodec)
+     *   → 디코딩할 수 없는 레코드도 poll 전체를 실패시키지 않고 해당 레코드만 DLT로 보낼 수 있음
+     */
+    @Bean
+    public ConsumerFactory<String, byte[]> batchConsumerFactory() {
+        Properties props = buildConsumerProperties();
+        props.setProperty(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class.getName());
+        return new DefaultKafkaConsumerFactory<>(
+                toConfigMap(props),
+                new StringDeserializer(),
+                new ByteArrayDeserializer()
+        );
+    }
+
+    /**
+     * 배치 리스너 Container Factory
+     * - poll 1번의 레코드(최대 max-poll-records건)를 List로 한 번에 전달
+     * - AckMode.MANUAL: 리스너가 배치를 모두 처리한 뒤 acknowledge() → 다음 poll 전에 오프셋 커밋
+     * - 처리 실패 시 batchErrorHandler가 실패 레코드만 DLT로 보내고 나머지는 다시 처리
+     * - 파티션 할당 시 rebalanceListener(ProcessedOrderDeduplicator)가 중복 확인용 Bloom Filter를 다시 채움
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, byte[]> batchListenerContainerFactory(
+            DefaultErrorHandler batchErrorHandler, ConsumerAwareRebalanceListener rebalanceListener) {
+        ConcurrentKafkaListenerContainerFactory<String, byte[]> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(batchConsumerFactory());
+        factory.setConcurrency(consumerProperties.getConcurrency());
+        factory.setBatchListener(true);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        factory.setCommonErrorHandler(batchErrorHandler);
+        factory.getContainerProperties().setConsumerRebalanceListener(rebalanceListener);
+        return factory;
+    }
+
+    /**
+     * 배치 리스너 에러 핸들러
+     * - 리스너가 BatchListenerFailedException(실패 레코드 index)을 던지면
+     *   1. 실패 레코드 이전까지 오프셋 커밋 (다시 처리하지 않음)
+     *   2. 실패 레코드부터 다시 전달하여 retryIntervalMs 간격으로 maxRetries번 재시도
+     *   3. 재시도 후에도 실패하면 실패 레코드만 {토픽}.DLT의 같은 파티션으로 발행하고 나머지 레코드 계속 처리
+     * - 디코딩 실패(poison 메시지, 스키마 미등록)는 재시도해도 같으므로 바로 DLT로 발행
+     */
+    @Bean
+    public DefaultErrorHandler batchErrorHandler(
+            @Qualifier("dltKafkaTemplate") KafkaTemplate<String, byte[]> dltKafkaTemplate) {
+        DeadLetterPublishingRecoverer recoverer = new DeadLetterPublishingRecoverer(dltKafkaTemplate);
+        DefaultErrorHandler errorHandler = new DefaultErrorHandler(recoverer,
+                new FixedBackOff(consumerProperties.getRetryIntervalMs(), consumerProperties.getMaxRetries()));
+        errorHandler.addNotRetryableExceptions(SerializationException.class);
+        return errorHandler;
+    }
+
     /**
      * Consumer Properties 빌드
      * - Map 대신 Properties 객체 사용
@@ -91,6 +154,10 @@ public class KafkaConsumerConfig {
         props.setProperty(ConsumerConfig.SESSION_TIMEOUT_MS_CONFIG, String.valueOf(consumerProperties.getSessionTimeoutMs()));
         props.setProperty(ConsumerConfig.HEARTBEAT_INTERVAL_MS_CONFIG, String.valueOf(consumerProperties.getHeartbeatIntervalMs()));
 
+        // 배치 크기 vs 지연 시간 (브로커가 fetch-min-bytes가 모일 때까지 최대 fetch-max-wait-ms 대기)
+        props.setProperty(ConsumerConfig.FETCH_MIN_BYTES_CONFIG, String.valueOf(consumerProperties.getFetchMinBytes()));
+        props.setProperty(ConsumerConfig.FETCH_MAX_WAIT_MS_CONFIG, String.valueOf(consumerProperties.getFetchMaxWaitMs()));
+
         // SSL/SASL 보안 설정
         if (sslProperties.isEnabled()) {
             log.info("Kafka SSL/SASL security is enabled for consumer");
@@ -100,6 +167,14 @@ public class KafkaConsumerConfig {
         return props;
     }
 
+    private Map<String, Object> toConfigMap(Properties props) {
+        return props.entrySet().stream()
+                .collect(Collectors.toMap(
+                        e -> e.getKey().toString(),
+                        e -> e.getValue()
+                ));
+    }
+
     /**
      * SSL/SASL 보안 설정 적용
      */
@@ -1,5 +1,7 @@
 package com.example.kafka.config;
 
+import com.example.kafka.message.SalesOrderMessage;
+import com.example.kafka.message.serde.SalesOrderMessageSerializer;
 import com.example.kafka.properties.KafkaProducerProperties;
 import com.example.kafka.properties.KafkaSSLProperties;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -8,15 +10,19 @@ import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.Serializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.support.serializer.DelegatingByTypeSerializer;
 import org.springframework.kafka.support.serializer.JsonSerializer;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Properties;
 
@@ -52,6 +58,8 @@ public class KafkaProducerConfig {
      * Producer Factory 설정
      * - Key: String
      * - Value: Object (모든 타입 지원)
+     *   - SalesOrderMessage: Avro 바이너리 (sales-orders 토픽 Consumer/Streams와 같은 형식)
+     *   - 그 외: JSON
      */
     @Bean
     public ProducerFactory<String, Object> producerFactory() {
@@ -64,10 +72,15 @@ public class KafkaProducerConfig {
         JsonSerializer<Object> jsonSerializer = new JsonSerializer<>(kafkaObjectMapper());
         jsonSerializer.setAddTypeInfo(false);  // Type 헤더 비활성화
 
+        // 값 타입별 Serializer (등록 순서대로 검사하므로 Object는 마지막)
+        Map<Class<?>, Serializer<?>> serializers = new LinkedHashMap<>();
+        serializers.put(SalesOrderMessage.class, new SalesOrderMessageSerializer());
+        serializers.put(Object.class, jsonSerializer);
+
         return new DefaultKafkaProducerFactory<>(
                 configProps,
                 new StringSerializer(),
-                jsonSerializer
+                new DelegatingByTypeSerializer(serializers, true)
         );
     }
 
@@ -80,6 +93,56 @@ public class KafkaProducerConfig {
         return new KafkaTemplate<>(producerFactory());
     }
 
+    /**
+     * Outbox Relay 전용 Producer Factory
+     * - Key: String, Value: byte[] (OutboxPublisher가 Outbox의 JSON payload를 Avro 바이너리로 변환해서 전달)
+     * - 배치/linger/압축은 토픽별 Producer 프로파일로 덮어씀 (OutboxPublisher)
+     * - 멱등성 Producer: 재시도로 인한 중복 기록 방지
+     */
+    @Bean
+    public ProducerFactory<String, byte[]> outboxProducerFactory() {
+        Map<String, Object> configProps = new HashMap<>();
+        Properties props = buildProducerProperties();
+        props.setProperty(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class.getName());
+        props.setProperty(ProducerConfig.ACKS_CONFIG, "all");
+        props.setProperty(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, "true");
+
+        props.forEach((key, value) -> configProps.put(key.toString(), value));
+
+        return new DefaultKafkaProducerFactory<>(
+                configProps,
+                new StringSerializer(),
+                new ByteArraySerializer()
+        );
+    }
+
+    /**
+     * Outbox Relay 전용 KafkaTemplate
+     */
+    @Bean
+    public KafkaTemplate<String, byte[]> outboxKafkaTemplate() {
+        return new KafkaTemplate<>(outboxProducerFactory());
+    }
+
+    /**
+     * DLT 발행 전용 KafkaTemplate
+     * - 배치 리스너가 처리하지 못한 레코드를 원본 바이트 그대로 {토픽}.DLT로 발행
+     * - 원본 토픽/파티션/오프셋/예외 정보는 DeadLetterPublishingRecoverer가 헤더로 추가
+     */
+    @Bean
+    public KafkaTemplate<String, byte[]> dltKafkaTemplate() {
+        Map<String, Object> configProps = new HashMap<>();
+        Properties props = buildProducerProperties();
+        props.setProperty(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class.getName());
+        props.forEach((key, value) -> configProps.put(key.toString(), value));
+
+        return new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(
+                configProps,
+                new StringSerializer(),
+                new ByteArraySerializer()
+        ));
+    }
+
     /**
      * Producer Properties 빌드
      * - Map 대신 Properties 객체 사용
@@ -1,7 +1,17 @@
 package com.example.kafka.config;
 
+import com.example.kafka.enums.MessageCategory;
+import com.example.kafka.message.SalesOrderMessage;
+import com.example.kafka.message.serde.SalesOrderMessageSerde;
+import com.example.kafka.properties.KafkaTopicProperties;
+import com.example.kafka.streams.OrderDateTimeExtractor;
+import lombok.RequiredArgsConstructor;
 import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.streams.StreamsBuilder;
 import org.apache.kafka.streams.StreamsConfig;
+import org.apache.kafka.streams.errors.LogAndContinueExceptionHandler;
+import org.apache.kafka.streams.kstream.Consumed;
+import org.apache.kafka.streams.kstream.KStream;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -17,8 +27,11 @@ import java.util.Map;
  */
 @Configuration
 @EnableKafkaStreams
+@RequiredArgsConstructor
 public class KafkaStreamsConfig {
 
+    private final KafkaTopicProperties topicProperties;
+
     @Value("${spring.kafka.bootstrap-servers}")
     private String bootstrapServers;
 
@@ -38,9 +51,31 @@ public class KafkaStreamsConfig {
         // 기본 Value Serde
         props.put(StreamsConfig.DEFAULT_VALUE_SERDE_CLASS_CONFIG, Serdes.String().getClass());
 
+        // 역직렬화할 수 없는 메시지(스키마 미등록, 형식 불일치)는 로그만 남기고 건너뜀
+        props.put(StreamsConfig.DEFAULT_DESERIALIZATION_EXCEPTION_HANDLER_CLASS_CONFIG,
+                LogAndContinueExceptionHandler.class);
+
         // 상태 저장소 디렉토리
         props.put(StreamsConfig.STATE_DIR_CONFIG, "/tmp/kafka-streams");
 
+        // 출력 토픽(high-value-orders)의 Producer 프로파일을 Streams 내부 Producer에 적용
+        topicProperties.getProducerProfileName(topicProperties.getName(MessageCategory.HIGH_VALUE_ORDERS))
+                .map(topicProperties.getProducerProfiles()::get)
+                .ifPresent(profile -> profile.toConfigOverrides()
+                        .forEach((key, value) -> props.put(StreamsConfig.producerPrefix(key), value)));
+
         return new KafkaStreamsConfiguration(props);
     }
+
+    /**
+     * sales-orders 소스 스트림
+     * - 같은 토픽을 소스로 두 번 등록할 수 없으므로 하나를 만들어 토폴로지(HighValueOrderStream, OrderSalesAggregationStream)가 공유
+     * - 이벤트 시간: 주문 시각 (OrderDateTimeExtractor)
+     */
+    @Bean
+    public KStream<String, SalesOrderMessage> salesOrderStream(StreamsBuilder streamsBuilder) {
+        return streamsBuilder.stream(topicProperties.getName(MessageCategory.SALES_ORDER),
+                Consumed.with(Serdes.String(), SalesOrderMessageSerde.serde())
+                        .withTimestampExtractor(new OrderDateTimeExtractor()));
+    }
 }
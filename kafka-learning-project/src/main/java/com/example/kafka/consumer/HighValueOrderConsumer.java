@@ -1,12 +1,19 @@
 package com.example.kafka.consumer;
 
 import com.example.kafka.message.SalesOrderMessage;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
+import com.example.kafka.message.serde.SalesOrderMessageCodec;
+import com.example.kafka.properties.KafkaConsumerProperties;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * 고액 주문 Consumer
  *
@@ -17,52 +24,89 @@ import org.springframework.stereotype.Component;
  * - 관리자 알림
  * - 특별 배송 처리
  * - 사기 거래 검증
+ *
+ * high-value-orders는 파티션이 1개라 Consumer 스레드를 늘려도 1개만 동작하므로,
+ * 배치를 고객 ID 기준 KeyOrderedWorkerPool로 나누어 병렬 처리합니다 (같은 고객의 주문은 순서대로).
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
-public class HighValueOrderConsumer {
+public class HighValueOrderConsumer implements DisposableBean {
 
-    private final ObjectMapper objectMapper;
+    private final KeyOrderedWorkerPool workerPool;
+
+    public HighValueOrderConsumer(KafkaConsumerProperties consumerProperties) {
+        this.workerPool = new KeyOrderedWorkerPool("high-value-worker-", consumerProperties.getKeyOrderedWorkers());
+    }
 
     /**
-     * 고액 주문 처리
+     * 고액 주문 처리 (배치 리스너)
      * - Kafka Streams에서 필터링된 고액 주문만 수신
+     * - 배치를 고객 ID별 워커에서 병렬 처리한 뒤 모두 끝나면 오프셋 커밋
+     * - 처리에 실패한 주문은 재시도 후 high-value-orders.DLT로 발행 (이전처럼 로그만 남기고 유실되지 않음)
      */
     @KafkaListener(
             topics = "high-value-orders",
             groupId = "high-value-order-group",
-            containerFactory = "kafkaListenerContainerFactory"
+            containerFactory = "batchListenerContainerFactory"
     )
-    public void consumeHighValueOrders(String message) {
-        try {
-            SalesOrderMessage order = objectMapper.readValue(message, SalesOrderMessage.class);
+    public void consumeHighValueOrders(List<ConsumerRecord<String, byte[]>> records, Acknowledgment ack) {
+        long start = System.currentTimeMillis();
+
+        // 디코딩은 순서대로 (실패한 레코드 이전까지만 처리)
+        List<SalesOrderMessage> orders = new ArrayList<>(records.size());
+        BatchListenerFailedException decodeFailure = null;
+        for (int i = 0; i < records.size(); i++) {
+            ConsumerRecord<String, byte[]> record = records.get(i);
+            try {
+                orders.add(SalesOrderMessageCodec.INSTANCE.decode(record.value()));
+            } catch (Exception e) {
+                decodeFailure = new BatchListenerFailedException("고액 주문 디코딩 실패 - offset: " + record.offset(), e, i);
+                break;
+            }
+        }
+
+        KeyOrderedWorkerPool.Failure failure =
+                workerPool.process(orders, SalesOrderMessage::getCustomerId, this::handleHighValueOrder);
+        if (failure != null) {
+            ConsumerRecord<String, byte[]> record = records.get(failure.index());
+            throw new BatchListenerFailedException(
+                    "고액 주문 처리 실패 - offset: " + record.offset(), failure.cause(), failure.index());
+        }
+        if (decodeFailure != null) {
+            throw decodeFailure;
+        }
 
-            log.info("========================================");
-            log.info("💎 고액 주문 수신: {}", order.getOrderId());
-            log.info("========================================");
+        ack.acknowledge();
+        long elapsed = Math.max(System.currentTimeMillis() - start, 1);
+        log.info("📥 고액 주문 배치 처리 완료 - {}건, 워커: {}개, {}ms ({}건/초)",
+                records.size(), workerPool.getWorkerCount(), elapsed, records.size() * 1000L / elapsed);
+    }
 
-            // 1. 주문 정보 로깅
-            logOrderDetails(order);
+    /**
+     * 고액 주문 1건 처리
+     */
+    private void handleHighValueOrder(SalesOrderMessage order) {
+        log.info("========================================");
+        log.info("💎 고액 주문 수신: {}", order.getOrderId());
+        log.info("========================================");
 
-            // 2. VIP 고객 알림
-            notifyVipCustomer(order);
+        // 1. 주문 정보 로깅
+        logOrderDetails(order);
 
-            // 3. 관리자 알림
-            notifyAdmin(order);
+        // 2. VIP 고객 알림
+        notifyVipCustomer(order);
 
-            // 4. 특별 배송 처리
-            processSpecialDelivery(order);
+        // 3. 관리자 알림
+        notifyAdmin(order);
 
-            // 5. 사기 거래 검증
-            verifyFraudDetection(order);
+        // 4. 특별 배송 처리
+        processSpecialDelivery(order);
 
-            log.info("✅ 고액 주문 처리 완료: {}", order.getOrderId());
-            log.info("========================================\n");
+        // 5. 사기 거래 검증
+        verifyFraudDetection(order);
 
-        } catch (Exception e) {
-            log.error("❌ 고액 주문 처리 실패", e);
-        }
+        log.info("✅ 고액 주문 처리 완료: {}", order.getOrderId());
+        log.info("========================================\n");
     }
 
     /**
@@ -158,4 +202,9 @@ public class HighValueOrderConsumer {
         // 예시: 매우 고액 주문 (500만원 이상)은 추가 검증
         return order.getTotalAmount().doubleValue() >= 5000000;
     }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        workerPool.close();
+    }
 }
@@ -0,0 +1,130 @@
+package com.example.kafka.consumer;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 키 순서 보장 워커 풀
+ * - 배치 리스너가 poll 1번의 레코드를 키(hash % 워커 수)별로 나누어 워커들이 동시에 처리
+ * - 워커마다 스레드 1개가 배치 순서대로 처리하므로 같은 키의 레코드는 순서가 유지됨
+ * - 파티션 수(Consumer 스레드 수)와 관계없이 워커 수만큼 동시에 처리
+ *
+ * 커밋 단위:
+ * - poll마다 모든 워커가 끝날 때까지 기다리는 배리어 (가장 느린 키의 처리 시간이 배치 시간)
+ * - 파티션별 완료 오프셋을 따로 추적하지 않고, 배치가 끝난 뒤 리스너가 커밋 범위를 정함
+ *
+ * 실패 처리:
+ * - 워커는 실패한 레코드에서 멈춤 (같은 키의 이후 레코드가 먼저 처리되지 않도록)
+ * - 다른 워커도 지금까지 알려진 가장 앞선 실패 위치보다 뒤의 레코드는 처리하지 않음 (어차피 다시 전달됨)
+ * - 배치 전체에서 가장 앞선 실패 위치를 반환 → 리스너가 BatchListenerFailedException(index)으로 던지면
+ *   그 이전까지 커밋, 그 이후는 다시 전달
+ *   (실패가 알려지기 전에 다른 워커가 처리한 이후 레코드는 다시 처리됨, at-least-once)
+ */
+@Slf4j
+public class KeyOrderedWorkerPool implements AutoCloseable {
+
+    private final ExecutorService[] workers;
+
+    public KeyOrderedWorkerPool(String threadNamePrefix, int workerCount) {
+        if (workerCount < 1) {
+            throw new IllegalArgumentException("워커 수는 1 이상이어야 합니다: " + workerCount);
+        }
+        ThreadFactory threadFactory = new CustomizableThreadFactory(threadNamePrefix);
+        this.workers = new ExecutorService[workerCount];
+        for (int i = 0; i < workerCount; i++) {
+            workers[i] = Executors.newSingleThreadExecutor(threadFactory);
+        }
+    }
+
+    public int getWorkerCount() {
+        return workers.length;
+    }
+
+    /**
+     * items를 키별 워커에서 병렬 처리하고 모두 끝날 때까지 대기
+     *
+     * @return 처리에 실패한 레코드 중 가장 앞선 위치 (모두 성공하면 null)
+     */
+    public <T> Failure process(List<T> items, Function<T, String> keyExtractor, Consumer<T> handler) {
+        List<List<Integer>> assigned = new ArrayList<>(workers.length);
+        for (int i = 0; i < workers.length; i++) {
+            assigned.add(new ArrayList<>());
+        }
+        for (int i = 0; i < items.size(); i++) {
+            assigned.get(workerIndex(keyExtractor.apply(items.get(i)))).add(i);
+        }
+
+        AtomicInteger earliestFailure = new AtomicInteger(Integer.MAX_VALUE);
+        List<CompletableFuture<Failure>> futures = new ArrayList<>(workers.length);
+        for (int w = 0; w < workers.length; w++) {
+            List<Integer> indexes = assigned.get(w);
+            if (!indexes.isEmpty()) {
+                futures.add(CompletableFuture.supplyAsync(
+                        () -> run(items, indexes, handler, earliestFailure), workers[w]));
+            }
+        }
+
+        Failure first = null;
+        for (CompletableFuture<Failure> future : futures) {
+            Failure failure = future.join();
+            if (failure != null && (first == null || failure.index() < first.index())) {
+                first = failure;
+            }
+        }
+        return first;
+    }
+
+    /**
+     * 워커 1개가 맡은 레코드를 순서대로 처리
+     * - 실패하면 멈추고, 다른 워커의 실패보다 뒤의 레코드에 도달해도 멈춤
+     *   (indexes는 오름차순이므로 멈춘 위치 이전은 모두 처리됨 → 반환한 실패 위치 이전은 모두 성공)
+     */
+    private <T> Failure run(List<T> items, List<Integer> indexes, Consumer<T> handler, AtomicInteger earliestFailure) {
+        for (int index : indexes) {
+            if (index > earliestFailure.get()) {
+                return null;
+            }
+            try {
+                handler.accept(items.get(index));
+            } catch (Exception e) {
+                earliestFailure.accumulateAndGet(index, Math::min);
+                return new Failure(index, e);
+            }
+        }
+        return null;
+    }
+
+    private int workerIndex(String key) {
+        return key == null ? 0 : Math.floorMod(key.hashCode(), workers.length);
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        for (ExecutorService worker : workers) {
+            worker.shutdown();
+        }
+        for (ExecutorService worker : workers) {
+            if (!worker.awaitTermination(30, TimeUnit.SECONDS)) {
+                worker.shutdownNow();
+            }
+        }
+    }
+
+    /**
+     * @param index 실패한 레코드 위치 (items 기준)
+     * @param cause 처리 중 발생한 예외
+     */
+    public record Failure(int index, Exception cause) {
+    }
+}
@@ -1,97 +1,186 @@
 package com.example.kafka.consumer;
 
-import com.example.kafka.domain.Order;
+import com.example.kafka.message.SalesOrderMessage;
+import com.example.kafka.message.serde.SalesOrderMessageCodec;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
-import org.springframework.kafka.support.KafkaHeaders;
-import org.springframework.messaging.handler.annotation.Header;
-import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.stereotype.Service;
 
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 /**
  * Order Consumer 서비스
- * - Kafka 토픽에서 주문 이벤트를 소비하여 처리
+ * - Kafka 토픽에서 주문 이벤트를 배치로 소비하여 처리
+ *
+ * 배치 리스너 (batchListenerContainerFactory):
+ * - poll 1번의 레코드를 List로 받아 순서대로 처리한 뒤 acknowledge() → 오프셋 커밋
+ * - 레코드 처리에 실패하면 BatchListenerFailedException(index)을 던져
+ *   이전 레코드는 커밋, 실패 레코드는 재시도 후 DLT, 이후 레코드는 다시 처리
+ * - 자동 커밋(1초 주기)과 달리 처리하지 않은 레코드가 커밋되지 않음
+ *
+ * 중복 처리 방지 (ProcessedOrderDeduplicator):
+ * - 처리 전에 배치 전체의 주문 ID를 1번에 확인하여 이미 처리한 주문(같은 배치 안의 반복 포함)은 건너뜀
+ * - 처리한 주문은 실패로 중단되어도 그 전까지 기록 (재시도 때 다시 처리하지 않음)
  */
 @Slf4j
 @Service
+@RequiredArgsConstructor
 public class OrderConsumer {
 
+    private static final String GROUP_ID = "kafka-learning-group";
+    private static final String ANALYTICS_GROUP_ID = "order-analytics-group";
+
+    private final ProcessedOrderDeduplicator deduplicator;
+
     /**
      * 기본 주문 Consumer
      * - 토픽: sales-orders
      * - Consumer Group: kafka-learning-group
      * - 3개의 스레드로 병렬 처리 (파티션 3개)
      */
-    @KafkaListener(topics = "sales-orders", groupId = "kafka-learning-group")
-    public void consumeOrder(ConsumerRecord<String, Order> record) {
-        Order order = record.value();
-
-        log.info("========================================");
-        log.info("Consumed Order from Kafka");
-        log.info("Topic: {}", record.topic());
-        log.info("Partition: {}", record.partition());
-        log.info("Offset: {}", record.offset());
-        log.info("Key: {}", record.key());
-        log.info("Order: {}", order);
-        log.info("========================================");
-
-        // 비즈니스 로직 처리
-        processOrder(order);
+    @KafkaListener(topics = "sales-orders", groupId = GROUP_ID, containerFactory = "batchListenerContainerFactory")
+    public void consumeOrders(List<ConsumerRecord<String, byte[]>> records, Acknowledgment ack) {
+        long start = System.currentTimeMillis();
+        DecodedBatch batch = decode(records);
+        Set<String> processed = deduplicator.findProcessed(GROUP_ID, batch.orderIds());
+        Set<String> processedNow = new LinkedHashSet<>();
+        int skipped = 0;
+
+        try {
+            for (int i = 0; i < batch.orders().size(); i++) {
+                ConsumerRecord<String, byte[]> record = records.get(i);
+                SalesOrderMessage order = batch.orders().get(i);
+                if (processed.contains(order.getOrderId()) || processedNow.contains(order.getOrderId())) {
+                    skipped++;
+                    continue;
+                }
+                try {
+                    log.debug("Consumed Order - partition: {}, offset: {}, key: {}",
+                            record.partition(), record.offset(), record.key());
+
+                    // 비즈니스 로직 처리
+                    processOrder(order);
+                    processedNow.add(order.getOrderId());
+                } catch (Exception e) {
+                    throw new BatchListenerFailedException("주문 처리 실패 - offset: " + record.offset(), e, i);
+                }
+            }
+            batch.throwIfFailed();
+        } finally {
+            deduplicator.markProcessed(GROUP_ID, processedNow);
+        }
+
+        ack.acknowledge();
+        logBatch(GROUP_ID, records.size(), skipped, start);
     }
 
     /**
-     * 상세 메타데이터와 함께 주문 Consumer
-     * - @Payload: 메시지 본문
-     * - @Header: 메시지 헤더 정보
+     * 분석용 주문 Consumer
+     * - 토픽: sales-orders
+     * - Consumer Group: order-analytics-group
+     * - 배치 단위로 상품별 집계 후 한 번에 반영
      */
-    @KafkaListener(topics = "sales-orders", groupId = "order-analytics-group", containerFactory = "kafkaListenerContainerFactory")
-    public void consumeOrderWithMetadata(
-            @Payload Order order,
-            @Header(KafkaHeaders.RECEIVED_TOPIC) String topic,
-            @Header(KafkaHeaders.RECEIVED_PARTITION) int partition,
-            @Header(KafkaHeaders.OFFSET) long offset,
-            @Header(KafkaHeaders.RECEIVED_TIMESTAMP) long timestamp
-    ) {
-        log.info("========================================");
-        log.info("Analytics Consumer - Received Order");
-        log.info("Topic: {}", topic);
-        log.info("Partition: {}", partition);
-        log.info("Offset: {}", offset);
-        log.info("Timestamp: {}", timestamp);
-        log.info("Order ID: {}", order.getOrderId());
-        log.info("Customer ID: {}", order.getCustomerId());
-        log.info("Total Amount: {}", order.getTotalAmount());
-        log.info("========================================");
-
-        // 분석 로직 처리
-        analyzeOrder(order);
+    @KafkaListener(topics = "sales-orders", groupId = ANALYTICS_GROUP_ID, containerFactory = "batchListenerContainerFactory")
+    public void consumeOrdersForAnalytics(List<ConsumerRecord<String, byte[]>> records, Acknowledgment ack) {
+        long start = System.currentTimeMillis();
+        DecodedBatch batch = decode(records);
+        Set<String> processed = deduplicator.findProcessed(ANALYTICS_GROUP_ID, batch.orderIds());
+        Set<String> aggregated = new HashSet<>();
+        Map<String, BigDecimal> salesByProduct = new HashMap<>();
+
+        for (SalesOrderMessage order : batch.orders()) {
+            if (!processed.contains(order.getOrderId()) && aggregated.add(order.getOrderId())) {
+                salesByProduct.merge(order.getProductId(), order.getTotalAmount(), BigDecimal::add);
+            }
+        }
+
+        // 디코딩 실패 레코드 이전까지는 커밋되므로 그만큼의 집계는 반영
+        analyzeOrders(salesByProduct);
+        deduplicator.markProcessed(ANALYTICS_GROUP_ID, aggregated);
+        batch.throwIfFailed();
+
+        ack.acknowledge();
+        logBatch(ANALYTICS_GROUP_ID, records.size(), batch.orders().size() - aggregated.size(), start);
+    }
+
+    /**
+     * 레코드를 순서대로 디코딩 (실패한 레코드에서 멈춤)
+     */
+    private DecodedBatch decode(List<ConsumerRecord<String, byte[]>> records) {
+        List<SalesOrderMessage> orders = new ArrayList<>(records.size());
+        for (int i = 0; i < records.size(); i++) {
+            ConsumerRecord<String, byte[]> record = records.get(i);
+            try {
+                orders.add(SalesOrderMessageCodec.INSTANCE.decode(record.value()));
+            } catch (Exception e) {
+                return new DecodedBatch(orders,
+                        new BatchListenerFailedException("주문 디코딩 실패 - offset: " + record.offset(), e, i));
+            }
+        }
+        return new DecodedBatch(orders, null);
     }
 
     /**
      * 주문 처리 비즈니스 로직
      */
-    private void processOrder(Order order) {
-        log.info("Processing order: {}", order.getOrderId());
+    private void processOrder(SalesOrderMessage order) {
+        log.debug("Processing order: {}", order.getOrderId());
 
         // 실제 비즈니스 로직 구현
         // - 재고 확인
         // - 결제 처리
         // - 배송 요청
         // - 데이터베이스 저장 등
-
-        log.info("Order processing completed: {}", order.getOrderId());
     }
 
     /**
-     * 주문 분석 로직
+     * 주문 분석 로직 (배치 집계 결과 1번 반영)
      */
-    private void analyzeOrder(Order order) {
-        log.info("Analyzing order for analytics: {}", order.getOrderId());
+    private void analyzeOrders(Map<String, BigDecimal> salesByProduct) {
+        if (salesByProduct.isEmpty()) {
+            return;
+        }
+        log.info("Analyzing orders for analytics - 상품별 매출: {}", salesByProduct);
 
         // 실제 분석 로직 구현
-        // - 매출 통계 집계
+        // - 매출 통계 집계 (상품별 UPDATE 1번)
         // - 인기 상품 분석
         // - 고객 구매 패턴 분석 등
     }
+
+    private void logBatch(String groupId, int size, int skipped, long start) {
+        long elapsed = Math.max(System.currentTimeMillis() - start, 1);
+        log.info("📥 배치 처리 완료 - group: {}, {}건 (중복 건너뜀: {}건), {}ms ({}건/초)",
+                groupId, size, skipped, elapsed, size * 1000L / elapsed);
+    }
+
+    /**
+     * 디코딩 결과
+     *
+     * @param orders  디코딩에 성공한 앞쪽 레코드 (records와 같은 순서)
+     * @param failure 디코딩에 실패한 레코드가 있으면 그 위치의 예외 (orders.size()번째 레코드)
+     */
+    private record DecodedBatch(List<SalesOrderMessage> orders, BatchListenerFailedException failure) {
+
+        List<String> orderIds() {
+            return orders.stream().map(SalesOrderMessage::getOrderId).toList();
+        }
+
+        void throwIfFailed() {
+            if (failure != null) {
+                throw failure;
+            }
+        }
+    }
 }
@@ -0,0 +1,51 @@
+package com.example.kafka.consumer;
+
+import com.example.kafka.message.SalesOrderMessage;
+import com.example.kafka.message.serde.SalesOrderMessageCodec;
+import com.example.kafka.service.OrderPaymentService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 주문 요청 Consumer
+ * - POST /api/orders로 접수된 주문(order-requested)의 결제를 배치 단위로 처리 (OrderPaymentService)
+ * - 같은 주문 ID는 같은 파티션으로 들어오므로 한 주문의 요청이 동시에 처리되지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderPaymentConsumer {
+
+    private final OrderPaymentService orderPaymentService;
+
+    /**
+     * 주문 요청 처리 (배치 리스너)
+     * - 디코딩할 수 없는 레코드가 있으면 그 이전 레코드까지 결제한 뒤 BatchListenerFailedException
+     *   → 이전 레코드는 커밋, 실패 레코드는 order-requested.DLT
+     */
+    @KafkaListener(topics = "order-requested", groupId = "order-payment-group", containerFactory = "batchListenerContainerFactory")
+    public void consumeOrderRequests(List<ConsumerRecord<String, byte[]>> records, Acknowledgment ack) {
+        List<SalesOrderMessage> requests = new ArrayList<>(records.size());
+
+        for (int i = 0; i < records.size(); i++) {
+            ConsumerRecord<String, byte[]> record = records.get(i);
+            try {
+                requests.add(SalesOrderMessageCodec.INSTANCE.decode(record.value()));
+            } catch (Exception e) {
+                orderPaymentService.processPayments(requests);
+                throw new BatchListenerFailedException("주문 요청 디코딩 실패 - offset: " + record.offset(), e, i);
+            }
+        }
+
+        orderPaymentService.processPayments(requests);
+        ack.acknowledge();
+    }
+}
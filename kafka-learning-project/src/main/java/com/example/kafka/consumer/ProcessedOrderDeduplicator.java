@@ -0,0 +1,312 @@
+package com.example.kafka.consumer;
+
+import com.example.kafka.common.BloomFilter;
+import com.example.kafka.properties.KafkaDedupeProperties;
+import com.example.kafka.repository.ProcessedOrderJdbcRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.dao.DataAccessException;
+import org.springframework.kafka.listener.ConsumerAwareRebalanceListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 중복 처리 방지 (Consumer Group + 주문 ID 기준)
+ *
+ * 수동 커밋이어도 처리 후 커밋 전에 리밸런싱/장애가 나거나 Outbox가 같은 주문을 다시 발행하면
+ * 같은 주문이 다시 전달됩니다 (at-least-once). 처리 완료한 주문 ID를 기록해 두고 다시 오면 건너뜁니다.
+ *
+ * 2단계 확인 (poll 1번당):
+ * 1. Bloom Filter (메모리): 없음으로 나온 주문은 DB 조회 없이 바로 처리 (대부분의 주문)
+ * 2. processed_order (DB): Bloom Filter가 있음으로 답한 주문만 SELECT ... IN 1번으로 확인 (오탐 제거)
+ * 처리한 주문은 INSERT IGNORE 배치 1번 + Bloom Filter에 추가
+ *
+ * - Bloom Filter는 Consumer Group별로 2세대를 유지 (현재 세대가 가득 차면 직전 세대를 버리고 새 세대 시작)
+ *   → 실제로 걸러지는 기간은 retentionHours와 최근 2 × expectedInsertions건을 처리한 기간 중 짧은 쪽
+ *     (버려진 세대의 주문은 Bloom Filter가 없음으로 답하므로 DB 기록이 남아 있어도 다시 처리됨)
+ *   → 세대 교체 시 그 기간이 retentionHours보다 짧으면 경고 (expected-insertions를 처리량 × retention-hours 이상으로)
+ * - 처음 사용할 때 보관 시간 안의 처리 기록으로 채움 (재시작)
+ * - 파티션을 할당받을 때마다(batchListenerContainerFactory의 리밸런스 리스너) 마지막으로 채운 이후의 처리 기록을 추가로 채움
+ *   → 다른 인스턴스가 처리하던 파티션을 넘겨받아도, 그 인스턴스가 처리한 주문이 Bloom Filter에서 누락되지 않음
+ * - 채우기에 실패한 동안은 Bloom Filter를 믿지 않고 모든 주문을 DB로 확인 (REFILL_RETRY_INTERVAL마다 다시 채우기 시도)
+ * - DB 조회/기록에 실패하면 중복 확인 없이 처리 (중복 처리 방지 때문에 소비가 멈추지 않도록 at-least-once로 후퇴)
+ */
+@Slf4j
+@Component
+public class ProcessedOrderDeduplicator implements ConsumerAwareRebalanceListener, DisposableBean {
+
+    private static final int CLEANUP_BATCH_SIZE = 10_000;
+
+    /**
+     * 추가 채우기 조회 구간을 마지막 조회 시각보다 이만큼 앞당김 (인스턴스 간 시계 차이, 늦게 커밋된 기록 대비)
+     */
+    private static final Duration REFILL_OVERLAP = Duration.ofMinutes(1);
+
+    /**
+     * 채우기 실패 후 다시 시도하는 간격 (그동안은 모든 주문을 DB로 확인)
+     */
+    private static final Duration REFILL_RETRY_INTERVAL = Duration.ofMinutes(1);
+
+    private final ProcessedOrderJdbcRepository processedOrderRepository;
+    private final KafkaDedupeProperties dedupeProperties;
+
+    private final Map<String, GroupFilter> filters = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService cleanupExecutor;
+
+    public ProcessedOrderDeduplicator(ProcessedOrderJdbcRepository processedOrderRepository,
+                                      KafkaDedupeProperties dedupeProperties) {
+        this.processedOrderRepository = processedOrderRepository;
+        this.dedupeProperties = dedupeProperties;
+        this.cleanupExecutor = Executors.newSingleThreadScheduledExecutor(
+                new CustomizableThreadFactory("dedupe-cleanup-"));
+        if (dedupeProperties.getEnabled()) {
+            long interval = dedupeProperties.getCleanupIntervalMinutes();
+            cleanupExecutor.scheduleWithFixedDelay(this::deleteExpired, interval, interval, TimeUnit.MINUTES);
+        }
+    }
+
+    /**
+     * 이미 처리한 주문 ID 조회
+     * - 같은 배치 안에서 반복된 주문은 호출하는 쪽에서 거름
+     *
+     * @return orderIds 중 처리 완료 기록이 있는 주문 ID
+     */
+    public Set<String> findProcessed(String consumerGroup, Collection<String> orderIds) {
+        if (!dedupeProperties.getEnabled() || orderIds.isEmpty()) {
+            return Set.of();
+        }
+        GroupFilter filter = filter(consumerGroup);
+        if (filter.isStale() && filter.isRetryDue()) {
+            refill(consumerGroup, filter);
+        }
+        List<String> candidates = new ArrayList<>();
+        for (String orderId : orderIds) {
+            if (filter.isStale() || filter.mightContain(orderId)) {
+                candidates.add(orderId);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return Set.of();
+        }
+
+        try {
+            Set<String> processed = processedOrderRepository.findProcessedOrderIds(consumerGroup, candidates);
+            log.debug("중복 확인 - group: {}, {}건 중 Bloom Filter 후보: {}건, 처리 완료: {}건",
+                    consumerGroup, orderIds.size(), candidates.size(), processed.size());
+            return processed;
+        } catch (DataAccessException e) {
+            log.warn("⚠️ 중복 확인 실패 (확인 없이 처리) - group: {}, {}건: {}",
+                    consumerGroup, candidates.size(), e.getMessage());
+            return Set.of();
+        }
+    }
+
+    /**
+     * 처리 완료 기록
+     */
+    public void markProcessed(String consumerGroup, Collection<String> orderIds) {
+        if (!dedupeProperties.getEnabled() || orderIds.isEmpty()) {
+            return;
+        }
+        GroupFilter filter = filter(consumerGroup);
+        orderIds.forEach(filter::put);
+
+        try {
+            processedOrderRepository.insertProcessedOrderIds(consumerGroup, orderIds);
+        } catch (DataAccessException e) {
+            // Bloom Filter에는 남으므로 이 인스턴스에서는 계속 걸러짐 (DB 확인 단계에서 후보로만 남음)
+            log.warn("⚠️ 처리 완료 기록 실패 - group: {}, {}건: {}", consumerGroup, orderIds.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 파티션 할당 시 (리밸런싱, 시작) 이 Consumer Group의 Bloom Filter에 마지막으로 채운 이후의 처리 기록을 추가
+     * - 아직 사용하지 않은 Consumer Group은 처음 사용할 때 전체를 채우므로 건너뜀
+     * - 같은 인스턴스의 Consumer 스레드마다 호출되지만 두 번째부터는 조회 구간이 짧음
+     */
+    @Override
+    public void onPartitionsAssigned(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+        if (!dedupeProperties.getEnabled() || partitions.isEmpty()) {
+            return;
+        }
+        String consumerGroup = consumer.groupMetadata().groupId();
+        GroupFilter filter = filters.get(consumerGroup);
+        if (filter != null) {
+            refill(consumerGroup, filter);
+        }
+    }
+
+    private GroupFilter filter(String consumerGroup) {
+        return filters.computeIfAbsent(consumerGroup, this::loadFilter);
+    }
+
+    /**
+     * Bloom Filter 생성 후 보관 시간 안의 처리 기록으로 채움
+     */
+    private GroupFilter loadFilter(String consumerGroup) {
+        GroupFilter filter = new GroupFilter(consumerGroup, dedupeProperties);
+        if (filter.current.expectedFalsePositiveRate() > dedupeProperties.getFalsePositiveRate() * 1.1) {
+            log.warn("⚠️ Bloom Filter 메모리 상한으로 오탐률 증가 - group: {}, 목표: {}, 예상: {} (kafka.dedupe.max-memory-kb 확인)",
+                    consumerGroup, dedupeProperties.getFalsePositiveRate(),
+                    String.format("%.4f", filter.current.expectedFalsePositiveRate()));
+        }
+        int loaded = refill(consumerGroup, filter);
+        log.info("중복 처리 방지 Bloom Filter 생성 - group: {}, 비트: {}, 해시: {}개, 메모리: {}KB × 2세대, "
+                        + "예상 오탐률: {}, 초기 적재: {}건",
+                consumerGroup, filter.current.getBitSize(), filter.current.getHashCount(),
+                filter.current.getBitSize() / 8 / 1024,
+                String.format("%.4f", filter.current.expectedFalsePositiveRate()), loaded);
+        return filter;
+    }
+
+    /**
+     * 마지막으로 채운 이후의 처리 기록을 Bloom Filter에 추가 (처음이면 보관 시간 전체)
+     * - 실패하면 다음 채우기에 성공할 때까지 모든 주문을 DB로 확인
+     *
+     * @return 추가한 주문 수 (실패 시 0)
+     */
+    private int refill(String consumerGroup, GroupFilter filter) {
+        synchronized (filter) {
+            LocalDateTime startedAt = LocalDateTime.now();
+            LocalDateTime since = filter.loadedThrough != null
+                    ? filter.loadedThrough.minus(REFILL_OVERLAP)
+                    : startedAt.minusHours(dedupeProperties.getRetentionHours());
+            try {
+                List<String> recent = processedOrderRepository.findRecentOrderIds(
+                        consumerGroup, since, dedupeProperties.getExpectedInsertions());
+                recent.forEach(filter::put);
+                filter.loaded(startedAt, since);
+                if (recent.size() >= dedupeProperties.getExpectedInsertions()) {
+                    log.warn("⚠️ {} 이후 처리 기록이 expected-insertions({})건 이상 - 최근 기록만 채움, "
+                                    + "그 이전에 처리한 주문은 다시 처리될 수 있음 - group: {}",
+                            since, dedupeProperties.getExpectedInsertions(), consumerGroup);
+                }
+                log.debug("Bloom Filter 채우기 - group: {}, {} 이후 처리 기록: {}건", consumerGroup, since, recent.size());
+                return recent.size();
+            } catch (DataAccessException e) {
+                filter.loadFailed(startedAt.plus(REFILL_RETRY_INTERVAL));
+                log.warn("⚠️ Bloom Filter 채우기 실패 (모든 주문을 DB로 확인) - group: {}: {}", consumerGroup, e.getMessage());
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * 보관 시간이 지난 처리 완료 기록 삭제 (CLEANUP_BATCH_SIZE건씩 나누어 잠금 시간 제한)
+     */
+    private void deleteExpired() {
+        try {
+            LocalDateTime threshold = LocalDateTime.now().minusHours(dedupeProperties.getRetentionHours());
+            int total = 0;
+            int deleted;
+            do {
+                deleted = processedOrderRepository.deleteProcessedBefore(threshold, CLEANUP_BATCH_SIZE);
+                total += deleted;
+            } while (deleted == CLEANUP_BATCH_SIZE);
+            if (total > 0) {
+                log.info("🧹 처리 완료 기록 삭제 - {}건 ({} 이전)", total, threshold);
+            }
+        } catch (RuntimeException e) {
+            // 예외가 밖으로 나가면 scheduleWithFixedDelay가 이후 실행을 멈추므로 여기서 처리
+            log.error("❌ 처리 완료 기록 삭제 실패 (다음 주기에 재시도): {}", e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        cleanupExecutor.shutdownNow();
+    }
+
+    /**
+     * Consumer Group별 2세대 Bloom Filter
+     * - 현재 세대가 가득 차면 현재 → 직전, 새 세대 시작 (메모리는 2세대 크기로 고정)
+     * - 확인은 두 세대 모두 (오탐률은 세대당 오탐률의 최대 2배)
+     * - 채우기에 성공한 적이 없거나 마지막 채우기가 실패했으면 stale (없음으로 답해도 믿지 않음)
+     * - 세대 교체 후 걸러지는 기간(직전 세대 시작 이후)이 retentionHours보다 짧으면 경고
+     */
+    private static class GroupFilter {
+
+        private final String consumerGroup;
+        private final KafkaDedupeProperties properties;
+        private volatile BloomFilter current;
+        private volatile BloomFilter previous;
+        // 현재 세대에 담긴 처리 기록의 시작 시각 (처음 채운 세대는 채우기 조회 시작 시각)
+        private volatile LocalDateTime currentSince = LocalDateTime.now();
+        private volatile LocalDateTime loadedThrough;
+        private volatile boolean stale = true;
+        private volatile LocalDateTime retryAt = LocalDateTime.MIN;
+
+        GroupFilter(String consumerGroup, KafkaDedupeProperties properties) {
+            this.consumerGroup = consumerGroup;
+            this.properties = properties;
+            this.current = newGeneration();
+        }
+
+        boolean isStale() {
+            return stale;
+        }
+
+        boolean isRetryDue() {
+            return !LocalDateTime.now().isBefore(retryAt);
+        }
+
+        void loaded(LocalDateTime loadedThrough, LocalDateTime since) {
+            if (this.loadedThrough == null && since.isBefore(currentSince)) {
+                this.currentSince = since;
+            }
+            this.loadedThrough = loadedThrough;
+            this.stale = false;
+        }
+
+        void loadFailed(LocalDateTime retryAt) {
+            this.retryAt = retryAt;
+            this.stale = true;
+        }
+
+        boolean mightContain(String orderId) {
+            BloomFilter prev = previous;
+            return current.mightContain(orderId) || (prev != null && prev.mightContain(orderId));
+        }
+
+        void put(String orderId) {
+            if (current.isFull()) {
+                rotate();
+            }
+            current.put(orderId);
+        }
+
+        private synchronized void rotate() {
+            if (current.isFull()) {
+                LocalDateTime now = LocalDateTime.now();
+                Duration covered = Duration.between(currentSince, now);
+                previous = current;
+                current = newGeneration();
+                currentSince = now;
+                if (covered.compareTo(Duration.ofHours(properties.getRetentionHours())) < 0) {
+                    log.warn("⚠️ Bloom Filter 세대 교체 - group: {}, 중복 확인 기간이 약 {}분으로 retention-hours({}시간)보다 짧음 "
+                                    + "(kafka.dedupe.expected-insertions를 처리량 × retention-hours 이상으로)",
+                            consumerGroup, covered.toMinutes(), properties.getRetentionHours());
+                }
+            }
+        }
+
+        private BloomFilter newGeneration() {
+            return BloomFilter.create(properties.getExpectedInsertions(), properties.getFalsePositiveRate(),
+                    properties.getMaxMemoryKb() * 1024L / 2);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.kafka.controller;
+
+import com.example.kafka.common.KafkaProducerCluster;
+import com.example.kafka.domain.EventRetryStats;
+import com.example.kafka.domain.ProducerProfileStats;
+import com.example.kafka.domain.SerdeBenchmarkResult;
+import com.example.kafka.producer.EventFailureReplayer;
+import com.example.kafka.producer.OutboxPublisher;
+import com.example.kafka.service.SerdeBenchmarkService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Kafka Producer 지표 API Controller
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/producer")
+@RequiredArgsConstructor
+public class KafkaProducerController {
+
+    private final KafkaProducerCluster kafkaProducerCluster;
+    private final OutboxPublisher outboxPublisher;
+    private final SerdeBenchmarkService serdeBenchmarkService;
+    private final EventFailureReplayer eventFailureReplayer;
+
+    /**
+     * Producer 프로파일별 전송 지표 (records/sec, bytes/record, 배치 채움 비율 등)
+     * GET /api/producer/profiles
+     */
+    @GetMapping("/profiles")
+    public ResponseEntity<List<ProducerProfileStats>> getProfileStats() {
+        List<ProducerProfileStats> stats = new ArrayList<>(outboxPublisher.profileStats());
+        stats.addAll(kafkaProducerCluster.profileStats());
+        return ResponseEntity.ok(stats);
+    }
+
+    /**
+     * SalesOrderMessage 직렬화 형식 비교 (JSON vs Avro: bytes/건, 직렬화/역직렬화 ns/건)
+     * GET /api/producer/serde-benchmark?count=10000
+     */
+    @GetMapping("/serde-benchmark")
+    public ResponseEntity<List<SerdeBenchmarkResult>> benchmarkSerde(@RequestParam(defaultValue = "10000") int count) {
+        try {
+            return ResponseEntity.ok(serdeBenchmarkService.run(count));
+        } catch (IllegalArgumentException e) {
+            log.warn("Serde benchmark rejected: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * 발행 실패 이벤트 재처리 지표 (대기/포기 수, 재발행 성공/실패 수와 초당 처리량)
+     * GET /api/producer/event-retry
+     */
+    @GetMapping("/event-retry")
+    public ResponseEntity<EventRetryStats> getEventRetryStats() {
+        return ResponseEntity.ok(eventFailureReplayer.stats());
+    }
+}
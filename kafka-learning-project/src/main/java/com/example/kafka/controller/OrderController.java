@@ -1,13 +1,24 @@
 package com.example.kafka.controller;
 
+import com.example.kafka.domain.BulkOrderJob;
 import com.example.kafka.domain.Order;
+import com.example.kafka.domain.PayingOrderStats;
+import com.example.kafka.service.BulkOrderService;
+import com.example.kafka.service.OrderPaymentService;
 import com.example.kafka.service.OrderService;
+import com.example.kafka.service.OrderStatusNotifier;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.math.BigDecimal;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * Order API Controller
@@ -20,57 +31,89 @@ import java.math.BigDecimal;
 public class OrderController {
 
     private final OrderService orderService;
+    private final BulkOrderService bulkOrderService;
+    private final OrderStatusNotifier orderStatusNotifier;
+    private final OrderPaymentService orderPaymentService;
 
     /**
-     * 주문 생성 (트랜잭션 분리 패턴)
+     * 주문 접수 (비동기)
      * POST /api/orders
+     * - PENDING으로 저장 후 바로 202 Accepted 반환 (결제는 order-requested Consumer가 처리)
+     * - 결제 결과는 Location(GET /api/orders/{orderId}/status)으로 조회
      */
     @PostMapping
     public ResponseEntity<Order> createOrder(@RequestBody Order order) {
         log.info("Received order creation request: {}", order);
-        Order createdOrder = orderService.createOrder(order);
-        return ResponseEntity.ok(createdOrder);
+        Order requestedOrder = orderService.requestOrder(order);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/orders/" + requestedOrder.getOrderId() + "/status"))
+                .body(requestedOrder);
+    }
+
+    /**
+     * 주문 상태 조회 (long-poll)
+     * GET /api/orders/{orderId}/status
+     * - PENDING이면 결제 결과가 나올 때까지 응답을 보류 (서블릿 스레드는 바로 반환)
+     * - order.async.status-wait-timeout-ms 안에 결과가 없으면 PENDING으로 응답 → 다시 조회
+     */
+    @GetMapping("/{orderId}/status")
+    public CompletableFuture<ResponseEntity<Order>> getOrderStatus(@PathVariable String orderId) {
+        return orderService.findOrder(orderId)
+                .map(order -> orderStatusNotifier.awaitCompletion(order).thenApply(ResponseEntity::ok))
+                .orElseGet(() -> CompletableFuture.completedFuture(ResponseEntity.notFound().build()));
     }
 
 
     /**
-     * 대량 주문 생성 (트랜잭션 분리 패턴)
-     * POST /api/orders/bulk?count=10
+     * 대량 주문 생성 (비동기 작업)
+     * POST /api/orders/bulk?count=1000
+     * - 즉시 작업 ID를 반환 (202 Accepted), 진행 상황은 GET /api/orders/bulk/{jobId}로 조회
+     * - 실행 대기 작업이 order.bulk.max-queued-jobs개로 가득 차 있으면 503 (잠시 후 재시도)
      */
     @PostMapping("/bulk")
-    public ResponseEntity<String> createBulkOrders(@RequestParam(defaultValue = "10") int count) {
+    public ResponseEntity<BulkOrderJob> createBulkOrders(@RequestParam(defaultValue = "10") int count) {
         log.info("Creating {} bulk orders", count);
 
-        int successCount = 0;
-        int failCount = 0;
-
+        List<Order> orders = new ArrayList<>(Math.max(count, 0));
         for (int i = 0; i < count; i++) {
             int productIndex = i % 5 + 1;
-            Order order = Order.builder()
+            orders.add(Order.builder()
                     .customerId("CUST-" + (1000 + i))
                     .productId("PROD-00" + productIndex)
                     .productName("Product " + productIndex)
                     .quantity(i % 10 + 1)
                     .price(BigDecimal.valueOf(productIndex * 10000))
-                    .build();
+                    .build());
+        }
 
-            try {
-                Order result = orderService.createOrder(order);
-                if ("SUCCESS".equals(result.getStatus())) {
-                    successCount++;
-                } else {
-                    failCount++;
-                }
-            } catch (Exception e) {
-                failCount++;
-                log.error("Order creation failed: {}", e.getMessage());
-            }
+        try {
+            return ResponseEntity.accepted().body(bulkOrderService.submit(orders));
+        } catch (IllegalArgumentException e) {
+            log.warn("Bulk order rejected: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (RejectedExecutionException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
         }
+    }
 
-        return ResponseEntity.ok(String.format(
-                "Total: %d, Success: %d, Failed: %d",
-                count, successCount, failCount
-        ));
+    /**
+     * 대량 주문 작업 진행 상황 조회
+     * GET /api/orders/bulk/{jobId}
+     */
+    @GetMapping("/bulk/{jobId}")
+    public ResponseEntity<BulkOrderJob> getBulkOrderJob(@PathVariable String jobId) {
+        return bulkOrderService.getJob(jobId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * 결제 결과 미반영(PAYING) 주문 지표 (현재/보정 대상 수, 보정 누적 수)
+     * GET /api/orders/paying
+     */
+    @GetMapping("/paying")
+    public ResponseEntity<PayingOrderStats> getPayingOrderStats() {
+        return ResponseEntity.ok(orderPaymentService.payingStats());
     }
 
     /**
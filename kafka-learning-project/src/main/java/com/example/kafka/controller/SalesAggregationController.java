@@ -0,0 +1,75 @@
+package com.example.kafka.controller;
+
+import com.example.kafka.domain.SalesWindowStats;
+import com.example.kafka.service.SalesAggregationQueryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.streams.errors.InvalidStateStoreException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 실시간 주문 집계 API Controller (Kafka Streams Interactive Query)
+ * - 집계는 OrderSalesAggregationStream이 미리 계산해 두므로 조회 시 DB를 사용하지 않음
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/streams")
+@RequiredArgsConstructor
+public class SalesAggregationController {
+
+    private final SalesAggregationQueryService queryService;
+
+    /**
+     * 전체 상품 분당 매출
+     * GET /api/streams/products/sales?minutes=10
+     */
+    @GetMapping("/products/sales")
+    public ResponseEntity<List<SalesWindowStats>> getAllProductSales(@RequestParam(defaultValue = "10") int minutes) {
+        return query(() -> queryService.getAllProductSales(minutes));
+    }
+
+    /**
+     * 상품 1개의 분당 매출
+     * GET /api/streams/products/{productId}/sales?minutes=10
+     */
+    @GetMapping("/products/{productId}/sales")
+    public ResponseEntity<List<SalesWindowStats>> getProductSales(@PathVariable String productId,
+                                                                  @RequestParam(defaultValue = "10") int minutes) {
+        return query(() -> queryService.getProductSales(productId, minutes));
+    }
+
+    /**
+     * 고객 1명의 5분 윈도우 주문 (1분 간격)
+     * GET /api/streams/customers/{customerId}/orders?minutes=10
+     */
+    @GetMapping("/customers/{customerId}/orders")
+    public ResponseEntity<List<SalesWindowStats>> getCustomerOrders(@PathVariable String customerId,
+                                                                    @RequestParam(defaultValue = "10") int minutes) {
+        return query(() -> queryService.getCustomerOrders(customerId, minutes));
+    }
+
+    /**
+     * - 조회 기간이 잘못된 경우 400
+     * - Kafka Streams가 시작/리밸런싱/복원 중이라 저장소를 조회할 수 없는 경우 503 (잠시 후 재시도)
+     */
+    private ResponseEntity<List<SalesWindowStats>> query(Supplier<List<SalesWindowStats>> query) {
+        try {
+            return ResponseEntity.ok(query.get());
+        } catch (IllegalArgumentException e) {
+            log.warn("Streams query rejected: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (InvalidStateStoreException e) {
+            log.warn("Streams state store not queryable: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
+}
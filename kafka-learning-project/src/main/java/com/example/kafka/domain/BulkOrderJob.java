@@ -0,0 +1,103 @@
+package com.example.kafka.domain;
+
+import com.example.kafka.enums.BulkOrderJobStatus;
+import com.example.kafka.enums.OrderStatus;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 대량 주문 작업 진행 상황
+ * - 작업 스레드가 갱신하고 조회 API가 동시에 읽음
+ */
+@Getter
+public class BulkOrderJob {
+
+    private final String jobId;
+    private final int totalCount;
+    private final LocalDateTime requestedAt = LocalDateTime.now();
+
+    private volatile BulkOrderJobStatus status = BulkOrderJobStatus.QUEUED;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+    private volatile String errorMessage;
+
+    /**
+     * 결제는 끝났지만 상태 변경(UPDATE)에 실패해 PENDING으로 남은 주문 (주문 ID → 결제 결과로 반영해야 할 상태)
+     * - 결제 성공 주문은 이미 결제되었으므로 재결제하지 말고 이 상태로 직접 보정해야 함
+     */
+    private final Map<String, OrderStatus> orphanedOrders = new ConcurrentHashMap<>();
+
+    @Getter(AccessLevel.NONE)
+    private final AtomicInteger success = new AtomicInteger();
+    @Getter(AccessLevel.NONE)
+    private final AtomicInteger failed = new AtomicInteger();
+
+    public BulkOrderJob(String jobId, int totalCount) {
+        this.jobId = jobId;
+        this.totalCount = totalCount;
+    }
+
+    public int getSuccessCount() {
+        return success.get();
+    }
+
+    public int getFailedCount() {
+        return failed.get();
+    }
+
+    public int getProcessedCount() {
+        return success.get() + failed.get();
+    }
+
+    public int getProgressPercent() {
+        return totalCount == 0 ? 100 : getProcessedCount() * 100 / totalCount;
+    }
+
+    /**
+     * 경과 시간 (ms, 시작 전이면 0)
+     */
+    public long getElapsedMs() {
+        if (startedAt == null) {
+            return 0;
+        }
+        return Duration.between(startedAt, finishedAt != null ? finishedAt : LocalDateTime.now()).toMillis();
+    }
+
+    public boolean isFinished() {
+        return status == BulkOrderJobStatus.COMPLETED || status == BulkOrderJobStatus.FAILED;
+    }
+
+    // ===== 상태 변경 (BulkOrderService에서만 호출) =====
+
+    public void start() {
+        this.startedAt = LocalDateTime.now();
+        this.status = BulkOrderJobStatus.RUNNING;
+    }
+
+    public void addResult(int successCount, int failedCount) {
+        success.addAndGet(successCount);
+        failed.addAndGet(failedCount);
+    }
+
+    public void addOrphanedOrders(List<Order> orders, OrderStatus status) {
+        orders.forEach(order -> orphanedOrders.put(order.getOrderId(), status));
+    }
+
+    public void complete() {
+        this.finishedAt = LocalDateTime.now();
+        this.status = BulkOrderJobStatus.COMPLETED;
+    }
+
+    public void fail(String errorMessage) {
+        this.errorMessage = errorMessage;
+        this.finishedAt = LocalDateTime.now();
+        this.status = BulkOrderJobStatus.FAILED;
+    }
+}
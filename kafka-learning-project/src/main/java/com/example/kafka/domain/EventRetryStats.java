@@ -0,0 +1,42 @@
+package com.example.kafka.domain;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 발행 실패 이벤트 재처리 지표
+ */
+@Getter
+@Builder
+public class EventRetryStats {
+
+    /**
+     * 재처리 대기 수 (재처리 시각이 아직 안 된 행 포함)
+     */
+    private long backlog;
+
+    /**
+     * 재처리 포기 수 (maxAttempts 도달, 수동 확인 대상)
+     */
+    private long gaveUp;
+
+    /**
+     * 애플리케이션 시작 후 재발행 성공 수
+     */
+    private long replayedTotal;
+
+    /**
+     * 애플리케이션 시작 후 재발행 실패 수
+     */
+    private long failedTotal;
+
+    /**
+     * 최근 1분 초당 재발행 성공 수
+     */
+    private double replayedPerSec;
+
+    /**
+     * 최근 1분 초당 재발행 실패 수
+     */
+    private double failedPerSec;
+}
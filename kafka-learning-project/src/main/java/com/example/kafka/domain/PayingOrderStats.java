@@ -0,0 +1,32 @@
+package com.example.kafka.domain;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 결제 결과 미반영(PAYING) 주문 지표
+ */
+@Getter
+@Builder
+public class PayingOrderStats {
+
+    /**
+     * 현재 PAYING 주문 수 (결제 진행 중 포함)
+     */
+    private long paying;
+
+    /**
+     * payingTimeoutMs 넘게 PAYING으로 남은 주문 수 (다음 보정 대상)
+     */
+    private long stale;
+
+    /**
+     * 애플리케이션 시작 후 보정한 주문 수 (승인 내역 있음 → 성공)
+     */
+    private long resolvedSuccessTotal;
+
+    /**
+     * 애플리케이션 시작 후 보정한 주문 수 (거절/승인 내역 없음 → 실패)
+     */
+    private long resolvedFailedTotal;
+}
@@ -0,0 +1,63 @@
+package com.example.kafka.domain;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Producer 프로파일별 전송 지표
+ * - Kafka Producer 내장 metrics(producer-metrics 그룹)의 최근 구간 평균값
+ */
+@Getter
+@Builder
+public class ProducerProfileStats {
+
+    /**
+     * Producer 사용처 (cluster: KafkaProducerCluster, outbox: OutboxPublisher)
+     */
+    private String source;
+
+    /**
+     * 프로파일명 (default: kafka.producer 기본 설정)
+     */
+    private String profile;
+
+    private Integer lingerMs;
+    private Integer batchSize;
+    private String compressionType;
+
+    /**
+     * 초당 전송 레코드 수
+     */
+    private double recordsPerSec;
+
+    /**
+     * 레코드 평균 크기 (압축 전, bytes)
+     */
+    private double recordSizeAvg;
+
+    /**
+     * 레코드당 실제 전송 bytes (압축 후, 요청 헤더 포함)
+     */
+    private double bytesPerRecord;
+
+    /**
+     * 배치 평균 크기 (bytes)
+     */
+    private double batchSizeAvg;
+
+    /**
+     * 배치 채움 비율 (batchSizeAvg / batchSize)
+     * - 낮으면 linger가 끝나기 전에 배치가 차지 않아 작은 배치로 전송되고 있음
+     */
+    private double batchFillRatio;
+
+    /**
+     * 압축률 (압축 후 / 압축 전, 1.0이면 압축 없음)
+     */
+    private double compressionRate;
+
+    /**
+     * 레코드가 전송되기 전 배치에서 대기한 평균 시간 (ms)
+     */
+    private double recordQueueTimeAvgMs;
+}
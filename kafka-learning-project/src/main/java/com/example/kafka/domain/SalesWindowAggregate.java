@@ -0,0 +1,46 @@
+package com.example.kafka.domain;
+
+import com.example.kafka.message.SalesOrderMessage;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+
+/**
+ * 윈도우 1개의 주문 집계 값 (Kafka Streams 상태 저장소에 저장)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class SalesWindowAggregate {
+
+    /**
+     * 주문 수
+     */
+    private long orderCount;
+
+    /**
+     * 판매 수량 합계
+     */
+    private long quantity;
+
+    /**
+     * 매출 합계
+     */
+    private BigDecimal totalAmount = BigDecimal.ZERO;
+
+    /**
+     * 주문 1건 누적 (Aggregator)
+     */
+    public SalesWindowAggregate add(SalesOrderMessage order) {
+        orderCount++;
+        if (order.getQuantity() != null) {
+            quantity += order.getQuantity();
+        }
+        if (order.getTotalAmount() != null) {
+            totalAmount = totalAmount.add(order.getTotalAmount());
+        }
+        return this;
+    }
+}
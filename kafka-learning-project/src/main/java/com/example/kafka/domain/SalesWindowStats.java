@@ -0,0 +1,27 @@
+package com.example.kafka.domain;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 윈도우 집계 조회 결과 (Interactive Query)
+ */
+@Getter
+@Builder
+public class SalesWindowStats {
+
+    /**
+     * 집계 Key (상품 ID 또는 고객 ID)
+     */
+    private String key;
+
+    private LocalDateTime windowStart;
+    private LocalDateTime windowEnd;
+
+    private long orderCount;
+    private long quantity;
+    private BigDecimal totalAmount;
+}
@@ -0,0 +1,37 @@
+package com.example.kafka.domain;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * SalesOrderMessage 직렬화 형식별 측정 결과
+ */
+@Getter
+@Builder
+public class SerdeBenchmarkResult {
+
+    /**
+     * 직렬화 형식 (json, avro)
+     */
+    private String format;
+
+    /**
+     * 측정한 메시지 수
+     */
+    private int count;
+
+    /**
+     * 메시지 평균 크기 (bytes)
+     */
+    private double bytesPerMessage;
+
+    /**
+     * 메시지 1건 평균 직렬화 시간 (ns)
+     */
+    private double encodeNanos;
+
+    /**
+     * 메시지 1건 평균 역직렬화 시간 (ns)
+     */
+    private double decodeNanos;
+}
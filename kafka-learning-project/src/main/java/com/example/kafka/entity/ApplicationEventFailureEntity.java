@@ -14,9 +14,12 @@ import java.time.LocalDateTime;
  * 이벤트 발행 실패 이력 Entity
  * - Kafka 전송 실패 시 저장
  * - 재처리를 위한 데이터 보관
+ * - EventFailureReplayer가 nextAttemptAt이 지난 행을 재발행 (실패 시 지수 백오프로 nextAttemptAt 연기)
  */
 @Entity
-@Table(name = "application_event_failure")
+@Table(name = "application_event_failure", indexes = {
+        @Index(name = "idx_event_failure_retry", columnList = "retried, next_attempt_at")
+})
 @Getter
 @Builder
 @NoArgsConstructor
@@ -27,6 +30,12 @@ public class ApplicationEventFailureEntity {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    /**
+     * 메시지 Key (주문 ID, 이 필드 추가 전에 저장된 행은 null)
+     */
+    @Column(length = 50)
+    private String aggregateId;
+
     /**
      * 실패한 이벤트의 Payload (JSON)
      */
@@ -34,7 +43,7 @@ public class ApplicationEventFailureEntity {
     private String payload;
 
     /**
-     * 에러 메시지
+     * 에러 메시지 (재처리 실패 시 마지막 에러로 갱신)
      */
     @Column(columnDefinition = "TEXT")
     private String errorMessage;
@@ -53,6 +62,23 @@ public class ApplicationEventFailureEntity {
     @Column(nullable = false)
     private Boolean retried = false;
 
+    /**
+     * 재처리 실패 횟수
+     */
+    @Builder.Default
+    @Column(nullable = false)
+    private Integer attemptCount = 0;
+
+    /**
+     * 다음 재처리 시각 (null이면 바로 재처리 대상)
+     */
+    private LocalDateTime nextAttemptAt;
+
+    /**
+     * 재처리 완료 시간
+     */
+    private LocalDateTime retriedAt;
+
     /**
      * 생성 시간
      */
@@ -63,12 +89,15 @@ public class ApplicationEventFailureEntity {
     /**
      * 정적 팩토리 메서드
      */
-    public static ApplicationEventFailureEntity toEntity(String payload, String errorMessage, ApplicationEventType eventType) {
+    public static ApplicationEventFailureEntity toEntity(String aggregateId, String payload, String errorMessage,
+                                                        ApplicationEventType eventType) {
         return ApplicationEventFailureEntity.builder()
+                .aggregateId(aggregateId)
                 .payload(payload)
                 .errorMessage(errorMessage)
                 .eventType(eventType)
                 .retried(false)
+                .nextAttemptAt(LocalDateTime.now())
                 .build();
     }
 
@@ -77,5 +106,18 @@ public class ApplicationEventFailureEntity {
      */
     public void markAsRetried() {
         this.retried = true;
+        this.retriedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 재처리 실패 기록 (실패 횟수 증가 + 다음 재처리 시각 연기)
+     *
+     * @return 재처리 허용 횟수에 도달했으면 true (더 이상 재처리하지 않음)
+     */
+    public boolean recordRetryFailure(String errorMessage, int maxAttempts, LocalDateTime nextAttemptAt) {
+        this.attemptCount++;
+        this.errorMessage = errorMessage;
+        this.nextAttemptAt = nextAttemptAt;
+        return attemptCount >= maxAttempts;
     }
 }
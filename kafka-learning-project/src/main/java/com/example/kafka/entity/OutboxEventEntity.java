@@ -0,0 +1,123 @@
+package com.example.kafka.entity;
+
+import com.example.kafka.enums.ApplicationEventType;
+import com.example.kafka.enums.OutboxStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 이벤트 Outbox Entity
+ * - 주문 상태 변경과 같은 트랜잭션에서 저장 (DB 커밋 = 발행 예약)
+ * - OutboxRelay가 nextAttemptAt이 지난 PENDING 행을 선점(nextAttemptAt = 선점 만료 시각)한 뒤
+ *   트랜잭션 밖에서 Kafka로 발행하고 PUBLISHED로 변경 (실패 시 지수 백오프로 nextAttemptAt 연기)
+ * - PUBLISHED 행은 보관 기간이 지나면 삭제
+ */
+@Entity
+@Table(name = "order_outbox", indexes = {
+        @Index(name = "idx_order_outbox_due", columnList = "status, next_attempt_at"),
+        @Index(name = "idx_order_outbox_published", columnList = "status, published_at")
+})
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxEventEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 메시지 Key (주문 ID)
+     */
+    @Column(nullable = false, length = 50)
+    private String aggregateId;
+
+    /**
+     * 이벤트 타입 (발행할 토픽 카테고리와 같은 이름)
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 50)
+    private ApplicationEventType eventType;
+
+    /**
+     * 발행할 메시지 (JSON)
+     */
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String payload;
+
+    /**
+     * 발행 상태
+     */
+    @Builder.Default
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private OutboxStatus status = OutboxStatus.PENDING;
+
+    /**
+     * 발행 실패 횟수
+     */
+    @Builder.Default
+    @Column(nullable = false)
+    private Integer attemptCount = 0;
+
+    /**
+     * 마지막 발행 실패 사유
+     */
+    @Column(columnDefinition = "TEXT")
+    private String lastError;
+
+    /**
+     * 다음 발행 시각 (null이면 바로 발행 대상)
+     * - 선점 중: 선점 만료 시각 (Relay가 결과를 기록하지 못하고 죽으면 이 시각 이후 다시 발행)
+     * - 발행 실패 후: 백오프가 끝나는 시각
+     */
+    private LocalDateTime nextAttemptAt;
+
+    /**
+     * 생성 시간
+     */
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * 발행 시간
+     */
+    private LocalDateTime publishedAt;
+
+    /**
+     * 정적 팩토리 메서드
+     */
+    public static OutboxEventEntity toEntity(String aggregateId, ApplicationEventType eventType, String payload) {
+        return OutboxEventEntity.builder()
+                .aggregateId(aggregateId)
+                .eventType(eventType)
+                .payload(payload)
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * 발행 실패 기록
+     * - nextAttemptAt까지 다시 발행하지 않음 (백오프)
+     * - maxAttempts에 도달하면 FAILED로 변경 (더 이상 Relay가 읽지 않음)
+     *
+     * @return 발행을 포기했으면 true
+     */
+    public boolean recordFailure(String errorMessage, int maxAttempts, LocalDateTime nextAttemptAt) {
+        this.attemptCount++;
+        this.lastError = errorMessage;
+        this.nextAttemptAt = nextAttemptAt;
+        if (this.attemptCount >= maxAttempts) {
+            this.status = OutboxStatus.FAILED;
+        }
+        return this.status == OutboxStatus.FAILED;
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.kafka.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Consumer 처리 완료 주문 Entity
+ * - Consumer Group별로 처리한 주문 ID를 기록하여 다시 전달된 주문을 건너뜀
+ * - 저장/조회는 ProcessedOrderJdbcRepository (배치 INSERT IGNORE), 이 Entity는 테이블 정의용
+ */
+@Entity
+@Table(name = "processed_order",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_processed_order_group_order", columnNames = {"consumer_group", "order_id"})
+        },
+        indexes = {
+                @Index(name = "idx_processed_order_group_processed_at", columnList = "consumer_group, processed_at"),
+                @Index(name = "idx_processed_order_processed_at", columnList = "processed_at")
+        })
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProcessedOrderEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 처리한 Consumer Group
+     */
+    @Column(nullable = false, length = 100)
+    private String consumerGroup;
+
+    /**
+     * 주문 ID
+     */
+    @Column(nullable = false, length = 50)
+    private String orderId;
+
+    /**
+     * 처리 완료 시간
+     */
+    @Column(nullable = false)
+    private LocalDateTime processedAt;
+}
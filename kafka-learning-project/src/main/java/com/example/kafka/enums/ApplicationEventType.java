@@ -12,6 +12,7 @@ import lombok.RequiredArgsConstructor;
 public enum ApplicationEventType {
 
     SALES_ORDER("판매 주문"),
+    ORDER_REQUESTED("주문 요청"),
     ORDER_SUCCESS("주문 성공"),
     ORDER_FAILURE("주문 실패");
 
@@ -0,0 +1,19 @@
+package com.example.kafka.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 대량 주문 작업 상태
+ */
+@Getter
+@RequiredArgsConstructor
+public enum BulkOrderJobStatus {
+
+    QUEUED("대기"),
+    RUNNING("진행중"),
+    COMPLETED("완료"),
+    FAILED("실패");
+
+    private final String description;
+}
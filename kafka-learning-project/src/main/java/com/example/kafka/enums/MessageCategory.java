@@ -14,13 +14,19 @@ public enum MessageCategory {
 
     // 주문 관련
     SALES_ORDER("판매 주문"),
+    ORDER_REQUESTED("주문 요청 (결제 대기)"),
 
     // 성공/실패 추적
     ORDER_SUCCESS("주문 성공"),
     ORDER_FAILURE("주문 실패"),
 
     // Kafka Streams 출력
-    HIGH_VALUE_ORDERS("고액 주문");
+    HIGH_VALUE_ORDERS("고액 주문"),
+
+    // Dead Letter Topic (배치 리스너가 처리하지 못한 레코드)
+    SALES_ORDER_DLT("판매 주문 DLT"),
+    ORDER_REQUESTED_DLT("주문 요청 DLT"),
+    HIGH_VALUE_ORDERS_DLT("고액 주문 DLT");
 
     private final String description;
 }
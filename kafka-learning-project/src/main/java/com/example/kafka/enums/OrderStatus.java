@@ -5,6 +5,7 @@ package com.example.kafka.enums;
  */
 public enum OrderStatus {
     PENDING("진행중"),
+    PAYING("결제중"),
     SUCCESS("성공"),
     FAILED("실패"),
     CANCELLED("취소됨");
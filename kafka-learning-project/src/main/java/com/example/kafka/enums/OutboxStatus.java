@@ -0,0 +1,18 @@
+package com.example.kafka.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Outbox 이벤트 상태
+ */
+@Getter
+@RequiredArgsConstructor
+public enum OutboxStatus {
+
+    PENDING("발행 대기"),
+    PUBLISHED("발행 완료"),
+    FAILED("발행 포기");
+
+    private final String description;
+}
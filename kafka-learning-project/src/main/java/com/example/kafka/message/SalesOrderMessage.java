@@ -1,6 +1,7 @@
 package com.example.kafka.message;
 
 import com.example.kafka.domain.Order;
+import com.example.kafka.entity.OrderEntity;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -46,4 +47,23 @@ public class SalesOrderMessage {
                 .publishedAt(LocalDateTime.now())
                 .build();
     }
+
+    /**
+     * OrderEntity를 SalesOrderMessage로 변환 (Outbox 저장 시)
+     * - publishedAt은 Outbox에 기록한 시간 (실제 Kafka 전송은 Relay가 이후에 수행)
+     */
+    public static SalesOrderMessage from(OrderEntity entity) {
+        return SalesOrderMessage.builder()
+                .orderId(entity.getOrderId())
+                .customerId(entity.getCustomerId())
+                .productId(entity.getProductId())
+                .productName(entity.getProductName())
+                .quantity(entity.getQuantity())
+                .price(entity.getPrice())
+                .totalAmount(entity.getTotalAmount())
+                .status(entity.getOrderStatus().name())
+                .orderDateTime(entity.getOrderDatetime())
+                .publishedAt(LocalDateTime.now())
+                .build();
+    }
 }
@@ -0,0 +1,151 @@
+package com.example.kafka.message.serde;
+
+import com.example.kafka.message.SalesOrderMessage;
+import org.apache.avro.AvroRuntimeException;
+import org.apache.avro.Conversions;
+import org.apache.avro.Schema;
+import org.apache.avro.data.TimeConversions;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.generic.GenericRecordBuilder;
+import org.apache.avro.message.BinaryMessageDecoder;
+import org.apache.avro.message.BinaryMessageEncoder;
+import org.apache.kafka.common.errors.SerializationException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * SalesOrderMessage Avro 바이너리 코덱
+ *
+ * [형식] Avro Single-Object Encoding
+ *   0xC3 0x01 | 스키마 fingerprint (8 bytes) | Avro 바이너리 본문
+ * - 필드명 없이 값만 순서대로 기록하므로 JSON보다 작고 파싱이 빠름
+ * - 앞의 fingerprint로 어떤 스키마 버전으로 쓴 메시지인지 식별
+ *
+ * [스키마 버전]
+ * - resources/avro/sales-order-message-v{n}.avsc, SCHEMA_RESOURCES의 마지막이 현재 버전 (쓰기/읽기 스키마)
+ * - 이전 버전은 디코더에 등록해 두면 현재 스키마로 변환해서 읽음 (Avro 스키마 호환 규칙)
+ * - 등록된 스키마 목록이 Schema Registry 역할을 대신하므로 실행 시 Registry 서버가 필요 없음
+ *
+ * 금액은 scale 2 decimal, 시간은 밀리초 단위(local-timestamp-millis)로 기록하므로 그보다 작은 단위는 절삭됩니다.
+ *
+ * 인코더/디코더는 내부적으로 스레드별 버퍼를 사용하므로 하나의 인스턴스를 공유해도 안전합니다.
+ */
+public class SalesOrderMessageCodec {
+
+    private static final List<String> SCHEMA_RESOURCES = List.of(
+            "avro/sales-order-message-v1.avsc"
+    );
+
+    private static final int AMOUNT_SCALE = 2;
+
+    // SCHEMA_RESOURCES 초기화 이후에 생성되어야 함 (static 필드 선언 순서)
+    public static final SalesOrderMessageCodec INSTANCE = new SalesOrderMessageCodec();
+
+    private final Schema schema;
+    private final BinaryMessageEncoder<GenericRecord> encoder;
+    private final BinaryMessageDecoder<GenericRecord> decoder;
+
+    private SalesOrderMessageCodec() {
+        List<Schema> schemas = SCHEMA_RESOURCES.stream().map(SalesOrderMessageCodec::loadSchema).toList();
+        this.schema = schemas.get(schemas.size() - 1);
+
+        GenericData model = new GenericData();
+        model.addLogicalTypeConversion(new Conversions.DecimalConversion());
+        model.addLogicalTypeConversion(new TimeConversions.LocalTimestampMillisConversion());
+
+        this.encoder = new BinaryMessageEncoder<>(model, schema);
+        this.decoder = new BinaryMessageDecoder<>(model, schema);
+        schemas.forEach(decoder::addSchema);
+    }
+
+    public Schema getSchema() {
+        return schema;
+    }
+
+    /**
+     * SalesOrderMessage → Avro 바이너리
+     *
+     * @throws SerializationException 필수 필드 누락 등으로 인코딩할 수 없는 경우
+     */
+    public byte[] encode(SalesOrderMessage message) {
+        try {
+            GenericRecord record = new GenericRecordBuilder(schema)
+                    .set("orderId", message.getOrderId())
+                    .set("customerId", message.getCustomerId())
+                    .set("productId", message.getProductId())
+                    .set("productName", message.getProductName())
+                    .set("quantity", message.getQuantity())
+                    .set("price", scaled(message.getPrice()))
+                    .set("totalAmount", scaled(message.getTotalAmount()))
+                    .set("status", message.getStatus())
+                    .set("orderDateTime", message.getOrderDateTime())
+                    .set("publishedAt", message.getPublishedAt())
+                    .build();
+
+            ByteBuffer buffer = encoder.encode(record);
+            byte[] bytes = new byte[buffer.remaining()];
+            buffer.get(bytes);
+            return bytes;
+        } catch (IOException | AvroRuntimeException e) {
+            throw new SerializationException("주문 메시지 인코딩 실패: " + message.getOrderId(), e);
+        }
+    }
+
+    /**
+     * Avro 바이너리 → SalesOrderMessage
+     *
+     * @throws SerializationException 형식이 다르거나(JSON 등) 등록되지 않은 스키마로 쓴 메시지인 경우
+     */
+    public SalesOrderMessage decode(byte[] bytes) {
+        if (bytes == null) {
+            throw new SerializationException("주문 메시지 디코딩 실패: 값이 없습니다");
+        }
+        try {
+            GenericRecord record = decoder.decode(bytes);
+            return SalesOrderMessage.builder()
+                    .orderId(string(record.get("orderId")))
+                    .customerId(string(record.get("customerId")))
+                    .productId(string(record.get("productId")))
+                    .productName(string(record.get("productName")))
+                    .quantity((Integer) record.get("quantity"))
+                    .price((BigDecimal) record.get("price"))
+                    .totalAmount((BigDecimal) record.get("totalAmount"))
+                    .status(string(record.get("status")))
+                    .orderDateTime((LocalDateTime) record.get("orderDateTime"))
+                    .publishedAt((LocalDateTime) record.get("publishedAt"))
+                    .build();
+        } catch (IOException | AvroRuntimeException e) {
+            throw new SerializationException("주문 메시지 디코딩 실패 (" + bytes.length + " bytes)", e);
+        }
+    }
+
+    /**
+     * Avro decimal은 스키마의 scale과 값의 scale이 같아야 함
+     */
+    private static BigDecimal scaled(BigDecimal value) {
+        return value == null ? null : value.setScale(AMOUNT_SCALE, RoundingMode.HALF_UP);
+    }
+
+    private static String string(Object value) {
+        return value == null ? null : value.toString();
+    }
+
+    private static Schema loadSchema(String resource) {
+        try (InputStream in = SalesOrderMessageCodec.class.getClassLoader().getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalStateException("Avro 스키마를 찾을 수 없습니다: " + resource);
+            }
+            return new Schema.Parser().parse(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Avro 스키마 로드 실패: " + resource, e);
+        }
+    }
+}
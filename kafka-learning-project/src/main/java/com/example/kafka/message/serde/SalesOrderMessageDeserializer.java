@@ -0,0 +1,15 @@
+package com.example.kafka.message.serde;
+
+import com.example.kafka.message.SalesOrderMessage;
+import org.apache.kafka.common.serialization.Deserializer;
+
+/**
+ * SalesOrderMessage Kafka Deserializer (Avro 바이너리)
+ */
+public class SalesOrderMessageDeserializer implements Deserializer<SalesOrderMessage> {
+
+    @Override
+    public SalesOrderMessage deserialize(String topic, byte[] data) {
+        return data == null ? null : SalesOrderMessageCodec.INSTANCE.decode(data);
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.kafka.message.serde;
+
+import com.example.kafka.message.SalesOrderMessage;
+import org.apache.kafka.common.serialization.Serde;
+import org.apache.kafka.common.serialization.Serdes;
+
+/**
+ * SalesOrderMessage Kafka Streams Serde (Avro 바이너리)
+ */
+public final class SalesOrderMessageSerde {
+
+    private SalesOrderMessageSerde() {
+    }
+
+    public static Serde<SalesOrderMessage> serde() {
+        return Serdes.serdeFrom(new SalesOrderMessageSerializer(), new SalesOrderMessageDeserializer());
+    }
+}
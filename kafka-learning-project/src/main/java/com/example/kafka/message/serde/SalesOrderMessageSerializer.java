@@ -0,0 +1,15 @@
+package com.example.kafka.message.serde;
+
+import com.example.kafka.message.SalesOrderMessage;
+import org.apache.kafka.common.serialization.Serializer;
+
+/**
+ * SalesOrderMessage Kafka Serializer (Avro 바이너리)
+ */
+public class SalesOrderMessageSerializer implements Serializer<SalesOrderMessage> {
+
+    @Override
+    public byte[] serialize(String topic, SalesOrderMessage data) {
+        return data == null ? null : SalesOrderMessageCodec.INSTANCE.encode(data);
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.kafka.producer;
+
+import com.example.kafka.entity.ApplicationEventFailureEntity;
+import com.example.kafka.properties.KafkaEventRetryProperties;
+import com.example.kafka.repository.ApplicationEventFailureRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 발행 실패 이벤트 선점/결과 기록 (짧은 트랜잭션)
+ * - EventFailureReplayer가 외부 호출하여 프록시(@Transactional)를 통과하도록 분리
+ * - Kafka 재발행은 이 트랜잭션들 사이(트랜잭션 밖)에서 수행되므로
+ *   브로커가 느리거나 장애여도 행 잠금과 DB 커넥션을 오래 잡고 있지 않음
+ *
+ * 선점: 조회한 행의 next_attempt_at을 선점 만료 시각(now + leaseMs)으로 미룸
+ * → 커밋 즉시 잠금이 풀려도 다른 인스턴스는 만료 전까지 이 행을 조회하지 않음
+ * → 선점한 인스턴스가 결과를 기록하지 못하고 죽으면 만료 후 다시 재발행 (at-least-once)
+ *
+ * 백오프: initialBackoffMs × multiplier^(실패 횟수 - 1), 최대 maxBackoffMs
+ * - 행마다 50~100% 사이 임의 비율을 곱해 장애 중 쌓인 행들의 재처리 시각을 분산
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EventFailureClaimService {
+
+    private final ApplicationEventFailureRepository failureRepository;
+    private final KafkaEventRetryProperties retryProperties;
+
+    /**
+     * 재처리 시각이 지난 실패 이벤트를 limit개 선점
+     * - 인덱스 범위 조회 + FOR UPDATE SKIP LOCKED 후 선점 만료 시각으로 미루고 바로 커밋
+     */
+    @Transactional
+    public List<ApplicationEventFailureEntity> claim(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<ApplicationEventFailureEntity> failures =
+                failureRepository.findDueForUpdate(now, retryProperties.getMaxAttempts(), limit);
+        if (!failures.isEmpty()) {
+            List<Long> ids = failures.stream().map(ApplicationEventFailureEntity::getId).toList();
+            failureRepository.lease(ids, now.plusNanos(retryProperties.getLeaseMs() * 1_000_000));
+        }
+        return failures;
+    }
+
+    /**
+     * 재발행 결과 기록
+     * - 성공: UPDATE 1번으로 재처리 완료 표시
+     * - 실패: 행마다 실패 횟수 증가 + 백오프 (maxAttempts 도달 시 재처리 중단, 수동 확인 대상)
+     *
+     * @param replayedIds 재발행 성공한 행 ID
+     * @param failures    재발행 실패한 행 ID → 실패 사유
+     * @return 재처리를 포기한 행 수
+     */
+    @Transactional
+    public int complete(List<Long> replayedIds, Map<Long, String> failures) {
+        LocalDateTime now = LocalDateTime.now();
+        if (!replayedIds.isEmpty()) {
+            failureRepository.markRetried(replayedIds, now);
+        }
+        if (failures.isEmpty()) {
+            return 0;
+        }
+
+        int gaveUpCount = 0;
+        int maxAttempts = retryProperties.getMaxAttempts();
+        for (ApplicationEventFailureEntity failure : failureRepository.findAllById(failures.keySet())) {
+            String error = failures.get(failure.getId());
+            LocalDateTime nextAttemptAt = now.plusNanos(backoffMs(failure.getAttemptCount() + 1) * 1_000_000);
+            if (failure.recordRetryFailure(error, maxAttempts, nextAttemptAt)) {
+                gaveUpCount++;
+                log.error("❌ 발행 실패 이벤트 재처리 포기 - id: {}, key: {}, 시도: {}회, error: {}",
+                        failure.getId(), failure.getAggregateId(), failure.getAttemptCount(), error);
+            }
+        }
+        return gaveUpCount;
+    }
+
+    /**
+     * attempts번째 실패 후 대기 시간 (ms)
+     */
+    private long backoffMs(int attempts) {
+        double backoff = retryProperties.getInitialBackoffMs()
+                * Math.pow(retryProperties.getBackoffMultiplier(), attempts - 1);
+        long capped = (long) Math.min(backoff, retryProperties.getMaxBackoffMs());
+        return (long) (capped * ThreadLocalRandom.current().nextDouble(0.5, 1.0));
+    }
+}
@@ -0,0 +1,175 @@
+package com.example.kafka.producer;
+
+import com.example.kafka.common.KafkaProducerCluster;
+import com.example.kafka.domain.EventRetryStats;
+import com.example.kafka.entity.ApplicationEventFailureEntity;
+import com.example.kafka.enums.MessageCategory;
+import com.example.kafka.message.SalesOrderMessage;
+import com.example.kafka.properties.KafkaEventRetryProperties;
+import com.example.kafka.properties.KafkaTopicProperties;
+import com.example.kafka.repository.ApplicationEventFailureRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 발행 실패 이벤트 배치 재발행
+ * - EventFailureRetryScheduler가 반복 호출
+ *
+ * 배치 1번 (짧은 트랜잭션 2개 + 그 사이 트랜잭션 밖 전송):
+ * 1. [TX] 재처리 시각이 지난 행을 batchSize개 잠금 조회 (인덱스 범위 조회 + FOR UPDATE SKIP LOCKED)
+ *    → next_attempt_at을 선점 만료 시각으로 미루고 바로 커밋 (EventFailureClaimService.claim)
+ * 2. 전부 KafkaProducerCluster로 send() 후 flush
+ *    결과는 배치 전체가 함께 쓰는 기한(sendTimeoutMs)까지만 기다리고, 기한이 지나면 남은 행은 실패로 기록
+ * 3. [TX] 성공한 행은 UPDATE 1번으로 재처리 완료 표시,
+ *    실패한 행은 행마다 실패 횟수 증가 + 지수 백오프로 다음 재처리 시각 연기
+ *
+ * 재발행 후 결과 기록 전에 장애가 나거나 기한 초과 후 뒤늦게 전송되면 다시 재발행되므로 (at-least-once)
+ * Consumer는 orderId 기준으로 중복을 처리할 수 있어야 합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EventFailureReplayer {
+
+    private static final long RATE_WINDOW_MS = 60_000;
+    private static final String TIMEOUT_ERROR = "재발행 결과 대기 시간 초과";
+
+    private final EventFailureClaimService claimService;
+    private final ApplicationEventFailureRepository failureRepository;
+    private final KafkaProducerCluster kafkaProducerCluster;
+    private final KafkaTopicProperties topicProperties;
+    private final KafkaEventRetryProperties retryProperties;
+    private final ObjectMapper objectMapper;
+
+    private final AtomicLong replayedTotal = new AtomicLong();
+    private final AtomicLong failedTotal = new AtomicLong();
+    private final Deque<ReplaySample> samples = new ConcurrentLinkedDeque<>();
+
+    /**
+     * 재처리 시각이 지난 실패 이벤트 1배치 재발행
+     *
+     * @return 재발행 성공 수 (조회한 행이 없으면 0, 전부 실패해도 0)
+     */
+    public int replayBatch() {
+        List<ApplicationEventFailureEntity> failures = claimService.claim(retryProperties.getBatchSize());
+        if (failures.isEmpty()) {
+            return 0;
+        }
+
+        long start = System.currentTimeMillis();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(retryProperties.getSendTimeoutMs());
+        List<CompletableFuture<SendResult<String, Object>>> futures = new ArrayList<>(failures.size());
+        for (ApplicationEventFailureEntity failure : failures) {
+            // send()가 버퍼 가득 참으로 막히면(max.block.ms) 기한이 지난 뒤의 행은 보내지 않고 실패 처리
+            futures.add(System.nanoTime() - deadline < 0
+                    ? send(failure)
+                    : CompletableFuture.failedFuture(new TimeoutException(TIMEOUT_ERROR)));
+        }
+        kafkaProducerCluster.flush();
+
+        List<Long> replayedIds = new ArrayList<>(failures.size());
+        Map<Long, String> failed = new LinkedHashMap<>();
+        for (int i = 0; i < failures.size(); i++) {
+            String error = awaitSend(futures.get(i), deadline);
+            if (error == null) {
+                replayedIds.add(failures.get(i).getId());
+            } else {
+                failed.put(failures.get(i).getId(), error);
+            }
+        }
+
+        int gaveUp = claimService.complete(replayedIds, failed);
+
+        record(replayedIds.size(), failed.size());
+        log.info("🔁 발행 실패 이벤트 재처리 - 선점: {}건, 성공: {}건, 실패: {}건 (포기: {}건), 소요시간: {}ms",
+                failures.size(), replayedIds.size(), failed.size(), gaveUp, System.currentTimeMillis() - start);
+        return replayedIds.size();
+    }
+
+    private CompletableFuture<SendResult<String, Object>> send(ApplicationEventFailureEntity failure) {
+        try {
+            String topic = topicProperties.getName(MessageCategory.valueOf(failure.getEventType().name()));
+            SalesOrderMessage message = objectMapper.readValue(failure.getPayload(), SalesOrderMessage.class);
+            return kafkaProducerCluster.send(failure.getAggregateId(), message, topic);
+        } catch (JsonProcessingException | RuntimeException e) {
+            // payload 변환 실패, 토픽 설정 누락, 버퍼 가득 참(max.block.ms 초과) 등 send() 자체가 실패한 경우
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * 배치 공통 기한(deadline, System.nanoTime 기준)까지 남은 시간만큼 결과 대기
+     *
+     * @return 실패 사유 (성공이면 null)
+     */
+    private String awaitSend(CompletableFuture<SendResult<String, Object>> future, long deadline) {
+        try {
+            future.get(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS);
+            return null;
+        } catch (ExecutionException e) {
+            return e.getCause() != null ? e.getCause().getMessage() : e.getMessage();
+        } catch (TimeoutException e) {
+            return TIMEOUT_ERROR;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return "재발행 결과 대기 중단";
+        }
+    }
+
+    private void record(int replayed, int failed) {
+        replayedTotal.addAndGet(replayed);
+        failedTotal.addAndGet(failed);
+        long now = System.currentTimeMillis();
+        samples.addLast(new ReplaySample(now, replayed, failed));
+        pruneSamples(now);
+    }
+
+    private void pruneSamples(long now) {
+        ReplaySample oldest;
+        while ((oldest = samples.peekFirst()) != null && oldest.timestamp() < now - RATE_WINDOW_MS) {
+            samples.pollFirst();
+        }
+    }
+
+    /**
+     * 재처리 지표 (대기/포기 수는 조회 시점 DB 기준)
+     */
+    public EventRetryStats stats() {
+        pruneSamples(System.currentTimeMillis());
+        long replayed = 0;
+        long failed = 0;
+        for (ReplaySample sample : samples) {
+            replayed += sample.replayed();
+            failed += sample.failed();
+        }
+        double windowSec = RATE_WINDOW_MS / 1000.0;
+        int maxAttempts = retryProperties.getMaxAttempts();
+        return EventRetryStats.builder()
+                .backlog(failureRepository.countByRetriedFalseAndAttemptCountLessThan(maxAttempts))
+                .gaveUp(failureRepository.countByRetriedFalseAndAttemptCountGreaterThanEqual(maxAttempts))
+                .replayedTotal(replayedTotal.get())
+                .failedTotal(failedTotal.get())
+                .replayedPerSec(replayed / windowSec)
+                .failedPerSec(failed / windowSec)
+                .build();
+    }
+
+    private record ReplaySample(long timestamp, int replayed, int failed) {
+    }
+}
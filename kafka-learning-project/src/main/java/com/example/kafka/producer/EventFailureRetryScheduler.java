@@ -0,0 +1,84 @@
+package com.example.kafka.producer;
+
+import com.example.kafka.properties.KafkaEventRetryProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 발행 실패 이벤트 재처리 스케줄러
+ * - 스레드 1개가 EventFailureReplayer.replayBatch()를 반복 호출
+ * - 가득 찬 배치를 전부 재발행하면 바로 다음 배치, 아니면 pollIntervalMs 대기
+ *   (브로커 장애 중에는 배치가 실패하므로 대기하면서 백오프가 지난 행만 다시 시도)
+ * - 재처리 상태(실패 횟수, 다음 재처리 시각)는 DB에 있으므로 재시작해도 이어서 처리
+ * - SKIP LOCKED로 여러 인스턴스가 같은 행을 재발행하지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EventFailureRetryScheduler implements SmartLifecycle {
+
+    private final EventFailureReplayer replayer;
+    private final KafkaEventRetryProperties retryProperties;
+
+    private ScheduledExecutorService executor;
+    private volatile boolean running;
+
+    @Override
+    public void start() {
+        if (!retryProperties.getEnabled()) {
+            log.info("발행 실패 재처리 비활성화 (kafka.event-retry.enabled=false)");
+            return;
+        }
+        long interval = retryProperties.getPollIntervalMs();
+
+        executor = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("event-retry-"));
+        running = true;
+        executor.scheduleWithFixedDelay(this::drain, interval, interval, TimeUnit.MILLISECONDS);
+        log.info("발행 실패 재처리 시작 - 배치: {}건, 대기: {}ms, 최대 시도: {}회",
+                retryProperties.getBatchSize(), interval, retryProperties.getMaxAttempts());
+    }
+
+    /**
+     * 재처리 시각이 지난 이벤트가 없을 때까지 배치 재발행
+     */
+    private void drain() {
+        try {
+            while (running && replayer.replayBatch() >= retryProperties.getBatchSize()) {
+                // 가득 찬 배치를 전부 재발행했으면 대기 없이 다음 배치
+            }
+        } catch (RuntimeException e) {
+            // 예외가 밖으로 나가면 scheduleWithFixedDelay가 이후 실행을 멈추므로 여기서 처리
+            log.error("❌ 발행 실패 재처리 배치 실패 (다음 주기에 재시도): {}", e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (executor == null) {
+            return;
+        }
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(retryProperties.getSendTimeoutMs(), TimeUnit.MILLISECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        log.info("발행 실패 재처리 종료");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
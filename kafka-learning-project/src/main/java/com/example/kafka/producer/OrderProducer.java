@@ -3,6 +3,7 @@ package com.example.kafka.producer;
 import com.example.kafka.common.KafkaProducerCluster;
 import com.example.kafka.domain.Order;
 import com.example.kafka.enums.MessageCategory;
+import com.example.kafka.message.SalesOrderMessage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -28,7 +29,7 @@ public class OrderProducer {
     @Deprecated
     public void sendOrder(Order order) {
         log.info("Publishing sales order event: {}", order);
-        kafkaProducerCluster.sendMessage(order.getOrderId(), order, MessageCategory.SALES_ORDER);
+        kafkaProducerCluster.sendMessage(order.getOrderId(), SalesOrderMessage.from(order), MessageCategory.SALES_ORDER);
     }
 }
 
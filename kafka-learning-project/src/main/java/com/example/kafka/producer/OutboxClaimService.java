@@ -0,0 +1,110 @@
+package com.example.kafka.producer;
+
+import com.example.kafka.entity.ApplicationEventFailureEntity;
+import com.example.kafka.entity.OutboxEventEntity;
+import com.example.kafka.enums.OutboxStatus;
+import com.example.kafka.properties.KafkaOutboxProperties;
+import com.example.kafka.repository.ApplicationEventFailureRepository;
+import com.example.kafka.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Outbox 선점/결과 기록 (짧은 트랜잭션)
+ * - OutboxPublisher가 외부 호출하여 프록시(@Transactional)를 통과하도록 분리
+ * - Kafka 전송은 이 트랜잭션들 사이(트랜잭션 밖)에서 수행되므로
+ *   브로커가 느리거나 장애여도 행 잠금과 DB 커넥션을 오래 잡고 있지 않음
+ *
+ * 선점: 조회한 행의 next_attempt_at을 선점 만료 시각(now + leaseMs)으로 미룸
+ * → 커밋 즉시 잠금이 풀려도 다른 Relay는 만료 전까지 이 행을 조회하지 않음
+ * → 선점한 Relay가 결과를 기록하지 못하고 죽으면 만료 후 다시 발행 (at-least-once)
+ *
+ * 백오프: initialBackoffMs × multiplier^(실패 횟수 - 1), 최대 maxBackoffMs, 50~100% 임의 비율
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OutboxClaimService {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ApplicationEventFailureRepository failureRepository;
+    private final KafkaOutboxProperties outboxProperties;
+
+    /**
+     * 발행 시각이 지난 대기 이벤트를 limit개 선점
+     */
+    @Transactional
+    public List<OutboxEventEntity> claim(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEventEntity> events = outboxEventRepository.findDueForUpdate(now, limit);
+        if (!events.isEmpty()) {
+            List<Long> ids = events.stream().map(OutboxEventEntity::getId).toList();
+            outboxEventRepository.lease(ids, now.plusNanos(outboxProperties.getLeaseMs() * 1_000_000));
+        }
+        return events;
+    }
+
+    /**
+     * 발행 결과 기록
+     * - 성공: UPDATE 1번으로 PUBLISHED 표시
+     * - 실패: 실패 횟수 증가 + 백오프 (maxAttempts 도달 시 FAILED + application_event_failure 기록)
+     *
+     * @param publishedIds 발행 성공한 행 ID
+     * @param failures     발행 실패한 행 ID → 실패 사유
+     * @return 발행을 포기한 행 수
+     */
+    @Transactional
+    public int complete(List<Long> publishedIds, Map<Long, Throwable> failures) {
+        LocalDateTime now = LocalDateTime.now();
+        if (!publishedIds.isEmpty()) {
+            outboxEventRepository.updateStatus(publishedIds, OutboxStatus.PUBLISHED, now);
+        }
+        if (failures.isEmpty()) {
+            return 0;
+        }
+
+        int gaveUpCount = 0;
+        int maxAttempts = outboxProperties.getMaxAttempts();
+        for (OutboxEventEntity event : outboxEventRepository.findAllById(failures.keySet())) {
+            Throwable cause = failures.get(event.getId());
+            LocalDateTime nextAttemptAt = now.plusNanos(backoffMs(event.getAttemptCount() + 1) * 1_000_000);
+            boolean gaveUp = event.recordFailure(cause.getMessage(), maxAttempts, nextAttemptAt);
+            if (gaveUp) {
+                gaveUpCount++;
+                failureRepository.save(ApplicationEventFailureEntity.toEntity(
+                        event.getAggregateId(), event.getPayload(), cause.getMessage(), event.getEventType()));
+                log.error("❌ Outbox 발행 포기 - id: {}, key: {}, 시도: {}회, error: {}",
+                        event.getId(), event.getAggregateId(), event.getAttemptCount(), cause.getMessage());
+            } else {
+                log.warn("⚠️ Outbox 발행 실패 ({} 이후 재시도) - id: {}, key: {}, 시도: {}회, error: {}",
+                        nextAttemptAt, event.getId(), event.getAggregateId(), event.getAttemptCount(), cause.getMessage());
+            }
+        }
+        return gaveUpCount;
+    }
+
+    /**
+     * 보관 기간이 지난 발행 완료 이벤트를 최대 limit개 삭제
+     */
+    @Transactional
+    public int purgePublished(LocalDateTime cutoff, int limit) {
+        return outboxEventRepository.deletePublishedBefore(cutoff, limit);
+    }
+
+    /**
+     * attempts번째 실패 후 대기 시간 (ms)
+     */
+    private long backoffMs(int attempts) {
+        double backoff = outboxProperties.getInitialBackoffMs()
+                * Math.pow(outboxProperties.getBackoffMultiplier(), attempts - 1);
+        long capped = (long) Math.min(backoff, outboxProperties.getMaxBackoffMs());
+        return (long) (capped * ThreadLocalRandom.current().nextDouble(0.5, 1.0));
+    }
+}
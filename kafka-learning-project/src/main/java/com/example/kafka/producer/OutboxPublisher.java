@@ -0,0 +1,159 @@
+package com.example.kafka.producer;
+
+import com.example.kafka.common.ProfiledKafkaTemplates;
+import com.example.kafka.domain.ProducerProfileStats;
+import com.example.kafka.entity.OutboxEventEntity;
+import com.example.kafka.enums.MessageCategory;
+import com.example.kafka.message.SalesOrderMessage;
+import com.example.kafka.message.serde.SalesOrderMessageCodec;
+import com.example.kafka.properties.KafkaOutboxProperties;
+import com.example.kafka.properties.KafkaTopicProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Outbox 배치 발행
+ * - OutboxRelay 워커가 반복 호출
+ *
+ * 배치 1번 (짧은 트랜잭션 2개 + 그 사이 트랜잭션 밖 전송):
+ * 1. [TX] 발행 시각이 지난 PENDING 행을 batchSize개 잠금 조회 (FOR UPDATE SKIP LOCKED)
+ *    → next_attempt_at을 선점 만료 시각으로 미루고 바로 커밋 (OutboxClaimService.claim)
+ * 2. 전부 send() 후 flush → Producer가 파티션별 배치로 묶고 압축해서 전송
+ *    (토픽별 Producer 프로파일의 KafkaTemplate 사용: sales-orders → throughput 등)
+ *    Outbox payload(JSON)는 발행 직전에 Avro 바이너리로 변환 (SalesOrderMessageCodec)
+ * 3. [TX] 성공한 행은 UPDATE 1번으로 PUBLISHED 표시,
+ *    실패한 행은 실패 횟수 증가 + 지수 백오프 (maxAttempts 도달 시 FAILED + application_event_failure 기록)
+ *
+ * 발행 후 결과 기록 전에 장애가 나면 선점 만료 후 다시 발행되므로 (at-least-once)
+ * Consumer는 orderId 기준으로 중복을 처리할 수 있어야 합니다.
+ */
+@Slf4j
+@Service
+public class OutboxPublisher implements DisposableBean {
+
+    private final OutboxClaimService outboxClaimService;
+    private final ProfiledKafkaTemplates<byte[]> outboxKafkaTemplates;
+    private final KafkaTopicProperties topicProperties;
+    private final KafkaOutboxProperties outboxProperties;
+    private final ObjectMapper objectMapper;
+
+    public OutboxPublisher(OutboxClaimService outboxClaimService,
+                           @Qualifier("outboxKafkaTemplate") KafkaTemplate<String, byte[]> outboxKafkaTemplate,
+                           KafkaTopicProperties topicProperties,
+                           KafkaOutboxProperties outboxProperties,
+                           ObjectMapper objectMapper) {
+        this.outboxClaimService = outboxClaimService;
+        this.outboxKafkaTemplates = new ProfiledKafkaTemplates<>("outbox", outboxKafkaTemplate, topicProperties);
+        this.topicProperties = topicProperties;
+        this.outboxProperties = outboxProperties;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 발행 대기 이벤트 1배치 발행
+     *
+     * @return 선점한 이벤트 수 (batchSize와 같으면 남은 이벤트가 더 있을 수 있음)
+     */
+    public int publishBatch() {
+        List<OutboxEventEntity> events = outboxClaimService.claim(outboxProperties.getBatchSize());
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        long start = System.currentTimeMillis();
+        List<CompletableFuture<SendResult<String, byte[]>>> futures = new ArrayList<>(events.size());
+        for (OutboxEventEntity event : events) {
+            futures.add(send(event));
+        }
+        outboxKafkaTemplates.flush();
+
+        List<Long> publishedIds = new ArrayList<>(events.size());
+        Map<Long, Throwable> failures = new LinkedHashMap<>();
+        for (int i = 0; i < events.size(); i++) {
+            OutboxEventEntity event = events.get(i);
+            try {
+                futures.get(i).get(outboxProperties.getSendTimeoutMs(), TimeUnit.MILLISECONDS);
+                publishedIds.add(event.getId());
+            } catch (ExecutionException e) {
+                failures.put(event.getId(), e.getCause() != null ? e.getCause() : e);
+            } catch (TimeoutException e) {
+                failures.put(event.getId(), e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failures.put(event.getId(), e);
+            }
+        }
+
+        int gaveUp = outboxClaimService.complete(publishedIds, failures);
+
+        log.info("📤 Outbox 발행 - 선점: {}건, 성공: {}건, 실패: {}건 (포기: {}건), 소요시간: {}ms",
+                events.size(), publishedIds.size(), failures.size(), gaveUp, System.currentTimeMillis() - start);
+        return events.size();
+    }
+
+    /**
+     * 보관 기간이 지난 발행 완료 이벤트 삭제 (purgeBatchSize개씩, 트랜잭션도 묶음마다 따로)
+     *
+     * @return 삭제한 행 수
+     */
+    public long purgePublished() {
+        long retentionMs = outboxProperties.getPublishedRetentionMs();
+        if (retentionMs <= 0) {
+            return 0;
+        }
+        LocalDateTime cutoff = LocalDateTime.now().minusNanos(retentionMs * 1_000_000);
+        int batchSize = outboxProperties.getPurgeBatchSize();
+
+        long purged = 0;
+        int deleted;
+        do {
+            deleted = outboxClaimService.purgePublished(cutoff, batchSize);
+            purged += deleted;
+        } while (deleted >= batchSize);
+
+        if (purged > 0) {
+            log.info("🧹 Outbox 발행 완료 이벤트 삭제 - {}건 ({} 이전)", purged, cutoff);
+        }
+        return purged;
+    }
+
+    private CompletableFuture<SendResult<String, byte[]>> send(OutboxEventEntity event) {
+        try {
+            String topic = topicProperties.getName(MessageCategory.valueOf(event.getEventType().name()));
+            byte[] value = SalesOrderMessageCodec.INSTANCE.encode(
+                    objectMapper.readValue(event.getPayload(), SalesOrderMessage.class));
+            return outboxKafkaTemplates.forTopic(topic).send(topic, event.getAggregateId(), value);
+        } catch (JsonProcessingException | RuntimeException e) {
+            // payload 변환 실패, 토픽 설정 누락, 버퍼 가득 참(max.block.ms 초과) 등 send() 자체가 실패한 경우
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Producer 프로파일별 전송 지표
+     */
+    public List<ProducerProfileStats> profileStats() {
+        return outboxKafkaTemplates.stats();
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        outboxKafkaTemplates.destroy();
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.kafka.producer;
+
+import com.example.kafka.properties.KafkaOutboxProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Outbox Relay
+ * - workers개의 스레드가 각자 OutboxPublisher.publishBatch()를 반복 호출
+ * - 가득 찬 배치를 가져오면 바로 다음 배치, 비어 있으면 pollIntervalMs 대기
+ * - SKIP LOCKED로 워커끼리 같은 행을 나누어 가지지 않으므로
+ *   워커 수(여러 인스턴스 포함)를 늘리면 발행 처리량이 늘어남
+ *
+ * - 별도 스레드 1개가 purgeIntervalMs마다 보관 기간이 지난 발행 완료 행 삭제
+ *
+ * 워커가 여러 개면 서로 다른 배치가 동시에 발행되므로
+ * 같은 Key의 이벤트라도 다른 배치에 있으면 순서가 바뀔 수 있습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxRelay implements SmartLifecycle {
+
+    private final OutboxPublisher outboxPublisher;
+    private final KafkaOutboxProperties outboxProperties;
+
+    private ScheduledExecutorService executor;
+    private volatile boolean running;
+
+    @Override
+    public void start() {
+        if (!outboxProperties.getEnabled()) {
+            log.info("Outbox Relay 비활성화 (kafka.outbox.enabled=false)");
+            return;
+        }
+        int workers = outboxProperties.getWorkers();
+        long interval = outboxProperties.getPollIntervalMs();
+
+        // 발행 워커 + 삭제 스레드 1개 (삭제가 발행 워커를 점유하지 않도록)
+        executor = Executors.newScheduledThreadPool(workers + 1, new CustomizableThreadFactory("outbox-relay-"));
+        running = true;
+        for (int i = 0; i < workers; i++) {
+            executor.scheduleWithFixedDelay(this::drain, interval, interval, TimeUnit.MILLISECONDS);
+        }
+        long purgeInterval = outboxProperties.getPurgeIntervalMs();
+        executor.scheduleWithFixedDelay(this::purge, purgeInterval, purgeInterval, TimeUnit.MILLISECONDS);
+        log.info("Outbox Relay 시작 - 워커: {}개, 배치: {}건, 대기: {}ms",
+                workers, outboxProperties.getBatchSize(), interval);
+    }
+
+    /**
+     * 발행 대기 이벤트가 없을 때까지 배치 발행
+     */
+    private void drain() {
+        try {
+            while (running && outboxPublisher.publishBatch() >= outboxProperties.getBatchSize()) {
+                // 가득 찬 배치였으면 대기 없이 다음 배치
+            }
+        } catch (RuntimeException e) {
+            // 예외가 밖으로 나가면 scheduleWithFixedDelay가 이후 실행을 멈추므로 여기서 처리
+            log.error("❌ Outbox Relay 배치 처리 실패 (다음 주기에 재시도): {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 발행 완료 행 삭제
+     */
+    private void purge() {
+        try {
+            outboxPublisher.purgePublished();
+        } catch (RuntimeException e) {
+            log.error("❌ Outbox 발행 완료 이벤트 삭제 실패 (다음 주기에 재시도): {}", e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (executor == null) {
+            return;
+        }
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(outboxProperties.getSendTimeoutMs(), TimeUnit.MILLISECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        log.info("Outbox Relay 종료");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
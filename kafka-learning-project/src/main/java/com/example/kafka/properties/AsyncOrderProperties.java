@@ -0,0 +1,41 @@
+package com.example.kafka.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 비동기 주문 처리 설정 Properties
+ * - application.yml의 order.async 설정을 바인딩
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "order.async")
+public class AsyncOrderProperties {
+
+    /**
+     * 주문 요청 Consumer가 동시에 진행하는 결제 수 (결제 스레드 수)
+     * - Consumer 스레드(concurrency)가 결제 스레드 풀을 공유
+     */
+    private Integer paymentConcurrency = 100;
+
+    /**
+     * 상태 조회(long-poll)에서 결제 결과를 기다리는 최대 시간 (ms)
+     * - 초과하면 PENDING 상태를 그대로 응답 (클라이언트가 다시 조회)
+     * - 서블릿 비동기 요청 타임아웃(Tomcat 기본 30초)보다 짧게 설정
+     */
+    private Long statusWaitTimeoutMs = 25000L;
+
+    /**
+     * PAYING으로 이 시간(ms) 넘게 남은 주문은 결제 결과가 반영되지 않은 것으로 보고 보정
+     * - 결제 도중 장애, 결제 후 상태 변경 실패 등 (정상 결제 시간보다 충분히 길게)
+     */
+    private Long payingTimeoutMs = 600000L;
+
+    /**
+     * PAYING 주문 보정 주기 (ms)
+     */
+    private Long payingSweepIntervalMs = 60000L;
+}
@@ -0,0 +1,59 @@
+package com.example.kafka.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 대량 주문 처리 설정 Properties
+ * - application.yml의 order.bulk 설정을 바인딩
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "order.bulk")
+public class BulkOrderProperties {
+
+    /**
+     * 동시에 진행하는 결제 수 (결제 스레드 수)
+     * - 결제는 응답 대기(블로킹)가 대부분이므로 CPU 코어 수보다 크게 설정
+     */
+    private Integer paymentConcurrency = 100;
+
+    /**
+     * 한 번에 저장/상태 변경하는 주문 수 (배치 INSERT/UPDATE 크기)
+     */
+    private Integer chunkSize = 500;
+
+    /**
+     * 한 번에 요청할 수 있는 최대 주문 수
+     */
+    private Integer maxCount = 10000;
+
+    /**
+     * 동시에 실행하는 대량 주문 작업 수 (초과 요청은 QUEUED로 대기)
+     */
+    private Integer maxConcurrentJobs = 2;
+
+    /**
+     * 실행을 기다릴 수 있는 최대 작업 수 (초과 요청은 503으로 거절)
+     */
+    private Integer maxQueuedJobs = 10;
+
+    /**
+     * 결제 후 상태 변경(UPDATE) 최대 시도 횟수
+     * - 모두 실패하면 해당 주문을 작업의 orphanedOrders에 남기고 작업을 중단
+     */
+    private Integer statusUpdateAttempts = 3;
+
+    /**
+     * 상태 변경 재시도 간격 (ms, 시도마다 배로 증가)
+     */
+    private Long statusUpdateRetryDelayMs = 500L;
+
+    /**
+     * 종료된 작업의 진행 상황 보관 시간 (분)
+     */
+    private Long jobRetentionMinutes = 60L;
+}
@@ -67,4 +67,32 @@ public class KafkaConsumerProperties {
      * 동시성 (Consumer 스레드 수)
      */
     private Integer concurrency = 3;
+
+    /**
+     * Fetch 최소 크기 (bytes)
+     * - 크게 설정하면 배치가 커지는 대신 fetch-max-wait-ms만큼 지연될 수 있음
+     */
+    private Integer fetchMinBytes = 1;
+
+    /**
+     * Fetch 최대 대기 시간 (ms)
+     * - fetch-min-bytes가 모이지 않아도 이 시간이 지나면 응답
+     */
+    private Integer fetchMaxWaitMs = 500;
+
+    /**
+     * 배치 리스너 실패 레코드 재시도 간격 (ms)
+     */
+    private Long retryIntervalMs = 1000L;
+
+    /**
+     * 배치 리스너 실패 레코드 재시도 횟수 (초과 시 DLT로 발행)
+     */
+    private Long maxRetries = 2L;
+
+    /**
+     * 키 순서 보장 병렬 처리 워커 수 (리스너별, KeyOrderedWorkerPool)
+     * - 같은 키는 같은 워커에서 순서대로, 다른 키는 워커 수만큼 동시에 처리 (1이면 순차 처리)
+     */
+    private Integer keyOrderedWorkers = 8;
 }
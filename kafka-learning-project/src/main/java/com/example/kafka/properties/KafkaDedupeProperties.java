@@ -0,0 +1,54 @@
+package com.example.kafka.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Consumer 중복 처리 방지 설정 Properties
+ * - application.yml의 kafka.dedupe 설정을 바인딩
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "kafka.dedupe")
+public class KafkaDedupeProperties {
+
+    /**
+     * 중복 처리 방지 사용 여부 (false면 at-least-once 그대로 처리)
+     */
+    private Boolean enabled = true;
+
+    /**
+     * Bloom Filter 1세대에 담을 주문 수 (Consumer Group별)
+     * - 가득 차면 새 세대로 교체하고 직전 세대까지 함께 확인
+     * - 최근 2세대(최대 2배)에 담긴 주문만 걸러지므로 처리량(건/시간) × retentionHours 이상으로 설정
+     */
+    private Integer expectedInsertions = 1_000_000;
+
+    /**
+     * Bloom Filter 오탐률 목표 (세대당)
+     * - 오탐이면 DB를 1번 더 조회할 뿐 처리 결과는 같음
+     */
+    private Double falsePositiveRate = 0.01;
+
+    /**
+     * Bloom Filter 메모리 상한 (KB, Consumer Group별 2세대 합계)
+     * - 필요한 크기가 상한을 넘으면 상한에 맞추고 그만큼 오탐률이 올라감
+     */
+    private Integer maxMemoryKb = 4096;
+
+    /**
+     * 처리 완료 기록(processed_order) 보관 시간 (시간)
+     * - 이 시간보다 늦게 다시 전달된 주문은 중복으로 걸러지지 않음
+     * - 실제로 걸러지는 기간은 이 시간과 최근 2 × expectedInsertions건을 처리한 기간 중 짧은 쪽
+     *   (Bloom Filter가 없음으로 답한 주문은 DB를 확인하지 않으므로, 버려진 세대의 주문은 기록이 남아 있어도 다시 처리됨)
+     */
+    private Integer retentionHours = 24;
+
+    /**
+     * 보관 시간이 지난 처리 완료 기록 삭제 주기 (분)
+     */
+    private Integer cleanupIntervalMinutes = 60;
+}
@@ -0,0 +1,66 @@
+package com.example.kafka.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 발행 실패 이벤트 재처리 설정 Properties
+ * - application.yml의 kafka.event-retry 설정을 바인딩
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "kafka.event-retry")
+public class KafkaEventRetryProperties {
+
+    /**
+     * 재처리 스케줄러 사용 여부
+     */
+    private Boolean enabled = true;
+
+    /**
+     * 한 번에 읽어서 재발행하는 이벤트 수
+     */
+    private Integer batchSize = 100;
+
+    /**
+     * 재처리할 이벤트가 없거나 배치가 전부 실패했을 때 다음 조회까지 대기 시간 (ms)
+     */
+    private Long pollIntervalMs = 5000L;
+
+    /**
+     * 재처리 허용 횟수 (도달하면 더 이상 재처리하지 않음)
+     */
+    private Integer maxAttempts = 10;
+
+    /**
+     * 첫 재처리 실패 후 대기 시간 (ms)
+     */
+    private Long initialBackoffMs = 1000L;
+
+    /**
+     * 재처리 실패마다 대기 시간에 곱하는 값
+     */
+    private Double backoffMultiplier = 2.0;
+
+    /**
+     * 최대 대기 시간 (ms)
+     * - 브로커 장애가 길어져도 복구 후 이 시간 안에 모든 행이 다시 재처리 대상이 됨
+     */
+    private Long maxBackoffMs = 300000L;
+
+    /**
+     * 재발행 결과 대기 시간 (ms)
+     * - 배치 전체가 함께 쓰는 기한 (send() 시작부터), 지나면 남은 행은 실패로 기록하고 백오프
+     */
+    private Long sendTimeoutMs = 30000L;
+
+    /**
+     * 선점 유지 시간 (ms)
+     * - 선점한 인스턴스가 결과를 기록하지 못하고 죽으면 이 시간 뒤 다른 인스턴스가 다시 재발행
+     * - 배치 재발행(sendTimeoutMs + send() 1번의 max.block.ms)보다 길어야 함
+     */
+    private Long leaseMs = 120000L;
+}
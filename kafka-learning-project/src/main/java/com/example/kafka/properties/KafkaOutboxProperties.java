@@ -0,0 +1,86 @@
+package com.example.kafka.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Kafka Outbox Relay 설정 Properties
+ * - application.yml의 kafka.outbox 설정을 바인딩
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "kafka.outbox")
+public class KafkaOutboxProperties {
+
+    /**
+     * Relay 사용 여부 (false여도 Outbox 저장은 계속됨)
+     */
+    private Boolean enabled = true;
+
+    /**
+     * Relay 워커 수
+     * - 워커마다 SKIP LOCKED로 서로 다른 행을 가져가므로 워커 수만큼 처리량 증가
+     */
+    private Integer workers = 2;
+
+    /**
+     * 한 번에 읽어서 발행하는 이벤트 수
+     */
+    private Integer batchSize = 200;
+
+    /**
+     * 발행할 이벤트가 없을 때 다음 조회까지 대기 시간 (ms)
+     */
+    private Long pollIntervalMs = 500L;
+
+    /**
+     * 발행 실패 허용 횟수 (도달하면 FAILED + application_event_failure에 기록)
+     * - 실패마다 백오프하므로 기본값(10회)이면 약 8분 동안 브로커 장애를 견딤
+     */
+    private Integer maxAttempts = 10;
+
+    /**
+     * 발행 결과 대기 시간 (ms)
+     */
+    private Long sendTimeoutMs = 30000L;
+
+    /**
+     * 선점 유지 시간 (ms)
+     * - 선점한 Relay가 결과를 기록하지 못하고 죽으면 이 시간 뒤 다른 Relay가 다시 발행
+     * - 배치 발행(send + flush + 결과 대기)보다 길어야 하므로 sendTimeoutMs보다 크게 설정
+     */
+    private Long leaseMs = 60000L;
+
+    /**
+     * 첫 발행 실패 후 대기 시간 (ms)
+     */
+    private Long initialBackoffMs = 1000L;
+
+    /**
+     * 발행 실패마다 대기 시간에 곱하는 값
+     */
+    private Double backoffMultiplier = 2.0;
+
+    /**
+     * 최대 대기 시간 (ms)
+     */
+    private Long maxBackoffMs = 300000L;
+
+    /**
+     * 발행 완료(PUBLISHED) 이벤트 보관 시간 (ms, 0 이하면 삭제하지 않음)
+     */
+    private Long publishedRetentionMs = 86400000L;
+
+    /**
+     * 보관 기간이 지난 발행 완료 이벤트 삭제 주기 (ms)
+     */
+    private Long purgeIntervalMs = 60000L;
+
+    /**
+     * 한 번에 삭제하는 발행 완료 이벤트 수 (DELETE ... LIMIT)
+     */
+    private Integer purgeBatchSize = 1000;
+}
@@ -0,0 +1,55 @@
+package com.example.kafka.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.apache.kafka.clients.producer.ProducerConfig;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Kafka Producer 프로파일 모델
+ * - 토픽 성격에 따라 배치/지연/압축 설정을 다르게 적용
+ * - 설정하지 않은 항목은 kafka.producer 기본값 사용
+ *
+ * 예:
+ * - throughput: 큰 배치 + linger + lz4/zstd → 요청 수와 전송량 감소, 전송 지연 증가
+ * - latency: linger 0 → 모이기를 기다리지 않고 바로 전송
+ */
+@Getter
+@Setter
+public class KafkaProducerProfile {
+
+    /**
+     * 배치 대기 시간 (ms)
+     */
+    private Integer lingerMs;
+
+    /**
+     * 배치 크기 (bytes)
+     */
+    private Integer batchSize;
+
+    /**
+     * 압축 타입
+     * - none, gzip, snappy, lz4, zstd
+     */
+    private String compressionType;
+
+    /**
+     * 기본 Producer 설정에 덮어쓸 항목
+     */
+    public Map<String, Object> toConfigOverrides() {
+        Map<String, Object> overrides = new HashMap<>();
+        if (lingerMs != null) {
+            overrides.put(ProducerConfig.LINGER_MS_CONFIG, String.valueOf(lingerMs));
+        }
+        if (batchSize != null) {
+            overrides.put(ProducerConfig.BATCH_SIZE_CONFIG, String.valueOf(batchSize));
+        }
+        if (compressionType != null) {
+            overrides.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, compressionType);
+        }
+        return overrides;
+    }
+}
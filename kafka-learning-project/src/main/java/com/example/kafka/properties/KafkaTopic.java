@@ -31,4 +31,10 @@ public class KafkaTopic {
      * 복제 팩터 (선택사항)
      */
     private Short replicationFactor = 1;
+
+    /**
+     * Producer 프로파일명 (선택사항, kafka.producer-profiles의 키)
+     * - 없으면 kafka.producer 기본 설정으로 발행
+     */
+    private String producerProfile;
 }
@@ -6,7 +6,10 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 /**
  * Kafka Topic 설정 Properties
@@ -24,6 +27,11 @@ public class KafkaTopicProperties {
      */
     private List<KafkaTopic> topics;
 
+    /**
+     * Producer 프로파일 (프로파일명 → 배치/지연/압축 설정)
+     */
+    private Map<String, KafkaProducerProfile> producerProfiles = new LinkedHashMap<>();
+
     /**
      * 메시지 카테고리로 토픽명 조회
      *
@@ -54,6 +62,19 @@ public class KafkaTopicProperties {
                         String.format("Topic not found for category: %s", category)));
     }
 
+    /**
+     * 토픽명으로 Producer 프로파일명 조회
+     *
+     * @param topicName 실제 토픽명
+     * @return 프로파일명 (설정하지 않았거나 설정에 없는 토픽이면 empty)
+     */
+    public Optional<String> getProducerProfileName(String topicName) {
+        return topics.stream()
+                .filter(topic -> topic.getName().equals(topicName))
+                .findFirst()
+                .map(KafkaTopic::getProducerProfile);
+    }
+
     /**
      * 토픽 존재 여부 확인
      *
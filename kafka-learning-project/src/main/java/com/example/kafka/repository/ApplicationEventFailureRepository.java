@@ -3,9 +3,13 @@ package com.example.kafka.repository;
 import com.example.kafka.entity.ApplicationEventFailureEntity;
 import com.example.kafka.enums.ApplicationEventType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -15,9 +19,43 @@ import java.util.List;
 public interface ApplicationEventFailureRepository extends JpaRepository<ApplicationEventFailureEntity, Long> {
 
     /**
-     * 재처리되지 않은 실패 이벤트 조회
+     * 재처리 시각이 지난 실패 이벤트를 잠그며 조회 (MySQL 8.0+)
+     * - idx_event_failure_retry (retried, next_attempt_at) 범위 조회 + LIMIT → 밀린 행이 많아도 한 번에 limit건만 읽음
+     * - FOR UPDATE SKIP LOCKED: 여러 인스턴스가 같은 행을 재발행하지 않음
+     * - 재처리 횟수가 maxAttempts에 도달한 행은 제외 (수동 확인 대상)
      */
-    List<ApplicationEventFailureEntity> findByRetriedFalse();
+    @Query(value = "SELECT * FROM application_event_failure "
+            + "WHERE retried = false AND (next_attempt_at IS NULL OR next_attempt_at <= :now) "
+            + "AND attempt_count < :maxAttempts "
+            + "ORDER BY next_attempt_at LIMIT :limit FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<ApplicationEventFailureEntity> findDueForUpdate(@Param("now") LocalDateTime now,
+                                                         @Param("maxAttempts") int maxAttempts,
+                                                         @Param("limit") int limit);
+
+    /**
+     * 재처리 완료 일괄 표시 (UPDATE 1번)
+     */
+    @Modifying
+    @Query("UPDATE ApplicationEventFailureEntity f SET f.retried = true, f.retriedAt = :retriedAt WHERE f.id IN :ids")
+    int markRetried(@Param("ids") Collection<Long> ids, @Param("retriedAt") LocalDateTime retriedAt);
+
+    /**
+     * 선점 (UPDATE 1번) - leaseUntil까지 다른 인스턴스가 조회하지 않음
+     */
+    @Modifying
+    @Query("UPDATE ApplicationEventFailureEntity f SET f.nextAttemptAt = :leaseUntil WHERE f.id IN :ids")
+    int lease(@Param("ids") Collection<Long> ids, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    /**
+     * 재처리 대기 수 (재처리 횟수가 maxAttempts 미만인 미처리 행)
+     */
+    long countByRetriedFalseAndAttemptCountLessThan(int maxAttempts);
+
+    /**
+     * 재처리 포기 수 (재처리 횟수가 maxAttempts에 도달한 미처리 행)
+     */
+    long countByRetriedFalseAndAttemptCountGreaterThanEqual(int maxAttempts);
 
     /**
      * 특정 이벤트 타입의 실패 이력 조회
@@ -0,0 +1,112 @@
+package com.example.kafka.repository;
+
+import com.example.kafka.domain.Order;
+import com.example.kafka.entity.OutboxEventEntity;
+import com.example.kafka.enums.OrderStatus;
+import com.example.kafka.enums.OutboxStatus;
+import com.example.kafka.security.AccessUser;
+import com.example.kafka.security.AccessUserManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 주문 대량 처리용 JDBC Repository
+ * - 대량 주문(BulkOrderService) 전용
+ * - IDENTITY 전략 Entity는 Hibernate가 INSERT를 배치로 묶지 못하므로 JdbcTemplate.batchUpdate 사용
+ *   (datasource URL의 rewriteBatchedStatements=true로 MySQL이 multi-row INSERT 1번으로 전송)
+ * - JPA Auditing/@PrePersist를 거치지 않으므로 감사 컬럼은 AccessUserManager 기준으로 직접 채움
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderJdbcRepository {
+
+    private static final String INSERT_PENDING_ORDER_SQL = """
+            INSERT INTO orders (order_id, customer_id, product_id, product_name, quantity, price, total_amount,
+                                order_status, order_success_yn, order_datetime, delete_yn,
+                                created_user_id, created_user_type, created_datetime,
+                                modified_user_id, modified_user_type, modified_datetime)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, 'N', ?, 'N', ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String INSERT_OUTBOX_SQL = """
+            INSERT INTO order_outbox (aggregate_id, event_type, payload, status, attempt_count, created_at)
+            VALUES (?, ?, ?, ?, 0, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * PENDING 상태 주문 일괄 저장 (배치 INSERT)
+     */
+    public void insertPendingOrders(List<Order> orders) {
+        AccessUser user = AccessUserManager.getAccessUser();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(INSERT_PENDING_ORDER_SQL, orders, orders.size(), (ps, order) -> {
+            ps.setString(1, order.getOrderId());
+            ps.setString(2, order.getCustomerId());
+            ps.setString(3, order.getProductId());
+            ps.setString(4, order.getProductName());
+            ps.setInt(5, order.getQuantity());
+            ps.setBigDecimal(6, order.getPrice());
+            ps.setBigDecimal(7, order.getTotalAmount());
+            ps.setString(8, OrderStatus.PENDING.name());
+            ps.setTimestamp(9, Timestamp.valueOf(order.getOrderDateTime()));
+            ps.setLong(10, user.getUserId());
+            ps.setString(11, user.getUserType().name());
+            ps.setTimestamp(12, now);
+            ps.setLong(13, user.getUserId());
+            ps.setString(14, user.getUserType().name());
+            ps.setTimestamp(15, now);
+        });
+    }
+
+    /**
+     * 주문 상태 일괄 변경 (UPDATE ... WHERE order_id IN (...) 1번)
+     *
+     * @return 변경된 행 수
+     */
+    public int updateStatus(List<String> orderIds, OrderStatus status, String failureReason) {
+        if (orderIds.isEmpty()) {
+            return 0;
+        }
+        AccessUser user = AccessUserManager.getAccessUser();
+
+        String sql = "UPDATE orders SET order_status = ?, order_success_yn = ?, failure_reason = ?, "
+                + "modified_user_id = ?, modified_user_type = ?, modified_datetime = ? "
+                + "WHERE order_id IN (" + String.join(", ", Collections.nCopies(orderIds.size(), "?")) + ")";
+
+        List<Object> args = new ArrayList<>(orderIds.size() + 6);
+        args.add(status.name());
+        args.add(status == OrderStatus.SUCCESS ? "Y" : "N");
+        args.add(failureReason);
+        args.add(user.getUserId());
+        args.add(user.getUserType().name());
+        args.add(Timestamp.valueOf(LocalDateTime.now()));
+        args.addAll(orderIds);
+
+        return jdbcTemplate.update(sql, args.toArray());
+    }
+
+    /**
+     * Outbox 이벤트 일괄 저장 (배치 INSERT)
+     */
+    public void insertOutboxEvents(List<OutboxEventEntity> events) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(INSERT_OUTBOX_SQL, events, events.size(), (ps, event) -> {
+            ps.setString(1, event.getAggregateId());
+            ps.setString(2, event.getEventType().name());
+            ps.setString(3, event.getPayload());
+            ps.setString(4, OutboxStatus.PENDING.name());
+            ps.setTimestamp(5, now);
+        });
+    }
+}
@@ -2,9 +2,16 @@ package com.example.kafka.repository;
 
 import com.example.kafka.entity.OrderEntity;
 import com.example.kafka.enums.OrderStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,11 +26,42 @@ public interface OrderRepository extends JpaRepository<OrderEntity, Long> {
      */
     Optional<OrderEntity> findByOrderId(String orderId);
 
+    /**
+     * 주문 ID 목록 중 해당 상태인 주문 조회
+     */
+    List<OrderEntity> findByOrderIdInAndOrderStatus(Collection<String> orderIds, OrderStatus orderStatus);
+
+    /**
+     * 주문 ID 목록 중 해당 상태인 주문 잠금 조회 (SELECT ... FOR UPDATE)
+     * - 같은 주문을 동시에 결제 시작(PENDING → PAYING)하지 않도록 트랜잭션이 끝날 때까지 잠금
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM OrderEntity o WHERE o.orderId IN :orderIds AND o.orderStatus = :orderStatus")
+    List<OrderEntity> findForUpdate(@Param("orderIds") Collection<String> orderIds,
+                                    @Param("orderStatus") OrderStatus orderStatus);
+
     /**
      * 주문 상태로 조회
      */
     List<OrderEntity> findByOrderStatus(OrderStatus orderStatus);
 
+    /**
+     * 해당 상태로 cutoff 이전에 마지막으로 변경된 주문 조회 (오래된 순)
+     * - 결제 결과가 반영되지 않은 PAYING 주문 보정용
+     */
+    List<OrderEntity> findByOrderStatusAndModifiedDatetimeBeforeOrderByModifiedDatetime(
+            OrderStatus orderStatus, LocalDateTime cutoff, Pageable pageable);
+
+    /**
+     * 해당 상태인 주문 수
+     */
+    long countByOrderStatus(OrderStatus orderStatus);
+
+    /**
+     * 해당 상태로 cutoff 이전에 마지막으로 변경된 주문 수
+     */
+    long countByOrderStatusAndModifiedDatetimeBefore(OrderStatus orderStatus, LocalDateTime cutoff);
+
     /**
      * 주문 성공 여부로 조회
      */
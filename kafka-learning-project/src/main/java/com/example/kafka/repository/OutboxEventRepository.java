@@ -0,0 +1,63 @@
+package com.example.kafka.repository;
+
+import com.example.kafka.entity.OutboxEventEntity;
+import com.example.kafka.enums.OutboxStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 주문 이벤트 Outbox Repository
+ */
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEventEntity, Long> {
+
+    /**
+     * 발행 시각이 지난 대기 이벤트를 잠그며 조회 (MySQL 8.0+)
+     * - idx_order_outbox_due (status, next_attempt_at) 범위 조회 + LIMIT
+     * - FOR UPDATE: 선점(claim)이 커밋될 때까지 다른 Relay가 같은 행을 가져가지 못함
+     * - SKIP LOCKED: 다른 Relay가 잠근 행은 기다리지 않고 건너뜀 → Relay 수만큼 병렬 처리
+     * - 선점 중이거나 백오프 중인 행은 next_attempt_at이 미래이므로 제외
+     */
+    @Query(value = "SELECT * FROM order_outbox WHERE status = 'PENDING' "
+            + "AND (next_attempt_at IS NULL OR next_attempt_at <= :now) "
+            + "ORDER BY next_attempt_at, id LIMIT :limit FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<OutboxEventEntity> findDueForUpdate(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * 선점 (UPDATE 1번) - leaseUntil까지 다른 Relay가 조회하지 않음
+     */
+    @Modifying
+    @Query("UPDATE OutboxEventEntity o SET o.nextAttemptAt = :leaseUntil WHERE o.id IN :ids")
+    int lease(@Param("ids") Collection<Long> ids, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    /**
+     * 발행 완료 일괄 표시 (UPDATE 1번)
+     */
+    @Modifying
+    @Query("UPDATE OutboxEventEntity o SET o.status = :status, o.publishedAt = :publishedAt WHERE o.id IN :ids")
+    int updateStatus(@Param("ids") Collection<Long> ids,
+                     @Param("status") OutboxStatus status,
+                     @Param("publishedAt") LocalDateTime publishedAt);
+
+    /**
+     * 보관 기간이 지난 발행 완료 이벤트 삭제 (MySQL DELETE ... LIMIT, idx_order_outbox_published)
+     * - 한 번에 limit건씩 지워 긴 트랜잭션/잠금을 피함
+     */
+    @Modifying
+    @Query(value = "DELETE FROM order_outbox WHERE status = 'PUBLISHED' AND published_at < :cutoff LIMIT :limit",
+            nativeQuery = true)
+    int deletePublishedBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+
+    /**
+     * 상태별 이벤트 수
+     */
+    long countByStatus(OutboxStatus status);
+}
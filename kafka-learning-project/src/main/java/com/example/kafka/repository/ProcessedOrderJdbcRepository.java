@@ -0,0 +1,88 @@
+package com.example.kafka.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Consumer 처리 완료 주문 JDBC Repository (processed_order)
+ * - 배치 리스너가 poll 1번마다 조회 1번, INSERT 1번으로 사용
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProcessedOrderJdbcRepository {
+
+    private static final String INSERT_IGNORE_SQL = """
+            INSERT IGNORE INTO processed_order (consumer_group, order_id, processed_at)
+            VALUES (?, ?, ?)
+            """;
+
+    private static final String SELECT_RECENT_SQL = """
+            SELECT order_id FROM processed_order
+            WHERE consumer_group = ? AND processed_at >= ?
+            ORDER BY processed_at DESC LIMIT ?
+            """;
+
+    private static final String DELETE_EXPIRED_SQL = "DELETE FROM processed_order WHERE processed_at < ? LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 이미 처리한 주문 ID 조회 (SELECT ... WHERE order_id IN (...) 1번)
+     */
+    public Set<String> findProcessedOrderIds(String consumerGroup, Collection<String> orderIds) {
+        if (orderIds.isEmpty()) {
+            return Set.of();
+        }
+        String sql = "SELECT order_id FROM processed_order WHERE consumer_group = ? AND order_id IN ("
+                + String.join(", ", Collections.nCopies(orderIds.size(), "?")) + ")";
+
+        List<Object> args = new ArrayList<>(orderIds.size() + 1);
+        args.add(consumerGroup);
+        args.addAll(orderIds);
+
+        return new HashSet<>(jdbcTemplate.queryForList(sql, String.class, args.toArray()));
+    }
+
+    /**
+     * 처리 완료 일괄 기록 (배치 INSERT, 이미 있는 주문은 무시)
+     */
+    public void insertProcessedOrderIds(String consumerGroup, Collection<String> orderIds) {
+        if (orderIds.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(INSERT_IGNORE_SQL, orderIds, orderIds.size(), (ps, orderId) -> {
+            ps.setString(1, consumerGroup);
+            ps.setString(2, orderId);
+            ps.setTimestamp(3, now);
+        });
+    }
+
+    /**
+     * since 이후 처리한 주문 ID를 최근 순으로 최대 limit건 조회 (Bloom Filter 초기화용)
+     */
+    public List<String> findRecentOrderIds(String consumerGroup, LocalDateTime since, int limit) {
+        return jdbcTemplate.queryForList(SELECT_RECENT_SQL, String.class,
+                consumerGroup, Timestamp.valueOf(since), limit);
+    }
+
+    /**
+     * threshold 이전 기록 최대 limit건 삭제
+     *
+     * @return 삭제된 행 수
+     */
+    public int deleteProcessedBefore(LocalDateTime threshold, int limit) {
+        return jdbcTemplate.update(DELETE_EXPIRED_SQL, Timestamp.valueOf(threshold), limit);
+    }
+}
@@ -0,0 +1,239 @@
+package com.example.kafka.service;
+
+import com.example.kafka.domain.BulkOrderJob;
+import com.example.kafka.domain.Order;
+import com.example.kafka.enums.OrderStatus;
+import com.example.kafka.properties.BulkOrderProperties;
+import com.example.kafka.security.AccessUser;
+import com.example.kafka.security.AccessUserManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 대량 주문 서비스
+ * - 요청 즉시 작업 ID를 반환하고 백그라운드에서 처리 (진행 상황은 getJob으로 조회)
+ *
+ * 단건 흐름(OrderService.createOrder)을 주문 수만큼 반복하면
+ * 주문마다 트랜잭션 2번 + 결제 대기 500ms가 직렬로 쌓입니다 (1,000건 ≈ 8분 이상).
+ *
+ * 청크(chunkSize건) 단위 흐름:
+ * 1. PENDING 주문 배치 INSERT (트랜잭션 1번)
+ * 2. 결제를 결제 스레드 풀에서 동시에 진행 (최대 paymentConcurrency건)
+ * 3. 성공 주문 UPDATE 1번 + Outbox 배치 INSERT (트랜잭션 1번) → OutboxRelay가 배치로 Kafka 발행
+ * 4. 실패 주문 UPDATE 1번 (트랜잭션 1번)
+ *
+ * 결제 스레드 풀은 모든 작업이 공유하므로 동시에 여러 작업이 실행되어도 결제 동시성은 paymentConcurrency를 넘지 않습니다.
+ * 실행 대기 작업은 maxQueuedJobs개까지만 받고, 초과 요청은 RejectedExecutionException으로 거절합니다 (Controller에서 503).
+ * 진행 상황은 메모리에만 보관하므로 서버가 재시작되면 사라집니다 (이미 커밋된 청크는 DB에 남음).
+ *
+ * 결제 후 상태 변경(3, 4)은 statusUpdateAttempts번까지 재시도합니다.
+ * 그래도 실패하면 이미 결제된 주문이 PENDING으로 남으므로, 해당 주문 ID와 반영해야 할 상태를
+ * 작업의 orphanedOrders에 남기고 작업을 FAILED로 중단합니다 (남은 청크는 결제하지 않음).
+ */
+@Slf4j
+@Service
+public class BulkOrderService implements DisposableBean {
+
+    private static final String PAYMENT_FAILURE_REASON = "결제 승인 실패";
+
+    private final OrderService orderService;
+    private final OrderTransactionService transactionService;
+    private final PaymentSimulator paymentSimulator;
+    private final BulkOrderProperties bulkOrderProperties;
+
+    private final Map<String, BulkOrderJob> jobs = new ConcurrentHashMap<>();
+    private final ExecutorService jobExecutor;
+    private final ExecutorService paymentExecutor;
+
+    public BulkOrderService(OrderService orderService,
+                            OrderTransactionService transactionService,
+                            PaymentSimulator paymentSimulator,
+                            BulkOrderProperties bulkOrderProperties) {
+        this.orderService = orderService;
+        this.transactionService = transactionService;
+        this.paymentSimulator = paymentSimulator;
+        this.bulkOrderProperties = bulkOrderProperties;
+        this.jobExecutor = new ThreadPoolExecutor(
+                bulkOrderProperties.getMaxConcurrentJobs(), bulkOrderProperties.getMaxConcurrentJobs(),
+                0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(bulkOrderProperties.getMaxQueuedJobs()),
+                new CustomizableThreadFactory("bulk-order-"));
+        this.paymentExecutor = Executors.newFixedThreadPool(
+                bulkOrderProperties.getPaymentConcurrency(), new CustomizableThreadFactory("bulk-payment-"));
+    }
+
+    /**
+     * 대량 주문 작업 등록
+     * - 등록한 사용자를 작업 스레드에도 설정하여 감사 컬럼에 기록
+     *
+     * @return 등록된 작업 (QUEUED)
+     * @throws RejectedExecutionException 실행 대기 작업이 maxQueuedJobs개로 가득 찬 경우
+     */
+    public BulkOrderJob submit(List<Order> orders) {
+        if (orders.isEmpty() || orders.size() > bulkOrderProperties.getMaxCount()) {
+            throw new IllegalArgumentException(
+                    "주문 수는 1~" + bulkOrderProperties.getMaxCount() + "건이어야 합니다: " + orders.size());
+        }
+        evictExpiredJobs();
+
+        BulkOrderJob job = new BulkOrderJob(
+                "BULK-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase(), orders.size());
+        jobs.put(job.getJobId(), job);
+
+        AccessUser user = AccessUserManager.getAccessUser();
+        List<Order> snapshot = List.copyOf(orders);
+        try {
+            jobExecutor.execute(() -> run(job, snapshot, user));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.getJobId());
+            log.warn("⚠️ 대량 주문 작업 거절 (대기 작업 {}건 초과) - 주문: {}건",
+                    bulkOrderProperties.getMaxQueuedJobs(), orders.size());
+            throw e;
+        }
+
+        log.info("📦 대량 주문 작업 등록 - jobId: {}, 주문: {}건", job.getJobId(), orders.size());
+        return job;
+    }
+
+    /**
+     * 작업 진행 상황 조회
+     */
+    public Optional<BulkOrderJob> getJob(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId));
+    }
+
+    private void run(BulkOrderJob job, List<Order> orders, AccessUser user) {
+        AccessUserManager.setAccessUser(user);
+        job.start();
+        try {
+            int chunkSize = bulkOrderProperties.getChunkSize();
+            for (int from = 0; from < orders.size(); from += chunkSize) {
+                processChunk(job, orders.subList(from, Math.min(from + chunkSize, orders.size())));
+            }
+            job.complete();
+            log.info("✅ 대량 주문 작업 완료 - jobId: {}, 성공: {}건, 실패: {}건, 소요시간: {}ms",
+                    job.getJobId(), job.getSuccessCount(), job.getFailedCount(), job.getElapsedMs());
+        } catch (RuntimeException e) {
+            job.fail(e.getMessage());
+            log.error("❌ 대량 주문 작업 중단 - jobId: {}, 처리: {}/{}건",
+                    job.getJobId(), job.getProcessedCount(), job.getTotalCount(), e);
+        } finally {
+            AccessUserManager.clear();
+        }
+    }
+
+    /**
+     * 청크 1개 처리
+     * - 저장에 실패한 청크는 결제하지 않고 전부 실패로 집계
+     * - 재시도 후에도 상태 변경에 실패한 주문은 PENDING으로 남으므로 실패로 집계하고 작업을 중단
+     */
+    private void processChunk(BulkOrderJob job, List<Order> chunk) {
+        chunk.forEach(orderService::initializeOrderInfo);
+
+        try {
+            transactionService.createPendingOrders(chunk);
+        } catch (RuntimeException e) {
+            log.error("❌ 대량 주문 저장 실패 - jobId: {}, {}건: {}", job.getJobId(), chunk.size(), e.getMessage());
+            job.addResult(0, chunk.size());
+            return;
+        }
+
+        List<CompletableFuture<Boolean>> payments = new ArrayList<>(chunk.size());
+        for (Order order : chunk) {
+            payments.add(CompletableFuture
+                    .supplyAsync(() -> paymentSimulator.pay(order.getOrderId(), order.getTotalAmount()), paymentExecutor)
+                    .exceptionally(e -> false));
+        }
+
+        List<Order> succeeded = new ArrayList<>();
+        List<Order> failed = new ArrayList<>();
+        for (int i = 0; i < chunk.size(); i++) {
+            (payments.get(i).join() ? succeeded : failed).add(chunk.get(i));
+        }
+
+        boolean successApplied = applyStatus(job, succeeded, OrderStatus.SUCCESS,
+                () -> transactionService.markOrdersAsSuccess(succeeded));
+        boolean failedApplied = applyStatus(job, failed, OrderStatus.FAILED,
+                () -> transactionService.markOrdersAsFailed(failed, PAYMENT_FAILURE_REASON));
+
+        int successCount = successApplied ? succeeded.size() : 0;
+        job.addResult(successCount, chunk.size() - successCount);
+        if (!successApplied || !failedApplied) {
+            throw new IllegalStateException(
+                    "주문 상태 변경 실패 - PENDING으로 남은 주문: " + job.getOrphanedOrders().size() + "건 (orphanedOrders 참고)");
+        }
+        log.info("📦 대량 주문 진행 - jobId: {}, {}/{}건 ({}%)",
+                job.getJobId(), job.getProcessedCount(), job.getTotalCount(), job.getProgressPercent());
+    }
+
+    /**
+     * 결제 결과를 주문 상태에 반영 (실패 시 statusUpdateAttempts번까지 재시도, 간격은 시도마다 2배)
+     * - 상태 변경 트랜잭션은 UPDATE와 Outbox INSERT를 함께 롤백하므로 다시 실행해도 중복 저장되지 않음
+     *
+     * @return 반영 여부 (false면 orders를 작업의 orphanedOrders에 기록)
+     */
+    private boolean applyStatus(BulkOrderJob job, List<Order> orders, OrderStatus status, Runnable update) {
+        if (orders.isEmpty()) {
+            return true;
+        }
+        int maxAttempts = bulkOrderProperties.getStatusUpdateAttempts();
+        long delayMs = bulkOrderProperties.getStatusUpdateRetryDelayMs();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                update.run();
+                return true;
+            } catch (RuntimeException e) {
+                if (attempt >= maxAttempts) {
+                    job.addOrphanedOrders(orders, status);
+                    log.error("❌ 대량 주문 {} 처리 포기 (PENDING 유지) - jobId: {}, {}건, 시도: {}회: {}",
+                            status, job.getJobId(), orders.size(), attempt, e.getMessage());
+                    return false;
+                }
+                log.warn("⚠️ 대량 주문 {} 처리 실패 ({}ms 후 재시도) - jobId: {}, {}건, 시도: {}/{}회: {}",
+                        status, delayMs, job.getJobId(), orders.size(), attempt, maxAttempts, e.getMessage());
+            }
+            try {
+                Thread.sleep(delayMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                job.addOrphanedOrders(orders, status);
+                return false;
+            }
+            delayMs *= 2;
+        }
+    }
+
+    /**
+     * 보관 시간이 지난 종료 작업 제거
+     */
+    private void evictExpiredJobs() {
+        LocalDateTime threshold = LocalDateTime.now().minusMinutes(bulkOrderProperties.getJobRetentionMinutes());
+        jobs.values().removeIf(job -> job.isFinished() && job.getFinishedAt().isBefore(threshold));
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        jobExecutor.shutdown();
+        paymentExecutor.shutdown();
+        if (!jobExecutor.awaitTermination(30, TimeUnit.SECONDS)) {
+            jobExecutor.shutdownNow();
+            paymentExecutor.shutdownNow();
+        }
+    }
+}
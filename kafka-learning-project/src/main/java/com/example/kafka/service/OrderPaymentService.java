@@ -0,0 +1,227 @@
+package com.example.kafka.service;
+
+import com.example.kafka.domain.Order;
+import com.example.kafka.domain.PayingOrderStats;
+import com.example.kafka.entity.OrderEntity;
+import com.example.kafka.enums.OrderStatus;
+import com.example.kafka.message.SalesOrderMessage;
+import com.example.kafka.properties.AsyncOrderProperties;
+import com.example.kafka.repository.OrderRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 주문 요청 결제 처리 (order-requested 토픽 배치 단위)
+ *
+ * 배치 1개 흐름:
+ * 1. 아직 PENDING인 주문만 PAYING으로 변경 (트랜잭션 1번, 재전달/중복 메시지는 건너뜀)
+ * 2. 결제를 결제 스레드 풀에서 동시에 진행 (최대 paymentConcurrency건)
+ * 3. 성공 주문 UPDATE 1번 + Outbox 배치 INSERT (트랜잭션 1번) → sales-orders, order-success 발행
+ * 4. 실패 주문 UPDATE 1번 (트랜잭션 1번)
+ * 5. 상태 조회(long-poll)로 대기 중인 요청에 결과 통지
+ *
+ * 결제 전에 PAYING을 커밋하므로 같은 주문을 두 번 결제하지 않습니다 (멱등).
+ * 성공/실패 상태 변경(3, 4)은 서로 독립적으로 시도하고, 하나라도 실패하면 예외를 던져 배치를 다시 처리하게 합니다.
+ * 이미 결제한 주문은 PAYING으로 남아 다시 결제하지 않고 건너뜁니다.
+ *
+ * PAYING 보정 (payingSweepIntervalMs마다):
+ * - payingTimeoutMs 넘게 PAYING으로 남은 주문(상태 변경 실패, 1번 커밋 직후 장애 등)을
+ *   PaymentSimulator 결제 결과 조회(PG 승인 내역)로 확인
+ * - 승인 → SUCCESS + Outbox, 거절/승인 내역 없음 → FAILED (결제되지 않은 주문)
+ * - 현재 PAYING 수와 보정 누적 수는 payingStats()로 확인 (GET /api/orders/paying)
+ */
+@Slf4j
+@Service
+public class OrderPaymentService implements DisposableBean {
+
+    private static final String PAYMENT_FAILURE_REASON = "결제 승인 실패";
+    private static final String UNRESOLVED_FAILURE_REASON = "결제 결과 미반영 보정 - 승인 내역 없음";
+    private static final int SWEEP_BATCH_SIZE = 500;
+
+    private final OrderRepository orderRepository;
+    private final OrderService orderService;
+    private final OrderTransactionService transactionService;
+    private final PaymentSimulator paymentSimulator;
+    private final OrderStatusNotifier orderStatusNotifier;
+    private final AsyncOrderProperties asyncOrderProperties;
+    private final ExecutorService paymentExecutor;
+    private final ScheduledExecutorService sweepExecutor;
+
+    private final AtomicLong resolvedSuccessTotal = new AtomicLong();
+    private final AtomicLong resolvedFailedTotal = new AtomicLong();
+
+    public OrderPaymentService(OrderRepository orderRepository,
+                               OrderService orderService,
+                               OrderTransactionService transactionService,
+                               PaymentSimulator paymentSimulator,
+                               OrderStatusNotifier orderStatusNotifier,
+                               AsyncOrderProperties asyncOrderProperties) {
+        this.orderRepository = orderRepository;
+        this.orderService = orderService;
+        this.transactionService = transactionService;
+        this.paymentSimulator = paymentSimulator;
+        this.orderStatusNotifier = orderStatusNotifier;
+        this.asyncOrderProperties = asyncOrderProperties;
+        this.paymentExecutor = Executors.newFixedThreadPool(
+                asyncOrderProperties.getPaymentConcurrency(), new CustomizableThreadFactory("order-payment-"));
+        this.sweepExecutor = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("order-paying-sweep-"));
+        long interval = asyncOrderProperties.getPayingSweepIntervalMs();
+        sweepExecutor.scheduleWithFixedDelay(this::sweepUnresolvedPayments, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 주문 요청 배치 결제
+     */
+    public void processPayments(List<SalesOrderMessage> requests) {
+        if (requests.isEmpty()) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+
+        List<String> orderIds = requests.stream().map(SalesOrderMessage::getOrderId).distinct().toList();
+        List<Order> orders = transactionService.startPayments(orderIds).stream()
+                .map(orderService::convertToOrder)
+                .toList();
+        if (orders.size() < requests.size()) {
+            log.info("결제 대상이 아닌 주문 요청 건너뜀 (이미 처리됨/중복) - {}건", requests.size() - orders.size());
+            warnUnresolvedPayments(orderIds);
+        }
+        if (orders.isEmpty()) {
+            return;
+        }
+
+        List<CompletableFuture<Boolean>> payments = new ArrayList<>(orders.size());
+        for (Order order : orders) {
+            payments.add(CompletableFuture
+                    .supplyAsync(() -> paymentSimulator.pay(order.getOrderId(), order.getTotalAmount()), paymentExecutor)
+                    .exceptionally(e -> false));
+        }
+
+        List<Order> succeeded = new ArrayList<>();
+        List<Order> failed = new ArrayList<>();
+        for (int i = 0; i < orders.size(); i++) {
+            (payments.get(i).join() ? succeeded : failed).add(orders.get(i));
+        }
+
+        // 성공/실패 반영은 서로 독립적으로 시도 (한쪽이 실패해도 다른 쪽은 반영)
+        RuntimeException failure = null;
+        try {
+            transactionService.markOrdersAsSuccess(succeeded);
+            succeeded.forEach(orderStatusNotifier::notifyCompleted);
+        } catch (RuntimeException e) {
+            log.error("❌ 결제 성공 반영 실패 (PAYING 유지, 재결제하지 않음) - {}",
+                    succeeded.stream().map(Order::getOrderId).toList(), e);
+            failure = e;
+        }
+        try {
+            transactionService.markOrdersAsFailed(failed, PAYMENT_FAILURE_REASON);
+            failed.forEach(orderStatusNotifier::notifyCompleted);
+        } catch (RuntimeException e) {
+            log.error("❌ 결제 실패 반영 실패 (PAYING 유지, 재결제하지 않음) - {}",
+                    failed.stream().map(Order::getOrderId).toList(), e);
+            if (failure == null) {
+                failure = e;
+            } else {
+                failure.addSuppressed(e);
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+
+        log.info("💳 주문 요청 결제 완료 - {}건 (성공: {}건, 실패: {}건), 소요시간: {}ms",
+                orders.size(), succeeded.size(), failed.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 결제 후 상태 변경에 실패해 PAYING으로 남은 주문 경고 (재결제하지 않음, PAYING 보정 대상)
+     */
+    private void warnUnresolvedPayments(List<String> orderIds) {
+        List<String> paying = orderRepository.findByOrderIdInAndOrderStatus(orderIds, OrderStatus.PAYING).stream()
+                .map(OrderEntity::getOrderId)
+                .toList();
+        if (!paying.isEmpty()) {
+            log.warn("⚠️ 결제 결과가 반영되지 않은 주문 (PAYING, 재결제 건너뜀, {}ms 후 보정) - {}",
+                    asyncOrderProperties.getPayingTimeoutMs(), paying);
+        }
+    }
+
+    /**
+     * payingTimeoutMs 넘게 PAYING으로 남은 주문을 결제 결과 조회로 보정 (SWEEP_BATCH_SIZE건씩)
+     *
+     * @return 보정한 주문 수
+     */
+    public int resolveUnresolvedPayments() {
+        LocalDateTime cutoff = LocalDateTime.now().minusNanos(asyncOrderProperties.getPayingTimeoutMs() * 1_000_000);
+        int resolvedCount = 0;
+        List<OrderEntity> stale;
+        do {
+            stale = orderRepository.findByOrderStatusAndModifiedDatetimeBeforeOrderByModifiedDatetime(
+                    OrderStatus.PAYING, cutoff, PageRequest.of(0, SWEEP_BATCH_SIZE));
+            if (stale.isEmpty()) {
+                break;
+            }
+
+            List<Order> approved = new ArrayList<>();
+            List<Order> rejected = new ArrayList<>();
+            for (OrderEntity entity : stale) {
+                boolean paid = paymentSimulator.findResult(entity.getOrderId()).orElse(false);
+                (paid ? approved : rejected).add(orderService.convertToOrder(entity));
+            }
+            List<Order> resolved = transactionService.resolvePayments(approved, rejected, UNRESOLVED_FAILURE_REASON);
+            resolved.forEach(orderStatusNotifier::notifyCompleted);
+
+            long success = resolved.stream().filter(order -> OrderStatus.SUCCESS.name().equals(order.getStatus())).count();
+            resolvedSuccessTotal.addAndGet(success);
+            resolvedFailedTotal.addAndGet(resolved.size() - success);
+            resolvedCount += resolved.size();
+            log.warn("⚠️ 결제 결과 미반영 주문 보정 - 조회: {}건, 성공: {}건, 실패: {}건",
+                    stale.size(), success, resolved.size() - success);
+        } while (stale.size() >= SWEEP_BATCH_SIZE);
+        return resolvedCount;
+    }
+
+    private void sweepUnresolvedPayments() {
+        try {
+            resolveUnresolvedPayments();
+        } catch (RuntimeException e) {
+            // 예외가 밖으로 나가면 scheduleWithFixedDelay가 이후 실행을 멈추므로 여기서 처리
+            log.error("❌ 결제 결과 미반영 주문 보정 실패 (다음 주기에 재시도): {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * PAYING 주문 지표 (조회 시점 DB 기준)
+     */
+    public PayingOrderStats payingStats() {
+        LocalDateTime cutoff = LocalDateTime.now().minusNanos(asyncOrderProperties.getPayingTimeoutMs() * 1_000_000);
+        return PayingOrderStats.builder()
+                .paying(orderRepository.countByOrderStatus(OrderStatus.PAYING))
+                .stale(orderRepository.countByOrderStatusAndModifiedDatetimeBefore(OrderStatus.PAYING, cutoff))
+                .resolvedSuccessTotal(resolvedSuccessTotal.get())
+                .resolvedFailedTotal(resolvedFailedTotal.get())
+                .build();
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        sweepExecutor.shutdownNow();
+        paymentExecutor.shutdown();
+        if (!paymentExecutor.awaitTermination(30, TimeUnit.SECONDS)) {
+            paymentExecutor.shutdownNow();
+        }
+    }
+}
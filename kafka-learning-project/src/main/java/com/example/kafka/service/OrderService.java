@@ -1,10 +1,7 @@
 package com.example.kafka.service;
 
-import com.example.kafka.common.KafkaProducerCluster;
 import com.example.kafka.domain.Order;
 import com.example.kafka.entity.OrderEntity;
-import com.example.kafka.enums.MessageCategory;
-import com.example.kafka.message.SalesOrderMessage;
 import com.example.kafka.repository.OrderRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -12,13 +9,14 @@ import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
  * 주문 서비스
  * - 트랜잭션 분리 패턴 적용
  * - 각 비즈니스 단위별로 트랜잭션 분리
- * - Kafka 직접 사용 (Event 불필요)
+ * - Kafka 발행은 Transactional Outbox (주문 성공 트랜잭션에서 Outbox 저장 → OutboxRelay가 발행)
  */
 @Slf4j
 @Service
@@ -26,19 +24,44 @@ import java.util.UUID;
 public class OrderService {
 
     private final OrderTransactionService transactionService;
-    private final KafkaProducerCluster kafkaProducer;
     private final OrderRepository orderRepository;
+    private final PaymentSimulator paymentSimulator;
 
     /**
-     * 주문 생성 (메인 흐름)
+     * 주문 접수 (비동기 흐름, POST /api/orders)
+     * - PENDING 주문 + 주문 요청 Outbox 저장 (트랜잭션 1개) 후 바로 반환
+     * - 결제와 상태 변경은 order-requested 토픽의 OrderPaymentConsumer가 처리
+     * - 요청 스레드는 결제(500ms)를 기다리지 않음 → 결과는 GET /api/orders/{orderId}/status로 조회
+     *
+     * @return PENDING 상태 주문
+     */
+    public Order requestOrder(Order order) {
+        initializeOrderInfo(order);
+        OrderEntity orderEntity = transactionService.createRequestedOrder(order);
+        log.info("📥 주문 접수: {} (결제 대기)", orderEntity.getOrderId());
+        return convertToOrder(orderEntity);
+    }
+
+    /**
+     * 주문 조회
+     */
+    public Optional<Order> findOrder(String orderId) {
+        return orderRepository.findByOrderId(orderId).map(this::convertToOrder);
+    }
+
+    /**
+     * 주문 생성 (동기 흐름)
      * - 트랜잭션 없음: 각 단계별로 독립적인 트랜잭션 실행
+     * - 결제가 끝날 때까지 호출 스레드가 대기하므로 API에서는 테스트용(same-customer, test-partition)으로만 사용
      *
      * 흐름:
      * 1. 주문 정보 검증 및 초기화
      * 2. PENDING 상태로 주문 생성 (트랜잭션 1)
      * 3. 결제 처리 시뮬레이션
-     * 4-1. 성공 시: 주문 성공 처리 (트랜잭션 2) + Kafka 발행
+     * 4-1. 성공 시: 주문 성공 처리 + Outbox 저장 (트랜잭션 2)
      * 4-2. 실패 시: 주문 실패 처리 (트랜잭션 3)
+     *
+     * 요청 스레드는 Kafka 전송을 기다리지 않음 (브로커 장애 시에도 주문 처리는 완료되고, 발행은 Relay가 재시도)
      */
     public Order createOrder(Order order) {
         log.info("========================================");
@@ -53,15 +76,12 @@ public class OrderService {
         log.info("✅ [트랜잭션 1] PENDING 상태로 주문 저장 완료: {}", orderEntity.getOrderId());
 
         // 3. 결제 처리 시뮬레이션
-        boolean paymentSuccess = simulatePayment(orderEntity);
+        boolean paymentSuccess = paymentSimulator.pay(orderEntity.getOrderId(), orderEntity.getTotalAmount());
 
         if (paymentSuccess) {
-            // 4-1. 결제 성공: 주문 성공 처리 (트랜잭션 2)
+            // 4-1. 결제 성공: 주문 성공 처리 + Outbox 저장 (트랜잭션 2)
             orderEntity = transactionService.markOrderAsSuccess(orderEntity.getOrderId());
-            log.info("✅ [트랜잭션 2] 주문 성공 처리 완료: {}", orderEntity.getOrderId());
-
-            // 5. 성공한 주문만 Kafka로 직접 발행
-            publishToKafka(orderEntity);
+            log.info("✅ [트랜잭션 2] 주문 성공 처리 완료 (Kafka 발행 예약): {}", orderEntity.getOrderId());
 
         } else {
             // 4-2. 결제 실패: 주문 실패 처리 (트랜잭션 3)
@@ -76,77 +96,11 @@ public class OrderService {
         return convertToOrder(orderEntity);
     }
 
-    /**
-     * Kafka로 메시지 발행
-     * - Event 없이 직접 Kafka Producer 사용
-     */
-    private void publishToKafka(OrderEntity orderEntity) {
-        try {
-            log.info("📤 Kafka 메시지 발행 시작: {}", orderEntity.getOrderId());
-
-            // 1. Entity -> Order -> Message 변환
-            Order order = convertToOrder(orderEntity);
-            SalesOrderMessage message = SalesOrderMessage.from(order);
-
-            // 2. sales-orders 토픽으로 발행
-            kafkaProducer.sendMessage(
-                    message.getOrderId(),
-                    message,
-                    MessageCategory.SALES_ORDER
-            );
-
-            log.info("✅ Kafka 메시지 발행 성공: {} -> sales-orders 토픽", orderEntity.getOrderId());
-
-            // 3. 성공 메시지도 별도 토픽으로 발행 (모니터링용)
-            kafkaProducer.sendMessage(
-                    message.getOrderId(),
-                    message,
-                    MessageCategory.ORDER_SUCCESS
-            );
-
-            log.info("✅ 성공 메시지 발행: {} -> order-success 토픽", orderEntity.getOrderId());
-
-        } catch (Exception e) {
-            log.error("❌ Kafka 메시지 발행 실패: {}", orderEntity.getOrderId(), e);
-            // Kafka 발행 실패해도 주문 처리는 완료된 상태
-            // 필요시 재시도 로직 또는 별도 저장 로직 추가 가능
-        }
-    }
-
-    /**
-     * 결제 처리 시뮬레이션
-     * - 실제로는 PG사 API 호출
-     * - 학습용: 30% 확률로 실패
-     */
-    private boolean simulatePayment(OrderEntity order) {
-        log.info("💳 결제 처리 중... (주문 ID: {}, 금액: {}원)",
-                order.getOrderId(), order.getTotalAmount());
-
-        try {
-            // 결제 API 호출 시뮬레이션 (지연)
-            Thread.sleep(500);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
-
-        // 30% 확률로 실패
-        boolean success = Math.random() > 0.3;
-
-        if (success) {
-            log.info("💳 ✅ 결제 성공: {} (승인번호: {})",
-                    order.getOrderId(),
-                    UUID.randomUUID().toString().substring(0, 8).toUpperCase());
-        } else {
-            log.error("💳 ❌ 결제 실패: {} (사유: 카드 승인 거부)", order.getOrderId());
-        }
-
-        return success;
-    }
-
     /**
      * 주문 정보 초기화
+     * - 대량 주문(BulkOrderService)도 같은 규칙으로 초기화
      */
-    private void initializeOrderInfo(Order order) {
+    void initializeOrderInfo(Order order) {
         if (order.getOrderId() == null || order.getOrderId().isEmpty()) {
             order.setOrderId("ORD-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase());
         }
@@ -166,7 +120,7 @@ public class OrderService {
     /**
      * OrderEntity → Order 변환
      */
-    private Order convertToOrder(OrderEntity entity) {
+    Order convertToOrder(OrderEntity entity) {
         return Order.builder()
                 .orderId(entity.getOrderId())
                 .customerId(entity.getCustomerId())
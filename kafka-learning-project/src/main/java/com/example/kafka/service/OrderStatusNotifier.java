@@ -0,0 +1,86 @@
+package com.example.kafka.service;
+
+import com.example.kafka.domain.Order;
+import com.example.kafka.enums.OrderStatus;
+import com.example.kafka.properties.AsyncOrderProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 결제 결과 대기/통지 (long-poll)
+ * - 상태 조회 요청은 CompletableFuture를 등록하고 서블릿 스레드를 바로 반환
+ * - OrderPaymentService가 상태 변경을 커밋한 뒤 notifyCompleted → 대기 중인 요청에 응답
+ * - statusWaitTimeoutMs 안에 결과가 없으면 PENDING 상태로 응답 (클라이언트가 다시 조회)
+ *
+ * 대기 목록은 이 인스턴스 메모리에만 있으므로 다른 인스턴스가 결제를 처리한 주문은
+ * 타임아웃 후 다시 조회할 때 DB 상태로 확인됩니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderStatusNotifier {
+
+    private final OrderService orderService;
+    private final AsyncOrderProperties asyncOrderProperties;
+
+    private final Map<String, List<CompletableFuture<Order>>> waiters = new ConcurrentHashMap<>();
+
+    /**
+     * 주문 결제 결과 대기
+     * - 이미 결제가 끝난 주문은 바로 완료된 Future 반환
+     *
+     * @param order 조회 시점의 주문 (PENDING이면 이 값이 타임아웃 응답이 됨)
+     */
+    public CompletableFuture<Order> awaitCompletion(Order order) {
+        if (!isPending(order)) {
+            return CompletableFuture.completedFuture(order);
+        }
+
+        String orderId = order.getOrderId();
+        CompletableFuture<Order> future = new CompletableFuture<>();
+        waiters.computeIfAbsent(orderId, id -> new CopyOnWriteArrayList<>()).add(future);
+        future.whenComplete((result, e) -> removeWaiter(orderId, future));
+
+        // 조회와 등록 사이에 결제가 끝나 통지를 놓쳤을 수 있으므로 다시 확인
+        orderService.findOrder(orderId)
+                .filter(current -> !isPending(current))
+                .ifPresent(future::complete);
+
+        return future.completeOnTimeout(order, asyncOrderProperties.getStatusWaitTimeoutMs(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 결제 결과 통지 (상태 변경 커밋 후 호출)
+     */
+    public void notifyCompleted(Order order) {
+        List<CompletableFuture<Order>> futures = waiters.remove(order.getOrderId());
+        if (futures != null) {
+            futures.forEach(future -> future.complete(order));
+            log.debug("주문 결과 통지 - orderId: {}, 상태: {}, 대기 요청: {}건",
+                    order.getOrderId(), order.getStatus(), futures.size());
+        }
+    }
+
+    private void removeWaiter(String orderId, CompletableFuture<Order> future) {
+        waiters.computeIfPresent(orderId, (id, futures) -> {
+            futures.remove(future);
+            return futures.isEmpty() ? null : futures;
+        });
+    }
+
+    /**
+     * 결제 전(PENDING)이거나 결제 중(PAYING)이면 아직 결과 없음
+     */
+    private boolean isPending(Order order) {
+        return OrderStatus.PENDING.name().equals(order.getStatus())
+                || OrderStatus.PAYING.name().equals(order.getStatus());
+    }
+}
@@ -2,14 +2,28 @@ package com.example.kafka.service;
 
 import com.example.kafka.domain.Order;
 import com.example.kafka.entity.OrderEntity;
+import com.example.kafka.entity.OutboxEventEntity;
+import com.example.kafka.enums.ApplicationEventType;
 import com.example.kafka.enums.OrderStatus;
+import com.example.kafka.message.SalesOrderMessage;
+import com.example.kafka.repository.OrderJdbcRepository;
 import com.example.kafka.repository.OrderRepository;
+import com.example.kafka.repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
 /**
  * 주문 트랜잭션 서비스
  * - 각 트랜잭션을 독립적으로 관리
@@ -22,6 +36,9 @@ import org.springframework.transaction.annotation.Transactional;
 public class OrderTransactionService {
 
     private final OrderRepository orderRepository;
+    private final OrderJdbcRepository orderJdbcRepository;
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
 
     /**
      * [트랜잭션 1] PENDING 상태로 주문 생성
@@ -32,29 +49,34 @@ public class OrderTransactionService {
     public OrderEntity createPendingOrder(Order order) {
         log.info("💾 [TX-1 START] 주문 생성 트랜잭션 시작");
 
-        OrderEntity entity = OrderEntity.builder()
-                .orderId(order.getOrderId())
-                .customerId(order.getCustomerId())
-                .productId(order.getProductId())
-                .productName(order.getProductName())
-                .quantity(order.getQuantity())
-                .price(order.getPrice())
-                .totalAmount(order.getTotalAmount())
-                .orderStatus(OrderStatus.PENDING)
-                .orderSuccessYn(Boolean.FALSE)
-                .orderDatetime(order.getOrderDateTime())
-                .build();
-
-        OrderEntity savedEntity = orderRepository.save(entity);
+        OrderEntity savedEntity = orderRepository.save(toPendingEntity(order));
 
         log.info("💾 [TX-1 COMMIT] 주문 생성 완료 - ID: {}, 상태: PENDING", savedEntity.getOrderId());
         return savedEntity;
     }
 
     /**
-     * [트랜잭션 2] 주문을 성공 상태로 변경
+     * [비동기 트랜잭션 1] PENDING 상태로 주문 생성 + 주문 요청 Outbox 저장
+     * - 같은 트랜잭션에서 order-requested 메시지를 Outbox에 저장
+     *   → 주문이 커밋되면 결제 요청도 반드시 발행됨 (결제는 OrderPaymentConsumer가 처리)
+     */
+    @Transactional
+    public OrderEntity createRequestedOrder(Order order) {
+        OrderEntity savedEntity = orderRepository.save(toPendingEntity(order));
+        outboxEventRepository.save(OutboxEventEntity.toEntity(
+                savedEntity.getOrderId(), ApplicationEventType.ORDER_REQUESTED, toPayload(SalesOrderMessage.from(savedEntity))));
+
+        log.info("💾 [ASYNC TX-1 COMMIT] 주문 접수 완료 - ID: {}, 상태: PENDING, 이벤트: ORDER_REQUESTED",
+                savedEntity.getOrderId());
+        return savedEntity;
+    }
+
+    /**
+     * [트랜잭션 2] 주문을 성공 상태로 변경 + Outbox 저장
      * - 독립적인 트랜잭션
      * - 결제 성공 시 호출
+     * - 발행할 메시지(sales-orders, order-success)를 같은 트랜잭션에서 Outbox에 저장
+     *   → 상태 변경이 커밋되면 발행도 반드시 예약됨 (Kafka 전송은 OutboxRelay가 담당)
      */
     @Transactional
     public OrderEntity markOrderAsSuccess(String orderId) {
@@ -65,6 +87,7 @@ public class OrderTransactionService {
 
         entity.markAsSuccess();
         OrderEntity updatedEntity = orderRepository.save(entity);
+        appendOutbox(updatedEntity);
 
         log.info("💾 [TX-2 COMMIT] 주문 성공 처리 완료 - ID: {}, 상태: SUCCESS, 성공여부: Y",
                 updatedEntity.getOrderId());
@@ -90,4 +113,139 @@ public class OrderTransactionService {
                 updatedEntity.getOrderId(), reason);
         return updatedEntity;
     }
+
+    /**
+     * [비동기 트랜잭션 2] 결제 시작 (PENDING → PAYING)
+     * - 결제(PG 호출) 전에 커밋하여, 결제 후 상태 변경에 실패해 메시지가 다시 전달되어도
+     *   PAYING 주문은 결제 대상(PENDING)에서 빠지므로 다시 결제하지 않음
+     * - 잠금 조회로 같은 주문을 두 Consumer가 동시에 결제 시작하지 않음
+     *
+     * @return 이번에 결제를 시작한 주문 (이미 PAYING/SUCCESS/FAILED인 주문 제외)
+     */
+    @Transactional
+    public List<OrderEntity> startPayments(Collection<String> orderIds) {
+        List<OrderEntity> pending = orderRepository.findForUpdate(orderIds, OrderStatus.PENDING);
+        if (pending.isEmpty()) {
+            return pending;
+        }
+
+        int updated = orderJdbcRepository.updateStatus(
+                pending.stream().map(OrderEntity::getOrderId).toList(), OrderStatus.PAYING, null);
+        log.info("💾 [ASYNC TX-2 COMMIT] 결제 시작 - {}건, 상태: PAYING", updated);
+        return pending;
+    }
+
+    /**
+     * [비동기 트랜잭션 3] 결과가 반영되지 않은 결제 보정 (PAYING → SUCCESS/FAILED)
+     * - 잠금 조회로 아직 PAYING인 주문만 보정 (여러 인스턴스가 같은 주문을 두 번 보정하지 않음)
+     * - 승인된 주문은 성공 처리 + Outbox 저장, 나머지는 실패 처리 (같은 트랜잭션)
+     *
+     * @return 보정한 주문 (이미 다른 곳에서 처리된 주문 제외)
+     */
+    @Transactional
+    public List<Order> resolvePayments(List<Order> approved, List<Order> rejected, String reason) {
+        List<String> orderIds = Stream.concat(approved.stream(), rejected.stream()).map(Order::getOrderId).toList();
+        Set<String> paying = orderRepository.findForUpdate(orderIds, OrderStatus.PAYING).stream()
+                .map(OrderEntity::getOrderId)
+                .collect(Collectors.toSet());
+
+        List<Order> resolvedApproved = approved.stream().filter(order -> paying.contains(order.getOrderId())).toList();
+        List<Order> resolvedRejected = rejected.stream().filter(order -> paying.contains(order.getOrderId())).toList();
+        markOrdersAsSuccess(resolvedApproved);
+        markOrdersAsFailed(resolvedRejected, reason);
+
+        List<Order> resolved = new ArrayList<>(resolvedApproved);
+        resolved.addAll(resolvedRejected);
+        return resolved;
+    }
+
+    /**
+     * [대량 트랜잭션 1] PENDING 상태로 주문 일괄 생성
+     * - 배치 INSERT 1번 (주문마다 트랜잭션을 열지 않음)
+     */
+    @Transactional
+    public void createPendingOrders(List<Order> orders) {
+        orderJdbcRepository.insertPendingOrders(orders);
+        log.info("💾 [BULK TX-1 COMMIT] 주문 일괄 생성 완료 - {}건, 상태: PENDING", orders.size());
+    }
+
+    /**
+     * [대량 트랜잭션 2] 주문 일괄 성공 처리 + Outbox 일괄 저장
+     * - UPDATE 1번 + Outbox 배치 INSERT 1번 (같은 트랜잭션)
+     */
+    @Transactional
+    public void markOrdersAsSuccess(List<Order> orders) {
+        if (orders.isEmpty()) {
+            return;
+        }
+        List<String> orderIds = new ArrayList<>(orders.size());
+        List<OutboxEventEntity> events = new ArrayList<>(orders.size() * 2);
+        for (Order order : orders) {
+            order.setStatus(OrderStatus.SUCCESS.name());
+            orderIds.add(order.getOrderId());
+
+            String payload = toPayload(SalesOrderMessage.from(order));
+            events.add(OutboxEventEntity.toEntity(order.getOrderId(), ApplicationEventType.SALES_ORDER, payload));
+            events.add(OutboxEventEntity.toEntity(order.getOrderId(), ApplicationEventType.ORDER_SUCCESS, payload));
+        }
+
+        int updated = orderJdbcRepository.updateStatus(orderIds, OrderStatus.SUCCESS, null);
+        orderJdbcRepository.insertOutboxEvents(events);
+        log.info("💾 [BULK TX-2 COMMIT] 주문 일괄 성공 처리 완료 - {}건, Outbox: {}건", updated, events.size());
+    }
+
+    /**
+     * [대량 트랜잭션 3] 주문 일괄 실패 처리
+     * - UPDATE 1번
+     */
+    @Transactional
+    public void markOrdersAsFailed(List<Order> orders, String reason) {
+        if (orders.isEmpty()) {
+            return;
+        }
+        List<String> orderIds = new ArrayList<>(orders.size());
+        for (Order order : orders) {
+            order.setStatus(OrderStatus.FAILED.name());
+            orderIds.add(order.getOrderId());
+        }
+
+        int updated = orderJdbcRepository.updateStatus(orderIds, OrderStatus.FAILED, reason);
+        log.info("💾 [BULK TX-3 COMMIT] 주문 일괄 실패 처리 완료 - {}건, 사유: {}", updated, reason);
+    }
+
+    /**
+     * 주문 성공 메시지를 Outbox에 저장
+     */
+    private void appendOutbox(OrderEntity entity) {
+        String payload = toPayload(SalesOrderMessage.from(entity));
+
+        outboxEventRepository.saveAll(List.of(
+                OutboxEventEntity.toEntity(entity.getOrderId(), ApplicationEventType.SALES_ORDER, payload),
+                OutboxEventEntity.toEntity(entity.getOrderId(), ApplicationEventType.ORDER_SUCCESS, payload)
+        ));
+        log.info("💾 [TX-2] Outbox 저장 - ID: {}, 이벤트: SALES_ORDER, ORDER_SUCCESS", entity.getOrderId());
+    }
+
+    private OrderEntity toPendingEntity(Order order) {
+        return OrderEntity.builder()
+                .orderId(order.getOrderId())
+                .customerId(order.getCustomerId())
+                .productId(order.getProductId())
+                .productName(order.getProductName())
+                .quantity(order.getQuantity())
+                .price(order.getPrice())
+                .totalAmount(order.getTotalAmount())
+                .orderStatus(OrderStatus.PENDING)
+                .orderSuccessYn(Boolean.FALSE)
+                .orderDatetime(order.getOrderDateTime())
+                .build();
+    }
+
+    private String toPayload(SalesOrderMessage message) {
+        try {
+            return objectMapper.writeValueAsString(message);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("주문 메시지 직렬화 실패: " + message.getOrderId(), e);
+        }
+    }
 }
@@ -0,0 +1,74 @@
+package com.example.kafka.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 결제 처리 시뮬레이션
+ * - 실제로는 PG사 API 호출 (응답 대기 500ms)
+ * - 학습용: 30% 확률로 실패
+ * - 단건 주문(OrderService)과 대량 주문(BulkOrderService)이 함께 사용
+ * - 결제 결과를 주문 ID로 다시 조회할 수 있음 (PG 승인 내역 조회 API 시뮬레이션)
+ *   실제 PG는 승인 내역을 보관하지만, 시뮬레이터는 메모리에 최근 MAX_RESULTS건만 보관하므로 재시작하면 사라짐
+ */
+@Slf4j
+@Component
+public class PaymentSimulator {
+
+    private static final long PAYMENT_LATENCY_MS = 500;
+    private static final double FAILURE_RATE = 0.3;
+    private static final int MAX_RESULTS = 100_000;
+
+    // 주문 ID → 승인 여부 (오래된 결과부터 버림)
+    private final Map<String, Boolean> results = Collections.synchronizedMap(new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+            return size() > MAX_RESULTS;
+        }
+    });
+
+    /**
+     * 결제 승인 요청 (호출 스레드를 PAYMENT_LATENCY_MS 동안 블로킹)
+     *
+     * @return 승인되면 true
+     */
+    public boolean pay(String orderId, BigDecimal totalAmount) {
+        log.info("💳 결제 처리 중... (주문 ID: {}, 금액: {}원)", orderId, totalAmount);
+
+        try {
+            // 결제 API 호출 시뮬레이션 (지연)
+            Thread.sleep(PAYMENT_LATENCY_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        boolean success = Math.random() > FAILURE_RATE;
+        results.put(orderId, success);
+
+        if (success) {
+            log.info("💳 ✅ 결제 성공: {} (승인번호: {})",
+                    orderId,
+                    UUID.randomUUID().toString().substring(0, 8).toUpperCase());
+        } else {
+            log.error("💳 ❌ 결제 실패: {} (사유: 카드 승인 거부)", orderId);
+        }
+
+        return success;
+    }
+
+    /**
+     * 결제 결과 조회 (PG 승인 내역 조회)
+     *
+     * @return 승인 여부 (결제 요청 내역이 없으면 empty)
+     */
+    public Optional<Boolean> findResult(String orderId) {
+        return Optional.ofNullable(results.get(orderId));
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.kafka.service;
+
+import com.example.kafka.domain.SalesWindowAggregate;
+import com.example.kafka.domain.SalesWindowStats;
+import com.example.kafka.streams.OrderSalesAggregationStream;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.streams.KafkaStreams;
+import org.apache.kafka.streams.KeyValue;
+import org.apache.kafka.streams.StoreQueryParameters;
+import org.apache.kafka.streams.errors.InvalidStateStoreException;
+import org.apache.kafka.streams.kstream.Windowed;
+import org.apache.kafka.streams.state.KeyValueIterator;
+import org.apache.kafka.streams.state.QueryableStoreTypes;
+import org.apache.kafka.streams.state.ReadOnlyWindowStore;
+import org.apache.kafka.streams.state.WindowStoreIterator;
+import org.springframework.kafka.config.StreamsBuilderFactoryBean;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 윈도우 집계 조회 (Kafka Streams Interactive Query)
+ * - OrderSalesAggregationStream의 RocksDB 상태 저장소를 직접 조회 (DB 조회 없음)
+ * - Key 조회는 해당 Key의 기간 내 윈도우만 읽음
+ *
+ * 상태 저장소는 이 인스턴스가 담당하는 파티션의 데이터만 가지고 있습니다.
+ * 애플리케이션을 여러 대로 늘리면 application.server 설정과 KafkaStreams.queryMetadataForKey로
+ * Key를 담당하는 인스턴스에 요청을 전달해야 합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class SalesAggregationQueryService {
+
+    public static final int MAX_MINUTES = 24 * 60;
+
+    private final StreamsBuilderFactoryBean streamsBuilderFactoryBean;
+
+    /**
+     * 상품 1개의 분당 매출 (최근 minutes분, 시간순)
+     */
+    public List<SalesWindowStats> getProductSales(String productId, int minutes) {
+        return fetch(OrderSalesAggregationStream.PRODUCT_SALES_STORE,
+                OrderSalesAggregationStream.PRODUCT_WINDOW_SIZE, productId, minutes);
+    }
+
+    /**
+     * 전체 상품의 분당 매출 (최근 minutes분, 시간순)
+     */
+    public List<SalesWindowStats> getAllProductSales(int minutes) {
+        return fetchAll(OrderSalesAggregationStream.PRODUCT_SALES_STORE, minutes);
+    }
+
+    /**
+     * 고객 1명의 5분 윈도우 주문 (최근 minutes분 안에 시작한 윈도우, 시간순)
+     */
+    public List<SalesWindowStats> getCustomerOrders(String customerId, int minutes) {
+        return fetch(OrderSalesAggregationStream.CUSTOMER_ORDERS_STORE,
+                OrderSalesAggregationStream.CUSTOMER_WINDOW_SIZE, customerId, minutes);
+    }
+
+    /**
+     * WindowStoreIterator는 윈도우 시작 시각만 주므로 종료 시각은 윈도우 크기로 계산
+     */
+    private List<SalesWindowStats> fetch(String storeName, Duration windowSize, String key, int minutes) {
+        Instant to = Instant.now();
+        Instant from = from(to, minutes);
+
+        List<SalesWindowStats> result = new ArrayList<>();
+        try (WindowStoreIterator<SalesWindowAggregate> iterator = store(storeName).fetch(key, from, to)) {
+            iterator.forEachRemaining(entry -> result.add(
+                    toStats(key, entry.key, entry.key + windowSize.toMillis(), entry.value)));
+        }
+        return result;
+    }
+
+    private List<SalesWindowStats> fetchAll(String storeName, int minutes) {
+        Instant to = Instant.now();
+        Instant from = from(to, minutes);
+
+        List<SalesWindowStats> result = new ArrayList<>();
+        try (KeyValueIterator<Windowed<String>, SalesWindowAggregate> iterator = store(storeName).fetchAll(from, to)) {
+            while (iterator.hasNext()) {
+                KeyValue<Windowed<String>, SalesWindowAggregate> entry = iterator.next();
+                result.add(toStats(entry.key.key(), entry.key.window().start(), entry.key.window().end(), entry.value));
+            }
+        }
+        result.sort(Comparator.comparing(SalesWindowStats::getWindowStart).thenComparing(SalesWindowStats::getKey));
+        return result;
+    }
+
+    private Instant from(Instant to, int minutes) {
+        if (minutes < 1 || minutes > MAX_MINUTES) {
+            throw new IllegalArgumentException("조회 기간은 1~" + MAX_MINUTES + "분이어야 합니다: " + minutes);
+        }
+        return to.minusSeconds(minutes * 60L);
+    }
+
+    /**
+     * 조회 가능한 상태 저장소
+     *
+     * @throws InvalidStateStoreException Kafka Streams가 시작 전이거나 리밸런싱/복원 중인 경우
+     */
+    private ReadOnlyWindowStore<String, SalesWindowAggregate> store(String storeName) {
+        KafkaStreams kafkaStreams = streamsBuilderFactoryBean.getKafkaStreams();
+        if (kafkaStreams == null || kafkaStreams.state() != KafkaStreams.State.RUNNING) {
+            throw new InvalidStateStoreException("Kafka Streams가 실행 중이 아닙니다: "
+                    + (kafkaStreams == null ? "NOT_STARTED" : kafkaStreams.state()));
+        }
+        return kafkaStreams.store(StoreQueryParameters.fromNameAndType(storeName, QueryableStoreTypes.windowStore()));
+    }
+
+    private SalesWindowStats toStats(String key, long windowStart, long windowEnd, SalesWindowAggregate aggregate) {
+        return SalesWindowStats.builder()
+                .key(key)
+                .windowStart(toLocalDateTime(windowStart))
+                .windowEnd(toLocalDateTime(windowEnd))
+                .orderCount(aggregate.getOrderCount())
+                .quantity(aggregate.getQuantity())
+                .totalAmount(aggregate.getTotalAmount())
+                .build();
+    }
+
+    private LocalDateTime toLocalDateTime(long epochMilli) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMilli), ZoneId.systemDefault());
+    }
+}
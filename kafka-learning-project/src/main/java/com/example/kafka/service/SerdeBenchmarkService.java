@@ -0,0 +1,139 @@
+package com.example.kafka.service;
+
+import com.example.kafka.domain.SerdeBenchmarkResult;
+import com.example.kafka.message.SalesOrderMessage;
+import com.example.kafka.message.serde.SalesOrderMessageCodec;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * SalesOrderMessage 직렬화 형식 비교 (JSON vs Avro)
+ * - 같은 메시지 count건을 형식별로 직렬화/역직렬화하여 평균 크기와 1건당 시간 측정
+ * - 측정 전에 같은 작업을 1번 실행하여 JIT 워밍업
+ * - 단일 스레드, 단일 실행 측정이므로 절대값보다 형식 간 비율을 참고
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SerdeBenchmarkService {
+
+    public static final int MAX_COUNT = 100_000;
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 형식별 측정
+     *
+     * @param count 측정할 메시지 수 (1~MAX_COUNT)
+     */
+    public List<SerdeBenchmarkResult> run(int count) {
+        if (count < 1 || count > MAX_COUNT) {
+            throw new IllegalArgumentException("메시지 수는 1~" + MAX_COUNT + "건이어야 합니다: " + count);
+        }
+        List<SalesOrderMessage> messages = sampleMessages(count);
+
+        SalesOrderMessageCodec codec = SalesOrderMessageCodec.INSTANCE;
+        List<SerdeBenchmarkResult> results = List.of(
+                measure("json", messages, this::toJson, this::fromJson),
+                measure("avro", messages, codec::encode, codec::decode)
+        );
+
+        results.forEach(result -> log.info("📏 직렬화 비교 - {}: {}건, {}bytes/건, 직렬화 {}ns/건, 역직렬화 {}ns/건",
+                result.getFormat(), result.getCount(), Math.round(result.getBytesPerMessage()),
+                Math.round(result.getEncodeNanos()), Math.round(result.getDecodeNanos())));
+        return results;
+    }
+
+    private SerdeBenchmarkResult measure(String format, List<SalesOrderMessage> messages,
+                                         Function<SalesOrderMessage, byte[]> encoder,
+                                         Function<byte[], SalesOrderMessage> decoder) {
+        // 워밍업
+        for (SalesOrderMessage message : messages) {
+            decoder.apply(encoder.apply(message));
+        }
+
+        List<byte[]> encoded = new ArrayList<>(messages.size());
+        long start = System.nanoTime();
+        for (SalesOrderMessage message : messages) {
+            encoded.add(encoder.apply(message));
+        }
+        long encodeNanos = System.nanoTime() - start;
+
+        int mismatched = 0;
+        start = System.nanoTime();
+        for (int i = 0; i < encoded.size(); i++) {
+            if (!messages.get(i).equals(decoder.apply(encoded.get(i)))) {
+                mismatched++;
+            }
+        }
+        long decodeNanos = System.nanoTime() - start;
+
+        if (mismatched > 0) {
+            log.warn("⚠️ 직렬화 비교 - {}: 역직렬화 결과가 원본과 다른 메시지 {}건", format, mismatched);
+        }
+
+        long totalBytes = encoded.stream().mapToLong(bytes -> bytes.length).sum();
+        return SerdeBenchmarkResult.builder()
+                .format(format)
+                .count(messages.size())
+                .bytesPerMessage((double) totalBytes / messages.size())
+                .encodeNanos((double) encodeNanos / messages.size())
+                .decodeNanos((double) decodeNanos / messages.size())
+                .build();
+    }
+
+    /**
+     * 대량 주문(POST /api/orders/bulk)과 같은 형태의 메시지
+     * - Avro local-timestamp-millis에 맞춰 시간은 밀리초 단위로 절삭
+     */
+    private List<SalesOrderMessage> sampleMessages(int count) {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        List<SalesOrderMessage> messages = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int productIndex = i % 5 + 1;
+            int quantity = i % 10 + 1;
+            BigDecimal price = BigDecimal.valueOf(productIndex * 10000L, 0).setScale(2);
+            messages.add(SalesOrderMessage.builder()
+                    .orderId(String.format("ORD-%08d", i))
+                    .customerId("CUST-" + (1000 + i))
+                    .productId("PROD-00" + productIndex)
+                    .productName("Product " + productIndex)
+                    .quantity(quantity)
+                    .price(price)
+                    .totalAmount(price.multiply(BigDecimal.valueOf(quantity)))
+                    .status("SUCCESS")
+                    .orderDateTime(now.minusSeconds(i))
+                    .publishedAt(now)
+                    .build());
+        }
+        return messages;
+    }
+
+    private byte[] toJson(SalesOrderMessage message) {
+        try {
+            return objectMapper.writeValueAsBytes(message);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("주문 메시지 JSON 직렬화 실패: " + message.getOrderId(), e);
+        }
+    }
+
+    private SalesOrderMessage fromJson(byte[] bytes) {
+        try {
+            return objectMapper.readValue(bytes, SalesOrderMessage.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException("주문 메시지 JSON 역직렬화 실패", e);
+        }
+    }
+}
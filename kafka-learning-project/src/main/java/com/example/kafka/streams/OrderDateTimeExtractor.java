@@ -0,0 +1,24 @@
+package com.example.kafka.streams;
+
+import com.example.kafka.message.SalesOrderMessage;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.streams.processor.TimestampExtractor;
+
+import java.time.ZoneId;
+
+/**
+ * 주문 시각(orderDateTime) 기준 이벤트 시간 추출
+ * - 윈도우 집계가 Kafka 발행 시각이 아닌 주문 시각 기준으로 묶이도록 함
+ *   (Outbox Relay 지연, 재발행이 있어도 주문은 원래 시각의 윈도우에 집계)
+ * - orderDateTime이 없으면 레코드 timestamp, 그것도 없으면 파티션의 현재 스트림 시간 사용
+ */
+public class OrderDateTimeExtractor implements TimestampExtractor {
+
+    @Override
+    public long extract(ConsumerRecord<Object, Object> record, long partitionTime) {
+        if (record.value() instanceof SalesOrderMessage order && order.getOrderDateTime() != null) {
+            return order.getOrderDateTime().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        }
+        return record.timestamp() >= 0 ? record.timestamp() : partitionTime;
+    }
+}
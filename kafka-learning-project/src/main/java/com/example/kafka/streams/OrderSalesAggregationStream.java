@@ -0,0 +1,93 @@
+package com.example.kafka.streams;
+
+import com.example.kafka.domain.SalesWindowAggregate;
+import com.example.kafka.message.SalesOrderMessage;
+import com.example.kafka.message.serde.SalesOrderMessageSerde;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.serialization.Serde;
+import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.common.utils.Bytes;
+import org.apache.kafka.streams.kstream.Grouped;
+import org.apache.kafka.streams.kstream.KStream;
+import org.apache.kafka.streams.kstream.Materialized;
+import org.apache.kafka.streams.kstream.TimeWindows;
+import org.apache.kafka.streams.state.WindowStore;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.kafka.support.serializer.JsonSerde;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 예제 2: 윈도우 집계 (Stateful)
+ *
+ * 기능:
+ * - 상품별 1분 매출 (Tumbling Window: 겹치지 않는 1분 구간)
+ * - 고객별 최근 5분 주문 (Hopping Window: 5분 구간을 1분마다 시작, 주문 1건이 5개 윈도우에 집계)
+ *
+ * Stateful: 윈도우별 집계 값을 RocksDB 상태 저장소에 유지
+ * - 저장소 변경 내역은 changelog 토픽에 기록되므로 재시작 시 복원됨
+ * - Interactive Query(SalesAggregationQueryService)로 저장소를 직접 조회 → orders 테이블 GROUP BY 불필요
+ *
+ * 시간 기준: 주문 시각 (OrderDateTimeExtractor)
+ * - GRACE_PERIOD 안에 늦게 도착한 주문은 해당 윈도우에 반영, 그 이후는 버림
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderSalesAggregationStream {
+
+    public static final String PRODUCT_SALES_STORE = "product-sales-per-minute";
+    public static final String CUSTOMER_ORDERS_STORE = "customer-orders-5m";
+
+    public static final Duration PRODUCT_WINDOW_SIZE = Duration.ofMinutes(1);
+    public static final Duration CUSTOMER_WINDOW_SIZE = Duration.ofMinutes(5);
+    private static final Duration CUSTOMER_WINDOW_ADVANCE = Duration.ofMinutes(1);
+    private static final Duration GRACE_PERIOD = Duration.ofSeconds(30);
+
+    /**
+     * 윈도우 보관 기간 (지정하지 않으면 윈도우 크기 + grace만 보관되어 지난 윈도우를 조회할 수 없음)
+     */
+    private static final Duration STORE_RETENTION = Duration.ofHours(24);
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Kafka Streams Topology 구성
+     * - sales-orders 소스 스트림(KafkaStreamsConfig.salesOrderStream)을 HighValueOrderStream과 공유
+     */
+    @Autowired
+    public void buildPipeline(KStream<String, SalesOrderMessage> salesOrderStream) {
+        Serde<SalesOrderMessage> orderSerde = SalesOrderMessageSerde.serde();
+        Serde<SalesWindowAggregate> aggregateSerde =
+                new JsonSerde<>(SalesWindowAggregate.class, objectMapper).noTypeInfo();
+
+        // 1. 상품별 1분 매출 (productId로 Key 변경 → repartition 토픽을 거쳐 같은 상품이 같은 파티션으로)
+        salesOrderStream
+                .filter((key, order) -> order != null && order.getProductId() != null)
+                .groupBy((key, order) -> order.getProductId(), Grouped.with("by-product", Serdes.String(), orderSerde))
+                .windowedBy(TimeWindows.ofSizeAndGrace(PRODUCT_WINDOW_SIZE, GRACE_PERIOD))
+                .aggregate(SalesWindowAggregate::new,
+                        (productId, order, aggregate) -> aggregate.add(order),
+                        Materialized.<String, SalesWindowAggregate, WindowStore<Bytes, byte[]>>as(PRODUCT_SALES_STORE)
+                                .withKeySerde(Serdes.String())
+                                .withValueSerde(aggregateSerde)
+                                .withRetention(STORE_RETENTION));
+
+        // 2. 고객별 최근 5분 주문 (1분마다 시작하는 5분 윈도우)
+        salesOrderStream
+                .filter((key, order) -> order != null && order.getCustomerId() != null)
+                .groupBy((key, order) -> order.getCustomerId(), Grouped.with("by-customer", Serdes.String(), orderSerde))
+                .windowedBy(TimeWindows.ofSizeAndGrace(CUSTOMER_WINDOW_SIZE, GRACE_PERIOD).advanceBy(CUSTOMER_WINDOW_ADVANCE))
+                .aggregate(SalesWindowAggregate::new,
+                        (customerId, order, aggregate) -> aggregate.add(order),
+                        Materialized.<String, SalesWindowAggregate, WindowStore<Bytes, byte[]>>as(CUSTOMER_ORDERS_STORE)
+                                .withKeySerde(Serdes.String())
+                                .withValueSerde(aggregateSerde)
+                                .withRetention(STORE_RETENTION));
+
+        log.info("✅ Order Sales Aggregation Stream 초기화 완료 - 저장소: {}, {}", PRODUCT_SALES_STORE, CUSTOMER_ORDERS_STORE);
+    }
+}
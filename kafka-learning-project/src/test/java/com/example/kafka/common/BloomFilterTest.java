@@ -0,0 +1,107 @@
+package com.example.kafka.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Bloom Filter 테스트
+ * - 넣은 값은 항상 있음(거짓 음성 없음), 넣지 않은 값의 오탐률은 목표 근처
+ * - 메모리 상한을 넘으면 상한 크기로 만들고 그만큼 예상 오탐률이 올라감
+ */
+class BloomFilterTest {
+
+    private static final int INSERTIONS = 100_000;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    private static final long UNLIMITED = Long.MAX_VALUE / 8;
+
+    @Test
+    @DisplayName("넣은 주문 ID는 모두 있음으로 답함 (거짓 음성 없음)")
+    void noFalseNegativeTest() {
+        // given
+        BloomFilter filter = BloomFilter.create(INSERTIONS, FALSE_POSITIVE_RATE, UNLIMITED);
+
+        // when
+        for (int i = 0; i < INSERTIONS; i++) {
+            filter.put("ORD-" + i);
+        }
+
+        // then
+        for (int i = 0; i < INSERTIONS; i++) {
+            assertThat(filter.mightContain("ORD-" + i)).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("expectedInsertions개를 넣었을 때 오탐률이 목표(1%) 근처")
+    void falsePositiveRateTest() {
+        // given
+        BloomFilter filter = BloomFilter.create(INSERTIONS, FALSE_POSITIVE_RATE, UNLIMITED);
+        for (int i = 0; i < INSERTIONS; i++) {
+            filter.put("ORD-" + i);
+        }
+
+        // when: 넣지 않은 주문 ID로 확인
+        int falsePositives = 0;
+        for (int i = 0; i < INSERTIONS; i++) {
+            if (filter.mightContain("OTHER-" + i)) {
+                falsePositives++;
+            }
+        }
+
+        // then
+        double rate = (double) falsePositives / INSERTIONS;
+        System.out.println("오탐률 - 목표: " + FALSE_POSITIVE_RATE + ", 예상: "
+                + String.format("%.4f", filter.expectedFalsePositiveRate()) + ", 실제: " + String.format("%.4f", rate));
+        assertThat(filter.expectedFalsePositiveRate()).isLessThanOrEqualTo(FALSE_POSITIVE_RATE * 1.1);
+        assertThat(rate).isLessThan(FALSE_POSITIVE_RATE * 1.5);
+    }
+
+    @Test
+    @DisplayName("expectedInsertions개를 넣으면 가득 참 (호출하는 쪽에서 세대 교체)")
+    void isFullTest() {
+        // given
+        BloomFilter filter = BloomFilter.create(100, FALSE_POSITIVE_RATE, UNLIMITED);
+
+        // when
+        for (int i = 0; i < 99; i++) {
+            filter.put("ORD-" + i);
+        }
+        boolean fullBefore = filter.isFull();
+        filter.put("ORD-99");
+
+        // then
+        assertThat(fullBefore).isFalse();
+        assertThat(filter.isFull()).isTrue();
+    }
+
+    @Test
+    @DisplayName("메모리 상한(max-memory-kb)보다 크면 상한 크기로 만들고 예상 오탐률이 올라감")
+    void maxMemoryCapTest() {
+        // given: 100만 건, 1% → 약 958만 비트(≈ 1.2MB) 필요
+        long maxBytes = 64 * 1024;
+
+        // when
+        BloomFilter unlimited = BloomFilter.create(1_000_000, FALSE_POSITIVE_RATE, UNLIMITED);
+        BloomFilter capped = BloomFilter.create(1_000_000, FALSE_POSITIVE_RATE, maxBytes);
+
+        // then
+        assertThat(unlimited.getBitSize()).isGreaterThan(9_000_000);
+        assertThat(capped.getBitSize()).isEqualTo(maxBytes * 8);
+        assertThat(capped.getHashCount()).isGreaterThanOrEqualTo(1);
+        assertThat(capped.expectedFalsePositiveRate()).isGreaterThan(FALSE_POSITIVE_RATE * 10);
+    }
+
+    @Test
+    @DisplayName("잘못된 크기/오탐률은 생성 거부")
+    void invalidArgumentsTest() {
+        assertThatThrownBy(() -> BloomFilter.create(0, FALSE_POSITIVE_RATE, UNLIMITED))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> BloomFilter.create(INSERTIONS, 0, UNLIMITED))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> BloomFilter.create(INSERTIONS, 1, UNLIMITED))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,179 @@
+package com.example.kafka.config;
+
+import com.example.kafka.domain.Order;
+import com.example.kafka.properties.KafkaConsumerProperties;
+import com.example.kafka.properties.KafkaSSLProperties;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.listener.BatchAcknowledgingMessageListener;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.ConsumerAwareRebalanceListener;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.listener.MessageListener;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 배치 리스너 vs 단건 리스너 처리량 테스트 (max-poll-records 500)
+ * - 내장 브로커(@EmbeddedKafka)에 같은 주문 메시지를 넣고 두 Container Factory로 각각 소비
+ *   - 단건: kafkaListenerContainerFactory (레코드마다 리스너 호출)
+ *   - 배치: batchListenerContainerFactory (poll마다 리스너 호출 + 수동 커밋)
+ * - 리스너 호출마다 DB 왕복 1번(ROUND_TRIP_MS)을 가정 (OrderConsumer의 중복 확인/기록은 배치당 1번)
+ * - Spring Context(MySQL 등) 없이 KafkaConsumerConfig를 직접 생성
+ */
+@EmbeddedKafka(partitions = 1, topics = {BatchListenerThroughputTest.SINGLE_TOPIC, BatchListenerThroughputTest.BATCH_TOPIC})
+class BatchListenerThroughputTest {
+
+    static final String SINGLE_TOPIC = "throughput-single";
+    static final String BATCH_TOPIC = "throughput-batch";
+
+    private static final int RECORD_COUNT = 5_000;
+    private static final int MAX_POLL_RECORDS = 500;
+    private static final long ROUND_TRIP_MS = 1;
+
+    @Test
+    @DisplayName("max-poll-records 500 - 배치 리스너가 단건 리스너보다 처리량이 높음")
+    void batchVsSingleThroughputTest(EmbeddedKafkaBroker broker) throws InterruptedException {
+        // given
+        produce(broker, SINGLE_TOPIC);
+        produce(broker, BATCH_TOPIC);
+
+        // when
+        Meter single = consumeSingle(broker);
+        Meter batch = consumeBatch(broker);
+
+        // then
+        System.out.println("단건 리스너 - " + single);
+        System.out.println("배치 리스너 - " + batch);
+        assertThat(single.records.get()).isEqualTo(RECORD_COUNT);
+        assertThat(batch.records.get()).isEqualTo(RECORD_COUNT);
+        assertThat(single.maxBatchSize.get()).isEqualTo(1);
+        assertThat(batch.maxBatchSize.get()).isGreaterThan(1).isLessThanOrEqualTo(MAX_POLL_RECORDS);
+        assertThat(batch.calls.get()).isLessThan(single.calls.get());
+        assertThat(batch.recordsPerSecond()).isGreaterThan(single.recordsPerSecond());
+    }
+
+    private Meter consumeSingle(EmbeddedKafkaBroker broker) throws InterruptedException {
+        ConcurrentMessageListenerContainer<String, Order> container =
+                consumerConfig(broker, "throughput-single-group").kafkaListenerContainerFactory()
+                        .createContainer(SINGLE_TOPIC);
+        Meter meter = new Meter();
+        container.setupMessageListener((MessageListener<String, Order>) record -> meter.onCall(1));
+        return run(container, meter);
+    }
+
+    private Meter consumeBatch(EmbeddedKafkaBroker broker) throws InterruptedException {
+        ConcurrentMessageListenerContainer<String, byte[]> container =
+                consumerConfig(broker, "throughput-batch-group")
+                        .batchListenerContainerFactory(new DefaultErrorHandler(), new ConsumerAwareRebalanceListener() { })
+                        .createContainer(BATCH_TOPIC);
+        Meter meter = new Meter();
+        container.setupMessageListener((BatchAcknowledgingMessageListener<String, byte[]>) (records, ack) -> {
+            meter.onCall(records.size());
+            ack.acknowledge();
+        });
+        return run(container, meter);
+    }
+
+    private Meter run(ConcurrentMessageListenerContainer<?, ?> container, Meter meter) throws InterruptedException {
+        container.start();
+        try {
+            assertThat(meter.done.await(60, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            container.stop();
+        }
+        return meter;
+    }
+
+    /**
+     * application.yml과 같은 Consumer 설정 (Consumer 스레드 1개, 자동 커밋 끔)
+     */
+    private KafkaConsumerConfig consumerConfig(EmbeddedKafkaBroker broker, String groupId) {
+        KafkaConsumerProperties properties = new KafkaConsumerProperties();
+        properties.setBootstrapServers(broker.getBrokersAsString());
+        properties.setGroupId(groupId);
+        properties.setAutoOffsetReset("earliest");
+        properties.setEnableAutoCommit(false);
+        properties.setMaxPollRecords(MAX_POLL_RECORDS);
+        properties.setConcurrency(1);
+        return new KafkaConsumerConfig(properties, new KafkaSSLProperties());
+    }
+
+    private void produce(EmbeddedKafkaBroker broker, String topic) {
+        try (Producer<String, byte[]> producer = new KafkaProducer<>(
+                KafkaTestUtils.producerProps(broker), new StringSerializer(), new ByteArraySerializer())) {
+            for (int i = 0; i < RECORD_COUNT; i++) {
+                String orderId = "ORD-" + i;
+                producer.send(new ProducerRecord<>(topic, orderId, orderJson(orderId, i)));
+            }
+            producer.flush();
+        }
+    }
+
+    private byte[] orderJson(String orderId, int i) {
+        int productIndex = i % 5 + 1;
+        return ("{\"orderId\":\"" + orderId + "\",\"customerId\":\"CUST-" + (1000 + i) + "\","
+                + "\"productId\":\"PROD-00" + productIndex + "\",\"productName\":\"Product " + productIndex + "\","
+                + "\"quantity\":1,\"price\":" + productIndex * 10000 + ",\"totalAmount\":" + productIndex * 10000 + ","
+                + "\"status\":\"SUCCESS\"}").getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 리스너 호출 집계 (첫 호출부터 마지막 레코드까지의 시간으로 처리량 계산)
+     */
+    private static final class Meter {
+
+        private final AtomicInteger records = new AtomicInteger();
+        private final AtomicInteger calls = new AtomicInteger();
+        private final AtomicInteger maxBatchSize = new AtomicInteger();
+        private final CountDownLatch done = new CountDownLatch(RECORD_COUNT);
+        private volatile long firstCallAt;
+        private volatile long lastRecordAt;
+
+        void onCall(int size) {
+            if (firstCallAt == 0) {
+                firstCallAt = System.nanoTime();
+            }
+            try {
+                Thread.sleep(ROUND_TRIP_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            calls.incrementAndGet();
+            maxBatchSize.accumulateAndGet(size, Math::max);
+            if (records.addAndGet(size) >= RECORD_COUNT) {
+                lastRecordAt = System.nanoTime();
+            }
+            for (int i = 0; i < size; i++) {
+                done.countDown();
+            }
+        }
+
+        long elapsedMs() {
+            return Math.max(TimeUnit.NANOSECONDS.toMillis(lastRecordAt - firstCallAt), 1);
+        }
+
+        long recordsPerSecond() {
+            return records.get() * 1000L / elapsedMs();
+        }
+
+        @Override
+        public String toString() {
+            return records.get() + "건, 리스너 호출: " + calls.get() + "번, 최대 배치: " + maxBatchSize.get()
+                    + "건, " + elapsedMs() + "ms (" + recordsPerSecond() + "건/초)";
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.kafka.consumer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 키 순서 보장 워커 풀 테스트
+ * - 같은 키는 배치 순서대로, 다른 키는 동시에 처리되는지 확인
+ * - 실패 시 배치 전체에서 가장 앞선 실패 위치를 반환하고, 그 이전 레코드는 모두 처리되었는지 확인
+ */
+class KeyOrderedWorkerPoolTest {
+
+    private static final int WORKER_COUNT = 4;
+
+    private final KeyOrderedWorkerPool pool = new KeyOrderedWorkerPool("test-worker-", WORKER_COUNT);
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        pool.close();
+    }
+
+    @Test
+    @DisplayName("같은 키의 레코드는 배치 순서대로 처리")
+    void sameKeyOrderTest() {
+        // given: 고객 10명의 주문 1,000건이 섞여 있는 배치
+        List<Item> items = IntStream.range(0, 1_000)
+                .mapToObj(i -> new Item("CUST-" + (i % 10), i))
+                .toList();
+        Map<String, List<Integer>> processed = new ConcurrentHashMap<>();
+
+        // when
+        KeyOrderedWorkerPool.Failure failure = pool.process(items, Item::key,
+                item -> processed.computeIfAbsent(item.key(), key -> Collections.synchronizedList(new ArrayList<>()))
+                        .add(item.index()));
+
+        // then
+        assertThat(failure).isNull();
+        assertThat(processed).hasSize(10);
+        processed.values().forEach(indexes -> assertThat(indexes).hasSize(100).isSorted());
+    }
+
+    @Test
+    @DisplayName("다른 워커에 배정된 키는 동시에 처리")
+    void differentKeysRunConcurrentlyTest() {
+        // given: 서로 다른 워커에 배정되는 두 키가 서로를 기다림 (순차 처리면 시간 초과)
+        List<String> keys = keysOnDistinctWorkers(2);
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        List<Item> items = List.of(new Item(keys.get(0), 0), new Item(keys.get(1), 1));
+
+        // when
+        KeyOrderedWorkerPool.Failure failure = pool.process(items, Item::key, item -> {
+            bothStarted.countDown();
+            try {
+                if (!bothStarted.await(5, TimeUnit.SECONDS)) {
+                    throw new IllegalStateException("다른 키가 동시에 처리되지 않음");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        // then
+        assertThat(failure).isNull();
+    }
+
+    @Test
+    @DisplayName("여러 워커가 실패하면 배치 전체에서 가장 앞선 실패 위치를 반환")
+    void earliestFailureIndexTest() {
+        // given: 워커 A는 5번째, 워커 B는 2번째 레코드에서 실패
+        List<String> keys = keysOnDistinctWorkers(2);
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            items.add(new Item(keys.get(i % 2), i));
+        }
+        RuntimeException earliest = new RuntimeException("2번째 실패");
+
+        // when
+        KeyOrderedWorkerPool.Failure failure = pool.process(items, Item::key, item -> {
+            if (item.index() == 2) {
+                throw earliest;
+            }
+            if (item.index() == 5) {
+                throw new RuntimeException("5번째 실패");
+            }
+        });
+
+        // then
+        assertThat(failure).isNotNull();
+        assertThat(failure.index()).isEqualTo(2);
+        assertThat(failure.cause()).isSameAs(earliest);
+    }
+
+    @Test
+    @DisplayName("실패 위치 이전 레코드는 모두 처리되고, 실패한 키의 이후 레코드는 처리하지 않음")
+    void stopAfterFailureTest() {
+        // given: 고객 4명, CUST-0의 세 번째 주문(index 8)에서 실패
+        List<Item> items = IntStream.range(0, 40)
+                .mapToObj(i -> new Item("CUST-" + (i % 4), i))
+                .toList();
+        List<Integer> processed = Collections.synchronizedList(new ArrayList<>());
+
+        // when
+        KeyOrderedWorkerPool.Failure failure = pool.process(items, Item::key, item -> {
+            if (item.index() == 8) {
+                throw new IllegalStateException("처리 실패");
+            }
+            processed.add(item.index());
+        });
+
+        // then: 커밋 대상(0~7)은 모두 처리, CUST-0의 이후 주문(12, 16, ...)은 처리하지 않음
+        assertThat(failure.index()).isEqualTo(8);
+        assertThat(processed).containsAll(IntStream.range(0, 8).boxed().toList());
+        assertThat(processed).doesNotContain(8, 12, 16, 20, 24, 28, 32, 36);
+    }
+
+    @Test
+    @DisplayName("워커 수는 1 이상")
+    void invalidWorkerCountTest() {
+        assertThatThrownBy(() -> new KeyOrderedWorkerPool("test-worker-", 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * 서로 다른 워커(hash % 워커 수)에 배정되는 키 count개
+     */
+    private List<String> keysOnDistinctWorkers(int count) {
+        Map<Integer, String> keyByWorker = new ConcurrentHashMap<>();
+        for (int i = 0; keyByWorker.size() < count; i++) {
+            String key = "CUST-" + i;
+            keyByWorker.putIfAbsent(Math.floorMod(key.hashCode(), WORKER_COUNT), key);
+        }
+        return new ArrayList<>(keyByWorker.values());
+    }
+
+    private record Item(String key, int index) {
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.kafka.consumer;
+
+import com.example.kafka.properties.KafkaDedupeProperties;
+import com.example.kafka.repository.ProcessedOrderJdbcRepository;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerGroupMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 주문 중복 처리 방지 테스트
+ * - processed_order(DB)는 mock (MySQL 없이 실행 가능)
+ * - Bloom Filter 세대 교체, 파티션을 넘겨받을 때 다시 채우기, 채우기 실패 시 DB 확인을 검증
+ */
+class ProcessedOrderDeduplicatorTest {
+
+    private static final String GROUP = "kafka-learning-group";
+
+    private ProcessedOrderJdbcRepository repository;
+    private KafkaDedupeProperties properties;
+    private ProcessedOrderDeduplicator deduplicator;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(ProcessedOrderJdbcRepository.class);
+        properties = new KafkaDedupeProperties();
+        properties.setExpectedInsertions(100);
+        properties.setFalsePositiveRate(0.001);
+        deduplicator = new ProcessedOrderDeduplicator(repository, properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        deduplicator.destroy();
+    }
+
+    @Test
+    @DisplayName("세대 교체 - 현재 세대가 가득 차면 직전 세대까지만 확인하고 그 이전 세대는 버림")
+    void rotationTest() {
+        // given: 세대당 100건 → ORD-0~99(1세대), ORD-100~199(2세대), ORD-200~249(3세대)
+        List<String> orderIds = orderIds(0, 250);
+        for (int from = 0; from < orderIds.size(); from += 50) {
+            deduplicator.markProcessed(GROUP, orderIds.subList(from, from + 50));
+        }
+
+        // when
+        deduplicator.findProcessed(GROUP, orderIds);
+
+        // then: 2, 3세대는 모두 DB 확인 대상, 버려진 1세대는 오탐만 남음
+        List<String> candidates = capturedCandidates();
+        assertThat(candidates).containsAll(orderIds(100, 250));
+        assertThat(candidates.stream().filter(orderIds(0, 100)::contains).count()).isLessThanOrEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("파티션 할당 - 다른 인스턴스가 처리한 주문을 다시 채워 Bloom Filter 미스로 재처리하지 않음")
+    void refillOnPartitionsAssignedTest() {
+        // given: 이 인스턴스가 Bloom Filter를 만든 뒤 다른 인스턴스가 ORD-MOVED를 처리
+        when(repository.findRecentOrderIds(eq(GROUP), any(), anyInt()))
+                .thenReturn(List.of())
+                .thenReturn(List.of("ORD-MOVED"));
+        when(repository.findProcessedOrderIds(eq(GROUP), anyCollection())).thenReturn(Set.of("ORD-MOVED"));
+        deduplicator.findProcessed(GROUP, List.of("ORD-1"));
+
+        // when: 리밸런싱으로 그 파티션을 넘겨받음
+        deduplicator.onPartitionsAssigned(consumer(GROUP), List.of(new TopicPartition("sales-orders", 0)));
+        Set<String> processed = deduplicator.findProcessed(GROUP, List.of("ORD-MOVED"));
+
+        // then: 마지막으로 채운 이후 구간만 조회하고, ORD-MOVED는 DB 확인으로 처리 완료 판정
+        assertThat(processed).containsExactly("ORD-MOVED");
+        ArgumentCaptor<LocalDateTime> since = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(repository, times(2)).findRecentOrderIds(eq(GROUP), since.capture(), anyInt());
+        assertThat(since.getAllValues().get(1)).isAfter(since.getAllValues().get(0));
+    }
+
+    @Test
+    @DisplayName("파티션 할당 - 아직 사용하지 않은 Consumer Group은 처음 사용할 때 채우므로 조회하지 않음")
+    void skipUnusedGroupOnPartitionsAssignedTest() {
+        // when
+        deduplicator.onPartitionsAssigned(consumer(GROUP), List.of(new TopicPartition("sales-orders", 0)));
+
+        // then
+        verify(repository, never()).findRecentOrderIds(anyString(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("채우기 실패 - Bloom Filter를 믿지 않고 모든 주문을 DB로 확인")
+    void staleFilterChecksDatabaseTest() {
+        // given
+        when(repository.findRecentOrderIds(eq(GROUP), any(), anyInt()))
+                .thenThrow(new DataAccessResourceFailureException("connection refused"));
+
+        // when
+        deduplicator.findProcessed(GROUP, List.of("ORD-1", "ORD-2"));
+
+        // then
+        assertThat(capturedCandidates()).containsExactlyInAnyOrder("ORD-1", "ORD-2");
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> capturedCandidates() {
+        ArgumentCaptor<Collection<String>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(repository).findProcessedOrderIds(eq(GROUP), captor.capture());
+        return new ArrayList<>(captor.getValue());
+    }
+
+    @SuppressWarnings("unchecked")
+    private Consumer<String, byte[]> consumer(String groupId) {
+        Consumer<String, byte[]> consumer = mock(Consumer.class);
+        when(consumer.groupMetadata()).thenReturn(new ConsumerGroupMetadata(groupId));
+        return consumer;
+    }
+
+    private List<String> orderIds(int from, int to) {
+        return IntStream.range(from, to).mapToObj(i -> "ORD-" + i).toList();
+    }
+}
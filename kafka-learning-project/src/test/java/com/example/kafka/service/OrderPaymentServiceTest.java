@@ -0,0 +1,127 @@
+package com.example.kafka.service;
+
+import com.example.kafka.domain.Order;
+import com.example.kafka.entity.OrderEntity;
+import com.example.kafka.enums.OrderStatus;
+import com.example.kafka.message.SalesOrderMessage;
+import com.example.kafka.properties.AsyncOrderProperties;
+import com.example.kafka.repository.OrderRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 주문 요청 결제 처리 테스트
+ * - DB(Repository, 트랜잭션 서비스)와 결제(PaymentSimulator)는 mock (MySQL 없이 실행 가능)
+ * - 성공/실패 반영이 서로 독립적인지, PAYING으로 남은 주문을 결제 결과 조회로 보정하는지 확인
+ */
+class OrderPaymentServiceTest {
+
+    private OrderRepository orderRepository;
+    private OrderService orderService;
+    private OrderTransactionService transactionService;
+    private PaymentSimulator paymentSimulator;
+    private OrderPaymentService paymentService;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository = mock(OrderRepository.class);
+        orderService = mock(OrderService.class);
+        transactionService = mock(OrderTransactionService.class);
+        paymentSimulator = mock(PaymentSimulator.class);
+        AsyncOrderProperties properties = new AsyncOrderProperties();
+        properties.setPaymentConcurrency(4);
+        properties.setPayingSweepIntervalMs(3_600_000L);
+        paymentService = new OrderPaymentService(orderRepository, orderService, transactionService,
+                paymentSimulator, mock(OrderStatusNotifier.class), properties);
+
+        when(orderService.convertToOrder(any(OrderEntity.class)))
+                .thenAnswer(invocation -> order(((OrderEntity) invocation.getArgument(0)).getOrderId()));
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        paymentService.destroy();
+    }
+
+    @Test
+    @DisplayName("성공 반영이 실패해도 실패 주문은 반영하고, 배치를 다시 처리하도록 예외를 던짐")
+    void independentStatusUpdatesTest() {
+        // given: ORD-1 승인, ORD-2 거절, 성공 UPDATE는 DB 오류
+        when(transactionService.startPayments(anyCollection())).thenReturn(List.of(entity("ORD-1"), entity("ORD-2")));
+        when(paymentSimulator.pay(eq("ORD-1"), any())).thenReturn(true);
+        when(paymentSimulator.pay(eq("ORD-2"), any())).thenReturn(false);
+        doThrow(new DataAccessResourceFailureException("connection refused"))
+                .when(transactionService).markOrdersAsSuccess(anyList());
+
+        // when / then
+        assertThatThrownBy(() -> paymentService.processPayments(List.of(request("ORD-1"), request("ORD-2"))))
+                .isInstanceOf(DataAccessResourceFailureException.class);
+        verify(transactionService).markOrdersAsFailed(eq(List.of(order("ORD-2"))), anyString());
+    }
+
+    @Test
+    @DisplayName("PAYING 보정 - 승인 내역이 있으면 성공, 거절/내역 없음이면 실패로 보정")
+    void resolveUnresolvedPaymentsTest() {
+        // given: 오래된 PAYING 주문 3건 (승인, 거절, 결제 요청 내역 없음)
+        when(orderRepository.findByOrderStatusAndModifiedDatetimeBeforeOrderByModifiedDatetime(
+                eq(OrderStatus.PAYING), any(), any()))
+                .thenReturn(List.of(entity("ORD-1"), entity("ORD-2"), entity("ORD-3")));
+        when(paymentSimulator.findResult("ORD-1")).thenReturn(Optional.of(true));
+        when(paymentSimulator.findResult("ORD-2")).thenReturn(Optional.of(false));
+        when(paymentSimulator.findResult("ORD-3")).thenReturn(Optional.empty());
+        when(transactionService.resolvePayments(anyList(), anyList(), anyString()))
+                .thenReturn(List.of(order("ORD-1", OrderStatus.SUCCESS), order("ORD-2", OrderStatus.FAILED),
+                        order("ORD-3", OrderStatus.FAILED)));
+
+        // when
+        int resolved = paymentService.resolveUnresolvedPayments();
+
+        // then
+        assertThat(resolved).isEqualTo(3);
+        verify(transactionService).resolvePayments(
+                eq(List.of(order("ORD-1"))), eq(List.of(order("ORD-2"), order("ORD-3"))), anyString());
+        assertThat(paymentService.payingStats().getResolvedSuccessTotal()).isEqualTo(1);
+        assertThat(paymentService.payingStats().getResolvedFailedTotal()).isEqualTo(2);
+    }
+
+    private OrderEntity entity(String orderId) {
+        return OrderEntity.builder()
+                .orderId(orderId)
+                .totalAmount(BigDecimal.valueOf(10000))
+                .orderStatus(OrderStatus.PAYING)
+                .build();
+    }
+
+    private Order order(String orderId) {
+        return Order.builder().orderId(orderId).totalAmount(BigDecimal.valueOf(10000)).build();
+    }
+
+    private Order order(String orderId, OrderStatus status) {
+        Order order = order(orderId);
+        order.setStatus(status.name());
+        return order;
+    }
+
+    private SalesOrderMessage request(String orderId) {
+        return SalesOrderMessage.builder().orderId(orderId).build();
+    }
+}
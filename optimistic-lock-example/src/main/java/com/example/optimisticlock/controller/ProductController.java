@@ -3,6 +3,7 @@ package com.example.optimisticlock.controller;
 import com.example.optimisticlock.dto.ProductRequest;
 import com.example.optimisticlock.dto.ProductResponse;
 import com.example.optimisticlock.dto.StockUpdateRequest;
+import com.example.optimisticlock.service.AdaptiveProductStockService;
 import com.example.optimisticlock.service.ProductRetryService;
 import com.example.optimisticlock.service.ProductService;
 import lombok.RequiredArgsConstructor;
@@ -21,6 +22,7 @@ public class ProductController {
 
     private final ProductService productService;
     private final ProductRetryService productRetryService;
+    private final AdaptiveProductStockService adaptiveProductStockService;
 
     /**
      * 상품 생성
@@ -92,6 +94,23 @@ public class ProductController {
         }
     }
 
+    /**
+     * 재고 감소 (조건부 UPDATE)
+     * POST /api/products/{id}/decrease-stock-atomic
+     *
+     * 엔티티를 읽지 않고 UPDATE ... WHERE stock >= quantity 한 문장으로 감소시킵니다.
+     * - 버전 충돌이 없으므로 재시도가 필요 없음
+     * - 재고 부족 시 400 응답
+     */
+    @PostMapping("/{id}/decrease-stock-atomic")
+    public ResponseEntity<ProductResponse> decreaseStockAtomically(
+            @PathVariable Long id,
+            @RequestBody StockUpdateRequest request) {
+        log.info("재고 감소 요청 (조건부 UPDATE) - 상품 ID: {}, 수량: {}", id, request.getQuantity());
+        ProductResponse response = productService.decreaseStockAtomically(id, request.getQuantity());
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 재고 증가
      * POST /api/products/{id}/increase-stock
@@ -127,6 +146,23 @@ public class ProductController {
         }
     }
 
+    /**
+     * 재고 감소 (경합 인지 적응형 재시도)
+     * POST /api/products/{id}/decrease-stock-adaptive
+     *
+     * - 낙관적 락 충돌 시 Decorrelated Jitter 백오프로 재시도
+     * - 충돌률이 높은 상품은 비관적 락으로 자동 전환
+     * - 재시도를 모두 소진해도 재고가 있으면 비관적 락으로 처리
+     */
+    @PostMapping("/{id}/decrease-stock-adaptive")
+    public ResponseEntity<ProductResponse> decreaseStockAdaptive(
+            @PathVariable Long id,
+            @RequestBody StockUpdateRequest request) {
+        log.info("재고 감소 요청 (적응형) - 상품 ID: {}, 수량: {}", id, request.getQuantity());
+        ProductResponse response = adaptiveProductStockService.decreaseStock(id, request.getQuantity());
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 재고 증가 (@Retryable 사용, 고정 간격)
      * POST /api/products/{id}/increase-stock-retryable
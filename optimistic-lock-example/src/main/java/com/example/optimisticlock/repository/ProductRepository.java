@@ -1,9 +1,43 @@
 package com.example.optimisticlock.repository;
 
 import com.example.optimisticlock.entity.Product;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Optional;
+
 @Repository
 public interface ProductRepository extends JpaRepository<Product, Long> {
+
+    /**
+     * 비관적 락(SELECT ... FOR UPDATE)으로 상품 조회
+     *
+     * - 트랜잭션이 끝날 때까지 다른 트랜잭션의 같은 행 수정을 막습니다
+     * - 충돌이 잦은 상품에서 재시도 대신 대기로 순서를 보장할 때 사용합니다
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Product p WHERE p.id = :id")
+    Optional<Product> findByIdForUpdate(@Param("id") Long id);
+
+    /**
+     * 조건부 UPDATE로 재고를 원자적으로 감소
+     *
+     * - 엔티티를 읽지 않고 DB가 재고 검사와 감소를 한 문장으로 처리합니다
+     * - 재고가 부족하면 0건이 갱신됩니다
+     * - version도 함께 증가시켜 같은 상품을 @Version으로 수정 중인 트랜잭션이 충돌을 감지하도록 합니다
+     *
+     * @return 갱신된 행 수 (1: 성공, 0: 재고 부족 또는 상품 없음)
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE Product p SET p.stock = p.stock - :quantity, p.version = p.version + 1, p.updatedAt = :now " +
+            "WHERE p.id = :id AND p.stock >= :quantity")
+    int decreaseStockIfAvailable(@Param("id") Long id,
+                                 @Param("quantity") int quantity,
+                                 @Param("now") LocalDateTime now);
 }
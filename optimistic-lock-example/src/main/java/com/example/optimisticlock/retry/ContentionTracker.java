@@ -0,0 +1,88 @@
+package com.example.optimisticlock.retry;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 상품별 낙관적 락 충돌률 추적기
+ *
+ * 시도마다 충돌 여부(1/0)를 지수 이동 평균(EWMA)으로 누적합니다.
+ * - 충돌률이 HOT_THRESHOLD 이상이 되면 "경합 상품"으로 전환
+ * - 충돌률이 COOL_THRESHOLD 미만으로 내려가면 다시 일반 상품으로 복귀
+ *
+ * 진입/복귀 기준을 다르게 두어(히스테리시스) 경계 근처에서 전략이 자주 바뀌지 않도록 합니다.
+ */
+@Component
+public class ContentionTracker {
+
+    private static final double SMOOTHING_FACTOR = 0.2;  // 최근 시도 반영 비율
+    private static final double HOT_THRESHOLD = 0.5;     // 경합 상품 진입 기준
+    private static final double COOL_THRESHOLD = 0.2;    // 경합 상품 해제 기준
+
+    private final Map<Long, ContentionStats> statsByProduct = new ConcurrentHashMap<>();
+
+    /**
+     * 충돌 없이 완료된 시도 기록
+     */
+    public void recordSuccess(Long productId) {
+        stats(productId).record(false);
+    }
+
+    /**
+     * 낙관적 락 충돌이 발생한 시도 기록
+     */
+    public void recordConflict(Long productId) {
+        stats(productId).record(true);
+    }
+
+    /**
+     * 경합 상품 여부 (비관적 락으로 처리해야 하는지)
+     */
+    public boolean isHot(Long productId) {
+        ContentionStats stats = statsByProduct.get(productId);
+        return stats != null && stats.isHot();
+    }
+
+    /**
+     * 현재 충돌률 (0.0 ~ 1.0)
+     */
+    public double conflictRate(Long productId) {
+        ContentionStats stats = statsByProduct.get(productId);
+        return stats == null ? 0.0 : stats.getRate();
+    }
+
+    /**
+     * 현재 경합 상품 수
+     */
+    public long hotProductCount() {
+        return statsByProduct.values().stream().filter(ContentionStats::isHot).count();
+    }
+
+    private ContentionStats stats(Long productId) {
+        return statsByProduct.computeIfAbsent(productId, id -> new ContentionStats());
+    }
+
+    private static class ContentionStats {
+        private double rate;
+        private boolean hot;
+
+        synchronized void record(boolean conflict) {
+            rate = rate * (1 - SMOOTHING_FACTOR) + (conflict ? SMOOTHING_FACTOR : 0.0);
+            if (!hot && rate >= HOT_THRESHOLD) {
+                hot = true;
+            } else if (hot && rate < COOL_THRESHOLD) {
+                hot = false;
+            }
+        }
+
+        synchronized double getRate() {
+            return rate;
+        }
+
+        synchronized boolean isHot() {
+            return hot;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.optimisticlock.retry;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Decorrelated Jitter 백오프 계산기
+ *
+ * 다음 대기 시간 = min(최대 대기, random(기본 대기, 직전 대기 × 3))
+ *
+ * 고정 간격(100ms × 재시도 횟수)은 동시에 충돌한 스레드들이 같은 시각에 다시 깨어나
+ * 또 충돌하게 만듭니다. 대기 시간을 직전 값 기준의 랜덤 범위에서 고르면
+ * 재시도 시점이 흩어져 같은 상품에 대한 재충돌이 줄어듭니다.
+ */
+public class DecorrelatedJitterBackoff {
+
+    private final long baseMillis;
+    private final long capMillis;
+
+    public DecorrelatedJitterBackoff(long baseMillis, long capMillis) {
+        if (baseMillis <= 0 || capMillis < baseMillis) {
+            throw new IllegalArgumentException("기본 대기 시간은 0보다 크고 최대 대기 시간 이하여야 합니다.");
+        }
+        this.baseMillis = baseMillis;
+        this.capMillis = capMillis;
+    }
+
+    /**
+     * 다음 대기 시간 계산
+     *
+     * @param previousMillis 직전 대기 시간 (첫 재시도이면 0)
+     * @return 다음 대기 시간 (ms)
+     */
+    public long next(long previousMillis) {
+        long upper = Math.max(baseMillis, previousMillis) * 3;
+        long sleep = ThreadLocalRandom.current().nextLong(baseMillis, upper + 1);
+        return Math.min(capMillis, sleep);
+    }
+}
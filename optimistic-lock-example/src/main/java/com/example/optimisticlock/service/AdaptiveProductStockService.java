@@ -0,0 +1,138 @@
+package com.example.optimisticlock.service;
+
+import com.example.optimisticlock.dto.ProductResponse;
+import com.example.optimisticlock.retry.ContentionTracker;
+import com.example.optimisticlock.retry.DecorrelatedJitterBackoff;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.OptimisticLockException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+
+/**
+ * 경합 인지(Contention-aware) 적응형 재고 감소 서비스
+ *
+ * [기존 재시도 방식의 문제]
+ * - ProductService: 100ms × 재시도 횟수 고정 대기 → 충돌한 스레드들이 같은 시각에 다시 충돌
+ * - ProductRetryService: @Retryable 결정적 백오프 → 동일한 문제
+ * - 최대 재시도 초과 시 재고가 남아 있어도 실패
+ *
+ * [이 서비스의 전략]
+ * 1. 일반 상품: 낙관적 락 + Decorrelated Jitter 백오프로 재시도 시점을 분산
+ * 2. 경합 상품 (충돌률 ≥ 50%): 처음부터 비관적 락으로 처리 → 충돌/재시도 없이 대기
+ * 3. 낙관적 재시도를 모두 소진하면 실패 대신 비관적 락으로 한 번 더 처리
+ *
+ * [메트릭]
+ * - product.stock.conflicts: 낙관적 락 충돌 횟수
+ * - product.stock.retries: 요청당 재시도 횟수 분포 (히스토그램)
+ * - product.stock.decrease: 처리 방식별 요청 수 (mode=optimistic|pessimistic)
+ * - product.stock.hot.products: 현재 경합 상품 수
+ *
+ * 중요: ProductService.decreaseStockWithRetry와 마찬가지로 이 메서드에는 @Transactional이 없어야 합니다.
+ * 각 시도는 ProductStockService에서 새로운 트랜잭션으로 실행됩니다.
+ */
+@Service
+@Slf4j
+public class AdaptiveProductStockService {
+
+    private static final int MAX_OPTIMISTIC_ATTEMPTS = 3;
+    private static final long BACKOFF_BASE_MS = 20L;
+    private static final long BACKOFF_CAP_MS = 500L;
+
+    private final ProductStockService productStockService;
+    private final ContentionTracker contentionTracker;
+    private final DecorrelatedJitterBackoff backoff = new DecorrelatedJitterBackoff(BACKOFF_BASE_MS, BACKOFF_CAP_MS);
+
+    private final Counter conflictCounter;
+    private final DistributionSummary retrySummary;
+    private final Counter optimisticCounter;
+    private final Counter pessimisticCounter;
+
+    public AdaptiveProductStockService(ProductStockService productStockService,
+                                       ContentionTracker contentionTracker,
+                                       MeterRegistry meterRegistry) {
+        this.productStockService = productStockService;
+        this.contentionTracker = contentionTracker;
+
+        this.conflictCounter = Counter.builder("product.stock.conflicts")
+                .description("낙관적 락 충돌 횟수")
+                .register(meterRegistry);
+        this.retrySummary = DistributionSummary.builder("product.stock.retries")
+                .description("재고 감소 요청당 재시도 횟수")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.optimisticCounter = Counter.builder("product.stock.decrease")
+                .description("처리 방식별 재고 감소 요청 수")
+                .tag("mode", "optimistic")
+                .register(meterRegistry);
+        this.pessimisticCounter = Counter.builder("product.stock.decrease")
+                .description("처리 방식별 재고 감소 요청 수")
+                .tag("mode", "pessimistic")
+                .register(meterRegistry);
+        Gauge.builder("product.stock.hot.products", contentionTracker, ContentionTracker::hotProductCount)
+                .description("비관적 락으로 전환된 경합 상품 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 재고 감소 (적응형)
+     *
+     * @throws IllegalArgumentException 상품이 없거나 재고가 부족한 경우 (재시도하지 않음)
+     */
+    public ProductResponse decreaseStock(Long productId, int quantity) {
+        if (contentionTracker.isHot(productId)) {
+            log.info("[Adaptive] 경합 상품 - 비관적 락으로 처리 - 상품 ID: {}, 충돌률: {}",
+                    productId, String.format("%.2f", contentionTracker.conflictRate(productId)));
+            return decreaseWithPessimisticLock(productId, quantity, 0);
+        }
+
+        long sleepMillis = 0L;
+        for (int attempt = 0; attempt < MAX_OPTIMISTIC_ATTEMPTS; attempt++) {
+            try {
+                ProductResponse response = productStockService.decreaseStock(productId, quantity, attempt);
+
+                contentionTracker.recordSuccess(productId);
+                retrySummary.record(attempt);
+                optimisticCounter.increment();
+                return response;
+
+            } catch (ObjectOptimisticLockingFailureException | OptimisticLockException e) {
+                conflictCounter.increment();
+                contentionTracker.recordConflict(productId);
+
+                if (attempt + 1 < MAX_OPTIMISTIC_ATTEMPTS) {
+                    sleepMillis = backoff.next(sleepMillis);
+                    log.warn("[Adaptive] 낙관적 락 충돌 - 상품 ID: {}, 시도: {}, {}ms 후 재시도",
+                            productId, attempt + 1, sleepMillis);
+                    sleep(sleepMillis);
+                }
+            }
+        }
+
+        log.warn("[Adaptive] 낙관적 재시도 {}회 소진 - 비관적 락으로 전환 - 상품 ID: {}",
+                MAX_OPTIMISTIC_ATTEMPTS, productId);
+        return decreaseWithPessimisticLock(productId, quantity, MAX_OPTIMISTIC_ATTEMPTS);
+    }
+
+    private ProductResponse decreaseWithPessimisticLock(Long productId, int quantity, int retries) {
+        ProductResponse response = productStockService.decreaseStockWithPessimisticLock(productId, quantity);
+
+        // 비관적 락 처리는 충돌이 없으므로 충돌률이 서서히 낮아져 낙관적 락으로 복귀할 수 있음
+        contentionTracker.recordSuccess(productId);
+        retrySummary.record(retries);
+        pessimisticCounter.increment();
+        return response;
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("재시도 중 인터럽트 발생", ie);
+        }
+    }
+}
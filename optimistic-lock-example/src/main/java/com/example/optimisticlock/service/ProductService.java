@@ -11,6 +11,7 @@ import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -132,6 +133,32 @@ public class ProductService {
         throw new RuntimeException("재고 감소 실패");
     }
 
+    /**
+     * 재고 감소 (조건부 UPDATE)
+     * 엔티티를 조회-수정-저장하지 않고 UPDATE ... WHERE stock >= :quantity 한 문장으로 감소시킵니다.
+     * 읽기와 쓰기 사이에 끼어들 틈이 없으므로 버전 충돌과 재시도가 발생하지 않습니다.
+     */
+    @Transactional
+    public ProductResponse decreaseStockAtomically(Long productId, int quantity) {
+        int updated = productRepository.decreaseStockIfAvailable(productId, quantity, LocalDateTime.now());
+
+        if (updated == 0) {
+            Product product = productRepository.findById(productId)
+                    .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다. ID: " + productId));
+            throw new IllegalArgumentException(
+                    String.format("재고가 부족합니다. 현재 재고: %d, 요청 수량: %d", product.getStock(), quantity)
+            );
+        }
+
+        Product product = productRepository.findById(productId)
+                .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다. ID: " + productId));
+
+        log.info("재고 감소 완료 (조건부 UPDATE) - 상품 ID: {}, 남은 재고: {}, 새 버전: {}",
+                productId, product.getStock(), product.getVersion());
+
+        return ProductResponse.from(product);
+    }
+
     /**
      * 재고 증가
      */
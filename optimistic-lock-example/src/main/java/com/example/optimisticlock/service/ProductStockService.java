@@ -36,4 +36,22 @@ public class ProductStockService {
 
         return ProductResponse.from(savedProduct);
     }
+
+    /**
+     * 재고 감소 (비관적 락, 트랜잭션 단위)
+     * 행 락을 잡은 상태에서 조회-수정-저장하므로 낙관적 락 충돌이 발생하지 않습니다.
+     */
+    @Transactional
+    public ProductResponse decreaseStockWithPessimisticLock(Long productId, int quantity) {
+        Product product = productRepository.findByIdForUpdate(productId)
+                .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다. ID: " + productId));
+
+        log.debug("[비관적 락] 엔티티 조회 완료 - 상품 ID: {}, 현재 재고: {}, 버전: {}",
+                productId, product.getStock(), product.getVersion());
+
+        product.decreaseStock(quantity);
+        Product savedProduct = productRepository.saveAndFlush(product);
+
+        return ProductResponse.from(savedProduct);
+    }
 }
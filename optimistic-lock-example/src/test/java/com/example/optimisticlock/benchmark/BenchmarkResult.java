@@ -0,0 +1,89 @@
+package com.example.optimisticlock.benchmark;
+
+import java.util.Arrays;
+
+/**
+ * 벤치마크 한 케이스(전략 × 스레드 수 × 키 분포 × 수량)의 측정 결과
+ *
+ * concurrency-example의 lock-benchmark.json과 같은 형태로 직렬화되며,
+ * 낙관적 락 전용 지표(버전 충돌 수, 재시도 수)가 뒤에 추가됩니다.
+ *
+ * @param strategy            동시성 제어 방식
+ * @param threads             동시 요청 스레드 수
+ * @param distribution        키 분포 (HOT / UNIFORM / ZIPF)
+ * @param keys                사용한 상품 개수
+ * @param quantity            요청당 감소 수량
+ * @param requests            전체 요청 수
+ * @param successes           성공 요청 수
+ * @param failures            실패 요청 수 (재시도 소진 등)
+ * @param elapsedMillis       전체 소요 시간
+ * @param throughputPerSecond 초당 성공 요청 수
+ * @param p50Millis           지연 시간 50번째 백분위
+ * @param p99Millis           지연 시간 99번째 백분위
+ * @param p999Millis          지연 시간 99.9번째 백분위
+ * @param maxMillis           최대 지연 시간
+ * @param dbStatements        실행된 JDBC 문장 수 (Hibernate Statistics)
+ * @param dbStatementsPerSuccess 성공 1건당 DB 왕복 횟수
+ * @param stockConsistent     최종 재고 합계가 성공 요청 수와 정확히 일치하는지
+ * @param conflicts           @Version 충돌 횟수 (Hibernate Statistics의 낙관적 락 실패 수)
+ * @param retries             재시도 횟수 (충돌 후 다시 시도한 횟수)
+ * @param retriesPerSuccess   성공 1건당 재시도 횟수
+ */
+public record BenchmarkResult(
+        String strategy,
+        int threads,
+        KeyDistribution distribution,
+        int keys,
+        long quantity,
+        int requests,
+        int successes,
+        int failures,
+        long elapsedMillis,
+        double throughputPerSecond,
+        double p50Millis,
+        double p99Millis,
+        double p999Millis,
+        double maxMillis,
+        long dbStatements,
+        double dbStatementsPerSuccess,
+        boolean stockConsistent,
+        long conflicts,
+        long retries,
+        double retriesPerSuccess
+) {
+
+    /**
+     * 요청별 지연 시간(ns)으로부터 결과 생성
+     *
+     * 재시도 소진으로 실패한 요청은 마지막 충돌 뒤에 다시 시도하지 않으므로
+     * 재시도 수 = 충돌 수 - 실패 수로 계산합니다.
+     */
+    public static BenchmarkResult of(String strategy, int threads, KeyDistribution distribution, int keys,
+                                     long quantity, long[] latencyNanos, int successes, long elapsedMillis,
+                                     long dbStatements, boolean stockConsistent, long conflicts) {
+        long[] sorted = latencyNanos.clone();
+        Arrays.sort(sorted);
+
+        int requests = sorted.length;
+        int failures = requests - successes;
+        double throughput = elapsedMillis == 0 ? 0.0 : successes * 1000.0 / elapsedMillis;
+        double statementsPerSuccess = successes == 0 ? 0.0 : (double) dbStatements / successes;
+        long retries = Math.max(0L, conflicts - failures);
+        double retriesPerSuccess = successes == 0 ? 0.0 : (double) retries / successes;
+
+        return new BenchmarkResult(strategy, threads, distribution, keys, quantity, requests,
+                successes, failures, elapsedMillis, throughput,
+                percentileMillis(sorted, 0.50), percentileMillis(sorted, 0.99),
+                percentileMillis(sorted, 0.999), percentileMillis(sorted, 1.0),
+                dbStatements, statementsPerSuccess, stockConsistent,
+                conflicts, retries, retriesPerSuccess);
+    }
+
+    private static double percentileMillis(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0.0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+}
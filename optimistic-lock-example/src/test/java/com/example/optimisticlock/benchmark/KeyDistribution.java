@@ -0,0 +1,68 @@
+package com.example.optimisticlock.benchmark;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 벤치마크 요청이 어느 상품에 몰리는지 결정하는 분포
+ *
+ * - HOT: 모든 요청이 하나의 상품에 집중 (인기 상품 1개)
+ * - UNIFORM: 모든 키에 균등하게 분산
+ * - ZIPF: 소수의 키에 대부분의 요청이 몰리는 현실적인 분포 (s = 1.0)
+ */
+public enum KeyDistribution {
+
+    HOT,
+    UNIFORM,
+    ZIPF;
+
+    private static final double ZIPF_EXPONENT = 1.0;
+
+    /**
+     * 키 인덱스 샘플러 생성
+     *
+     * @param cardinality 키 개수 (HOT은 항상 1개로 취급)
+     */
+    public Sampler sampler(int cardinality) {
+        if (cardinality <= 0) {
+            throw new IllegalArgumentException("키 개수는 1 이상이어야 합니다.");
+        }
+        return switch (this) {
+            case HOT -> () -> 0;
+            case UNIFORM -> () -> ThreadLocalRandom.current().nextInt(cardinality);
+            case ZIPF -> zipfSampler(cardinality);
+        };
+    }
+
+    /**
+     * 실제로 사용되는 키 개수
+     */
+    public int effectiveCardinality(int cardinality) {
+        return this == HOT ? 1 : cardinality;
+    }
+
+    /**
+     * 누적 분포(CDF)를 미리 계산해두고 이진 탐색으로 샘플링
+     */
+    private static Sampler zipfSampler(int cardinality) {
+        double[] cdf = new double[cardinality];
+        double sum = 0.0;
+        for (int rank = 1; rank <= cardinality; rank++) {
+            sum += 1.0 / Math.pow(rank, ZIPF_EXPONENT);
+            cdf[rank - 1] = sum;
+        }
+        for (int i = 0; i < cardinality; i++) {
+            cdf[i] /= sum;
+        }
+
+        return () -> {
+            int index = Arrays.binarySearch(cdf, ThreadLocalRandom.current().nextDouble());
+            return Math.min(index >= 0 ? index : -index - 1, cardinality - 1);
+        };
+    }
+
+    @FunctionalInterface
+    public interface Sampler {
+        int nextIndex();
+    }
+}
@@ -0,0 +1,254 @@
+package com.example.optimisticlock.benchmark;
+
+import com.example.optimisticlock.entity.Product;
+import com.example.optimisticlock.repository.ProductRepository;
+import com.example.optimisticlock.service.AdaptiveProductStockService;
+import com.example.optimisticlock.service.ProductRetryService;
+import com.example.optimisticlock.service.ProductService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 낙관적 락 재시도 방식 벤치마크
+ *
+ * [목적]
+ * concurrency-example의 LockBenchmarkTest는 DB 락/분산 락 방식만 비교합니다.
+ * 이 벤치마크는 @Version 기반 방식을 같은 매트릭스로 돌려 같은 JSON 형태로 기록하고,
+ * 낙관적 락에서만 의미가 있는 버전 충돌 수와 재시도 수를 함께 남깁니다.
+ *
+ * [측정 매트릭스]
+ * - 방식: @Version(재시도 없음) / @Version + 수동 재시도 / @Retryable / 적응형 / 조건부 UPDATE
+ * - 스레드 수: benchmark.threads (기본 1, 16, 64)
+ * - 키 분포: HOT(1개 상품) / UNIFORM / ZIPF (benchmark.keys개 상품, 기본 100)
+ * - 요청당 수량: benchmark.quantities (기본 1, 5)
+ *
+ * [측정 지표]
+ * - 처리량, p50/p99/p999 지연 시간, 실패 수
+ * - 성공 1건당 DB 왕복 횟수 (Hibernate Statistics의 JDBC 문장 수)
+ * - 버전 충돌 수 (Hibernate Statistics의 낙관적 락 실패 수)와 재시도 수
+ * - 최종 재고 정합성
+ *
+ * [실행 방법]
+ * 일반 테스트(./gradlew test)에서는 제외되며, H2 인메모리 DB를 사용하므로 Docker가 필요 없습니다.
+ *   ./gradlew benchmark
+ *   ./gradlew benchmark -Dbenchmark.threads=8,32 -Dbenchmark.requests=2000
+ *
+ * 결과는 build/benchmark/optimistic-lock-benchmark.json에 저장됩니다.
+ * H2는 MySQL과 락 구현이 다르므로 절대 수치보다 방식 간 상대 비교로 읽어야 합니다.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        // 트랜잭션당 UPDATE가 1건이라 배치 효과는 없고, 배치 경로에서는 낙관적 락 실패가 통계에 집계되지 않음
+        "spring.jpa.properties.hibernate.jdbc.batch_size=0",
+        "logging.level.com.example.optimisticlock=WARN",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+        "logging.level.org.hibernate.orm.jdbc.bind=WARN",
+        "logging.level.org.hibernate.orm.jdbc.batch=OFF",
+        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN"
+})
+class OptimisticLockBenchmarkTest {
+
+    private static final String DATABASE = "H2 (in-memory)";
+    private static final int WARMUP_REQUESTS = 200;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRetryService productRetryService;
+
+    @Autowired
+    private AdaptiveProductStockService adaptiveProductStockService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @DisplayName("낙관적 락 재시도 방식별 성능 비교")
+    void optimisticLockStrategyBenchmark() throws Exception {
+        int[] threadCounts = intListProperty("benchmark.threads", "1,16,64");
+        int[] quantities = intListProperty("benchmark.quantities", "1,5");
+        int requests = Integer.getInteger("benchmark.requests", 500);
+        int cardinality = Integer.getInteger("benchmark.keys", 100);
+        Path output = Path.of(System.getProperty("benchmark.output",
+                "build/benchmark/optimistic-lock-benchmark.json"));
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        Map<String, StockDecreaser> strategies = strategies();
+        List<BenchmarkResult> results = new ArrayList<>();
+
+        for (Map.Entry<String, StockDecreaser> strategy : strategies.entrySet()) {
+            // JIT 워밍업 (결과에는 포함하지 않음)
+            runCase(strategy.getKey(), strategy.getValue(), 8, KeyDistribution.HOT, 1, 1,
+                    WARMUP_REQUESTS, statistics);
+
+            for (int threads : threadCounts) {
+                for (KeyDistribution distribution : KeyDistribution.values()) {
+                    for (int quantity : quantities) {
+                        BenchmarkResult result = runCase(strategy.getKey(), strategy.getValue(), threads,
+                                distribution, cardinality, quantity, requests, statistics);
+                        results.add(result);
+
+                        System.out.printf("%-20s threads=%-3d %-7s qty=%d  %8.1f ops/s  p50=%6.2fms  p99=%7.2fms  p999=%7.2fms  fail=%d  db/op=%.2f  retries=%d%n",
+                                result.strategy(), threads, distribution, quantity,
+                                result.throughputPerSecond(), result.p50Millis(), result.p99Millis(),
+                                result.p999Millis(), result.failures(), result.dbStatementsPerSuccess(),
+                                result.retries());
+                    }
+                }
+            }
+        }
+
+        writeResults(output, requests, cardinality, results);
+        System.out.println("벤치마크 결과 저장: " + output.toAbsolutePath());
+
+        // 재시도 소진으로 실패하더라도 재고 정합성은 항상 지켜져야 함
+        assertThat(results).allMatch(BenchmarkResult::stockConsistent);
+    }
+
+    /**
+     * 비교 대상 방식 (실행 순서 유지)
+     */
+    private Map<String, StockDecreaser> strategies() {
+        Map<String, StockDecreaser> strategies = new LinkedHashMap<>();
+        strategies.put("version", productService::decreaseStock);
+        strategies.put("version-retry", productService::decreaseStockWithRetry);
+        strategies.put("retryable", productRetryService::decreaseStockWithRetry);
+        strategies.put("adaptive", adaptiveProductStockService::decreaseStock);
+        strategies.put("conditional-update", productService::decreaseStockAtomically);
+        return strategies;
+    }
+
+    /**
+     * 한 케이스 실행
+     *
+     * 상품마다 모든 요청을 처리할 수 있을 만큼 재고를 채워두므로
+     * 실패는 재고 부족이 아닌 버전 충돌 후 재시도 소진을 의미합니다.
+     */
+    private BenchmarkResult runCase(String name, StockDecreaser decreaser, int threads,
+                                    KeyDistribution distribution, int cardinality, int quantity,
+                                    int requests, Statistics statistics) throws InterruptedException {
+        int keys = distribution.effectiveCardinality(cardinality);
+        int initialStock = requests * quantity;
+
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < keys; i++) {
+            products.add(Product.builder()
+                    .name("벤치마크 상품 " + i)
+                    .stock(initialStock)
+                    .price(1000)
+                    .build());
+        }
+        List<Long> ids = productRepository.saveAllAndFlush(products).stream().map(Product::getId).toList();
+
+        KeyDistribution.Sampler sampler = distribution.sampler(keys);
+        long[] latencyNanos = new long[requests];
+        AtomicInteger successCount = new AtomicInteger();
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch doneLatch = new CountDownLatch(requests);
+
+        for (int i = 0; i < requests; i++) {
+            int requestIndex = i;
+            Long id = ids.get(sampler.nextIndex());
+            executorService.submit(() -> {
+                try {
+                    startLatch.await();
+                    long start = System.nanoTime();
+                    try {
+                        decreaser.decrease(id, quantity);
+                        successCount.incrementAndGet();
+                    } catch (Exception e) {
+                        // 실패 수는 전체 요청 수에서 성공 수를 빼서 계산
+                    } finally {
+                        latencyNanos[requestIndex] = System.nanoTime() - start;
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    doneLatch.countDown();
+                }
+            });
+        }
+
+        statistics.clear();
+        long startTime = System.currentTimeMillis();
+        startLatch.countDown();
+        doneLatch.await();
+        long elapsedMillis = System.currentTimeMillis() - startTime;
+        long dbStatements = statistics.getPrepareStatementCount();
+        long conflicts = statistics.getOptimisticFailureCount();
+        executorService.shutdown();
+
+        long remaining = productRepository.findAllById(ids).stream().mapToLong(Product::getStock).sum();
+        boolean consistent = (long) keys * initialStock - remaining == (long) successCount.get() * quantity;
+        productRepository.deleteAllByIdInBatch(ids);
+
+        return BenchmarkResult.of(name, threads, distribution, keys, quantity, latencyNanos,
+                successCount.get(), elapsedMillis, dbStatements, consistent, conflicts);
+    }
+
+    private void writeResults(Path output, int requests, int cardinality,
+                              List<BenchmarkResult> results) throws IOException {
+        Map<String, Object> environment = new LinkedHashMap<>();
+        environment.put("database", DATABASE);
+        environment.put("javaVersion", System.getProperty("java.version"));
+        environment.put("availableProcessors", Runtime.getRuntime().availableProcessors());
+        environment.put("requestsPerCase", requests);
+        environment.put("keyCardinality", cardinality);
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("generatedAt", Instant.now().toString());
+        report.put("environment", environment);
+        report.put("results", results);
+
+        if (output.getParent() != null) {
+            Files.createDirectories(output.getParent());
+        }
+        new ObjectMapper()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(output.toFile(), report);
+    }
+
+    private static int[] intListProperty(String key, String defaultValue) {
+        return Arrays.stream(System.getProperty(key, defaultValue).split(","))
+                .map(String::trim)
+                .mapToInt(Integer::parseInt)
+                .toArray();
+    }
+
+    @FunctionalInterface
+    private interface StockDecreaser {
+        void decrease(Long id, int quantity) throws Exception;
+    }
+}
@@ -4,6 +4,7 @@ import com.example.optimisticlock.dto.ProductRequest;
 import com.example.optimisticlock.dto.ProductResponse;
 import com.example.optimisticlock.entity.Product;
 import com.example.optimisticlock.repository.ProductRepository;
+import com.example.optimisticlock.support.ConcurrentExecutor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -451,4 +452,77 @@ class ProductServiceTest {
         System.out.println("       충돌 발생 시 재시도를 통해 최신 데이터를 읽고 작업을 완료합니다.");
         System.out.println("================================================================\n");
     }
+
+    @Test
+    @DisplayName("조건부 UPDATE 재고 감소 - 100개 스레드 동시 요청 (낙관적 락 + 재시도와 비교)")
+    void atomicDecreaseVsOptimisticRetryTest() throws InterruptedException {
+        /**
+         * [테스트 목적]
+         * - 100개 스레드가 동시에 재고를 1개씩 감소시킬 때 두 방식의 결과를 비교
+         * - 낙관적 락 + 재시도: 조회-수정-저장 사이에 충돌이 발생하여 일부 요청이 최대 재시도 후 실패
+         * - 조건부 UPDATE: UPDATE ... WHERE stock >= 1 한 문장이므로 충돌 없이 모두 성공
+         */
+
+        // given - 초기 재고 100개인 상품 2개 생성
+        ProductResponse retryProduct = productService.createProduct(ProductRequest.builder()
+                .name("재시도 비교 상품")
+                .stock(100)
+                .price(10000)
+                .build());
+        ProductResponse atomicProduct = productService.createProduct(ProductRequest.builder()
+                .name("조건부 UPDATE 비교 상품")
+                .stock(100)
+                .price(10000)
+                .build());
+
+        int threadCount = 100;
+        AtomicInteger retrySuccessCount = new AtomicInteger(0);
+        AtomicInteger atomicSuccessCount = new AtomicInteger(0);
+
+        // when - 같은 조건으로 두 방식 실행
+        long retryTime = ConcurrentExecutor.run(threadCount, () -> {
+            productService.decreaseStockWithRetry(retryProduct.getId(), 1);
+            retrySuccessCount.incrementAndGet();
+        });
+        long atomicTime = ConcurrentExecutor.run(threadCount, () -> {
+            productService.decreaseStockAtomically(atomicProduct.getId(), 1);
+            atomicSuccessCount.incrementAndGet();
+        });
+
+        // then
+        Product retryResult = productRepository.findById(retryProduct.getId()).orElseThrow();
+        Product atomicResult = productRepository.findById(atomicProduct.getId()).orElseThrow();
+
+        System.out.println("\n========== 낙관적 락 + 재시도 vs 조건부 UPDATE (100개 스레드) ==========");
+        System.out.println("[낙관적 락 + 재시도] 성공: " + retrySuccessCount.get() + "개, 최종 재고: "
+                + retryResult.getStock() + "개, 실행 시간: " + retryTime + "ms");
+        System.out.println("[조건부 UPDATE]      성공: " + atomicSuccessCount.get() + "개, 최종 재고: "
+                + atomicResult.getStock() + "개, 실행 시간: " + atomicTime + "ms");
+        System.out.println("=====================================================================\n");
+
+        // 낙관적 락도 성공한 만큼만 정확히 감소해야 함
+        assertThat(retryResult.getStock()).isEqualTo(100 - retrySuccessCount.get());
+
+        // 조건부 UPDATE는 모든 요청이 성공하고 재고가 정확히 0이 되어야 함
+        assertThat(atomicSuccessCount.get()).isEqualTo(threadCount);
+        assertThat(atomicResult.getStock()).isEqualTo(0);
+        assertThat(atomicResult.getVersion()).isEqualTo((long) threadCount);
+    }
+
+    @Test
+    @DisplayName("조건부 UPDATE 재고 감소 - 재고 부족")
+    void atomicDecreaseInsufficientTest() {
+        // given
+        ProductResponse created = productService.createProduct(ProductRequest.builder()
+                .name("테스트 상품")
+                .stock(10)
+                .price(10000)
+                .build());
+
+        // when & then
+        assertThatThrownBy(() -> productService.decreaseStockAtomically(created.getId(), 20))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("재고가 부족합니다");
+        assertThat(productRepository.findById(created.getId()).orElseThrow().getStock()).isEqualTo(10);
+    }
 }
@@ -0,0 +1,47 @@
+package com.example.optimisticlock.support;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 동시 요청 실행 테스트 도구
+ *
+ * [사용처]
+ * 여러 재고 감소 방식을 같은 스레드 수로 실행하여 결과와 실행 시간을 비교하는 테스트
+ *
+ * [동작 방식]
+ * - threadCount개 스레드가 각각 task를 1번씩 실행
+ * - CountDownLatch로 모든 작업이 끝날 때까지 대기
+ * - 작업 중 발생한 예외(버전 충돌, 재고 부족)는 무시 → 실패 횟수는 task 안에서 센 성공 횟수로 역산
+ */
+public final class ConcurrentExecutor {
+
+    private ConcurrentExecutor() {
+    }
+
+    /**
+     * @return 실행 시간 (ms)
+     */
+    public static long run(int threadCount, Runnable task) throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        long startTime = System.currentTimeMillis();
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    task.run();
+                } catch (Exception e) {
+                    // 실패 횟수는 성공 횟수로 역산
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        executorService.shutdown();
+        return System.currentTimeMillis() - startTime;
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.redis.cache;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 스탬피드 방지용 캐시 값 래퍼
+ *
+ * 값과 함께 XFetch 계산에 필요한 메타데이터를 저장합니다.
+ * - computeMillis: 값을 만드는 데 걸린 시간 (오래 걸리는 값일수록 더 일찍 갱신)
+ * - expiresAt: 논리적 만료 시각 (Redis TTL은 stale 허용 시간만큼 더 길게 유지)
+ *
+ * 캐시 직렬화(JSON, Smile 모두)의 NON_FINAL 타입 정보가 붙도록 final이 아닌 클래스로 둡니다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class CacheEnvelope {
+
+    private Object value;
+    private long computeMillis;
+    private long expiresAt;
+
+    public boolean isExpired(long now) {
+        return now >= expiresAt;
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.redis.cache;
+
+/**
+ * 노드 간 L1 캐시 무효화 메시지
+ *
+ * @param nodeId    메시지를 발행한 노드 ID (자기 메시지는 무시)
+ * @param cacheName 캐시 이름
+ * @param key       무효화할 키 (null이면 캐시 전체 비우기)
+ */
+public record CacheInvalidationMessage(String nodeId, String cacheName, String key) {
+
+    public boolean isClear() {
+        return key == null;
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.redis.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Redis Pub/Sub을 이용한 L1 캐시 무효화 메시지 발행/해석
+ *
+ * 한 노드에서 캐시 값을 변경(put/evict/clear)하면 다른 노드의 L1에 남은 이전 값을 지워야 합니다.
+ * - 발행: PUBLISH cache:invalidation {"nodeId":..., "cacheName":..., "key":...}
+ * - 구독: 각 노드의 TwoLevelCacheManager가 메시지를 받아 자신의 L1에서 해당 키 삭제
+ *
+ * Pub/Sub은 전달을 보장하지 않으므로 L1 TTL을 짧게 두어 유실 시 불일치 시간을 제한합니다.
+ */
+@Slf4j
+@Component
+public class CacheInvalidationPublisher {
+
+    public static final String CHANNEL = "cache:invalidation";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public CacheInvalidationPublisher(StringRedisTemplate stringRedisTemplate) {
+        this.stringRedisTemplate = stringRedisTemplate;
+    }
+
+    /**
+     * 키 단위 무효화 발행
+     */
+    public void publishEvict(String cacheName, Object key) {
+        publish(new CacheInvalidationMessage(nodeId, cacheName, String.valueOf(key)));
+    }
+
+    /**
+     * 캐시 전체 무효화 발행
+     */
+    public void publishClear(String cacheName) {
+        publish(new CacheInvalidationMessage(nodeId, cacheName, null));
+    }
+
+    /**
+     * 수신한 메시지 해석
+     *
+     * @return 다른 노드가 보낸 메시지 (자기 메시지이거나 해석할 수 없으면 empty)
+     */
+    public Optional<CacheInvalidationMessage> readRemote(byte[] body) {
+        try {
+            CacheInvalidationMessage message = objectMapper.readValue(body, CacheInvalidationMessage.class);
+            return nodeId.equals(message.nodeId()) ? Optional.empty() : Optional.of(message);
+        } catch (IOException e) {
+            log.warn("캐시 무효화 메시지 해석 실패: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 발행 실패는 캐시 쓰기를 실패시키지 않음 (L1 TTL이 지나면 자연히 정리됨)
+     */
+    private void publish(CacheInvalidationMessage message) {
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(message));
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("캐시 무효화 메시지 발행 실패 - cache: {}, key: {}, error: {}",
+                    message.cacheName(), message.key(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.redis.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 캐시 값(Redis L2) 직렬화 설정
+ *
+ * 예시 (application.yml):
+ * cache:
+ *   serialization:
+ *     format: compact
+ *     compression-threshold: 1024
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "cache.serialization")
+public class CacheSerializationProperties {
+
+    /**
+     * 직렬화 형식
+     * 형식을 바꾸면 기존 캐시 값은 읽지 않고 미스로 처리됩니다 (compact → json 전환 시에는 역직렬화 오류가 나므로 캐시를 비워야 함)
+     */
+    private Format format = Format.COMPACT;
+
+    /**
+     * 이 크기(바이트) 이상인 값만 LZ4 압축 (compact 형식에서만 사용)
+     */
+    private int compressionThreshold = 1024;
+
+    public enum Format {
+        /**
+         * GenericJackson2JsonRedisSerializer (클래스 이름 포함 JSON, redis-cli로 읽기 쉬움)
+         */
+        JSON,
+
+        /**
+         * CompactRedisSerializer (Smile + LZ4 + 버전 헤더)
+         */
+        COMPACT
+    }
+}
@@ -0,0 +1,186 @@
+package com.example.redis.cache;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import lombok.extern.slf4j.Slf4j;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Exception;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4SafeDecompressor;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * 캐시 값용 바이너리 직렬화 (Smile + LZ4)
+ *
+ * [문제]
+ * GenericJackson2JsonRedisSerializer + activateDefaultTyping(NON_FINAL)은
+ * 모든 객체마다 "@class":"com.example.redis.dto.ProductResponse" 같은 클래스 이름을 문자열로 넣습니다.
+ * products::all 처럼 목록을 캐싱하면 같은 클래스 이름과 필드 이름이 항목 수만큼 반복됩니다.
+ *
+ * [해결]
+ * 1. Smile(바이너리 JSON): 같은 필드 이름/문자열 값은 두 번째부터 1~2바이트 참조로 저장
+ *    (타입 정보는 그대로 유지하므로 List<ProductResponse>도 원래 타입으로 복원)
+ * 2. LZ4: 직렬화 결과가 compressionThreshold 이상이면 압축 (압축 이득이 없으면 원본 저장)
+ * 3. 버전 헤더: 형식이 바뀌거나 이전 JSON 값이 남아 있으면 역직렬화 대신 캐시 미스로 처리
+ *
+ * [저장 형식]
+ * | magic(2) | version(1) | flags(1) | (압축 시) 원본 길이(4) | payload |
+ */
+@Slf4j
+public class CompactRedisSerializer implements RedisSerializer<Object> {
+
+    static final byte MAGIC_0 = (byte) 0xCA;
+    static final byte MAGIC_1 = (byte) 0xC8;
+    static final byte VERSION = 1;
+    static final byte FLAG_LZ4 = 0x01;
+
+    private static final int HEADER_SIZE = 4;
+    private static final int LENGTH_SIZE = 4;
+    private static final int MAX_COMPRESSION_RATIO = 255;
+
+    private final ObjectMapper objectMapper;
+    private final int compressionThreshold;
+    private final LZ4Compressor compressor;
+    private final LZ4SafeDecompressor decompressor;
+
+    public CompactRedisSerializer(int compressionThreshold) {
+        this(defaultObjectMapper(), compressionThreshold);
+    }
+
+    public CompactRedisSerializer(ObjectMapper objectMapper, int compressionThreshold) {
+        if (compressionThreshold < 0) {
+            throw new IllegalArgumentException("압축 기준 크기는 0 이상이어야 합니다.");
+        }
+        this.objectMapper = objectMapper;
+        this.compressionThreshold = compressionThreshold;
+
+        LZ4Factory factory = LZ4Factory.fastestInstance();
+        this.compressor = factory.fastCompressor();
+        this.decompressor = factory.safeDecompressor();
+    }
+
+    /**
+     * RedisConfig의 JSON 설정과 같은 타입 정보(NON_FINAL)를 쓰는 Smile ObjectMapper
+     * - 문자열 값 공유를 켜서 반복되는 클래스 이름을 참조로 저장
+     * - 날짜는 숫자 배열로 저장 (바이너리 형식이므로 가독성보다 크기 우선)
+     */
+    public static ObjectMapper defaultObjectMapper() {
+        SmileFactory smileFactory = SmileFactory.builder()
+                .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                .build();
+
+        ObjectMapper objectMapper = new ObjectMapper(smileFactory);
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.activateDefaultTyping(
+                objectMapper.getPolymorphicTypeValidator(),
+                ObjectMapper.DefaultTyping.NON_FINAL,
+                JsonTypeInfo.As.PROPERTY
+        );
+        return objectMapper;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+
+        byte[] payload;
+        try {
+            payload = objectMapper.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new SerializationException("캐시 값을 직렬화할 수 없습니다: " + e.getMessage(), e);
+        }
+
+        if (payload.length >= compressionThreshold) {
+            byte[] compressed = compress(payload);
+            if (compressed != null) {
+                return compressed;
+            }
+        }
+
+        byte[] result = new byte[HEADER_SIZE + payload.length];
+        writeHeader(result, (byte) 0);
+        System.arraycopy(payload, 0, result, HEADER_SIZE, payload.length);
+        return result;
+    }
+
+    /**
+     * 헤더가 다르면(이전 JSON 값, 다른 버전) null을 반환해 캐시 미스로 처리
+     * → 호출 측이 원본을 다시 조회해 새 형식으로 덮어씀
+     */
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes.length < HEADER_SIZE || bytes[0] != MAGIC_0 || bytes[1] != MAGIC_1) {
+            log.debug("알 수 없는 캐시 값 형식 - 캐시 미스로 처리 (길이: {})", bytes.length);
+            return null;
+        }
+        if (bytes[2] != VERSION) {
+            log.debug("지원하지 않는 캐시 값 버전 - 캐시 미스로 처리 (버전: {})", bytes[2]);
+            return null;
+        }
+
+        try {
+            if ((bytes[3] & FLAG_LZ4) != 0) {
+                return objectMapper.readValue(decompress(bytes), Object.class);
+            }
+            return objectMapper.readValue(bytes, HEADER_SIZE, bytes.length - HEADER_SIZE, Object.class);
+        } catch (IOException | LZ4Exception e) {
+            throw new SerializationException("캐시 값을 역직렬화할 수 없습니다: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 압축 결과가 원본보다 작지 않으면 null (원본 그대로 저장)
+     */
+    private byte[] compress(byte[] payload) {
+        int offset = HEADER_SIZE + LENGTH_SIZE;
+        byte[] buffer = new byte[offset + compressor.maxCompressedLength(payload.length)];
+        int compressedLength = compressor.compress(payload, 0, payload.length, buffer, offset);
+        if (compressedLength >= payload.length) {
+            return null;
+        }
+
+        writeHeader(buffer, FLAG_LZ4);
+        ByteBuffer.wrap(buffer, HEADER_SIZE, LENGTH_SIZE).putInt(payload.length);
+        byte[] result = new byte[offset + compressedLength];
+        System.arraycopy(buffer, 0, result, 0, result.length);
+        return result;
+    }
+
+    private byte[] decompress(byte[] bytes) {
+        int offset = HEADER_SIZE + LENGTH_SIZE;
+        if (bytes.length < offset) {
+            throw new SerializationException("압축된 캐시 값의 길이 정보가 없습니다.");
+        }
+        int originalLength = ByteBuffer.wrap(bytes, HEADER_SIZE, LENGTH_SIZE).getInt();
+        // LZ4 최대 압축률(약 255배)을 넘는 길이는 손상된 값으로 보고 큰 배열 할당 전에 거부
+        if (originalLength < 0 || originalLength > (long) (bytes.length - offset) * MAX_COMPRESSION_RATIO) {
+            throw new SerializationException("압축된 캐시 값의 원본 길이가 올바르지 않습니다: " + originalLength);
+        }
+
+        byte[] payload = new byte[originalLength];
+        int length = decompressor.decompress(bytes, offset, bytes.length - offset, payload, 0);
+        if (length != originalLength) {
+            throw new SerializationException("압축 해제 길이가 일치하지 않습니다. 예상: " + originalLength + ", 실제: " + length);
+        }
+        return payload;
+    }
+
+    private void writeHeader(byte[] target, byte flags) {
+        target[0] = MAGIC_0;
+        target[1] = MAGIC_1;
+        target[2] = VERSION;
+        target[3] = flags;
+    }
+}
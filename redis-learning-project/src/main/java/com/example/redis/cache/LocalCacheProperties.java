@@ -0,0 +1,51 @@
+package com.example.redis.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 로컬(L1) 캐시 설정
+ *
+ * 여기에 등록된 캐시 이름만 Caffeine L1 + Redis L2 2단 캐시로 동작합니다.
+ * 등록되지 않은 캐시는 기존처럼 Redis만 사용합니다.
+ *
+ * 예시 (application.yml):
+ * cache:
+ *   local:
+ *     caches:
+ *       product:
+ *         maximum-size: 10000
+ *         ttl: 30s
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "cache.local")
+public class LocalCacheProperties {
+
+    /**
+     * 캐시 이름별 L1 설정 (opt-in)
+     */
+    private Map<String, Spec> caches = new HashMap<>();
+
+    @Getter
+    @Setter
+    public static class Spec {
+
+        /**
+         * 최대 항목 수 (초과 시 Caffeine이 오래 안 쓰인 항목부터 제거)
+         */
+        private long maximumSize = 1_000;
+
+        /**
+         * L1 유효 시간
+         * 무효화 메시지가 유실되어도 이 시간이 지나면 L2(Redis)에서 다시 읽으므로,
+         * 노드 간 데이터 불일치의 최대 허용 시간이기도 합니다.
+         */
+        private Duration ttl = Duration.ofSeconds(30);
+    }
+}
@@ -0,0 +1,216 @@
+package com.example.redis.cache;
+
+import com.example.redis.dto.ProductResponse;
+import com.example.redis.event.ProductChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 상품 캐시 의존성 추적 + 부분 무효화
+ *
+ * [문제]
+ * 상품 하나가 바뀌어도 @CacheEvict(allEntries = true)로 product, products 캐시를 모두 비우면
+ * 변경과 무관한 목록까지 다음 요청에서 DB를 다시 조회합니다.
+ *
+ * [해결]
+ * 목록 캐시(products::all, products::category:{category}, products::search:{keyword})를 적재할 때
+ * 그 목록이 무엇에 의존하는지 Redis SET에 기록합니다.
+ * - cache:deps:product:{id} → 이 상품을 포함한 검색 목록 키들 (포함된 상품이 바뀌면 무효화)
+ * - cache:deps:searches     → 캐시된 검색어들 (새 이름/설명이 검색어를 포함하면 무효화)
+ * products::all과 카테고리 목록은 이벤트만으로 무효화 대상이 정해지므로 의존성을 기록하지 않습니다.
+ * (전체 목록까지 기록하면 적재마다 상품 수만큼 SADD + EXPIRE가 발생)
+ *
+ * 상품 생성/수정 이벤트(커밋 후)를 받으면 아래 항목만 삭제합니다.
+ * - product::{id}
+ * - 이 상품을 포함한 목록 (변경 전 카테고리/이름으로 들어 있던 목록)
+ * - products::all, 변경 전/후 카테고리 목록, 변경 전/후 이름/설명이 검색어를 포함하는 검색 목록
+ * 검색 목록은 검색 색인으로 만들어지므로 색인 갱신(ProductSearchIndexer, @Order(1)) 뒤에 삭제합니다. (@Order(2))
+ * 다른 노드는 search:index 메시지로 자기 색인을 갱신한 뒤 검색 목록을 다시 삭제합니다. (onSearchIndexChanged)
+ *
+ * [한계]
+ * - 의존성 SET은 TTL로만 정리되므로 이미 사라진 목록 키가 남아 있을 수 있음 (불필요한 evict 1번, 정합성 문제 없음)
+ * - 변경 직전에 DB를 읽은 목록 적재가 커밋 후 무효화보다 늦게 저장되면 캐시 TTL 동안 이전 값이 남을 수 있음
+ */
+@Slf4j
+@Component
+public class ProductCacheInvalidator {
+
+    public static final String PRODUCT_CACHE = "product";
+    public static final String PRODUCT_LIST_CACHE = "products";
+
+    public static final String ALL_KEY = "all";
+    public static final String CATEGORY_KEY_PREFIX = "category:";
+    public static final String SEARCH_KEY_PREFIX = "search:";
+
+    private static final String PRODUCT_DEPS_KEY_PREFIX = "cache:deps:product:";
+    private static final String SEARCH_DEPS_KEY = "cache:deps:searches";
+
+    /**
+     * 의존성 SET 유지 시간: 목록 캐시의 Redis TTL(10분 + stale 1분)보다 길게
+     */
+    private static final Duration DEPENDENCY_TTL = Duration.ofMinutes(15);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final CacheManager cacheManager;
+
+    public ProductCacheInvalidator(StringRedisTemplate stringRedisTemplate, CacheManager cacheManager) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.cacheManager = cacheManager;
+    }
+
+    public static String categoryKey(String category) {
+        return CATEGORY_KEY_PREFIX + category;
+    }
+
+    public static String searchKey(String keyword) {
+        return SEARCH_KEY_PREFIX + keyword;
+    }
+
+    /**
+     * 목록 캐시 적재 시 의존성 기록 (@Cacheable 메서드 안에서 DB 조회 직후 호출)
+     * 검색 목록만 기록하며, 목록의 상품 수만큼 SADD가 필요하므로 파이프라인으로 한 번에 전송합니다.
+     *
+     * @param listKey  products 캐시의 키 (all, category:..., search:...)
+     * @param products 목록에 담긴 상품
+     */
+    public void registerList(String listKey, Collection<ProductResponse> products) {
+        if (!listKey.startsWith(SEARCH_KEY_PREFIX)) {
+            // all, category:... 는 onProductChanged에서 항상(변경 전/후 카테고리로) 삭제됨
+            return;
+        }
+
+        long ttlSeconds = DEPENDENCY_TTL.toSeconds();
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (ProductResponse product : products) {
+                String depsKey = PRODUCT_DEPS_KEY_PREFIX + product.getId();
+                stringConnection.sAdd(depsKey, listKey);
+                stringConnection.expire(depsKey, ttlSeconds);
+            }
+            stringConnection.sAdd(SEARCH_DEPS_KEY, listKey.substring(SEARCH_KEY_PREFIX.length()));
+            stringConnection.expire(SEARCH_DEPS_KEY, ttlSeconds);
+            return null;
+        });
+    }
+
+    /**
+     * 상품 생성/수정 커밋 후 관련 캐시만 삭제
+     * 커밋 전에 지우면 그 사이 다른 요청이 변경 전 값을 다시 캐싱할 수 있으므로 AFTER_COMMIT에서 실행합니다.
+     * 색인보다 먼저 지우면 그 사이 검색이 이전 색인으로 목록을 다시 캐싱하므로 색인 갱신 뒤에 실행합니다.
+     */
+    @Order(2)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onProductChanged(ProductChangedEvent event) {
+        Long productId = event.productId();
+        String productDepsKey = PRODUCT_DEPS_KEY_PREFIX + productId;
+
+        Set<String> listKeys = new LinkedHashSet<>();
+        listKeys.add(ALL_KEY);
+        listKeys.addAll(members(productDepsKey));
+
+        Set<String> cachedKeywords = members(SEARCH_DEPS_KEY);
+        for (ProductResponse state : new ProductResponse[]{event.before(), event.after()}) {
+            if (state == null) {
+                continue;
+            }
+            listKeys.add(categoryKey(state.getCategory()));
+            listKeys.addAll(matchingSearchKeys(cachedKeywords, state));
+        }
+
+        evict(PRODUCT_CACHE, List.of(productId));
+        evict(PRODUCT_LIST_CACHE, listKeys);
+        forgetDependencies(productDepsKey, listKeys);
+
+        log.info("상품 캐시 부분 무효화 - productId: {}, 목록 키: {}", productId, listKeys);
+    }
+
+    /**
+     * 다른 노드의 상품 변경으로 이 노드의 검색 색인을 갱신한 뒤 검색 목록만 삭제
+     * 변경한 노드가 캐시를 지운 뒤 이 노드의 색인이 갱신되기 전까지 이 노드에서 검색한 결과(이전 색인 기준)가
+     * 공유 캐시에 다시 저장되었을 수 있으므로, 이 상품을 포함한 목록과 변경 후 이름/설명에 맞는 검색 목록을 지웁니다.
+     *
+     * @param productId 상품 ID
+     * @param product   변경 후 상품 (삭제된 상품이면 null)
+     */
+    public void onSearchIndexChanged(Long productId, ProductResponse product) {
+        String productDepsKey = PRODUCT_DEPS_KEY_PREFIX + productId;
+
+        Set<String> listKeys = new LinkedHashSet<>();
+        members(productDepsKey).stream()
+                .filter(key -> key.startsWith(SEARCH_KEY_PREFIX))
+                .forEach(listKeys::add);
+        if (product != null) {
+            listKeys.addAll(matchingSearchKeys(members(SEARCH_DEPS_KEY), product));
+        }
+        if (listKeys.isEmpty()) {
+            return;
+        }
+
+        evict(PRODUCT_LIST_CACHE, listKeys);
+        forgetDependencies(productDepsKey, listKeys);
+
+        log.info("검색 색인 변경 수신 후 검색 목록 무효화 - productId: {}, 목록 키: {}", productId, listKeys);
+    }
+
+    /**
+     * 이름/설명이 캐시된 검색어를 포함하는 검색 목록 키
+     */
+    private Set<String> matchingSearchKeys(Set<String> cachedKeywords, ProductResponse state) {
+        Set<String> keys = new LinkedHashSet<>();
+        for (String keyword : cachedKeywords) {
+            if (containsIgnoreCase(state.getName(), keyword) || containsIgnoreCase(state.getDescription(), keyword)) {
+                keys.add(searchKey(keyword));
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * 삭제한 목록의 의존성 정리 (목록은 다시 적재될 때 의존성을 새로 기록함)
+     */
+    private void forgetDependencies(String productDepsKey, Set<String> listKeys) {
+        stringRedisTemplate.delete(productDepsKey);
+        Object[] evictedKeywords = listKeys.stream()
+                .filter(key -> key.startsWith(SEARCH_KEY_PREFIX))
+                .map(key -> key.substring(SEARCH_KEY_PREFIX.length()))
+                .toArray();
+        if (evictedKeywords.length > 0) {
+            stringRedisTemplate.opsForSet().remove(SEARCH_DEPS_KEY, evictedKeywords);
+        }
+    }
+
+    private Set<String> members(String key) {
+        Set<String> members = stringRedisTemplate.opsForSet().members(key);
+        return members == null ? Set.of() : members;
+    }
+
+    private void evict(String cacheName, Collection<?> keys) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            return;
+        }
+        keys.forEach(cache::evict);
+    }
+
+    /**
+     * 검색 색인(ProductSearchIndex)과 같은 판정: 대소문자 구분 없이 부분 문자열 포함
+     */
+    private boolean containsIgnoreCase(String text, String keyword) {
+        return text != null && text.toLowerCase(Locale.ROOT).contains(keyword.toLowerCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.redis.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 캐시 스탬피드 방지 설정
+ *
+ * 예시 (application.yml):
+ * cache:
+ *   stampede:
+ *     caches: [products, product]
+ *     ttl: 10m
+ *     stale-ttl: 1m
+ *     beta: 1.0
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "cache.stampede")
+public class StampedeProperties {
+
+    /**
+     * 스탬피드 방지를 적용할 캐시 이름 (opt-in)
+     * 해당 캐시의 @Cacheable은 sync = true로 선언해야 단일 적재가 동작합니다.
+     */
+    private Set<String> caches = new HashSet<>();
+
+    /**
+     * 논리적 만료 시간 (XFetch 조기 갱신 기준)
+     */
+    private Duration ttl = Duration.ofMinutes(10);
+
+    /**
+     * 논리적 만료 후에도 이전 값을 응답하며 백그라운드 갱신을 기다리는 시간
+     * Redis TTL = ttl + staleTtl, 0이면 만료 즉시 동기 적재
+     */
+    private Duration staleTtl = Duration.ofMinutes(1);
+
+    /**
+     * XFetch 조기 갱신 강도 (1.0 권장, 클수록 더 일찍 갱신)
+     */
+    private double beta = 1.0;
+}
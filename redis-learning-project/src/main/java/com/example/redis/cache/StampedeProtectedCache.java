@@ -0,0 +1,282 @@
+package com.example.redis.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.DoubleSupplier;
+
+/**
+ * 캐시 스탬피드 방지 캐시 (Single Flight + XFetch 조기 갱신 + Stale-While-Revalidate)
+ *
+ * [문제]
+ * 인기 키의 TTL이 만료되는 순간 동시 요청이 모두 미스 → 모두 DB 조회 (N번)
+ *
+ * [해결]
+ * 1. Single Flight: 같은 키의 동시 미스는 하나의 적재만 실행하고 나머지는 그 결과를 기다림 (N → 1)
+ * 2. XFetch 조기 갱신: 만료 전이라도 아래 조건이 참이면 백그라운드에서 미리 갱신
+ *      now - computeMillis × beta × ln(random) ≥ expiresAt
+ *    → 만료가 가까울수록, 적재가 오래 걸리는 값일수록 갱신 확률이 높아짐
+ * 3. Stale-While-Revalidate: 논리적 만료 후 staleTtl 동안은 이전 값을 바로 응답하고 백그라운드 갱신
+ *
+ * [사용 조건]
+ * - 단일 적재는 Cache.get(key, valueLoader) 경로에서만 동작하므로 @Cacheable(sync = true)로 선언해야 합니다
+ * - 값은 CacheEnvelope로 감싸 저장됩니다 (감싸지 않은 기존 값은 만료 정보 없이 그대로 사용)
+ *
+ * [메트릭]
+ * - cache.stampede.loads{cache, mode=sync|refresh}: 실제 적재(DB 조회) 횟수
+ * - cache.stampede.coalesced{cache}: 진행 중인 적재에 합류한 요청 수
+ *
+ * [테스트]
+ * - 만료 판정과 적재 시간 측정은 Clock, XFetch 난수는 DoubleSupplier로 주입받아 시간/확률을 고정할 수 있습니다
+ */
+@Slf4j
+public class StampedeProtectedCache implements Cache {
+
+    private final Cache delegate;
+    private final long ttlMillis;
+    private final boolean serveStale;
+    private final double beta;
+    private final Executor refreshExecutor;
+    private final Clock clock;
+    private final DoubleSupplier random;
+
+    private final ConcurrentMap<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter syncLoads;
+    private final Counter refreshLoads;
+    private final Counter coalesced;
+
+    public StampedeProtectedCache(Cache delegate, Duration ttl, Duration staleTtl, double beta,
+                                  Executor refreshExecutor, MeterRegistry meterRegistry) {
+        this(delegate, ttl, staleTtl, beta, refreshExecutor, meterRegistry,
+                Clock.systemUTC(), () -> ThreadLocalRandom.current().nextDouble());
+    }
+
+    /**
+     * @param clock  만료 판정과 적재 시간 측정에 사용할 시계
+     * @param random XFetch 조기 갱신에 사용할 [0, 1) 난수 공급자
+     */
+    public StampedeProtectedCache(Cache delegate, Duration ttl, Duration staleTtl, double beta,
+                                  Executor refreshExecutor, MeterRegistry meterRegistry,
+                                  Clock clock, DoubleSupplier random) {
+        this.delegate = delegate;
+        this.ttlMillis = ttl.toMillis();
+        this.serveStale = !staleTtl.isZero();
+        this.beta = beta;
+        this.refreshExecutor = refreshExecutor;
+        this.clock = clock;
+        this.random = random;
+
+        this.syncLoads = loadCounter(meterRegistry, "sync");
+        this.refreshLoads = loadCounter(meterRegistry, "refresh");
+        this.coalesced = Counter.builder("cache.stampede.coalesced")
+                .description("진행 중인 적재에 합류한 요청 수")
+                .tag("cache", delegate.getName())
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    /**
+     * 적재 함수 없는 조회 (sync = false 경로): 만료된 값은 stale 허용 시에만 반환
+     */
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper wrapper = delegate.get(key);
+        if (wrapper == null) {
+            return null;
+        }
+        if (!(wrapper.get() instanceof CacheEnvelope envelope)) {
+            return wrapper;
+        }
+        if (envelope.isExpired(clock.millis()) && !serveStale) {
+            return null;
+        }
+        return new SimpleValueWrapper(envelope.getValue());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper == null ? null : wrapper.get();
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("캐시 값의 타입이 일치하지 않습니다. 요청 타입: "
+                    + type.getName() + ", 실제 값: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = delegate.get(key);
+        if (wrapper != null) {
+            if (!(wrapper.get() instanceof CacheEnvelope envelope)) {
+                return (T) wrapper.get();
+            }
+
+            long now = clock.millis();
+            if (!envelope.isExpired(now)) {
+                if (shouldRefreshEarly(envelope, now)) {
+                    log.debug("XFetch 조기 갱신 - cache: {}, key: {}", getName(), key);
+                    refreshAsync(key, valueLoader);
+                }
+                return (T) envelope.getValue();
+            }
+            if (serveStale) {
+                log.debug("만료된 값 응답 후 백그라운드 갱신 - cache: {}, key: {}", getName(), key);
+                refreshAsync(key, valueLoader);
+                return (T) envelope.getValue();
+            }
+        }
+        return (T) loadSingleFlight(key, valueLoader);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        // @CachePut 등 외부에서 넣은 값은 적재 시간을 모르므로 0 (XFetch 조기 갱신 없음)
+        delegate.put(key, new CacheEnvelope(value, 0L, clock.millis() + ttlMillis));
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    /**
+     * XFetch: now - delta × beta × ln(rand) ≥ expiry
+     * ln(rand)는 음수이므로 만료 시각에 가까울수록, delta가 클수록 참이 될 확률이 커짐
+     */
+    private boolean shouldRefreshEarly(CacheEnvelope envelope, long now) {
+        if (envelope.getComputeMillis() <= 0) {
+            return false;
+        }
+        double sample = 1.0 - random.getAsDouble();  // (0, 1]
+        double gap = -envelope.getComputeMillis() * beta * Math.log(sample);
+        return now + gap >= envelope.getExpiresAt();
+    }
+
+    /**
+     * 같은 키의 동시 적재는 하나만 실행하고 나머지는 결과를 공유
+     */
+    private Object loadSingleFlight(Object key, Callable<?> valueLoader) {
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            coalesced.increment();
+            return await(key, valueLoader, existing);
+        }
+
+        try {
+            // 내가 대기열에 들어가기 직전에 다른 스레드가 적재를 끝냈을 수 있음
+            ValueWrapper wrapper = delegate.get(key);
+            if (wrapper != null && wrapper.get() instanceof CacheEnvelope envelope
+                    && !envelope.isExpired(clock.millis())) {
+                mine.complete(envelope.getValue());
+                return envelope.getValue();
+            }
+
+            syncLoads.increment();
+            Object value = load(key, valueLoader);
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /**
+     * 백그라운드 갱신 (이미 적재 중이면 생략)
+     */
+    private void refreshAsync(Object key, Callable<?> valueLoader) {
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        if (inFlight.putIfAbsent(key, mine) != null) {
+            return;
+        }
+
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    refreshLoads.increment();
+                    mine.complete(load(key, valueLoader));
+                } catch (RuntimeException e) {
+                    log.warn("캐시 백그라운드 갱신 실패 - cache: {}, key: {}, error: {}", getName(), key, e.getMessage());
+                    mine.completeExceptionally(e);
+                } finally {
+                    inFlight.remove(key, mine);
+                }
+            });
+        } catch (RuntimeException e) {
+            // 갱신 스레드 풀이 가득 찬 경우: 이번 갱신은 포기하고 다음 요청에서 다시 시도
+            inFlight.remove(key, mine);
+            mine.cancel(false);
+        }
+    }
+
+    private Object load(Object key, Callable<?> valueLoader) {
+        long start = clock.millis();
+        Object value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        long computeMillis = clock.millis() - start;
+
+        delegate.put(key, new CacheEnvelope(value, computeMillis, clock.millis() + ttlMillis));
+        return value;
+    }
+
+    private Object await(Object key, Callable<?> valueLoader, CompletableFuture<Object> future) {
+        try {
+            return future.join();
+        } catch (CancellationException e) {
+            // 합류한 백그라운드 갱신이 스레드 풀 포화로 취소됨 → 직접 적재
+            syncLoads.increment();
+            return load(key, valueLoader);
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new ValueRetrievalException(key, valueLoader, e.getCause());
+        }
+    }
+
+    private Counter loadCounter(MeterRegistry registry, String mode) {
+        return Counter.builder("cache.stampede.loads")
+                .description("캐시 적재(원본 조회) 횟수")
+                .tag("cache", delegate.getName())
+                .tag("mode", mode)
+                .register(registry);
+    }
+}
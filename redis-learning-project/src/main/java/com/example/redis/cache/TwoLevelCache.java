@@ -0,0 +1,183 @@
+package com.example.redis.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 2단 캐시: Caffeine(L1, 프로세스 내부) + Redis(L2)
+ *
+ * [조회]
+ * 1. L1 조회 → 있으면 바로 반환 (네트워크/역직렬화 없음)
+ * 2. L1 미스 → L2(Redis) 조회 → 있으면 L1에 채우고 반환
+ * 3. 둘 다 미스 → null (Spring Cache가 메서드 실행 후 put)
+ *
+ * [변경]
+ * - put/evict/clear는 L2와 내 L1에 반영한 뒤 무효화 메시지를 발행
+ * - 다른 노드는 메시지를 받아 자신의 L1만 비우고, 다음 조회 때 L2에서 새 값을 읽음
+ *
+ * [메트릭]
+ * - cache.tier.gets{cache, tier=l1|l2, result=hit|miss}: 계층별 적중/미스 수 → 적중률 계산
+ * - cache.tier.latency{cache, tier=l1|l2}: 계층별 조회 시간
+ *
+ * L1에는 값 대신 ValueWrapper를 저장해 null 값과 "없음"을 구분합니다.
+ */
+public class TwoLevelCache implements Cache {
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, ValueWrapper> localCache;
+    private final Cache remoteCache;
+    private final CacheInvalidationPublisher invalidationPublisher;
+
+    private final Counter localHits;
+    private final Counter localMisses;
+    private final Counter remoteHits;
+    private final Counter remoteMisses;
+    private final Timer localLatency;
+    private final Timer remoteLatency;
+
+    public TwoLevelCache(String name,
+                         com.github.benmanes.caffeine.cache.Cache<String, ValueWrapper> localCache,
+                         Cache remoteCache,
+                         CacheInvalidationPublisher invalidationPublisher,
+                         MeterRegistry meterRegistry) {
+        this.name = name;
+        this.localCache = localCache;
+        this.remoteCache = remoteCache;
+        this.invalidationPublisher = invalidationPublisher;
+
+        this.localHits = tierCounter(meterRegistry, "l1", "hit");
+        this.localMisses = tierCounter(meterRegistry, "l1", "miss");
+        this.remoteHits = tierCounter(meterRegistry, "l2", "hit");
+        this.remoteMisses = tierCounter(meterRegistry, "l2", "miss");
+        this.localLatency = tierTimer(meterRegistry, "l1");
+        this.remoteLatency = tierTimer(meterRegistry, "l2");
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return localCache;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = localKey(key);
+
+        long start = System.nanoTime();
+        ValueWrapper local = localCache.getIfPresent(localKey);
+        localLatency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        if (local != null) {
+            localHits.increment();
+            return local;
+        }
+        localMisses.increment();
+
+        start = System.nanoTime();
+        ValueWrapper remote = remoteCache.get(key);
+        remoteLatency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        if (remote == null) {
+            remoteMisses.increment();
+            return null;
+        }
+        remoteHits.increment();
+
+        localCache.put(localKey, new SimpleValueWrapper(remote.get()));
+        return remote;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper == null ? null : wrapper.get();
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("캐시 값의 타입이 일치하지 않습니다. 요청 타입: "
+                    + type.getName() + ", 실제 값: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper != null) {
+            return (T) wrapper.get();
+        }
+
+        // L2에 위임: RedisCache가 적재와 저장을 처리
+        T value = remoteCache.get(key, valueLoader);
+        localCache.put(localKey(key), new SimpleValueWrapper(value));
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        remoteCache.put(key, value);
+        localCache.put(localKey(key), new SimpleValueWrapper(value));
+        invalidationPublisher.publishEvict(name, key);
+    }
+
+    @Override
+    public void evict(Object key) {
+        remoteCache.evict(key);
+        localCache.invalidate(localKey(key));
+        invalidationPublisher.publishEvict(name, key);
+    }
+
+    @Override
+    public void clear() {
+        remoteCache.clear();
+        localCache.invalidateAll();
+        invalidationPublisher.publishClear(name);
+    }
+
+    /**
+     * 다른 노드의 무효화 메시지 처리: 내 L1만 삭제 (L2는 이미 반영됨)
+     */
+    public void evictLocal(String key) {
+        localCache.invalidate(key);
+    }
+
+    /**
+     * 다른 노드의 전체 무효화 메시지 처리
+     */
+    public void clearLocal() {
+        localCache.invalidateAll();
+    }
+
+    /**
+     * L1 키는 무효화 메시지와 맞추기 위해 문자열로 통일
+     * (Redis 캐시 키도 같은 방식으로 문자열 변환됨)
+     */
+    private static String localKey(Object key) {
+        return String.valueOf(key);
+    }
+
+    private Counter tierCounter(MeterRegistry registry, String tier, String result) {
+        return Counter.builder("cache.tier.gets")
+                .description("캐시 계층별 조회 결과")
+                .tag("cache", name)
+                .tag("tier", tier)
+                .tag("result", result)
+                .register(registry);
+    }
+
+    private Timer tierTimer(MeterRegistry registry, String tier) {
+        return Timer.builder("cache.tier.latency")
+                .description("캐시 계층별 조회 시간")
+                .tag("cache", name)
+                .tag("tier", tier)
+                .register(registry);
+    }
+}
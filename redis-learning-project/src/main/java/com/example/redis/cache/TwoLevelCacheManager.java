@@ -0,0 +1,116 @@
+package com.example.redis.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+
+/**
+ * Caffeine L1 + Redis L2 CacheManager
+ *
+ * - LocalCacheProperties에 등록된 캐시 이름: TwoLevelCache (L1 + L2)
+ * - 등록되지 않은 캐시 이름: Redis 캐시 그대로 사용
+ * - StampedeProperties에 등록된 캐시 이름: 위 캐시를 StampedeProtectedCache로 한 번 더 감쌈
+ *
+ * Redis Pub/Sub 구독자(MessageListener)로도 등록되어,
+ * 다른 노드가 보낸 무효화 메시지를 받으면 해당 캐시의 L1 항목을 삭제합니다.
+ */
+@Slf4j
+public class TwoLevelCacheManager implements CacheManager, MessageListener {
+
+    private final CacheManager remoteCacheManager;
+    private final LocalCacheProperties properties;
+    private final StampedeProperties stampedeProperties;
+    private final CacheInvalidationPublisher invalidationPublisher;
+    private final Executor refreshExecutor;
+    private final MeterRegistry meterRegistry;
+
+    private final ConcurrentMap<String, Cache> caches = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, TwoLevelCache> localCaches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(CacheManager remoteCacheManager,
+                                LocalCacheProperties properties,
+                                StampedeProperties stampedeProperties,
+                                CacheInvalidationPublisher invalidationPublisher,
+                                Executor refreshExecutor,
+                                MeterRegistry meterRegistry) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.properties = properties;
+        this.stampedeProperties = stampedeProperties;
+        this.invalidationPublisher = invalidationPublisher;
+        this.refreshExecutor = refreshExecutor;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, this::createCache);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        Set<String> names = new LinkedHashSet<>(remoteCacheManager.getCacheNames());
+        names.addAll(caches.keySet());
+        return names;
+    }
+
+    /**
+     * 다른 노드의 무효화 메시지 수신
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        invalidationPublisher.readRemote(message.getBody()).ifPresent(invalidation -> {
+            TwoLevelCache cache = localCaches.get(invalidation.cacheName());
+            if (cache == null) {
+                return;
+            }
+            if (invalidation.isClear()) {
+                cache.clearLocal();
+            } else {
+                cache.evictLocal(invalidation.key());
+            }
+            log.debug("L1 캐시 무효화 수신 - cache: {}, key: {}", invalidation.cacheName(), invalidation.key());
+        });
+    }
+
+    private Cache createCache(String name) {
+        Cache remoteCache = remoteCacheManager.getCache(name);
+        if (remoteCache == null) {
+            return null;
+        }
+
+        Cache cache = remoteCache;
+        LocalCacheProperties.Spec spec = properties.getCaches().get(name);
+        if (spec != null) {
+            log.info("2단 캐시 생성 - cache: {}, L1 최대 항목: {}, L1 TTL: {}", name, spec.getMaximumSize(), spec.getTtl());
+            TwoLevelCache twoLevelCache = new TwoLevelCache(name,
+                    Caffeine.newBuilder()
+                            .maximumSize(spec.getMaximumSize())
+                            .expireAfterWrite(spec.getTtl())
+                            .build(),
+                    remoteCache,
+                    invalidationPublisher,
+                    meterRegistry);
+            localCaches.put(name, twoLevelCache);
+            cache = twoLevelCache;
+        }
+
+        if (stampedeProperties.getCaches().contains(name)) {
+            log.info("스탬피드 방지 적용 - cache: {}, TTL: {}, stale 허용: {}",
+                    name, stampedeProperties.getTtl(), stampedeProperties.getStaleTtl());
+            cache = new StampedeProtectedCache(cache, stampedeProperties.getTtl(), stampedeProperties.getStaleTtl(),
+                    stampedeProperties.getBeta(), refreshExecutor, meterRegistry);
+        }
+        return cache;
+    }
+}
@@ -1,10 +1,18 @@
 package com.example.redis.config;
 
+import com.example.redis.cache.CacheInvalidationPublisher;
+import com.example.redis.cache.CacheSerializationProperties;
+import com.example.redis.cache.CompactRedisSerializer;
+import com.example.redis.cache.LocalCacheProperties;
+import com.example.redis.cache.StampedeProperties;
+import com.example.redis.cache.TwoLevelCacheManager;
+import com.example.redis.search.ProductSearchIndexer;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import org.springframework.cache.CacheManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -12,25 +20,36 @@ import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Redis 설정 클래스
  *
  * - RedisTemplate: Redis 직접 조작용
- * - CacheManager: @Cacheable 등 Spring Cache 어노테이션용
+ * - CacheManager: @Cacheable 등 Spring Cache 어노테이션용 (Caffeine L1 + Redis L2)
+ * - RedisMessageListenerContainer: 노드 간 L1 캐시 무효화, 검색 색인 변경 메시지 구독
  */
 @Configuration
 @EnableCaching
+@EnableConfigurationProperties({LocalCacheProperties.class, StampedeProperties.class, CacheSerializationProperties.class})
 public class RedisConfig {
 
     /**
      * RedisTemplate 빈 생성
      * Redis 데이터를 직접 저장/조회할 때 사용
+     *
+     * 조회수(INCR 결과를 GET), 랭킹(ZSET 멤버) 등 Redis가 직접 다루는 값이라
+     * 캐시와 달리 바이너리 형식(CompactRedisSerializer)을 쓰지 않고 JSON을 유지합니다.
      */
     @Bean
     public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory connectionFactory) {
@@ -84,21 +103,18 @@ public class RedisConfig {
     /**
      * CacheManager 빈 생성
      * @Cacheable, @CachePut, @CacheEvict 어노테이션 사용 시 적용
+     *
+     * - cache.local.caches에 등록된 캐시: Caffeine(L1) → Redis(L2) 순서로 조회
+     * - 등록되지 않은 캐시: Redis만 사용 (기존과 동일)
+     * - cache.stampede.caches에 등록된 캐시: 단일 적재 + XFetch 조기 갱신 (Redis TTL = ttl + stale-ttl)
      */
     @Bean
-    public CacheManager cacheManager(RedisConnectionFactory connectionFactory) {
-        // ObjectMapper 설정 (RedisTemplate과 동일)
-        ObjectMapper objectMapper = new ObjectMapper();
-        objectMapper.registerModule(new JavaTimeModule());
-        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
-
-        // 타입 정보 포함 (위와 동일한 이유)
-        objectMapper.activateDefaultTyping(
-            objectMapper.getPolymorphicTypeValidator(),
-            ObjectMapper.DefaultTyping.NON_FINAL,
-            JsonTypeInfo.As.PROPERTY
-        );
-
+    public TwoLevelCacheManager cacheManager(RedisConnectionFactory connectionFactory,
+                                             LocalCacheProperties localCacheProperties,
+                                             StampedeProperties stampedeProperties,
+                                             CacheSerializationProperties cacheSerializationProperties,
+                                             CacheInvalidationPublisher cacheInvalidationPublisher,
+                                             MeterRegistry meterRegistry) {
         // Redis Cache 설정
         RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig()
                 // TTL: 10분 (캐시 데이터 유효 시간)
@@ -107,16 +123,83 @@ public class RedisConfig {
                 .serializeKeysWith(
                         RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer())
                 )
-                // Value는 JSON으로 직렬화
+                // Value는 cache.serialization.format에 따라 JSON 또는 바이너리(Smile + LZ4)로 직렬화
                 .serializeValuesWith(
                         RedisSerializationContext.SerializationPair.fromSerializer(
-                                new GenericJackson2JsonRedisSerializer(objectMapper)
+                                cacheValueSerializer(cacheSerializationProperties)
                         )
                 );
 
-        return RedisCacheManager.builder(connectionFactory)
+        // 스탬피드 방지 캐시는 논리적 만료 후에도 stale 값을 응답할 수 있도록 Redis TTL을 더 길게 유지
+        Map<String, RedisCacheConfiguration> stampedeConfigs = new HashMap<>();
+        Duration stampedeTtl = stampedeProperties.getTtl().plus(stampedeProperties.getStaleTtl());
+        stampedeProperties.getCaches().forEach(name -> stampedeConfigs.put(name, config.entryTtl(stampedeTtl)));
+
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(connectionFactory)
                 .cacheDefaults(config)
+                .withInitialCacheConfigurations(stampedeConfigs)
                 .build();
+        redisCacheManager.afterPropertiesSet();
+
+        return new TwoLevelCacheManager(redisCacheManager, localCacheProperties, stampedeProperties,
+                cacheInvalidationPublisher, cacheRefreshExecutor(), meterRegistry);
+    }
+
+    /**
+     * 캐시 값 직렬화 방식 선택
+     *
+     * - json: 기존 방식. 모든 객체에 "@class" 클래스 이름이 들어가 목록 캐시(products::all)가 커짐
+     * - compact: Smile + LZ4 + 버전 헤더. 헤더가 맞지 않는 값(이전 JSON 값 등)은 캐시 미스로 처리
+     */
+    private RedisSerializer<Object> cacheValueSerializer(CacheSerializationProperties properties) {
+        if (properties.getFormat() == CacheSerializationProperties.Format.COMPACT) {
+            return new CompactRedisSerializer(properties.getCompressionThreshold());
+        }
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        // 타입 정보 포함 (RedisTemplate과 동일한 이유)
+        objectMapper.activateDefaultTyping(
+            objectMapper.getPolymorphicTypeValidator(),
+            ObjectMapper.DefaultTyping.NON_FINAL,
+            JsonTypeInfo.As.PROPERTY
+        );
+        return new GenericJackson2JsonRedisSerializer(objectMapper);
+    }
+
+    /**
+     * 캐시 백그라운드 갱신용 스레드 풀 (XFetch 조기 갱신, stale 응답 후 갱신)
+     * - 큐가 가득 차면 갱신을 건너뛰고 다음 요청에서 다시 시도합니다
+     * - Executor 빈으로 등록하면 Spring Boot 기본 applicationTaskExecutor가 비활성화되므로 빈으로 노출하지 않음
+     * - 데몬 스레드: 종료 시 진행 중인 갱신은 버려도 다음 요청에서 다시 적재됨
+     */
+    private ThreadPoolTaskExecutor cacheRefreshExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("cache-refresh-");
+        executor.setDaemon(true);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 노드 간 동기화 채널 구독 (구독 연결 1개 공유)
+     * - cache:invalidation: 다른 노드에서 캐시 값이 바뀌면 TwoLevelCacheManager가 내 L1의 해당 항목을 삭제
+     * - search:index: 다른 노드에서 상품이 바뀌면 ProductSearchIndexer가 내 검색 색인을 갱신
+     */
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                           TwoLevelCacheManager cacheManager,
+                                                                           ProductSearchIndexer productSearchIndexer) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(cacheManager, new ChannelTopic(CacheInvalidationPublisher.CHANNEL));
+        container.addMessageListener(productSearchIndexer, new ChannelTopic(ProductSearchIndexer.CHANNEL));
+        return container;
     }
 
 }
@@ -0,0 +1,54 @@
+package com.example.redis.controller;
+
+import com.example.redis.dto.ViewStatsResponse;
+import com.example.redis.service.ViewCountService;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 게시글 조회수 컨트롤러
+ * - 원시 조회수(INCR)와 순 방문자 수(HyperLogLog)를 함께 제공
+ */
+@RestController
+@RequestMapping("/api/posts")
+@RequiredArgsConstructor
+@Slf4j
+public class PostController {
+
+    private final ViewCountService viewCountService;
+
+    /**
+     * 조회 기록 (조회수 증가 + 순 방문자 기록)
+     * POST /api/posts/{id}/views
+     *
+     * Request: ?visitorId=user1 (없으면 요청 IP를 방문자로 사용)
+     */
+    @PostMapping("/{id}/views")
+    public ResponseEntity<ViewStatsResponse> recordView(
+            @PathVariable Long id,
+            @RequestParam(required = false) String visitorId,
+            HttpServletRequest request) {
+
+        String visitor = visitorId != null && !visitorId.isBlank() ? visitorId : request.getRemoteAddr();
+        viewCountService.increaseViewCount(id, visitor);
+
+        return ResponseEntity.ok(viewCountService.getViewStats(id));
+    }
+
+    /**
+     * 조회 통계 (조회수 + 오늘/최근 7일/최근 30일 순 방문자 수)
+     * GET /api/posts/{id}/views
+     */
+    @GetMapping("/{id}/views")
+    public ResponseEntity<ViewStatsResponse> getViewStats(@PathVariable Long id) {
+        ViewStatsResponse response = viewCountService.getViewStats(id);
+
+        log.info("조회 통계 - Post: {}, 조회수: {}, 오늘 순 방문자: {}",
+                id, response.getViewCount(), response.getUniqueVisitorsToday());
+
+        return ResponseEntity.ok(response);
+    }
+}
@@ -1,10 +1,12 @@
 package com.example.redis.controller;
 
+import com.example.redis.dto.ProductRequest;
 import com.example.redis.dto.ProductResponse;
 import com.example.redis.service.ProductService;
 import com.example.redis.service.ProductServiceWithoutCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -160,6 +162,25 @@ public class ProductController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 상품 생성 (관련 목록 캐시만 무효화)
+     * POST /api/products
+     */
+    @PostMapping
+    public ResponseEntity<ProductResponse> createProduct(@RequestBody ProductRequest request) {
+        ProductResponse product = productService.createProduct(request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(product);
+    }
+
+    /**
+     * 상품 수정 (해당 상품 캐시와 관련 목록 캐시만 무효화)
+     * PUT /api/products/{id}
+     */
+    @PutMapping("/{id}")
+    public ResponseEntity<ProductResponse> updateProduct(@PathVariable Long id, @RequestBody ProductRequest request) {
+        return ResponseEntity.ok(productService.updateProduct(id, request));
+    }
+
     /**
      * 캐시 삭제
      * DELETE /api/products/cache
@@ -1,17 +1,30 @@
 package com.example.redis.controller;
 
 import com.example.redis.dto.*;
+import com.example.redis.ranking.LeaderboardProperties;
+import com.example.redis.ranking.LeaderboardWindow;
 import com.example.redis.service.RankingService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * 랭킹 컨트롤러
  * - Redis Sorted Set을 활용한 실시간 랭킹 API
+ * - 상위 N명, 페이지, 내 주변 순위, 점수 일괄 등록
  */
 @RestController
 @RequestMapping("/api/ranking")
@@ -20,6 +33,9 @@ import java.util.List;
 public class RankingController {
 
     private final RankingService rankingService;
+    private final LeaderboardProperties leaderboardProperties;
+    // JSON 배열(@RequestBody)과 같은 설정(알 수 없는 필드 무시 등)으로 NDJSON을 읽도록 Spring의 ObjectMapper 사용
+    private final ObjectMapper objectMapper;
 
     /**
      * 점수 추가/업데이트
@@ -68,15 +84,68 @@ public class RankingController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 여러 사용자 점수 일괄 등록
+     * POST /api/ranking/scores
+     *
+     * Request Body: [{"userId": "user1", "score": 1000}, {"userId": "user2", "score": 900}]
+     */
+    @PostMapping("/scores")
+    public ResponseEntity<MessageResponse> addScores(@RequestBody List<ScoreRequest> requests) {
+
+        Map<String, Double> scores = new LinkedHashMap<>();
+        for (ScoreRequest request : requests) {
+            scores.put(request.getUserId(), request.getScore());
+        }
+        rankingService.addScores(scores);
+
+        MessageResponse response = MessageResponse.builder()
+                .message(scores.size() + "명의 점수가 등록되었습니다.")
+                .build();
+
+        log.info("점수 일괄 등록 - {}명", scores.size());
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 점수 일괄 증가 (JSON 배열)
+     * POST /api/ranking/score/increment/batch
+     * Content-Type: application/json
+     *
+     * Request Body: [{"userId": "user1", "delta": 100}, {"userId": "user2", "delta": -20}]
+     */
+    @PostMapping(value = "/score/increment/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<BatchScoreUpdateResponse> incrementScores(@RequestBody List<ScoreDeltaRequest> requests) {
+        return ResponseEntity.ok(batchResponse(requests));
+    }
+
+    /**
+     * 점수 일괄 증가 (NDJSON, 한 줄에 항목 1개)
+     * POST /api/ranking/score/increment/batch
+     * Content-Type: application/x-ndjson
+     *
+     * Request Body:
+     * {"userId": "user1", "delta": 100}
+     * {"userId": "user2", "delta": -20}
+     */
+    @PostMapping(value = "/score/increment/batch", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<BatchScoreUpdateResponse> incrementScoresNdjson(InputStream body) throws IOException {
+        return ResponseEntity.ok(batchResponse(readNdjson(body)));
+    }
+
     /**
      * 상위 N명 랭킹 조회
-     * GET /api/ranking/top?limit=10
+     * GET /api/ranking/top?limit=10&window=weekly
+     *
+     * window: hourly, daily, weekly, all-time (기본값)
      */
     @GetMapping("/top")
     public ResponseEntity<TopRankingResponse> getTopRankings(
-            @RequestParam(defaultValue = "10") int limit) {
+            @RequestParam(defaultValue = "10") int limit,
+            @RequestParam(defaultValue = "all-time") String window) {
 
-        List<RankingResponse> rankings = rankingService.getTopRankings(limit);
+        List<RankingResponse> rankings = rankingService.getTopRankings(LeaderboardWindow.from(window), limit);
 
         TopRankingResponse response = TopRankingResponse.builder()
                 .data(rankings)
@@ -88,14 +157,67 @@ public class RankingController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 랭킹 페이지 조회 (상위 10,000위까지)
+     * GET /api/ranking/page?page=0&size=20&window=daily
+     */
+    @GetMapping("/page")
+    public ResponseEntity<RankingPageResponse> getRankingPage(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "all-time") String window) {
+
+        LeaderboardWindow leaderboardWindow = LeaderboardWindow.from(window);
+        List<RankingResponse> rankings = rankingService.getRankingPage(leaderboardWindow, page, size);
+
+        RankingPageResponse response = RankingPageResponse.builder()
+                .data(rankings)
+                .page(page)
+                .size(size)
+                .totalUsers(rankingService.getRankingCount(leaderboardWindow))
+                .build();
+
+        log.info("랭킹 페이지 조회 - page: {}, size: {}", page, size);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 내 주변 순위 조회
+     * GET /api/ranking/user/{userId}/around?radius=5&window=weekly
+     */
+    @GetMapping("/user/{userId}/around")
+    public ResponseEntity<RankingAroundResponse> getRankingsAroundUser(
+            @PathVariable String userId,
+            @RequestParam(defaultValue = "5") int radius,
+            @RequestParam(defaultValue = "all-time") String window) {
+
+        List<RankingResponse> rankings =
+                rankingService.getRankingsAroundUser(LeaderboardWindow.from(window), userId, radius);
+
+        RankingAroundResponse.RankingAroundResponseBuilder response = RankingAroundResponse.builder()
+                .userId(userId)
+                .data(rankings)
+                .found(!rankings.isEmpty());
+        if (rankings.isEmpty()) {
+            response.message("랭킹 데이터가 없습니다.");
+        }
+
+        log.info("사용자 주변 랭킹 조회 - User: {}, radius: {}", userId, radius);
+
+        return ResponseEntity.ok(response.build());
+    }
+
     /**
      * 특정 사용자 랭킹 조회
-     * GET /api/ranking/user/{userId}
+     * GET /api/ranking/user/{userId}?window=daily
      */
     @GetMapping("/user/{userId}")
-    public ResponseEntity<UserRankingResponse> getUserRanking(@PathVariable String userId) {
+    public ResponseEntity<UserRankingResponse> getUserRanking(
+            @PathVariable String userId,
+            @RequestParam(defaultValue = "all-time") String window) {
 
-        RankingResponse ranking = rankingService.getUserRanking(userId);
+        RankingResponse ranking = rankingService.getUserRanking(LeaderboardWindow.from(window), userId);
 
         UserRankingResponse response;
 
@@ -171,4 +293,65 @@ public class RankingController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 다음 스냅샷 저장 승인 (인원이 정상적으로 크게 줄어 스냅샷 저장이 생략되고 있을 때)
+     * POST /api/ranking/snapshot/accept
+     */
+    @PostMapping("/snapshot/accept")
+    public ResponseEntity<MessageResponse> acceptRankingSnapshot() {
+
+        rankingService.acceptRankingSnapshot();
+
+        MessageResponse response = MessageResponse.builder()
+                .message("다음 스냅샷은 현재 랭킹 그대로 저장됩니다.")
+                .build();
+
+        log.info("랭킹 스냅샷 저장 승인");
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 잘못된 요청 (기간 이름, 페이지 범위, 일괄 증가 항목 등)
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<MessageResponse> handleIllegalArgument(IllegalArgumentException e) {
+        MessageResponse response = MessageResponse.builder()
+                .message(e.getMessage())
+                .build();
+
+        return ResponseEntity.badRequest().body(response);
+    }
+
+    private BatchScoreUpdateResponse batchResponse(List<ScoreDeltaRequest> requests) {
+        List<RankingResponse> results = rankingService.incrementScoresInBatch(requests);
+
+        log.info("점수 일괄 증가 - 항목: {}개, 사용자: {}명", requests.size(), results.size());
+
+        return BatchScoreUpdateResponse.builder()
+                .message(results.size() + "명의 점수가 증가되었습니다.")
+                .received(requests.size())
+                .users(results.size())
+                .data(results)
+                .build();
+    }
+
+    /**
+     * NDJSON 읽기 (최대 항목 수 + 1개까지만 읽어 초과 여부 판단)
+     */
+    private List<ScoreDeltaRequest> readNdjson(InputStream body) throws IOException {
+        int maxItems = leaderboardProperties.getBatch().getMaxItems();
+        List<ScoreDeltaRequest> requests = new ArrayList<>();
+        ObjectReader reader = objectMapper.readerFor(ScoreDeltaRequest.class);
+        try (MappingIterator<ScoreDeltaRequest> iterator = reader.readValues(body)) {
+            while (iterator.hasNextValue() && requests.size() <= maxItems) {
+                requests.add(iterator.nextValue());
+            }
+        } catch (JsonProcessingException e) {
+            String line = e.getLocation() == null ? "" : " (" + e.getLocation().getLineNr() + "번째 줄)";
+            throw new IllegalArgumentException("NDJSON을 읽을 수 없습니다" + line + ": " + e.getOriginalMessage());
+        }
+        return requests;
+    }
+
 }
@@ -0,0 +1,37 @@
+package com.example.redis.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게임 랭킹 스냅샷
+ * - Redis 리더보드를 주기적으로 저장해 두었다가 Redis 데이터 유실 시 복원
+ */
+@Entity
+@Table(name = "ranking_snapshot")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class RankingSnapshot {
+
+    /**
+     * user_id 컬럼 길이 (랭킹 점수 등록 시에도 이 길이를 넘는 userId는 거부)
+     */
+    public static final int USER_ID_MAX_LENGTH = 100;
+
+    @Id
+    @Column(name = "user_id", length = USER_ID_MAX_LENGTH)
+    private String userId;
+
+    @Column(nullable = false)
+    private Double score;
+
+    /**
+     * 이 점수를 저장한 스냅샷 시작 시각 (이전 스냅샷에만 남은 사용자 정리 기준)
+     */
+    @Column(name = "snapshot_at", nullable = false)
+    private LocalDateTime snapshotAt;
+}
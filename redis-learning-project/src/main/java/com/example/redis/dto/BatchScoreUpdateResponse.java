@@ -0,0 +1,22 @@
+package com.example.redis.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchScoreUpdateResponse implements Serializable {
+
+    private String message;
+    private Integer received;             // 받은 항목 수
+    private Integer users;                // 서로 다른 사용자 수 (같은 사용자는 증가분 합산)
+    private List<RankingResponse> data;   // 사용자별 새 점수와 전체 순위 (요청 순서)
+
+}
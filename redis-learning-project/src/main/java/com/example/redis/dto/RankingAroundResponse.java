@@ -0,0 +1,22 @@
+package com.example.redis.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RankingAroundResponse implements Serializable {
+
+    private String userId;
+    private List<RankingResponse> data;  // 위 radius명 + 나 + 아래 radius명 (순위순)
+    private Boolean found;
+    private String message;  // found가 false일 때 메시지
+
+}
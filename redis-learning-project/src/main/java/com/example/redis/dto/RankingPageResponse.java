@@ -0,0 +1,22 @@
+package com.example.redis.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RankingPageResponse implements Serializable {
+
+    private List<RankingResponse> data;
+    private Integer page;        // 페이지 번호 (0부터)
+    private Integer size;        // 페이지 크기
+    private Long totalUsers;     // 전체 랭킹 인원
+
+}
@@ -0,0 +1,19 @@
+package com.example.redis.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ScoreDeltaRequest implements Serializable {
+
+    private String userId;
+    private Double delta;     // 증가시킬 점수 (음수면 감소)
+
+}
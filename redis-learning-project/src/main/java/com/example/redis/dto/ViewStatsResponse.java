@@ -0,0 +1,22 @@
+package com.example.redis.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ViewStatsResponse implements Serializable {
+
+    private Long postId;
+    private Long viewCount;                 // 원시 조회수 (INCR)
+    private Long uniqueVisitorsToday;       // 순 방문자 수 (HyperLogLog 근사값)
+    private Long uniqueVisitorsLast7Days;
+    private Long uniqueVisitorsLast30Days;
+
+}
@@ -0,0 +1,28 @@
+package com.example.redis.event;
+
+import com.example.redis.dto.ProductResponse;
+
+/**
+ * 상품 생성/수정 이벤트
+ *
+ * 캐시 무효화에 변경 전/후 상태가 모두 필요합니다.
+ * - 변경 전: 이 상품이 빠져야 하는 목록 (이전 카테고리, 이전 이름으로 검색된 결과)
+ * - 변경 후: 이 상품이 새로 들어가야 하는 목록 (새 카테고리, 새 이름으로 검색될 결과)
+ *
+ * @param before 변경 전 상태 (생성 시 null)
+ * @param after  변경 후 상태
+ */
+public record ProductChangedEvent(ProductResponse before, ProductResponse after) {
+
+    public static ProductChangedEvent created(ProductResponse product) {
+        return new ProductChangedEvent(null, product);
+    }
+
+    public static ProductChangedEvent updated(ProductResponse before, ProductResponse after) {
+        return new ProductChangedEvent(before, after);
+    }
+
+    public Long productId() {
+        return after.getId();
+    }
+}
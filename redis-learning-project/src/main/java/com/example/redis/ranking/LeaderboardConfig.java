@@ -0,0 +1,37 @@
+package com.example.redis.ranking;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.time.Clock;
+
+/**
+ * 게임 리더보드 설정
+ * - 샤드 키: ranking:game:shard:{0..N-1}
+ * - 멤버는 StringRedisTemplate으로 저장 (기존 ranking:game은 JSON 직렬화라 "\"user1\"" 형태)
+ * - 기간별 보드: ranking:game:{hourly|daily|weekly}:{기간}:shard:{0..N-1}
+ */
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(LeaderboardProperties.class)
+public class LeaderboardConfig {
+
+    public static final String GAME_RANKING_KEY = "ranking:game";
+
+    @Bean
+    public ShardedLeaderboard gameLeaderboard(StringRedisTemplate stringRedisTemplate,
+                                              LeaderboardProperties properties) {
+        return new ShardedLeaderboard(stringRedisTemplate, GAME_RANKING_KEY, properties.getShards());
+    }
+
+    @Bean
+    public WindowedLeaderboard windowedGameLeaderboard(StringRedisTemplate stringRedisTemplate,
+                                                       ShardedLeaderboard gameLeaderboard,
+                                                       LeaderboardProperties properties) {
+        LeaderboardProperties.Windows windows = properties.getWindows();
+        return new WindowedLeaderboard(stringRedisTemplate, gameLeaderboard, windows, Clock.system(windows.getZone()));
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.redis.ranking;
+
+/**
+ * 리더보드 항목
+ *
+ * @param rank   전체 순위 (1위부터, 동점은 같은 순위)
+ * @param userId 사용자 ID
+ * @param score  점수
+ */
+public record LeaderboardEntry(long rank, String userId, double score) {
+}
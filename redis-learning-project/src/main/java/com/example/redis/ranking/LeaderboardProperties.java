@@ -0,0 +1,121 @@
+package com.example.redis.ranking;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.time.ZoneId;
+
+/**
+ * 게임 리더보드 설정
+ *
+ * 예시 (application.yml):
+ * ranking:
+ *   shards: 8
+ *   snapshot:
+ *     enabled: true
+ *     interval: PT5M
+ *     min-retain-ratio: 0.5
+ *   windows:
+ *     zone: Asia/Seoul
+ *     rollup-interval: PT1M
+ *   batch:
+ *     chunk-size: 500
+ *     max-items: 10000
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "ranking")
+public class LeaderboardProperties {
+
+    /**
+     * ZSET 샤드 수
+     * 바꾸면 사용자의 샤드가 달라지므로 리더보드를 비우고 스냅샷에서 복원해야 합니다.
+     */
+    private int shards = 8;
+
+    private Snapshot snapshot = new Snapshot();
+
+    private Windows windows = new Windows();
+
+    private Batch batch = new Batch();
+
+    @Getter
+    @Setter
+    public static class Snapshot {
+
+        /**
+         * MySQL 스냅샷 저장/복원 사용 여부
+         */
+        private boolean enabled = true;
+
+        /**
+         * 스냅샷 주기 (Redis 장애 시 이 시간만큼의 점수 변경이 유실될 수 있음)
+         */
+        private Duration interval = Duration.ofMinutes(5);
+
+        /**
+         * 한 번에 읽고(ZSCAN) 저장(JDBC batch)하는 인원
+         */
+        private int batchSize = 1_000;
+
+        /**
+         * 리더보드 인원이 마지막 스냅샷 인원의 이 비율 미만이면 저장을 생략 (0이면 비어 있을 때만 보호)
+         * Redis 일부 유실 상태를 저장하면 유실된 사용자의 스냅샷 행까지 삭제되기 때문입니다.
+         */
+        private double minRetainRatio = 0.5;
+
+        /**
+         * 인원이 줄어 연속으로 이 횟수만큼 저장을 생략하면 다음 주기에는 줄어든 인원 그대로 저장
+         * 정상적으로 줄어든 리더보드(탈퇴 정리 등)가 스냅샷에 영영 반영되지 않는 것을 막습니다.
+         */
+        private int maxConsecutiveSkips = 6;
+    }
+
+    @Getter
+    @Setter
+    public static class Windows {
+
+        /**
+         * 시간/일/주 경계를 정하는 시간대
+         */
+        private ZoneId zone = ZoneId.of("Asia/Seoul");
+
+        /**
+         * 일간/주간 보드 롤업 주기 (일간/주간 조회는 최대 이 시간만큼 늦게 반영됨)
+         */
+        private Duration rollupInterval = Duration.ofMinutes(1);
+
+        /**
+         * 시간 버킷 보관 기간 (그날의 마지막 롤업까지만 있으면 됨)
+         */
+        private Duration hourlyRetention = Duration.ofDays(2);
+
+        /**
+         * 일간 보드 보관 기간 (주간 롤업이 그 주의 일간 보드를 합치므로 7일 이상)
+         */
+        private Duration dailyRetention = Duration.ofDays(8);
+
+        /**
+         * 주간 보드 보관 기간
+         */
+        private Duration weeklyRetention = Duration.ofDays(15);
+    }
+
+    @Getter
+    @Setter
+    public static class Batch {
+
+        /**
+         * 점수 일괄 증가 시 파이프라인 1번에 보내는 인원
+         * 너무 크면 Redis가 응답을 모아 두는 출력 버퍼와 다른 명령의 대기 시간이 커짐
+         */
+        private int chunkSize = 500;
+
+        /**
+         * 요청 1번에 받을 수 있는 최대 항목 수
+         */
+        private int maxItems = 10_000;
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.redis.ranking;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 일간/주간 리더보드 롤업 스케줄러
+ *
+ * ZUNIONSTORE는 결과 키를 통째로 교체하므로 여러 노드가 실행해도 결과는 같지만,
+ * 같은 작업을 중복하지 않도록 주기당 한 노드만 실행합니다. (SET NX + TTL)
+ */
+@Slf4j
+@Service
+public class LeaderboardRollupService {
+
+    private static final String LOCK_KEY = LeaderboardConfig.GAME_RANKING_KEY + ":rollup:lock";
+
+    private final WindowedLeaderboard windowedGameLeaderboard;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final LeaderboardProperties properties;
+
+    public LeaderboardRollupService(WindowedLeaderboard windowedGameLeaderboard,
+                                    StringRedisTemplate stringRedisTemplate,
+                                    LeaderboardProperties properties) {
+        this.windowedGameLeaderboard = windowedGameLeaderboard;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.properties = properties;
+    }
+
+    @Scheduled(fixedDelayString = "${ranking.windows.rollup-interval:PT1M}")
+    public void scheduledRollup() {
+        // 다음 주기보다 조금 먼저 풀리도록 주기의 절반만 잠금
+        Boolean acquired = stringRedisTemplate.opsForValue()
+                .setIfAbsent(LOCK_KEY, "1", properties.getWindows().getRollupInterval().dividedBy(2));
+        if (!Boolean.TRUE.equals(acquired)) {
+            return;
+        }
+        try {
+            windowedGameLeaderboard.rollup();
+        } catch (RuntimeException e) {
+            log.warn("기간별 랭킹 롤업 실패 (다음 주기에 다시 실행): {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package com.example.redis.ranking;
+
+import com.example.redis.domain.RankingSnapshot;
+import com.example.redis.repository.RankingSnapshotRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게임 리더보드 MySQL 스냅샷
+ *
+ * - 저장: 주기마다 샤드별 ZSCAN으로 batchSize명씩 읽어 JDBC batch UPSERT → 이번 스냅샷에 없는 사용자 삭제
+ * - 복원: 시작 시 모든 샤드가 비어 있으면(Redis 데이터 유실) 스냅샷을 샤드별 ZADD 파이프라인으로 적재
+ * - 보호: 저장 직전 리더보드가 비어 있으면 저장 대신 복원, 마지막 스냅샷보다 크게 줄었으면 저장 생략
+ *   (FLUSHALL 등으로 비워진 리더보드를 그대로 저장하면 삭제 단계에서 스냅샷 전체가 지워짐)
+ *   - 연속 maxConsecutiveSkips번 생략했으면 줄어든 인원을 정상으로 보고 저장
+ *   - 관리자 초기화(clear)나 acceptNextSnapshot() 뒤의 다음 저장은 보호 없이 그대로 저장
+ *
+ * 여러 노드가 떠 있어도 주기당 한 노드만 저장하도록 Redis 락(SET NX + TTL)을 사용합니다.
+ * 스냅샷은 순간 복제가 아니므로 ZSCAN 중 바뀐 점수는 반영될 수도 안 될 수도 있고,
+ * Redis 장애 시 마지막 스냅샷 이후의 변경은 유실됩니다.
+ */
+@Slf4j
+@Service
+public class LeaderboardSnapshotService {
+
+    private static final String LOCK_KEY = LeaderboardConfig.GAME_RANKING_KEY + ":snapshot:lock";
+    // 다음 저장에서 보호(복원/생략)를 건너뛰라는 표시 (Redis가 비워지면 함께 지워지므로 유실과 구분됨)
+    private static final String ACCEPT_KEY = LeaderboardConfig.GAME_RANKING_KEY + ":snapshot:accept";
+    // 인원이 줄어 연속으로 저장을 생략한 횟수
+    private static final String SKIPS_KEY = LeaderboardConfig.GAME_RANKING_KEY + ":snapshot:skips";
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO ranking_snapshot (user_id, score, snapshot_at) VALUES (?, ?, ?) "
+                    + "ON DUPLICATE KEY UPDATE score = VALUES(score), snapshot_at = VALUES(snapshot_at)";
+    private static final String DELETE_STALE_SQL = "DELETE FROM ranking_snapshot WHERE snapshot_at < ?";
+    private static final String DELETE_ALL_SQL = "DELETE FROM ranking_snapshot";
+
+    private final ShardedLeaderboard gameLeaderboard;
+    private final RankingSnapshotRepository rankingSnapshotRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final LeaderboardProperties properties;
+
+    public LeaderboardSnapshotService(ShardedLeaderboard gameLeaderboard,
+                                      RankingSnapshotRepository rankingSnapshotRepository,
+                                      JdbcTemplate jdbcTemplate,
+                                      StringRedisTemplate stringRedisTemplate,
+                                      LeaderboardProperties properties) {
+        this.gameLeaderboard = gameLeaderboard;
+        this.rankingSnapshotRepository = rankingSnapshotRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.properties = properties;
+    }
+
+    @Scheduled(fixedDelayString = "${ranking.snapshot.interval:PT5M}",
+            initialDelayString = "${ranking.snapshot.interval:PT5M}")
+    public void scheduledSnapshot() {
+        if (!properties.getSnapshot().isEnabled()) {
+            return;
+        }
+        Boolean acquired = stringRedisTemplate.opsForValue()
+                .setIfAbsent(LOCK_KEY, "1", properties.getSnapshot().getInterval());
+        if (!Boolean.TRUE.equals(acquired)) {
+            log.debug("다른 노드가 이번 주기의 랭킹 스냅샷을 저장 중");
+            return;
+        }
+        snapshot();
+    }
+
+    /**
+     * 리더보드 전체를 MySQL에 저장
+     *
+     * @return 저장한 인원 (유실이 의심되어 저장하지 않았으면 0)
+     */
+    public long snapshot() {
+        long liveSize = gameLeaderboard.size();
+        long lastSnapshotSize = rankingSnapshotRepository.count();
+        LeaderboardProperties.Snapshot snapshot = properties.getSnapshot();
+
+        if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(ACCEPT_KEY))) {
+            log.info("의도한 초기화/승인 이후 첫 스냅샷 - 보호 없이 저장 (현재: {}명, 스냅샷: {}명)", liveSize, lastSnapshotSize);
+        } else if (liveSize == 0 && lastSnapshotSize > 0) {
+            log.warn("리더보드가 비어 있음 (Redis 데이터 유실 의심) - 저장 대신 스냅샷 {}명 복원", lastSnapshotSize);
+            long restored = restore();
+            log.info("랭킹 스냅샷 복원 완료 - {}명", restored);
+            return 0;
+        } else if (liveSize < lastSnapshotSize * snapshot.getMinRetainRatio()) {
+            Long skips = stringRedisTemplate.opsForValue().increment(SKIPS_KEY);
+            if (skips == null || skips <= snapshot.getMaxConsecutiveSkips()) {
+                log.warn("리더보드 인원이 마지막 스냅샷보다 크게 줄어 저장 생략 ({}/{}번째) - 현재: {}명, 스냅샷: {}명 (비율 기준: {})",
+                        skips, snapshot.getMaxConsecutiveSkips(), liveSize, lastSnapshotSize, snapshot.getMinRetainRatio());
+                return 0;
+            }
+            log.warn("연속 {}번 저장을 생략해 줄어든 인원을 받아들여 저장 - 현재: {}명, 스냅샷: {}명",
+                    skips - 1, liveSize, lastSnapshotSize);
+        }
+
+        long start = System.currentTimeMillis();
+        // MySQL DATETIME 정밀도(초)에 맞춰 잘라야 이번 스냅샷 행이 삭제 조건(<)에 걸리지 않음
+        Timestamp snapshotAt = Timestamp.valueOf(LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS));
+        long[] saved = {0};
+        long[] skipped = {0};
+
+        gameLeaderboard.forEachBatch(snapshot.getBatchSize(), batch -> {
+            List<Object[]> rows = new ArrayList<>(batch.size());
+            batch.forEach((userId, score) -> {
+                // 컬럼보다 긴 ID 하나 때문에 batch 전체가 실패하지 않도록 제외
+                if (userId.length() > RankingSnapshot.USER_ID_MAX_LENGTH) {
+                    skipped[0]++;
+                    return;
+                }
+                rows.add(new Object[]{userId, score, snapshotAt});
+            });
+            jdbcTemplate.batchUpdate(UPSERT_SQL, rows);
+            saved[0] += rows.size();
+        });
+        int deleted = jdbcTemplate.update(DELETE_STALE_SQL, snapshotAt);
+        stringRedisTemplate.delete(List.of(ACCEPT_KEY, SKIPS_KEY));
+
+        if (skipped[0] > 0) {
+            log.warn("userId가 {}자를 넘어 스냅샷에서 제외 - {}명", RankingSnapshot.USER_ID_MAX_LENGTH, skipped[0]);
+        }
+        log.info("랭킹 스냅샷 저장 완료 - 저장: {}명, 삭제: {}명, 소요시간: {}ms",
+                saved[0], deleted, System.currentTimeMillis() - start);
+        return saved[0];
+    }
+
+    /**
+     * 다음 스냅샷은 보호(복원/생략) 없이 현재 리더보드를 그대로 저장
+     * - 인원이 정상적으로 크게 줄었을 때 관리자가 사용 (표시는 interval의 3배 뒤 만료)
+     */
+    public void acceptNextSnapshot() {
+        stringRedisTemplate.opsForValue().set(ACCEPT_KEY, "1", properties.getSnapshot().getInterval().multipliedBy(3));
+        log.info("다음 랭킹 스냅샷은 보호 없이 저장");
+    }
+
+    /**
+     * 리더보드 초기화에 맞춰 스냅샷도 비움
+     * - 리더보드를 비우기 전에 acceptNextSnapshot()을 호출해야 그 사이에 도는 스냅샷이 옛 점수를 복원하지 않음
+     *
+     * @return 삭제한 인원
+     */
+    public int clear() {
+        int deleted = jdbcTemplate.update(DELETE_ALL_SQL);
+        log.info("랭킹 스냅샷 초기화 - {}명 삭제", deleted);
+        return deleted;
+    }
+
+    /**
+     * 시작 시 복원 (기존 단일 ZSET 이전(@Order(1)) 후 실행)
+     */
+    @Order(2)
+    @EventListener(ApplicationReadyEvent.class)
+    public void restoreOnStartup() {
+        if (!properties.getSnapshot().isEnabled() || gameLeaderboard.size() > 0) {
+            return;
+        }
+        long restored = restore();
+        if (restored > 0) {
+            log.info("랭킹 스냅샷 복원 완료 - {}명", restored);
+        }
+    }
+
+    /**
+     * 스냅샷을 리더보드에 적재 (기존 점수는 스냅샷 점수로 덮어씀)
+     *
+     * @return 복원한 인원
+     */
+    public long restore() {
+        int batchSize = properties.getSnapshot().getBatchSize();
+        long restored = 0;
+        Page<RankingSnapshot> page;
+        int pageNumber = 0;
+        do {
+            page = rankingSnapshotRepository.findAll(PageRequest.of(pageNumber++, batchSize, Sort.by("userId")));
+            Map<String, Double> scores = new LinkedHashMap<>();
+            page.forEach(snapshot -> scores.put(snapshot.getUserId(), snapshot.getScore()));
+            gameLeaderboard.addAll(scores);
+            restored += scores.size();
+        } while (page.hasNext());
+        return restored;
+    }
+}
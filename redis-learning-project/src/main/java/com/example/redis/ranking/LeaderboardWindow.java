@@ -0,0 +1,67 @@
+package com.example.redis.ranking;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.IsoFields;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * 리더보드 기간
+ *
+ * - HOURLY: 점수 증가 시 바로 기록되는 시간 버킷 (ranking:game:hourly:2026101914)
+ * - DAILY: 그날의 시간 버킷 24개를 ZUNIONSTORE로 합친 보드 (ranking:game:daily:20261019)
+ * - WEEKLY: 그 주(ISO, 월요일 시작)의 일간 보드 7개를 합친 보드 (ranking:game:weekly:2026-W43)
+ * - ALL_TIME: 전체 기간 (ranking:game)
+ */
+public enum LeaderboardWindow {
+
+    HOURLY("hourly"),
+    DAILY("daily"),
+    WEEKLY("weekly"),
+    ALL_TIME("all-time");
+
+    private static final DateTimeFormatter HOUR_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHH");
+    private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private final String name;
+
+    LeaderboardWindow(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * API 파라미터(hourly, daily, weekly, all-time)로 변환
+     */
+    public static LeaderboardWindow from(String name) {
+        return Arrays.stream(values())
+                .filter(window -> window.name.equals(name.toLowerCase(Locale.ROOT)))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException(
+                        "지원하지 않는 랭킹 기간입니다: " + name + " (hourly, daily, weekly, all-time)"));
+    }
+
+    /**
+     * 해당 시각이 속한 기간의 보드 키 접두사
+     *
+     * @param gameKey 전체 기간 보드 키 (ranking:game)
+     */
+    public String keyPrefix(String gameKey, LocalDateTime at) {
+        return switch (this) {
+            case HOURLY -> gameKey + ":hourly:" + HOUR_FORMAT.format(at);
+            case DAILY -> gameKey + ":daily:" + DAY_FORMAT.format(at);
+            case WEEKLY -> gameKey + ":weekly:" + weekOf(at.toLocalDate());
+            case ALL_TIME -> gameKey;
+        };
+    }
+
+    private static String weekOf(LocalDate date) {
+        return String.format("%d-W%02d",
+                date.get(IsoFields.WEEK_BASED_YEAR), date.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR));
+    }
+}
@@ -0,0 +1,418 @@
+package com.example.redis.ranking;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.DefaultStringTuple;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+
+/**
+ * 샤딩된 리더보드 엔진 (N개의 Sorted Set)
+ *
+ * [문제]
+ * 하나의 ZSET(ranking:game)에 수백만 명이 모이면 ZADD/ZREVRANK가 모두 같은 키 = 같은 Redis 코어(클러스터에서는 같은 노드)로 몰립니다.
+ *
+ * [구조]
+ * - 사용자 → shard = floorMod(userId.hashCode(), N) → {keyPrefix}:shard:{shard}
+ * - 쓰기(ZADD/ZINCRBY)와 ZSCORE는 사용자의 샤드 하나에만 실행
+ * - 전체 순위 = 1 + Σ(각 샤드에서 내 점수보다 높은 인원, ZCOUNT) → 파이프라인으로 한 번에 전송
+ * - 상위 N/페이지 = 각 샤드의 상위 (offset + limit)명을 k-way 병합
+ * - 멤버는 StringRedisTemplate으로 저장 (JSON 따옴표/타입 정보 없이 userId 그대로)
+ *
+ * [순위 규칙]
+ * 동점자는 같은 순위 (1, 2, 2, 4 ...). 같은 점수 안에서의 나열 순서는 Redis ZREVRANGE와 같은 userId 역순입니다.
+ *
+ * 샤드 수를 바꾸면 사용자의 샤드가 달라지므로, 변경 시 리더보드를 비우고 스냅샷에서 복원해야 합니다.
+ */
+@Slf4j
+public class ShardedLeaderboard {
+
+    /**
+     * 페이지 조회 시 각 샤드에서 읽는 최대 깊이 (offset + limit)
+     * 이보다 깊은 순위는 주변 순위 조회(around)로 조회합니다.
+     */
+    public static final int MAX_PAGE_DEPTH = 10_000;
+    public static final int MAX_AROUND_RADIUS = 50;
+
+    private static final int SCAN_COUNT = 1_000;
+
+    /**
+     * 샤드 안에서 (score, member)가 몇 번째(ZREVRANK)에 오는지 계산
+     * 멤버가 없는 샤드에는 잠깐 추가했다가 바로 지움 (스크립트는 원자적으로 실행되어 다른 클라이언트에게 보이지 않음)
+     */
+    private static final String POSITION_SCRIPT = """
+            local added = redis.call('ZADD', KEYS[1], 'NX', ARGV[1], ARGV[2])
+            local position = redis.call('ZREVRANK', KEYS[1], ARGV[2])
+            if added == 1 then
+                redis.call('ZREM', KEYS[1], ARGV[2])
+            end
+            return position
+            """;
+
+    /**
+     * Redis ZREVRANGE 순서: 점수 내림차순, 같은 점수는 멤버 역순
+     */
+    private static final Comparator<LeaderboardEntry> DESCENDING = Comparator
+            .comparingDouble(LeaderboardEntry::score).reversed()
+            .thenComparing(LeaderboardEntry::userId, Comparator.reverseOrder());
+
+    private final StringRedisTemplate redisTemplate;
+    private final String keyPrefix;
+    private final int shards;
+
+    public ShardedLeaderboard(StringRedisTemplate redisTemplate, String keyPrefix, int shards) {
+        if (shards < 1) {
+            throw new IllegalArgumentException("샤드 수는 1 이상이어야 합니다.");
+        }
+        this.redisTemplate = redisTemplate;
+        this.keyPrefix = keyPrefix;
+        this.shards = shards;
+    }
+
+    public String getKeyPrefix() {
+        return keyPrefix;
+    }
+
+    public int getShards() {
+        return shards;
+    }
+
+    public String shardKey(int shard) {
+        return shardKey(keyPrefix, shard);
+    }
+
+    /**
+     * 같은 샤드 규칙을 쓰는 보드끼리는 샤드 번호만으로 키를 맞출 수 있음 (기간별 보드 롤업)
+     */
+    public static String shardKey(String keyPrefix, int shard) {
+        return keyPrefix + ":shard:" + shard;
+    }
+
+    public String shardKeyOf(String userId) {
+        return shardKey(Math.floorMod(userId.hashCode(), shards));
+    }
+
+    /**
+     * 점수 저장 (ZADD)
+     */
+    public void add(String userId, double score) {
+        redisTemplate.opsForZSet().add(shardKeyOf(userId), userId, score);
+    }
+
+    /**
+     * 점수 증가 (ZINCRBY)
+     */
+    public Double increment(String userId, double delta) {
+        return redisTemplate.opsForZSet().incrementScore(shardKeyOf(userId), userId, delta);
+    }
+
+    /**
+     * 여러 사용자 점수 저장 (샤드별로 묶어 ZADD 1번씩, 파이프라인)
+     */
+    public void addAll(Map<String, Double> scores) {
+        if (scores.isEmpty()) {
+            return;
+        }
+        Map<String, Set<StringRedisConnection.StringTuple>> tuplesByShard = new HashMap<>();
+        scores.forEach((userId, score) -> tuplesByShard
+                .computeIfAbsent(shardKeyOf(userId), key -> new HashSet<>())
+                .add(new DefaultStringTuple(userId, score)));
+
+        pipelined(connection -> tuplesByShard.forEach(connection::zAdd));
+    }
+
+    /**
+     * 여러 사용자 점수 증가 (ZINCRBY N개를 파이프라인으로 1번 왕복)
+     *
+     * @return userId → 증가 후 점수 (입력 순서 유지)
+     */
+    public Map<String, Double> incrementAll(Map<String, Double> deltas) {
+        if (deltas.isEmpty()) {
+            return Map.of();
+        }
+        List<String> userIds = new ArrayList<>(deltas.keySet());
+        List<Object> results = pipelined(connection -> userIds.forEach(userId ->
+                connection.zIncrBy(shardKeyOf(userId), deltas.get(userId), userId)));
+
+        Map<String, Double> newScores = new LinkedHashMap<>();
+        for (int i = 0; i < userIds.size(); i++) {
+            newScores.put(userIds.get(i), ((Number) results.get(i)).doubleValue());
+        }
+        return newScores;
+    }
+
+    public Double score(String userId) {
+        return redisTemplate.opsForZSet().score(shardKeyOf(userId), userId);
+    }
+
+    /**
+     * 전체 순위 (1위부터, 없으면 null)
+     */
+    public Long rank(String userId) {
+        Double score = score(userId);
+        return score == null ? null : ranksOf(List.of(score)).get(score);
+    }
+
+    public Optional<LeaderboardEntry> entry(String userId) {
+        Double score = score(userId);
+        if (score == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new LeaderboardEntry(ranksOf(List.of(score)).get(score), userId, score));
+    }
+
+    /**
+     * 전체 인원 (샤드별 ZCARD 합)
+     */
+    public long size() {
+        List<Object> results = pipelined(connection -> {
+            for (int shard = 0; shard < shards; shard++) {
+                connection.zCard(shardKey(shard));
+            }
+        });
+        return results.stream().mapToLong(result -> ((Number) result).longValue()).sum();
+    }
+
+    public List<LeaderboardEntry> top(int limit) {
+        return page(0, limit);
+    }
+
+    /**
+     * 페이지 조회: 각 샤드의 상위 (offset + limit)명을 병합하면 전체 상위 (offset + limit)명이 정확히 구해짐
+     */
+    public List<LeaderboardEntry> page(int offset, int limit) {
+        if (offset < 0 || limit < 1) {
+            throw new IllegalArgumentException("offset은 0 이상, limit은 1 이상이어야 합니다.");
+        }
+        if ((long) offset + limit > MAX_PAGE_DEPTH) {
+            throw new IllegalArgumentException("페이지 조회는 상위 " + MAX_PAGE_DEPTH + "위까지만 가능합니다. 더 깊은 순위는 주변 순위 조회를 사용하세요.");
+        }
+
+        int depth = offset + limit;
+        List<Object> results = pipelined(connection -> {
+            for (int shard = 0; shard < shards; shard++) {
+                connection.zRevRangeWithScores(shardKey(shard), 0, depth - 1);
+            }
+        });
+
+        List<LeaderboardEntry> merged = mergeDescending(toShardLists(results), depth);
+        List<LeaderboardEntry> ranked = assignRanks(merged, 1);
+        return ranked.subList(Math.min(offset, ranked.size()), ranked.size());
+    }
+
+    /**
+     * 내 주변 순위: 나보다 바로 위 radius명 + 나 + 바로 아래 radius명
+     *
+     * 1. 각 샤드에서 '내가 그 샤드에 있다면 몇 번째인지'(POSITION_SCRIPT) 계산 (파이프라인 1번)
+     *    점수 범위(ZRANGEBYSCORE)만으로는 나와 동점인 사용자 중 누가 내 위/아래인지 구분할 수 없어 위치를 사용합니다.
+     * 2. 각 샤드에서 그 위치 바로 위/아래 radius명씩 조회 (파이프라인 1번) → 병합
+     * 3. 화면에 나오는 점수들의 전체 순위를 ZCOUNT로 계산 (파이프라인 1번)
+     */
+    public List<LeaderboardEntry> around(String userId, int radius) {
+        if (radius < 1 || radius > MAX_AROUND_RADIUS) {
+            throw new IllegalArgumentException("radius는 1 이상 " + MAX_AROUND_RADIUS + " 이하여야 합니다.");
+        }
+        Double score = score(userId);
+        if (score == null) {
+            return List.of();
+        }
+
+        String scoreArg = Double.toString(score);
+        List<Object> positions = pipelined(connection -> {
+            for (int shard = 0; shard < shards; shard++) {
+                connection.eval(POSITION_SCRIPT, ReturnType.INTEGER, 1, shardKey(shard), scoreArg, userId);
+            }
+        });
+
+        // 위치가 0인 샤드는 위쪽 조회를 생략 (ZREVRANGE 0 -1은 전체 조회가 됨)
+        List<Long> shardPositions = positions.stream().map(position -> ((Number) position).longValue()).toList();
+        List<Object> results = pipelined(connection -> {
+            for (int shard = 0; shard < shards; shard++) {
+                long position = shardPositions.get(shard);
+                if (position > 0) {
+                    connection.zRevRangeWithScores(shardKey(shard), Math.max(0, position - radius), position - 1);
+                }
+                connection.zRevRangeWithScores(shardKey(shard), position, position + radius);
+            }
+        });
+
+        List<List<LeaderboardEntry>> higherLists = new ArrayList<>();
+        List<List<LeaderboardEntry>> lowerLists = new ArrayList<>();
+        Iterator<List<LeaderboardEntry>> shardLists = toShardLists(results).iterator();
+        for (int shard = 0; shard < shards; shard++) {
+            if (shardPositions.get(shard) > 0) {
+                higherLists.add(shardLists.next());
+            }
+            lowerLists.add(shardLists.next());
+        }
+
+        List<LeaderboardEntry> higher = mergeDescending(higherLists, Integer.MAX_VALUE);
+        List<LeaderboardEntry> window = new ArrayList<>(higher.subList(Math.max(0, higher.size() - radius), higher.size()));
+        window.add(new LeaderboardEntry(0, userId, score));
+        mergeDescending(lowerLists, Integer.MAX_VALUE).stream()
+                .filter(entry -> !entry.userId().equals(userId))
+                .limit(radius)
+                .forEach(window::add);
+
+        Map<Double, Long> ranks = ranksOf(window.stream().map(LeaderboardEntry::score).toList());
+        return window.stream()
+                .map(entry -> new LeaderboardEntry(ranks.get(entry.score()), entry.userId(), entry.score()))
+                .toList();
+    }
+
+    public void remove(String userId) {
+        redisTemplate.opsForZSet().remove(shardKeyOf(userId), userId);
+    }
+
+    public void clear() {
+        List<String> keys = new ArrayList<>();
+        for (int shard = 0; shard < shards; shard++) {
+            keys.add(shardKey(shard));
+        }
+        redisTemplate.delete(keys);
+    }
+
+    /**
+     * 전체 멤버 순회 (스냅샷용, 샤드별 ZSCAN)
+     * ZSCAN은 Redis를 오래 점유하지 않지만, 순회 중 변경된 점수는 반영될 수도 안 될 수도 있습니다.
+     */
+    public void forEachBatch(int batchSize, Consumer<Map<String, Double>> consumer) {
+        ScanOptions options = ScanOptions.scanOptions().count(SCAN_COUNT).build();
+        Map<String, Double> batch = new LinkedHashMap<>();
+        for (int shard = 0; shard < shards; shard++) {
+            try (Cursor<ZSetOperations.TypedTuple<String>> cursor = redisTemplate.opsForZSet().scan(shardKey(shard), options)) {
+                while (cursor.hasNext()) {
+                    ZSetOperations.TypedTuple<String> tuple = cursor.next();
+                    batch.put(tuple.getValue(), tuple.getScore());
+                    if (batch.size() >= batchSize) {
+                        consumer.accept(batch);
+                        batch = new LinkedHashMap<>();
+                    }
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            consumer.accept(batch);
+        }
+    }
+
+    /**
+     * 점수별 전체 순위 = 1 + Σ(샤드별 해당 점수 초과 인원)
+     * 서로 다른 점수 수 × 샤드 수만큼 ZCOUNT를 파이프라인 1번으로 전송합니다.
+     */
+    public Map<Double, Long> ranksOf(Collection<Double> scores) {
+        List<Double> distinct = new ArrayList<>(new TreeSet<>(scores));
+        List<Object> counts = pipelined(connection -> {
+            for (Double score : distinct) {
+                for (int shard = 0; shard < shards; shard++) {
+                    connection.zCount(shardKey(shard), Math.nextUp(score), Double.POSITIVE_INFINITY);
+                }
+            }
+        });
+
+        Map<Double, Long> ranks = new HashMap<>();
+        for (int i = 0; i < distinct.size(); i++) {
+            long higher = 0;
+            for (int shard = 0; shard < shards; shard++) {
+                higher += ((Number) counts.get(i * shards + shard)).longValue();
+            }
+            ranks.put(distinct.get(i), higher + 1);
+        }
+        return ranks;
+    }
+
+    /**
+     * 정렬된 샤드별 목록을 우선순위 큐로 병합 (k-way merge, 상위 limit개만)
+     */
+    private List<LeaderboardEntry> mergeDescending(List<List<LeaderboardEntry>> sortedLists, int limit) {
+        PriorityQueue<ShardCursor> queue = new PriorityQueue<>(
+                Comparator.comparing(ShardCursor::current, DESCENDING));
+        for (List<LeaderboardEntry> list : sortedLists) {
+            Iterator<LeaderboardEntry> iterator = list.iterator();
+            if (iterator.hasNext()) {
+                queue.add(new ShardCursor(iterator, iterator.next()));
+            }
+        }
+
+        List<LeaderboardEntry> merged = new ArrayList<>();
+        while (!queue.isEmpty() && merged.size() < limit) {
+            ShardCursor cursor = queue.poll();
+            merged.add(cursor.current);
+            if (cursor.iterator.hasNext()) {
+                cursor.current = cursor.iterator.next();
+                queue.add(cursor);
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * 상위부터 이어진 목록에 순위 부여 (동점은 같은 순위)
+     */
+    private List<LeaderboardEntry> assignRanks(List<LeaderboardEntry> sorted, long firstRank) {
+        List<LeaderboardEntry> ranked = new ArrayList<>(sorted.size());
+        long rank = firstRank;
+        for (int i = 0; i < sorted.size(); i++) {
+            LeaderboardEntry entry = sorted.get(i);
+            if (i > 0 && entry.score() != sorted.get(i - 1).score()) {
+                rank = firstRank + i;
+            }
+            ranked.add(new LeaderboardEntry(rank, entry.userId(), entry.score()));
+        }
+        return ranked;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<List<LeaderboardEntry>> toShardLists(List<Object> results) {
+        List<List<LeaderboardEntry>> lists = new ArrayList<>();
+        for (Object result : results) {
+            List<LeaderboardEntry> entries = new ArrayList<>();
+            for (ZSetOperations.TypedTuple<String> tuple : (Collection<ZSetOperations.TypedTuple<String>>) result) {
+                entries.add(new LeaderboardEntry(0, tuple.getValue(), tuple.getScore()));
+            }
+            lists.add(entries);
+        }
+        return lists;
+    }
+
+    private List<Object> pipelined(Consumer<StringRedisConnection> commands) {
+        return redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            commands.accept((StringRedisConnection) connection);
+            return null;
+        });
+    }
+
+    private static final class ShardCursor {
+
+        private final Iterator<LeaderboardEntry> iterator;
+        private LeaderboardEntry current;
+
+        private ShardCursor(Iterator<LeaderboardEntry> iterator, LeaderboardEntry current) {
+            this.iterator = iterator;
+            this.current = current;
+        }
+
+        private LeaderboardEntry current() {
+            return current;
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package com.example.redis.ranking;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * 기간별 리더보드 (시간/일간/주간/전체)
+ *
+ * [쓰기]
+ * 점수 증가 시 전체 보드와 현재 시간 버킷에 함께 ZINCRBY (파이프라인 1번)
+ *   ranking:game:shard:{i}                 ← 전체
+ *   ranking:game:hourly:{yyyyMMddHH}:shard:{i} ← 현재 시간 (TTL: hourlyRetention)
+ *
+ * [롤업] (rollupInterval마다)
+ *   daily:{yyyyMMdd}:shard:{i}  = ZUNIONSTORE 그날의 hourly 24개 (같은 샤드끼리)
+ *   weekly:{yyyy-Www}:shard:{i} = ZUNIONSTORE 그 주의 daily 7개
+ * 모든 기간 보드가 같은 샤드 규칙을 쓰므로 샤드별로 따로 합칠 수 있고,
+ * 조회는 전체 보드와 같은 ShardedLeaderboard로 O(log N + N)입니다.
+ *
+ * [한계]
+ * - 일간/주간 보드는 마지막 롤업 시점 기준 (최대 rollupInterval 지연)
+ * - 점수 설정(ZADD)은 '증가량'이 아니므로 전체 보드에만 반영
+ * - 서버가 하루 종일 롤업하지 못하면 시간 버킷이 만료된 뒤에는 그날을 다시 만들 수 없음
+ */
+@Slf4j
+public class WindowedLeaderboard {
+
+    private final StringRedisTemplate redisTemplate;
+    private final ShardedLeaderboard allTime;
+    private final LeaderboardProperties.Windows properties;
+    private final Clock clock;
+
+    public WindowedLeaderboard(StringRedisTemplate redisTemplate,
+                               ShardedLeaderboard allTime,
+                               LeaderboardProperties.Windows properties,
+                               Clock clock) {
+        this.redisTemplate = redisTemplate;
+        this.allTime = allTime;
+        this.properties = properties;
+        this.clock = clock;
+    }
+
+    /**
+     * 현재 기간의 보드
+     */
+    public ShardedLeaderboard board(LeaderboardWindow window) {
+        return board(window, LocalDateTime.now(clock));
+    }
+
+    public ShardedLeaderboard board(LeaderboardWindow window, LocalDateTime at) {
+        if (window == LeaderboardWindow.ALL_TIME) {
+            return allTime;
+        }
+        return new ShardedLeaderboard(redisTemplate, window.keyPrefix(allTime.getKeyPrefix(), at), allTime.getShards());
+    }
+
+    /**
+     * 점수 증가: 전체 보드 + 현재 시간 버킷 (ZINCRBY 2번 + EXPIRE, 파이프라인)
+     *
+     * @return 전체 기간 점수
+     */
+    public Double increment(String userId, double delta) {
+        return incrementAll(Map.of(userId, delta)).get(userId);
+    }
+
+    /**
+     * 여러 사용자 점수 증가 (파이프라인 1번)
+     *
+     * @return userId → 증가 후 전체 기간 점수 (입력 순서 유지)
+     */
+    public Map<String, Double> incrementAll(Map<String, Double> deltas) {
+        if (deltas.isEmpty()) {
+            return Map.of();
+        }
+        ShardedLeaderboard hourly = board(LeaderboardWindow.HOURLY);
+        long ttlSeconds = properties.getHourlyRetention().toSeconds();
+        List<String> userIds = new ArrayList<>(deltas.keySet());
+
+        List<Object> results = pipelined(connection -> {
+            Set<String> hourlyKeys = new LinkedHashSet<>();
+            for (String userId : userIds) {
+                connection.zIncrBy(allTime.shardKeyOf(userId), deltas.get(userId), userId);
+                connection.zIncrBy(hourly.shardKeyOf(userId), deltas.get(userId), userId);
+                hourlyKeys.add(hourly.shardKeyOf(userId));
+            }
+            hourlyKeys.forEach(key -> connection.expire(key, ttlSeconds));
+        });
+
+        Map<String, Double> newScores = new LinkedHashMap<>();
+        for (int i = 0; i < userIds.size(); i++) {
+            newScores.put(userIds.get(i), ((Number) results.get(i * 2)).doubleValue());
+        }
+        return newScores;
+    }
+
+    /**
+     * 사용자 삭제: 전체 보드 + 보관 중인 모든 기간 보드에서 ZREM (파이프라인 1번)
+     * 시간 버킷에서도 지워야 다음 롤업에서 일간/주간 보드에 다시 나타나지 않음
+     */
+    public void remove(String userId) {
+        int shard = Math.floorMod(userId.hashCode(), allTime.getShards());
+        pipelined(connection -> retainedPrefixes().forEach(prefix ->
+                connection.zRem(ShardedLeaderboard.shardKey(prefix, shard), userId)));
+    }
+
+    /**
+     * 전체 보드 + 보관 중인 모든 기간 보드 삭제
+     */
+    public void clear() {
+        List<String> keys = new ArrayList<>();
+        for (String prefix : retainedPrefixes()) {
+            for (int shard = 0; shard < allTime.getShards(); shard++) {
+                keys.add(ShardedLeaderboard.shardKey(prefix, shard));
+            }
+        }
+        redisTemplate.delete(keys);
+    }
+
+    /**
+     * 일간/주간 보드 롤업
+     *
+     * 현재 기간과 함께 (지금 - rollupInterval × 2)가 속한 기간도 합칩니다.
+     * 자정/주 경계 직후 첫 롤업에서 이전 날/주의 마지막 변경까지 반영하기 위함입니다.
+     */
+    public void rollup() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        LocalDateTime previous = now.minus(properties.getRollupInterval().multipliedBy(2));
+
+        Set<LocalDate> days = new LinkedHashSet<>(List.of(previous.toLocalDate(), now.toLocalDate()));
+        Set<LocalDate> weeks = new LinkedHashSet<>();
+        days.forEach(day -> weeks.add(day.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY))));
+
+        long start = System.currentTimeMillis();
+        // 일간 보드를 먼저 만든 뒤 주간 보드가 그 결과를 합침 (파이프라인 2번)
+        pipelined(connection -> days.forEach(day -> rollupDay(connection, day)));
+        pipelined(connection -> weeks.forEach(monday -> rollupWeek(connection, monday)));
+
+        log.debug("기간별 랭킹 롤업 완료 - 일: {}, 주: {}, 소요시간: {}ms", days, weeks, System.currentTimeMillis() - start);
+    }
+
+    private void rollupDay(StringRedisConnection connection, LocalDate day) {
+        List<String> hourPrefixes = new ArrayList<>();
+        for (int hour = 0; hour < 24; hour++) {
+            hourPrefixes.add(LeaderboardWindow.HOURLY.keyPrefix(allTime.getKeyPrefix(), day.atTime(hour, 0)));
+        }
+        unionStore(connection, LeaderboardWindow.DAILY.keyPrefix(allTime.getKeyPrefix(), day.atStartOfDay()),
+                hourPrefixes, properties.getDailyRetention().toSeconds());
+    }
+
+    private void rollupWeek(StringRedisConnection connection, LocalDate monday) {
+        List<String> dayPrefixes = new ArrayList<>();
+        for (int day = 0; day < 7; day++) {
+            dayPrefixes.add(LeaderboardWindow.DAILY.keyPrefix(allTime.getKeyPrefix(), monday.plusDays(day).atStartOfDay()));
+        }
+        unionStore(connection, LeaderboardWindow.WEEKLY.keyPrefix(allTime.getKeyPrefix(), monday.atStartOfDay()),
+                dayPrefixes, properties.getWeeklyRetention().toSeconds());
+    }
+
+    /**
+     * 샤드별 ZUNIONSTORE (없는 원본 키는 빈 집합으로 취급)
+     * 원본이 모두 비어 있으면 결과 키도 삭제되므로 EXPIRE는 무시됨
+     */
+    private void unionStore(StringRedisConnection connection, String destinationPrefix,
+                            List<String> sourcePrefixes, long ttlSeconds) {
+        for (int shard = 0; shard < allTime.getShards(); shard++) {
+            String destination = ShardedLeaderboard.shardKey(destinationPrefix, shard);
+            String[] sources = new String[sourcePrefixes.size()];
+            for (int i = 0; i < sources.length; i++) {
+                sources[i] = ShardedLeaderboard.shardKey(sourcePrefixes.get(i), shard);
+            }
+            connection.zUnionStore(destination, sources);
+            connection.expire(destination, ttlSeconds);
+        }
+    }
+
+    /**
+     * 아직 만료되지 않았을 수 있는 모든 보드의 키 접두사 (전체 + 보관 기간 내 시간/일/주)
+     */
+    private Set<String> retainedPrefixes() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        String gameKey = allTime.getKeyPrefix();
+        Set<String> prefixes = new LinkedHashSet<>();
+        prefixes.add(gameKey);
+        for (long hour = 0; hour <= properties.getHourlyRetention().toHours(); hour++) {
+            prefixes.add(LeaderboardWindow.HOURLY.keyPrefix(gameKey, now.minusHours(hour)));
+        }
+        for (long day = 0; day <= properties.getDailyRetention().toDays(); day++) {
+            prefixes.add(LeaderboardWindow.DAILY.keyPrefix(gameKey, now.minusDays(day)));
+        }
+        for (long week = 0; week <= properties.getWeeklyRetention().toDays() / 7 + 1; week++) {
+            prefixes.add(LeaderboardWindow.WEEKLY.keyPrefix(gameKey, now.minusWeeks(week)));
+        }
+        return prefixes;
+    }
+
+    private List<Object> pipelined(Consumer<StringRedisConnection> commands) {
+        return redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            commands.accept((StringRedisConnection) connection);
+            return null;
+        });
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.redis.repository;
+
+import com.example.redis.domain.RankingSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 게임 랭킹 스냅샷 리포지토리
+ */
+@Repository
+public interface RankingSnapshotRepository extends JpaRepository<RankingSnapshot, String> {
+}
@@ -0,0 +1,223 @@
+package com.example.redis.search;
+
+import com.example.redis.domain.Product;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 상품 이름/설명 검색용 인메모리 역색인 (2-gram)
+ *
+ * [문제]
+ * LIKE '%keyword%'는 앞이 와일드카드라 idx_name 인덱스를 쓰지 못하고 매번 상품 전체를 스캔합니다.
+ *
+ * [구조]
+ * "노트북" → 토큰 {"노트", "트북"} → 토큰별 상품 ID 목록(posting)
+ * - 한국어는 띄어쓰기만으로 단어를 나누기 어려워 형태소 분석 대신 2글자 단위(bigram)로 자릅니다
+ * - 검색: 검색어의 모든 bigram posting 교집합 → 실제 부분 문자열 포함 여부로 확인 (bigram 교집합만으로는 오탐 가능)
+ * - 1글자 검색어는 bigram이 없으므로 문서 전체를 메모리에서 확인 (그래도 DB 스캔보다 빠름)
+ *
+ * [순위]
+ * 이름이 검색어로 시작(3) > 이름에 포함(2) > 설명에만 포함(1), 같은 점수는 ID 오름차순
+ *
+ * 읽기가 대부분이므로 ReadWriteLock으로 검색은 동시에, 색인 변경은 단독으로 실행합니다.
+ */
+@Component
+public class ProductSearchIndex {
+
+    private static final int GRAM_SIZE = 2;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Map<String, Set<Long>> postings = new HashMap<>();
+    private Map<Long, Document> documents = new HashMap<>();
+    private volatile boolean ready;
+
+    /**
+     * 색인 준비 여부 (시작 시 전체 색인 전에는 DB 검색으로 대체)
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 전체 재색인 (시작 시)
+     * 새 색인을 락 밖에서 만든 뒤 교체하므로 재색인 중에도 검색은 이전 색인으로 응답합니다.
+     */
+    public void rebuild(List<Product> products) {
+        Map<String, Set<Long>> newPostings = new HashMap<>();
+        Map<Long, Document> newDocuments = new HashMap<>();
+        for (Product product : products) {
+            Document document = Document.of(product.getName(), product.getDescription());
+            newDocuments.put(product.getId(), document);
+            addPostings(newPostings, product.getId(), document);
+        }
+
+        lock.writeLock().lock();
+        try {
+            postings = newPostings;
+            documents = newDocuments;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 상품 1개 색인 (생성/수정): 이전 토큰을 지우고 새 토큰으로 교체
+     */
+    public void index(Long id, String name, String description) {
+        Document document = Document.of(name, description);
+
+        lock.writeLock().lock();
+        try {
+            Document previous = documents.put(id, document);
+            if (previous != null) {
+                removePostings(id, previous);
+            }
+            addPostings(postings, id, document);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            Document previous = documents.remove(id);
+            if (previous != null) {
+                removePostings(id, previous);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어를 포함하는 상품 ID (순위순)
+     */
+    public List<Long> search(String keyword) {
+        String query = normalize(keyword);
+        if (query.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            List<Hit> hits = new ArrayList<>();
+            for (Long id : candidates(query)) {
+                int score = documents.get(id).score(query);
+                if (score > 0) {
+                    hits.add(new Hit(id, score));
+                }
+            }
+            hits.sort(Comparator.comparingInt(Hit::score).reversed().thenComparing(Hit::id));
+            return hits.stream().map(Hit::id).toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 후보 상품: 검색어 bigram posting의 교집합 (작은 posting부터 교집합해 비교 횟수 최소화)
+     */
+    private Set<Long> candidates(String query) {
+        Set<String> grams = grams(query);
+        if (grams.isEmpty()) {
+            return documents.keySet();
+        }
+
+        List<Set<Long>> lists = new ArrayList<>();
+        for (String gram : grams) {
+            Set<Long> posting = postings.get(gram);
+            if (posting == null) {
+                return Set.of();
+            }
+            lists.add(posting);
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+
+        Set<Long> result = new HashSet<>(lists.get(0));
+        for (int i = 1; i < lists.size() && !result.isEmpty(); i++) {
+            result.retainAll(lists.get(i));
+        }
+        return result;
+    }
+
+    private void addPostings(Map<String, Set<Long>> target, Long id, Document document) {
+        for (String gram : document.grams()) {
+            target.computeIfAbsent(gram, key -> new HashSet<>()).add(id);
+        }
+    }
+
+    private void removePostings(Long id, Document document) {
+        for (String gram : document.grams()) {
+            Set<Long> posting = postings.get(gram);
+            if (posting != null) {
+                posting.remove(id);
+                if (posting.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    static String normalize(String text) {
+        return text == null ? "" : text.trim().toLowerCase(Locale.ROOT);
+    }
+
+    static Set<String> grams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_SIZE <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM_SIZE));
+        }
+        return grams;
+    }
+
+    /**
+     * 색인된 문서 (정규화된 이름/설명)
+     */
+    private record Document(String name, String description) {
+
+        static Document of(String name, String description) {
+            return new Document(normalize(name), normalize(description));
+        }
+
+        Set<String> grams() {
+            Set<String> grams = ProductSearchIndex.grams(name);
+            grams.addAll(ProductSearchIndex.grams(description));
+            return grams;
+        }
+
+        int score(String query) {
+            if (name.startsWith(query)) {
+                return 3;
+            }
+            if (name.contains(query)) {
+                return 2;
+            }
+            return description.contains(query) ? 1 : 0;
+        }
+    }
+
+    private record Hit(Long id, int score) {
+    }
+}
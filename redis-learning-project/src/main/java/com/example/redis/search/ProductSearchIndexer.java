@@ -0,0 +1,97 @@
+package com.example.redis.search;
+
+import com.example.redis.cache.ProductCacheInvalidator;
+import com.example.redis.dto.ProductResponse;
+import com.example.redis.event.ProductChangedEvent;
+import com.example.redis.repository.ProductRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 상품 검색 색인 동기화
+ *
+ * - 시작 시: ApplicationReadyEvent(DataLoader 등 CommandLineRunner 실행 후)에 전체 상품으로 색인 생성
+ * - 상품 생성/수정 커밋 후: 내 색인 갱신 + PUBLISH search:index {productId}
+ *   캐시 무효화(ProductCacheInvalidator, @Order(2))보다 먼저 실행 (@Order(1))
+ * - 다른 노드의 변경 메시지 수신: DB에서 해당 상품을 다시 읽어 색인 갱신 (삭제된 상품이면 색인에서 제거)
+ *   → 그 사이 이전 색인으로 캐싱된 검색 목록 삭제
+ *
+ * Pub/Sub 메시지가 유실되면 해당 노드의 색인은 재시작 전까지 이전 이름으로 검색됩니다.
+ */
+@Slf4j
+@Component
+public class ProductSearchIndexer implements MessageListener {
+
+    public static final String CHANNEL = "search:index";
+
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductRepository productRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ProductCacheInvalidator productCacheInvalidator;
+
+    public ProductSearchIndexer(ProductSearchIndex productSearchIndex,
+                                ProductRepository productRepository,
+                                StringRedisTemplate stringRedisTemplate,
+                                ProductCacheInvalidator productCacheInvalidator) {
+        this.productSearchIndex = productSearchIndex;
+        this.productRepository = productRepository;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.productCacheInvalidator = productCacheInvalidator;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        long start = System.currentTimeMillis();
+        productSearchIndex.rebuild(productRepository.findAll());
+        log.info("상품 검색 색인 생성 완료 - 상품: {}개, 소요시간: {}ms",
+                productSearchIndex.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 검색 목록 캐시 무효화보다 먼저 색인을 갱신해야, 무효화 직후의 검색이 이전 색인으로 목록을 다시 캐싱하지 않음
+     */
+    @Order(1)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onProductChanged(ProductChangedEvent event) {
+        ProductResponse product = event.after();
+        productSearchIndex.index(product.getId(), product.getName(), product.getDescription());
+
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL, String.valueOf(product.getId()));
+        } catch (RuntimeException e) {
+            log.warn("검색 색인 변경 메시지 발행 실패 - productId: {}, error: {}", product.getId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 변경 메시지 수신 (내가 보낸 메시지도 수신하지만 같은 값으로 다시 색인할 뿐이므로 구분하지 않음)
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        Long productId;
+        try {
+            productId = Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8));
+        } catch (NumberFormatException e) {
+            log.warn("검색 색인 변경 메시지 해석 실패: {}", e.getMessage());
+            return;
+        }
+
+        ProductResponse product = productRepository.findById(productId).map(ProductResponse::from).orElse(null);
+        if (product != null) {
+            productSearchIndex.index(product.getId(), product.getName(), product.getDescription());
+        } else {
+            productSearchIndex.remove(productId);
+        }
+        productCacheInvalidator.onSearchIndexChanged(productId, product);
+    }
+}
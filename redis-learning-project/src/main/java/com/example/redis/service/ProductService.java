@@ -1,16 +1,24 @@
 package com.example.redis.service;
 
+import com.example.redis.cache.ProductCacheInvalidator;
 import com.example.redis.domain.Product;
+import com.example.redis.dto.ProductRequest;
 import com.example.redis.dto.ProductResponse;
+import com.example.redis.event.ProductChangedEvent;
 import com.example.redis.repository.ProductRepository;
+import com.example.redis.search.ProductSearchIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -18,6 +26,7 @@ import java.util.stream.Collectors;
  * - Redis 캐싱을 적용한 버전
  * - @Cacheable: 조회 결과를 캐시에 저장
  * - @CacheEvict: 캐시 삭제
+ * - 생성/수정: ProductChangedEvent → ProductCacheInvalidator가 관련 캐시만 삭제 (커밋 후)
  */
 @Service
 @RequiredArgsConstructor
@@ -26,6 +35,9 @@ import java.util.stream.Collectors;
 public class ProductService {
 
     private final ProductRepository productRepository;
+    private final ProductCacheInvalidator productCacheInvalidator;
+    private final ProductSearchIndex productSearchIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 모든 상품 조회 (Redis 캐싱 적용)
@@ -33,22 +45,20 @@ public class ProductService {
      * - 이후 조회 시 Redis에서 조회
      */
     // products 라는 캐시영역에서 all 이라는 키를 가진 데이터가 있는지 확인 (value :: key)
-    @Cacheable(value = "products", key = "'all'")
+    @Cacheable(value = "products", key = "'all'", sync = true)
     public List<ProductResponse> getAllProducts() {
         log.info("DB에서 모든 상품 조회 (캐시 미스)");
         // 실제 DB 조회 시뮬레이션을 위한 지연
         simulateSlowQuery();
 
         List<Product> products = productRepository.findAll();
-        return products.stream()
-                .map(ProductResponse::from)
-                .collect(Collectors.toList());
+        return cacheableList(ProductCacheInvalidator.ALL_KEY, products);
     }
 
     /**
      * ID로 상품 조회 (Redis 캐싱 적용)
      */
-    @Cacheable(value = "product", key = "#id")
+    @Cacheable(value = "product", key = "#id", sync = true)
     public ProductResponse getProductById(Long id) {
         log.info("DB에서 상품 조회 - ID: {} (캐시 미스)", id);
         simulateSlowQuery();
@@ -61,39 +71,109 @@ public class ProductService {
     /**
      * 카테고리로 상품 조회 (Redis 캐싱 적용)
      */
-    @Cacheable(value = "products", key = "'category:' + #category")
+    @Cacheable(value = "products", key = "'category:' + #category", sync = true)
     public List<ProductResponse> getProductsByCategory(String category) {
         log.info("DB에서 카테고리별 상품 조회 - Category: {} (캐시 미스)", category);
         simulateSlowQuery();
 
         List<Product> products = productRepository.findByCategory(category);
-        return products.stream()
-                .map(ProductResponse::from)
-                .collect(Collectors.toList());
+        return cacheableList(ProductCacheInvalidator.categoryKey(category), products);
     }
 
     /**
      * 상품 검색 (Redis 캐싱 적용)
+     * - 검색 색인(이름 + 설명, 순위순)으로 ID를 찾고 PK로 조회
+     * - 시작 직후 색인이 준비되기 전에는 기존 LIKE 검색(이름만)으로 대체
      */
-    @Cacheable(value = "products", key = "'search:' + #keyword")
+    @Cacheable(value = "products", key = "'search:' + #keyword", sync = true)
     public List<ProductResponse> searchProducts(String keyword) {
-        log.info("DB에서 상품 검색 - Keyword: {} (캐시 미스)", keyword);
-        simulateSlowQuery();
+        List<Product> products;
+        if (productSearchIndex.isReady()) {
+            log.info("검색 색인으로 상품 검색 - Keyword: {} (캐시 미스)", keyword);
+            products = findAllInOrder(productSearchIndex.search(keyword));
+        } else {
+            log.info("DB에서 상품 검색 - Keyword: {} (캐시 미스, 색인 준비 전)", keyword);
+            simulateSlowQuery();
+            products = productRepository.searchByName(keyword);
+        }
+        return cacheableList(ProductCacheInvalidator.searchKey(keyword), products);
+    }
 
-        List<Product> products = productRepository.searchByName(keyword);
-        return products.stream()
-                .map(ProductResponse::from)
-                .collect(Collectors.toList());
+    /**
+     * 상품 생성
+     * - 새 상품은 아직 어떤 목록에도 없으므로 all, 해당 카테고리, 이름이 일치하는 검색 목록만 무효화
+     */
+    @Transactional
+    public ProductResponse createProduct(ProductRequest request) {
+        Product product = productRepository.save(Product.builder()
+                .name(request.getName())
+                .description(request.getDescription())
+                .price(request.getPrice())
+                .stockQuantity(request.getStockQuantity())
+                .category(request.getCategory())
+                .build());
+
+        ProductResponse created = ProductResponse.from(product);
+        eventPublisher.publishEvent(ProductChangedEvent.created(created));
+        log.info("상품 생성 - ID: {}", created.getId());
+        return created;
     }
 
     /**
-     * 캐시 삭제 (상품 정보가 변경되었을 때)
+     * 상품 수정
+     * - product::{id}와 이 상품을 포함한 목록, 새로 포함될 목록만 무효화 (나머지 목록 캐시는 유지)
+     */
+    @Transactional
+    public ProductResponse updateProduct(Long id, ProductRequest request) {
+        Product product = productRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("상품을 찾을 수 없습니다. ID: " + id));
+        ProductResponse before = ProductResponse.from(product);
+
+        product.setName(request.getName());
+        product.setDescription(request.getDescription());
+        product.setPrice(request.getPrice());
+        product.setStockQuantity(request.getStockQuantity());
+        product.setCategory(request.getCategory());
+        productRepository.flush();  // @UpdateTimestamp 반영
+
+        ProductResponse after = ProductResponse.from(product);
+        eventPublisher.publishEvent(ProductChangedEvent.updated(before, after));
+        log.info("상품 수정 - ID: {}", id);
+        return after;
+    }
+
+    /**
+     * 캐시 전체 삭제 (수동 초기화용)
+     * - 상품 생성/수정은 ProductCacheInvalidator가 관련 항목만 삭제하므로 이 메서드를 쓰지 않음
      */
     @CacheEvict(value = {"product", "products"}, allEntries = true)
     public void clearCache() {
         log.info("상품 캐시 전체 삭제");
     }
 
+    /**
+     * 목록 캐시 값 생성 + 의존성 기록 (어떤 상품이 이 목록에 들어 있는지, 검색 목록만 기록됨)
+     */
+    private List<ProductResponse> cacheableList(String listKey, List<Product> products) {
+        List<ProductResponse> responses = products.stream()
+                .map(ProductResponse::from)
+                .collect(Collectors.toList());
+        productCacheInvalidator.registerList(listKey, responses);
+        return responses;
+    }
+
+    /**
+     * ID 목록 순서(검색 순위)를 유지하며 조회
+     */
+    private List<Product> findAllInOrder(List<Long> ids) {
+        Map<Long, Product> productsById = productRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+        return ids.stream()
+                .map(productsById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
     /**
      * 느린 쿼리 시뮬레이션
      * - 실제 DB 조회가 느린 상황을 재현하기 위한 지연
@@ -1,30 +1,57 @@
 package com.example.redis.service;
 
+import com.example.redis.domain.RankingSnapshot;
 import com.example.redis.dto.RankingResponse;
+import com.example.redis.dto.ScoreDeltaRequest;
+import com.example.redis.ranking.LeaderboardConfig;
+import com.example.redis.ranking.LeaderboardEntry;
+import com.example.redis.ranking.LeaderboardProperties;
+import com.example.redis.ranking.LeaderboardSnapshotService;
+import com.example.redis.ranking.LeaderboardWindow;
+import com.example.redis.ranking.ShardedLeaderboard;
+import com.example.redis.ranking.WindowedLeaderboard;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ZSetOperations;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
  * 랭킹 서비스
  * - Redis Sorted Set을 활용한 실시간 랭킹 시스템
  * - 게임 점수, 인기 게시글 등에 활용
+ *
+ * 게임 랭킹은 N개의 ZSET(ranking:game:shard:{i})에 나눠 저장합니다. (ShardedLeaderboard)
+ * - 순위는 동점자 공동 순위 (1, 2, 2, 4 ...)
+ * - 페이지 조회는 상위 10,000위까지, 그보다 깊은 순위는 주변 순위 조회 사용
+ *
+ * 기간별(시간/일간/주간/전체) 조회는 WindowedLeaderboard 참고
+ * - 점수 증가는 전체 보드와 현재 시간 버킷에 함께 기록, 일간/주간은 주기적 롤업
+ * - 점수 설정(addScore)은 증가량이 아니므로 전체 보드에만 반영
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class RankingService {
 
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final ShardedLeaderboard gameLeaderboard;
+    private final WindowedLeaderboard windowedGameLeaderboard;
+    private final LeaderboardProperties leaderboardProperties;
+    private final LeaderboardSnapshotService leaderboardSnapshotService;
 
-    // Redis Key: ranking:game (게임 랭킹)
-    private static final String RANKING_KEY = "ranking:game";
+    // 샤딩 이전의 단일 ZSET 이전(migration)용
+    private final RedisTemplate<String, Object> redisTemplate;
 
     /**
      * 점수 추가/업데이트
@@ -35,23 +62,107 @@ public class RankingService {
      * @param score 점수
      */
     public void addScore(String userId, double score) {
-        redisTemplate.opsForZSet().add(RANKING_KEY, userId, score);
+        validateUserId(userId);
+        gameLeaderboard.add(userId, score);
         log.info("랭킹 점수 추가 - User: {}, Score: {}", userId, score);
     }
 
+    /**
+     * 여러 사용자 점수 추가/업데이트
+     * - 샤드별로 묶어 ZADD, 파이프라인으로 한 번에 전송
+     *
+     * @param scores 사용자 ID → 점수
+     */
+    public void addScores(Map<String, Double> scores) {
+        scores.keySet().forEach(this::validateUserId);
+        gameLeaderboard.addAll(scores);
+        log.info("랭킹 점수 일괄 추가 - {}명", scores.size());
+    }
+
     /**
      * 점수 증가
      * - 기존 점수에 더하기
+     * - 전체 보드와 현재 시간 버킷에 함께 기록 (파이프라인)
      *
      * @param userId 사용자 ID
      * @param delta 증가시킬 점수
      */
     public Double incrementScore(String userId, double delta) {
-        Double newScore = redisTemplate.opsForZSet().incrementScore(RANKING_KEY, userId, delta);
+        validateUserId(userId);
+        Double newScore = windowedGameLeaderboard.increment(userId, delta);
         log.info("랭킹 점수 증가 - User: {}, Delta: {}, New Score: {}", userId, delta, newScore);
         return newScore;
     }
 
+    /**
+     * 여러 사용자 점수 증가
+     * - ZINCRBY N개를 파이프라인으로 한 번에 전송
+     *
+     * @param deltas 사용자 ID → 증가시킬 점수
+     * @return 사용자 ID → 증가 후 점수
+     */
+    public Map<String, Double> incrementScores(Map<String, Double> deltas) {
+        deltas.keySet().forEach(this::validateUserId);
+        Map<String, Double> newScores = windowedGameLeaderboard.incrementAll(deltas);
+        log.info("랭킹 점수 일괄 증가 - {}명", newScores.size());
+        return newScores;
+    }
+
+    /**
+     * 점수 일괄 증가 (경기 종료 시 참가자 전체 등)
+     * - 모든 항목을 먼저 검증하므로 잘못된 항목이 있으면 아무것도 반영하지 않음
+     * - 같은 사용자가 여러 번 나오면 증가분을 합산
+     * - chunkSize명씩 파이프라인으로 ZINCRBY (전체 보드 + 현재 시간 버킷)
+     * - 모두 반영한 뒤 새 점수들의 전체 순위를 ZCOUNT 파이프라인으로 계산
+     *
+     * 반영 도중 Redis 오류가 나면 앞선 청크는 이미 반영된 상태로 남습니다.
+     *
+     * @param requests (userId, delta) 목록
+     * @return 사용자별 새 점수와 전체 순위 (처음 나온 순서)
+     */
+    public List<RankingResponse> incrementScoresInBatch(List<ScoreDeltaRequest> requests) {
+        LeaderboardProperties.Batch batch = leaderboardProperties.getBatch();
+        if (requests.size() > batch.getMaxItems()) {
+            throw new IllegalArgumentException("한 번에 최대 " + batch.getMaxItems() + "개까지 반영할 수 있습니다.");
+        }
+
+        Map<String, Double> deltas = new LinkedHashMap<>();
+        for (int i = 0; i < requests.size(); i++) {
+            ScoreDeltaRequest request = requests.get(i);
+            if (request == null || request.getUserId() == null || request.getUserId().isBlank()
+                    || request.getDelta() == null || !Double.isFinite(request.getDelta())) {
+                throw new IllegalArgumentException((i + 1) + "번째 항목에 userId 또는 delta가 없습니다.");
+            }
+            if (request.getUserId().length() > RankingSnapshot.USER_ID_MAX_LENGTH) {
+                throw new IllegalArgumentException(
+                        (i + 1) + "번째 항목의 userId가 " + RankingSnapshot.USER_ID_MAX_LENGTH + "자를 넘습니다.");
+            }
+            deltas.merge(request.getUserId(), request.getDelta(), Double::sum);
+        }
+
+        Map<String, Double> newScores = new LinkedHashMap<>();
+        for (List<String> userIds : chunks(deltas.keySet(), batch.getChunkSize())) {
+            Map<String, Double> chunk = new LinkedHashMap<>();
+            userIds.forEach(userId -> chunk.put(userId, deltas.get(userId)));
+            newScores.putAll(windowedGameLeaderboard.incrementAll(chunk));
+        }
+
+        Map<Double, Long> ranks = new LinkedHashMap<>();
+        for (List<Double> scores : chunks(new LinkedHashSet<>(newScores.values()), batch.getChunkSize())) {
+            ranks.putAll(gameLeaderboard.ranksOf(scores));
+        }
+
+        List<RankingResponse> result = new ArrayList<>(newScores.size());
+        newScores.forEach((userId, score) -> result.add(RankingResponse.builder()
+                .rank(ranks.get(score))
+                .userId(userId)
+                .score(score)
+                .build()));
+
+        log.info("랭킹 점수 일괄 증가 - 항목: {}개, 사용자: {}명", requests.size(), result.size());
+        return result;
+    }
+
     /**
      * 상위 N명 조회 (1위부터)
      * - 점수가 높은 순서대로 반환
@@ -60,42 +171,67 @@ public class RankingService {
      * @return 랭킹 리스트
      */
     public List<RankingResponse> getTopRankings(int topN) {
-        // reverseRangeWithScores: 점수 높은 순으로 정렬 (내림차순)
-        Set<ZSetOperations.TypedTuple<Object>> rankings =
-            redisTemplate.opsForZSet().reverseRangeWithScores(RANKING_KEY, 0, topN - 1);
-
-        List<RankingResponse> result = new ArrayList<>();
-        long rank = 1;
-
-        if (rankings != null) {
-            for (ZSetOperations.TypedTuple<Object> ranking : rankings) {
-                result.add(RankingResponse.builder()
-                    .rank(rank++)
-                    .userId(ranking.getValue().toString())
-                    .score(ranking.getScore())
-                    .build());
-            }
+        return getTopRankings(LeaderboardWindow.ALL_TIME, topN);
+    }
+
+    /**
+     * 기간별 상위 N명 조회 (1위부터)
+     *
+     * @param window 기간 (시간/일간/주간/전체)
+     * @param topN 조회할 상위 N명
+     * @return 랭킹 리스트
+     */
+    public List<RankingResponse> getTopRankings(LeaderboardWindow window, int topN) {
+        List<RankingResponse> result = toResponses(board(window).top(topN));
+        log.info("{} 상위 {} 랭킹 조회 완료", window.getName(), topN);
+        return result;
+    }
+
+    /**
+     * 페이지 조회
+     *
+     * @param window 기간 (시간/일간/주간/전체)
+     * @param page 페이지 번호 (0부터)
+     * @param size 페이지 크기
+     * @return 해당 페이지의 랭킹 리스트
+     */
+    public List<RankingResponse> getRankingPage(LeaderboardWindow window, int page, int size) {
+        if (page < 0 || size < 1) {
+            throw new IllegalArgumentException("page는 0 이상, size는 1 이상이어야 합니다.");
         }
+        List<RankingResponse> result = toResponses(board(window).page(Math.multiplyExact(page, size), size));
+        log.info("{} 랭킹 페이지 조회 완료 - page: {}, size: {}", window.getName(), page, size);
+        return result;
+    }
 
-        log.info("상위 {} 랭킹 조회 완료", topN);
+    /**
+     * 내 주변 순위 조회
+     * - 나보다 바로 위 radius명 + 나 + 바로 아래 radius명
+     *
+     * @param window 기간 (시간/일간/주간/전체)
+     * @param userId 사용자 ID
+     * @param radius 위/아래로 조회할 인원
+     * @return 랭킹 리스트 (랭킹 데이터가 없으면 빈 리스트)
+     */
+    public List<RankingResponse> getRankingsAroundUser(LeaderboardWindow window, String userId, int radius) {
+        List<RankingResponse> result = toResponses(board(window).around(userId, radius));
+        log.info("사용자 {} 주변 랭킹 조회 - {}명", userId, result.size());
         return result;
     }
 
     /**
      * 특정 사용자의 순위 조회
-     * - 1위면 0 반환 (Redis는 0부터 시작)
+     * - 각 샤드에서 내 점수보다 높은 인원(ZCOUNT)을 더해 계산
      *
      * @param userId 사용자 ID
      * @return 순위 (1위부터 시작, 없으면 null)
      */
     public Long getUserRank(String userId) {
-        Long rank = redisTemplate.opsForZSet().reverseRank(RANKING_KEY, userId);
+        Long rank = gameLeaderboard.rank(userId);
 
         if (rank != null) {
-            // Redis는 0부터 시작하므로 +1
-            long actualRank = rank + 1;
-            log.info("사용자 {} 순위: {}", userId, actualRank);
-            return actualRank;
+            log.info("사용자 {} 순위: {}", userId, rank);
+            return rank;
         }
 
         log.info("사용자 {} 랭킹 데이터 없음", userId);
@@ -109,7 +245,7 @@ public class RankingService {
      * @return 점수 (없으면 null)
      */
     public Double getUserScore(String userId) {
-        Double score = redisTemplate.opsForZSet().score(RANKING_KEY, userId);
+        Double score = gameLeaderboard.score(userId);
         log.info("사용자 {} 점수: {}", userId, score);
         return score;
     }
@@ -121,18 +257,20 @@ public class RankingService {
      * @return 랭킹 정보
      */
     public RankingResponse getUserRanking(String userId) {
-        Long rank = getUserRank(userId);
-        Double score = getUserScore(userId);
-
-        if (rank != null && score != null) {
-            return RankingResponse.builder()
-                .rank(rank)
-                .userId(userId)
-                .score(score)
-                .build();
-        }
+        return getUserRanking(LeaderboardWindow.ALL_TIME, userId);
+    }
 
-        return null;
+    /**
+     * 기간별 특정 사용자의 랭킹 정보 조회 (순위 + 점수)
+     *
+     * @param window 기간 (시간/일간/주간/전체)
+     * @param userId 사용자 ID
+     * @return 랭킹 정보 (해당 기간에 점수가 없으면 null)
+     */
+    public RankingResponse getUserRanking(LeaderboardWindow window, String userId) {
+        return board(window).entry(userId)
+                .map(this::toResponse)
+                .orElse(null);
     }
 
     /**
@@ -141,27 +279,114 @@ public class RankingService {
      * @return 랭킹에 등록된 사용자 수
      */
     public Long getRankingCount() {
-        Long count = redisTemplate.opsForZSet().size(RANKING_KEY);
-        log.info("전체 랭킹 인원: {}", count);
-        return count != null ? count : 0L;
+        return getRankingCount(LeaderboardWindow.ALL_TIME);
+    }
+
+    /**
+     * 기간별 랭킹 인원 수
+     *
+     * @param window 기간 (시간/일간/주간/전체)
+     * @return 해당 기간에 점수가 있는 사용자 수
+     */
+    public Long getRankingCount(LeaderboardWindow window) {
+        long count = board(window).size();
+        log.info("{} 랭킹 인원: {}", window.getName(), count);
+        return count;
     }
 
     /**
-     * 사용자 삭제
+     * 사용자 삭제 (모든 기간 보드에서)
      *
      * @param userId 삭제할 사용자 ID
      */
     public void removeUser(String userId) {
-        redisTemplate.opsForZSet().remove(RANKING_KEY, userId);
+        windowedGameLeaderboard.remove(userId);
         log.info("랭킹에서 사용자 삭제: {}", userId);
     }
 
     /**
-     * 전체 랭킹 초기화
+     * 전체 랭킹 초기화 (모든 기간 보드 + MySQL 스냅샷)
+     * - 스냅샷을 남겨 두면 다음 스냅샷 주기가 빈 리더보드를 유실로 보고 옛 점수를 복원함
      */
     public void clearRanking() {
-        redisTemplate.delete(RANKING_KEY);
+        leaderboardSnapshotService.acceptNextSnapshot();
+        windowedGameLeaderboard.clear();
+        leaderboardSnapshotService.clear();
         log.info("전체 랭킹 초기화");
     }
 
+    /**
+     * 다음 스냅샷은 인원이 크게 줄었어도 현재 리더보드 그대로 저장 (정상적인 대량 삭제 후 사용)
+     */
+    public void acceptRankingSnapshot() {
+        leaderboardSnapshotService.acceptNextSnapshot();
+    }
+
+    /**
+     * 샤딩 이전의 단일 ZSET(ranking:game, JSON 멤버)을 샤드로 이전
+     * - 스냅샷 복원(@Order(2))보다 먼저 실행
+     * - 이미 샤드에 있는 사용자는 기존 점수로 덮어씀 (이전은 배포 직후 1번만 일어남)
+     */
+    @Order(1)
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateLegacyRanking() {
+        String legacyKey = LeaderboardConfig.GAME_RANKING_KEY;
+        if (!Boolean.TRUE.equals(redisTemplate.hasKey(legacyKey))) {
+            return;
+        }
+
+        Set<ZSetOperations.TypedTuple<Object>> legacy = redisTemplate.opsForZSet().rangeWithScores(legacyKey, 0, -1);
+        Map<String, Double> scores = new LinkedHashMap<>();
+        if (legacy != null) {
+            legacy.forEach(tuple -> scores.put(tuple.getValue().toString(), tuple.getScore()));
+        }
+        gameLeaderboard.addAll(scores);
+        redisTemplate.delete(legacyKey);
+        log.info("기존 랭킹(ranking:game)을 샤드로 이전 완료 - {}명", scores.size());
+    }
+
+    /**
+     * 스냅샷 컬럼(user_id)보다 긴 userId는 저장할 수 없으므로 등록 시점에 거부
+     */
+    private void validateUserId(String userId) {
+        if (userId == null || userId.isBlank()) {
+            throw new IllegalArgumentException("userId가 없습니다.");
+        }
+        if (userId.length() > RankingSnapshot.USER_ID_MAX_LENGTH) {
+            throw new IllegalArgumentException("userId는 " + RankingSnapshot.USER_ID_MAX_LENGTH + "자를 넘을 수 없습니다.");
+        }
+    }
+
+    private <T> List<List<T>> chunks(Collection<T> items, int chunkSize) {
+        List<List<T>> chunks = new ArrayList<>();
+        List<T> chunk = new ArrayList<>(chunkSize);
+        for (T item : items) {
+            chunk.add(item);
+            if (chunk.size() == chunkSize) {
+                chunks.add(chunk);
+                chunk = new ArrayList<>(chunkSize);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            chunks.add(chunk);
+        }
+        return chunks;
+    }
+
+    private ShardedLeaderboard board(LeaderboardWindow window) {
+        return windowedGameLeaderboard.board(window);
+    }
+
+    private List<RankingResponse> toResponses(List<LeaderboardEntry> entries) {
+        return entries.stream().map(this::toResponse).toList();
+    }
+
+    private RankingResponse toResponse(LeaderboardEntry entry) {
+        return RankingResponse.builder()
+                .rank(entry.rank())
+                .userId(entry.userId())
+                .score(entry.score())
+                .build();
+    }
+
 }
@@ -23,7 +23,7 @@ public class UserService {
 
     private final UserRepository userRepository;
 
-    @Cacheable(value = "users", key = "'all'")
+    @Cacheable(value = "users", key = "'all'", sync = true)
     public List<UserResponse> getAllUsers() {
         log.info("DB에서 모든 사용자 조회 (캐시 미스)");
         simulateSlowQuery();
@@ -34,7 +34,7 @@ public class UserService {
                 .collect(Collectors.toList());
     }
 
-    @Cacheable(value = "user", key = "#id")
+    @Cacheable(value = "user", key = "#id", sync = true)
     public UserResponse getUserById(Long id) {
         log.info("DB에서 사용자 조회 - ID: {} (캐시 미스)", id);
         simulateSlowQuery();
@@ -44,7 +44,7 @@ public class UserService {
         return UserResponse.from(user);
     }
 
-    @Cacheable(value = "user", key = "'username:' + #username")
+    @Cacheable(value = "user", key = "'username:' + #username", sync = true)
     public UserResponse getUserByUsername(String username) {
         log.info("DB에서 사용자 조회 - Username: {} (캐시 미스)", username);
         simulateSlowQuery();
@@ -0,0 +1,39 @@
+package com.example.redis.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 조회수 DB 일괄 반영 설정
+ *
+ * 예시 (application.yml):
+ * view-count:
+ *   flush:
+ *     enabled: true
+ *     interval: PT10S
+ *     chunk-size: 500
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "view-count.flush")
+public class ViewCountFlushProperties {
+
+    /**
+     * 주기적 반영 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 반영 주기 (Redis 장애 시 유실될 수 있는 조회수 구간 ≈ 주기 + 반영 소요시간)
+     * @Scheduled에서도 읽으므로 yml에는 ISO-8601 형식(PT10S)으로 적어야 함
+     */
+    private Duration interval = Duration.ofSeconds(10);
+
+    /**
+     * 한 번에 읽고(파이프라인) 저장(UPDATE 1문장)하는 게시글 수
+     */
+    private int chunkSize = 500;
+}
@@ -0,0 +1,202 @@
+package com.example.redis.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisZSetCommands.ZAddArgs;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 조회수 Redis → MySQL 일괄 반영
+ *
+ * [문제]
+ * syncViewCountToDatabase(postId)는 게시글마다 findById + save(UPDATE 1번)이고 호출하는 곳도 없어
+ * Redis에만 있는 조회수가 언제 DB에 반영되는지 알 수 없습니다.
+ *
+ * [구조]
+ * 조회수 증가 시 view:count:dirty(ZSET)에 postId를 ZADD NX (score = 반영 안 된 첫 증가 시각)
+ * interval마다 이번 반영 시작 전에 표시된 게시글을 chunkSize개씩:
+ *   1. ZRANGEBYSCORE dirty -inf {시작 시각} LIMIT 0 chunkSize
+ *   2. 파이프라인: ZREM dirty {ids} → GET view:count:post:{id} × N
+ *   3. UPDATE post SET view_count = GREATEST(view_count, CASE id WHEN ? THEN ? ... END) WHERE id IN (...) 1문장
+ *
+ * ZREM 뒤에 GET하므로 그 사이의 증가는 GET 값에 포함되고,
+ * ZREM 뒤의 증가는 dirty에 다시 표시되어 다음 반영에 포함됩니다. (증가 쪽은 INCR → ZADD 순서)
+ * DB 저장이 실패하면 원래 시각으로 dirty에 되돌려(ZADD LT) 다음 주기에 재시도합니다.
+ *
+ * 조회수는 누적값을 그대로 쓰므로 여러 노드가 동시에 반영해도 결과가 같고,
+ * GREATEST로 늦게 도착한 이전 값이 DB 조회수를 줄이지 않도록 합니다.
+ *
+ * [지표]
+ * - viewcount.flush.lag: 가장 오래된 미반영 증가의 나이(초) = Redis 장애 시 유실 가능 구간
+ * - viewcount.flush.posts: 반영한 게시글 수
+ */
+@Slf4j
+@Service
+@EnableConfigurationProperties(ViewCountFlushProperties.class)
+public class ViewCountFlushService {
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final ViewCountFlushProperties properties;
+    private final Counter flushedPosts;
+
+    public ViewCountFlushService(StringRedisTemplate stringRedisTemplate,
+                                 JdbcTemplate jdbcTemplate,
+                                 ViewCountFlushProperties properties,
+                                 MeterRegistry meterRegistry) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.flushedPosts = Counter.builder("viewcount.flush.posts")
+                .description("DB에 반영한 게시글 수")
+                .register(meterRegistry);
+        Gauge.builder("viewcount.flush.lag", this, ViewCountFlushService::lagSeconds)
+                .description("가장 오래된 미반영 조회수 증가의 나이")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${view-count.flush.interval:PT10S}",
+            initialDelayString = "${view-count.flush.interval:PT10S}")
+    public void scheduledFlush() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("조회수 DB 반영 실패 (다음 주기에 재시도): {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 반영 시작 전에 표시된 모든 게시글의 조회수를 DB에 반영
+     * 반영 중에 새로 표시된 게시글은 다음 주기로 넘겨 계속 조회되는 게시글 때문에 끝나지 않는 일이 없도록 합니다.
+     *
+     * @return 반영한 게시글 수
+     */
+    public long flush() {
+        long start = System.currentTimeMillis();
+        long flushed = 0;
+        int chunks = 0;
+
+        Set<TypedTuple<String>> chunk;
+        while (!(chunk = nextChunk(start)).isEmpty()) {
+            flushed += flushChunk(chunk);
+            chunks++;
+        }
+
+        if (flushed > 0) {
+            log.info("조회수 DB 반영 완료 - 게시글: {}개, 청크: {}개, 소요시간: {}ms",
+                    flushed, chunks, System.currentTimeMillis() - start);
+        }
+        return flushed;
+    }
+
+    /**
+     * 가장 오래된 미반영 증가의 나이 (ms, 없으면 0)
+     */
+    public long lagMillis() {
+        Set<TypedTuple<String>> oldest = stringRedisTemplate.opsForZSet()
+                .rangeWithScores(ViewCountService.DIRTY_KEY, 0, 0);
+        if (oldest == null || oldest.isEmpty()) {
+            return 0;
+        }
+        Double markedAt = oldest.iterator().next().getScore();
+        return markedAt == null ? 0 : Math.max(0, System.currentTimeMillis() - markedAt.longValue());
+    }
+
+    private double lagSeconds() {
+        try {
+            return lagMillis() / 1000.0;
+        } catch (RuntimeException e) {
+            return Double.NaN;
+        }
+    }
+
+    private Set<TypedTuple<String>> nextChunk(long markedBefore) {
+        Set<TypedTuple<String>> chunk = stringRedisTemplate.opsForZSet().rangeByScoreWithScores(
+                ViewCountService.DIRTY_KEY, Double.NEGATIVE_INFINITY, markedBefore, 0, properties.getChunkSize());
+        return chunk == null ? Set.of() : chunk;
+    }
+
+    private int flushChunk(Set<TypedTuple<String>> chunk) {
+        List<String> postIds = chunk.stream().map(TypedTuple::getValue).toList();
+
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            stringConnection.zRem(ViewCountService.DIRTY_KEY, postIds.toArray(new String[0]));
+            postIds.forEach(postId -> stringConnection.get(ViewCountService.viewCountKey(Long.valueOf(postId))));
+            return null;
+        });
+
+        List<long[]> rows = new ArrayList<>(postIds.size());
+        for (int i = 0; i < postIds.size(); i++) {
+            Object count = results.get(i + 1);
+            if (count != null) {  // resetViewCount 등으로 키가 지워진 게시글은 건너뜀
+                rows.add(new long[]{Long.parseLong(postIds.get(i)), Long.parseLong(count.toString())});
+            }
+        }
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            jdbcTemplate.update(updateSql(rows.size()), updateArgs(rows));
+        } catch (DataAccessException e) {
+            restore(chunk);
+            throw e;
+        }
+        flushedPosts.increment(rows.size());
+        return rows.size();
+    }
+
+    /**
+     * DB 저장 실패 시 dirty에 되돌림 (그 사이 다시 표시된 게시글은 더 이른 원래 시각으로)
+     */
+    private void restore(Set<TypedTuple<String>> chunk) {
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            chunk.forEach(tuple -> stringConnection.zAdd(ViewCountService.DIRTY_KEY, tuple.getScore(),
+                    tuple.getValue(), ZAddArgs.empty().lt()));
+            return null;
+        });
+    }
+
+    /**
+     * 게시글 N개를 UPDATE 1문장으로 반영
+     */
+    static String updateSql(int rows) {
+        return "UPDATE post SET view_count = GREATEST(view_count, CASE id"
+                + " WHEN ? THEN ?".repeat(rows)
+                + " END), updated_at = ? WHERE id IN (" + String.join(", ", Collections.nCopies(rows, "?")) + ")";
+    }
+
+    private Object[] updateArgs(List<long[]> rows) {
+        List<Object> args = new ArrayList<>(rows.size() * 3 + 1);
+        rows.forEach(row -> {
+            args.add(row[0]);
+            args.add(row[1]);
+        });
+        args.add(Timestamp.valueOf(LocalDateTime.now()));
+        rows.forEach(row -> args.add(row[0]));
+        return args.toArray();
+    }
+}
@@ -1,19 +1,31 @@
 package com.example.redis.service;
 
 import com.example.redis.domain.Post;
+import com.example.redis.dto.ViewStatsResponse;
 import com.example.redis.repository.PostRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisZSetCommands.ZAddArgs;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 /**
  * 조회수 관리 서비스
  * - Redis를 활용한 원자적(Atomic) 조회수 증가
  * - 동시성 문제 해결
+ * - 순 방문자 수 (HyperLogLog): 게시글 + 날짜별 HLL에 방문자 ID를 PFADD
+ *   → 방문자가 수백만 명이어도 키 1개당 최대 12KB, PFCOUNT 표준 오차 약 0.81%
+ *   → 방문자 × 게시글마다 키를 만드는 방식(SET, 중복 방지 키)보다 메모리가 일정함
  */
 @Service
 @RequiredArgsConstructor
@@ -21,11 +33,23 @@ import java.util.concurrent.TimeUnit;
 public class ViewCountService {
 
     private final RedisTemplate<String, Object> redisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
     private final PostRepository postRepository;
 
     // Redis Key 형식: view:count:post:{postId}
     private static final String VIEW_COUNT_KEY_PREFIX = "view:count:post:";
 
+    // DB에 아직 반영되지 않은 게시글: member = postId, score = 반영 안 된 첫 증가 시각(ms)
+    // ZADD NX라 이미 있으면 시각이 바뀌지 않음 → 가장 작은 score = 가장 오래된 미반영 증가
+    static final String DIRTY_KEY = "view:count:dirty";
+
+    // Redis Key 형식: view:uv:post:{postId}:{yyyyMMdd}
+    // {postId} 해시 태그: 클러스터에서도 같은 게시글의 날짜별 키가 같은 슬롯 → 다중 키 PFCOUNT 가능
+    private static final String UNIQUE_VISITOR_KEY_PREFIX = "view:uv:post:";
+
+    // 최근 30일 합산까지 쓰므로 하루 여유를 두고 보관
+    private static final Duration UNIQUE_VISITOR_TTL = Duration.ofDays(31);
+
     /**
      * 게시글 조회수 증가 (Redis 사용)
      *
@@ -33,23 +57,116 @@ public class ViewCountService {
      * 1. Redis에서 INCR 명령어로 조회수 원자적 증가
      * 2. INCR은 싱글 스레드로 동작하므로 동시성 문제 없음
      * 3. 10개 스레드가 동시에 접근해도 정확히 10 증가
+     * 4. DB 반영 대상(dirty)으로 표시 → ViewCountFlushService가 주기적으로 일괄 반영
      *
      * @param postId 게시글 ID
      * @return 증가 후 조회수
      */
     public Long increaseViewCount(Long postId) {
-        String key = VIEW_COUNT_KEY_PREFIX + postId;
+        String key = viewCountKey(postId);
 
         // Redis INCR: 원자적 연산으로 값을 1 증가시킴
         // - 싱글 스레드로 동작하므로 Race Condition 발생 안함
         // - 여러 스레드가 동시에 호출해도 정확한 카운팅 보장
-        Long newCount = redisTemplate.opsForValue().increment(key, 1);
+        // INCR 뒤에 DB 반영 대상(dirty)으로 표시 (같은 연결의 파이프라인이라 순서 보장)
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            stringConnection.incr(key);
+            markDirty(stringConnection, postId);
+            return null;
+        });
+        Long newCount = (Long) results.get(0);
 
         log.debug("게시글 {} 조회수 증가: {}", postId, newCount);
 
         return newCount;
     }
 
+    /**
+     * 게시글 조회수 증가 + 순 방문자 기록
+     *
+     * INCR, PFADD, EXPIRE를 파이프라인으로 보내 Redis 왕복 1번으로 처리합니다.
+     * 같은 방문자가 다시 조회하면 조회수는 증가하지만 순 방문자 수는 그대로입니다.
+     * (PFADD의 반환값은 근사치라 중복 판정에 쓰지 않음)
+     *
+     * @param postId 게시글 ID
+     * @param visitorId 방문자 식별자 (회원 ID, IP 등)
+     * @return 증가 후 조회수
+     */
+    public Long increaseViewCount(Long postId, String visitorId) {
+        String viewCountKey = viewCountKey(postId);
+        String uniqueVisitorKey = uniqueVisitorKey(postId, LocalDate.now());
+
+        // INCR 결과는 숫자 문자열로 저장되므로 JSON RedisTemplate의 getViewCount()로도 읽을 수 있음
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            stringConnection.incr(viewCountKey);
+            markDirty(stringConnection, postId);
+            stringConnection.pfAdd(uniqueVisitorKey, visitorId);
+            stringConnection.expire(uniqueVisitorKey, UNIQUE_VISITOR_TTL.toSeconds());
+            return null;
+        });
+
+        Long newCount = (Long) results.get(0);
+        log.debug("게시글 {} 조회수 증가: {} (방문자: {})", postId, newCount, visitorId);
+
+        return newCount;
+    }
+
+    /**
+     * 특정 날짜의 순 방문자 수 (HyperLogLog 근사값)
+     *
+     * @param postId 게시글 ID
+     * @param date 날짜
+     * @return 순 방문자 수
+     */
+    public Long getUniqueVisitorCount(Long postId, LocalDate date) {
+        return getUniqueVisitorCount(postId, date, date);
+    }
+
+    /**
+     * 기간(from ~ to, 양 끝 포함)의 순 방문자 수
+     *
+     * 여러 날짜 키를 PFCOUNT 한 번에 넘기면 Redis가 HLL을 합친 결과로 계산하므로
+     * 기간 중 여러 날 방문한 사용자도 1명으로 셉니다. (PFMERGE로 따로 저장하지 않음)
+     *
+     * @param postId 게시글 ID
+     * @param from 시작 날짜
+     * @param to 종료 날짜
+     * @return 순 방문자 수
+     */
+    public Long getUniqueVisitorCount(Long postId, LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("시작 날짜는 종료 날짜보다 늦을 수 없습니다.");
+        }
+        if (from.plusDays(UNIQUE_VISITOR_TTL.toDays()).isBefore(to)) {
+            throw new IllegalArgumentException("순 방문자 수는 최대 " + UNIQUE_VISITOR_TTL.toDays() + "일 기간까지 조회할 수 있습니다.");
+        }
+
+        List<String> keys = from.datesUntil(to.plusDays(1))
+                .map(date -> uniqueVisitorKey(postId, date))
+                .toList();
+        Long count = stringRedisTemplate.opsForHyperLogLog().size(keys.toArray(new String[0]));
+        return count != null ? count : 0L;
+    }
+
+    /**
+     * 조회수 + 순 방문자 수 (오늘, 최근 7일, 최근 30일)
+     *
+     * @param postId 게시글 ID
+     * @return 조회 통계
+     */
+    public ViewStatsResponse getViewStats(Long postId) {
+        LocalDate today = LocalDate.now();
+        return ViewStatsResponse.builder()
+                .postId(postId)
+                .viewCount(getViewCount(postId))
+                .uniqueVisitorsToday(getUniqueVisitorCount(postId, today))
+                .uniqueVisitorsLast7Days(getUniqueVisitorCount(postId, today.minusDays(6), today))
+                .uniqueVisitorsLast30Days(getUniqueVisitorCount(postId, today.minusDays(29), today))
+                .build();
+    }
+
     /**
      * Redis에서 현재 조회수 조회
      *
@@ -73,9 +190,8 @@ public class ViewCountService {
     }
 
     /**
-     * Redis 조회수를 DB와 동기화
-     * - 실무에서는 스케줄러로 주기적으로 실행
-     * - 또는 일정 횟수마다 동기화
+     * Redis 조회수를 DB와 동기화 (게시글 1개)
+     * - 주기적인 전체 반영은 ViewCountFlushService가 담당 (게시글마다 findById + save 하지 않음)
      *
      * @param postId 게시글 ID
      */
@@ -102,6 +218,12 @@ public class ViewCountService {
     public void resetViewCount(Long postId) {
         String key = VIEW_COUNT_KEY_PREFIX + postId;
         redisTemplate.delete(key);
+        stringRedisTemplate.opsForZSet().remove(DIRTY_KEY, String.valueOf(postId));
+        // 순 방문자 HLL은 보관 기간 내 날짜 키를 직접 지정해 삭제 (KEYS 사용 안 함)
+        LocalDate today = LocalDate.now();
+        redisTemplate.delete(today.minusDays(UNIQUE_VISITOR_TTL.toDays()).datesUntil(today.plusDays(1))
+                .map(date -> uniqueVisitorKey(postId, date))
+                .toList());
         log.info("게시글 {} Redis 조회수 초기화", postId);
     }
 
@@ -116,4 +238,17 @@ public class ViewCountService {
         redisTemplate.opsForValue().set(key, count);
         log.info("게시글 {} Redis 조회수 설정: {}", postId, count);
     }
+
+    static String viewCountKey(Long postId) {
+        return VIEW_COUNT_KEY_PREFIX + postId;
+    }
+
+    private void markDirty(StringRedisConnection connection, Long postId) {
+        connection.zAdd(DIRTY_KEY, System.currentTimeMillis(), String.valueOf(postId), ZAddArgs.ifNotExists());
+    }
+
+    // 예: view:uv:post:{1}:20261019
+    private String uniqueVisitorKey(Long postId, LocalDate date) {
+        return UNIQUE_VISITOR_KEY_PREFIX + "{" + postId + "}:" + DateTimeFormatter.BASIC_ISO_DATE.format(date);
+    }
 }
@@ -0,0 +1,175 @@
+package com.example.redis.cache;
+
+import com.example.redis.dto.ProductResponse;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 캐시 값 바이너리 직렬화 테스트
+ * - 기존 JSON(@class 타입 정보 포함)과 같은 값을 복원하는지 확인
+ * - products::all 목록 기준으로 JSON 대비 크기와 직렬화/역직렬화 시간 비교
+ */
+class CompactRedisSerializerTest {
+
+    private static final int PRODUCT_COUNT = 100;
+    private static final int WARMUP = 1_000;
+    private static final int ITERATIONS = 2_000;
+
+    private final CompactRedisSerializer compact = new CompactRedisSerializer(1024);
+    private final GenericJackson2JsonRedisSerializer json = new GenericJackson2JsonRedisSerializer(jsonObjectMapper());
+
+    @Test
+    @DisplayName("List<ProductResponse>를 원래 타입 그대로 복원")
+    void roundTripTest() {
+        // given
+        List<ProductResponse> products = products(PRODUCT_COUNT);
+
+        // when
+        Object restored = compact.deserialize(compact.serialize(products));
+
+        // then
+        assertThat(restored).isInstanceOf(List.class);
+        assertThat((List<?>) restored).first().isInstanceOf(ProductResponse.class);
+        assertThat(restored).isEqualTo(products);
+    }
+
+    @Test
+    @DisplayName("기준 크기 이상인 값만 LZ4 압축")
+    void compressionThresholdTest() {
+        // when
+        byte[] small = compact.serialize(products(1));
+        byte[] large = compact.serialize(products(PRODUCT_COUNT));
+
+        // then
+        assertThat(small[3] & CompactRedisSerializer.FLAG_LZ4).isZero();
+        assertThat(large[3] & CompactRedisSerializer.FLAG_LZ4).isNotZero();
+        assertThat(compact.deserialize(small)).isEqualTo(products(1));
+    }
+
+    @Test
+    @DisplayName("헤더가 다른 값(이전 JSON 값, 다른 버전)은 오류 대신 캐시 미스(null)")
+    void rejectUnknownFormatTest() {
+        // given
+        byte[] legacyJson = json.serialize(products(3));
+        byte[] otherVersion = compact.serialize(products(3));
+        otherVersion[2] = CompactRedisSerializer.VERSION + 1;
+
+        // when & then
+        assertThat(compact.deserialize(legacyJson)).isNull();
+        assertThat(compact.deserialize(otherVersion)).isNull();
+    }
+
+    @Test
+    @DisplayName("스탬피드 방지용 CacheEnvelope 복원")
+    void envelopeTest() {
+        // given
+        CacheEnvelope envelope = new CacheEnvelope(products(2), 35L, 1_700_000_000_000L);
+
+        // when
+        Object restoredEnvelope = compact.deserialize(compact.serialize(envelope));
+
+        // then
+        assertThat(restoredEnvelope).isInstanceOf(CacheEnvelope.class);
+        assertThat(((CacheEnvelope) restoredEnvelope).getValue()).isEqualTo(products(2));
+        assertThat(((CacheEnvelope) restoredEnvelope).getComputeMillis()).isEqualTo(35L);
+    }
+
+    @Test
+    @DisplayName("벤치마크 - products::all (상품 100개) JSON vs Smile + LZ4")
+    void benchmarkTest() {
+        // given
+        List<ProductResponse> products = products(PRODUCT_COUNT);
+        CompactRedisSerializer compactWithoutLz4 = new CompactRedisSerializer(Integer.MAX_VALUE);
+
+        // when: JIT 영향을 줄이기 위해 세 형식 모두 먼저 워밍업한 뒤 측정
+        for (RedisSerializer<Object> serializer : List.of(json, compactWithoutLz4, compact)) {
+            for (int i = 0; i < WARMUP; i++) {
+                serializer.deserialize(serializer.serialize(products));
+            }
+        }
+        Result jsonResult = measure("JSON (@class)", json, products);
+        Result smileResult = measure("Smile", compactWithoutLz4, products);
+        Result compactResult = measure("Smile + LZ4", compact, products);
+
+        // then
+        System.out.println("=== products::all 직렬화 비교 (상품 " + PRODUCT_COUNT + "개) ===");
+        System.out.printf("%-14s %10s %16s %18s%n", "형식", "bytes", "serialize ns/op", "deserialize ns/op");
+        for (Result result : List.of(jsonResult, smileResult, compactResult)) {
+            System.out.printf("%-14s %10d %16d %18d%n",
+                    result.name(), result.bytes(), result.serializeNanos(), result.deserializeNanos());
+        }
+
+        assertThat(smileResult.bytes()).isLessThan(jsonResult.bytes());
+        assertThat(compactResult.bytes()).isLessThan(smileResult.bytes());
+    }
+
+    private Result measure(String name, RedisSerializer<Object> serializer, Object value) {
+        byte[] bytes = serializer.serialize(value);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            serializer.serialize(value);
+        }
+        long serializeNanos = (System.nanoTime() - start) / ITERATIONS;
+
+        start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            serializer.deserialize(bytes);
+        }
+        long deserializeNanos = (System.nanoTime() - start) / ITERATIONS;
+
+        assertThat(serializer.deserialize(bytes)).isEqualTo(value);
+        return new Result(name, bytes.length, serializeNanos, deserializeNanos);
+    }
+
+    private List<ProductResponse> products(int count) {
+        String[] categories = {"전자기기", "의류", "식품", "도서", "가구"};
+        LocalDateTime createdAt = LocalDateTime.of(2025, 10, 21, 10, 20, 30);
+
+        List<ProductResponse> products = new ArrayList<>();
+        for (long id = 1; id <= count; id++) {
+            products.add(ProductResponse.builder()
+                    .id(id)
+                    .name("상품 " + id)
+                    .description("상품 " + id + "의 상세 설명입니다.")
+                    .price(BigDecimal.valueOf(10_000 + id * 100))
+                    .stockQuantity((int) (id * 10))
+                    .category(categories[(int) (id % categories.length)])
+                    .createdAt(createdAt)
+                    .updatedAt(createdAt.plusDays(id))
+                    .build());
+        }
+        return products;
+    }
+
+    /**
+     * RedisConfig의 기존 JSON 직렬화 설정
+     */
+    private ObjectMapper jsonObjectMapper() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        objectMapper.activateDefaultTyping(
+            objectMapper.getPolymorphicTypeValidator(),
+            ObjectMapper.DefaultTyping.NON_FINAL,
+            JsonTypeInfo.As.PROPERTY
+        );
+        return objectMapper;
+    }
+
+    private record Result(String name, int bytes, long serializeNanos, long deserializeNanos) {
+    }
+}
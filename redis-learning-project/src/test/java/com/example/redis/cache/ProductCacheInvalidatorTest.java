@@ -0,0 +1,159 @@
+package com.example.redis.cache;
+
+import com.example.redis.dto.ProductResponse;
+import com.example.redis.event.ProductChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 상품 캐시 부분 무효화 테스트
+ * - 의존성 SET(Redis)은 mock, 캐시는 ConcurrentMapCacheManager로 대체 (Redis 없이 실행 가능)
+ */
+class ProductCacheInvalidatorTest {
+
+    private StringRedisTemplate stringRedisTemplate;
+    private SetOperations<String, String> setOperations;
+    private ConcurrentMapCacheManager cacheManager;
+    private ProductCacheInvalidator invalidator;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        stringRedisTemplate = mock(StringRedisTemplate.class);
+        setOperations = mock(SetOperations.class);
+        when(stringRedisTemplate.opsForSet()).thenReturn(setOperations);
+        when(setOperations.members(anyString())).thenReturn(Set.of());
+
+        cacheManager = new ConcurrentMapCacheManager("product", "products");
+        invalidator = new ProductCacheInvalidator(stringRedisTemplate, cacheManager);
+
+        // 캐시된 상태: 상품 1(전자기기, 노트북)과 무관한 목록들
+        productCache().put(1L, "상품1");
+        productCache().put(2L, "상품2");
+        listCache().put("all", "전체 목록");
+        listCache().put("category:전자기기", "전자기기 목록");
+        listCache().put("category:의류", "의류 목록");
+        listCache().put("category:게이밍", "게이밍 목록");
+        listCache().put("search:노트", "노트 검색 결과");
+        listCache().put("search:마우스", "마우스 검색 결과");
+    }
+
+    @Test
+    @DisplayName("상품 수정 - 해당 상품과 그 상품이 속했던/속하게 될 목록만 삭제")
+    void updateEvictsOnlyDependentEntriesTest() {
+        // given: 상품 1은 all, 전자기기 목록, '노트' 검색 결과에 포함되어 있음
+        when(setOperations.members("cache:deps:product:1"))
+                .thenReturn(Set.of("all", "category:전자기기", "search:노트"));
+        when(setOperations.members("cache:deps:searches")).thenReturn(Set.of("노트", "마우스"));
+
+        // when: 카테고리를 전자기기 → 게이밍으로 변경
+        invalidator.onProductChanged(ProductChangedEvent.updated(
+                product(1L, "노트북", "전자기기"), product(1L, "게이밍 노트북", "게이밍")));
+
+        // then
+        assertThat(productCache().get(1L)).isNull();
+        assertThat(listCache().get("all")).isNull();
+        assertThat(listCache().get("category:전자기기")).isNull();
+        assertThat(listCache().get("category:게이밍")).isNull();
+        assertThat(listCache().get("search:노트")).isNull();
+
+        assertThat(productCache().get(2L)).isNotNull();
+        assertThat(listCache().get("category:의류")).isNotNull();
+        assertThat(listCache().get("search:마우스")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("상품 생성 - all, 해당 카테고리, 이름이 검색어를 포함하는 검색 목록만 삭제")
+    void createEvictsMatchingListsTest() {
+        // given
+        when(setOperations.members("cache:deps:searches")).thenReturn(Set.of("노트", "마우스"));
+
+        // when
+        invalidator.onProductChanged(ProductChangedEvent.created(product(3L, "무선 마우스", "전자기기")));
+
+        // then
+        assertThat(listCache().get("all")).isNull();
+        assertThat(listCache().get("category:전자기기")).isNull();
+        assertThat(listCache().get("search:마우스")).isNull();
+
+        assertThat(productCache().get(1L)).isNotNull();
+        assertThat(listCache().get("category:의류")).isNotNull();
+        assertThat(listCache().get("search:노트")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("다른 노드의 색인 변경 수신 - 이 상품을 포함했던/새 이름에 맞는 검색 목록만 삭제")
+    void searchIndexChangedEvictsOnlySearchListsTest() {
+        // given: 상품 1은 '노트' 검색 결과에 포함되어 있었고, 이름이 '무선 마우스'로 바뀜
+        when(setOperations.members("cache:deps:product:1")).thenReturn(Set.of("search:노트"));
+        when(setOperations.members("cache:deps:searches")).thenReturn(Set.of("노트", "마우스"));
+
+        // when
+        invalidator.onSearchIndexChanged(1L, product(1L, "무선 마우스", "전자기기"));
+
+        // then: 검색 목록만 삭제 (상품/전체/카테고리 목록은 변경한 노드가 이미 삭제)
+        assertThat(listCache().get("search:노트")).isNull();
+        assertThat(listCache().get("search:마우스")).isNull();
+
+        assertThat(productCache().get(1L)).isNotNull();
+        assertThat(listCache().get("all")).isNotNull();
+        assertThat(listCache().get("category:전자기기")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("의존성 기록 - 항상 무효화되는 all/카테고리 목록은 기록하지 않고 검색 목록만 기록")
+    void registerOnlySearchListsTest() {
+        // given
+        List<ProductResponse> products = List.of(product(1L, "노트북", "전자기기"), product(2L, "마우스", "전자기기"));
+
+        // when
+        invalidator.registerList(ProductCacheInvalidator.ALL_KEY, products);
+        invalidator.registerList(ProductCacheInvalidator.categoryKey("전자기기"), products);
+
+        // then: 전체 목록(상품 수만큼 SADD + EXPIRE)을 적재해도 Redis 쓰기 없음
+        verify(stringRedisTemplate, never()).executePipelined(any(RedisCallback.class));
+
+        // when
+        invalidator.registerList(ProductCacheInvalidator.searchKey("노트"), products);
+
+        // then
+        verify(stringRedisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+    }
+
+    private ProductResponse product(Long id, String name, String category) {
+        return ProductResponse.builder()
+                .id(id)
+                .name(name)
+                .price(BigDecimal.valueOf(10_000))
+                .stockQuantity(10)
+                .category(category)
+                .build();
+    }
+
+    private Cache productCache() {
+        return cacheManager.getCache("product");
+    }
+
+    private Cache listCache() {
+        return cacheManager.getCache("products");
+    }
+}
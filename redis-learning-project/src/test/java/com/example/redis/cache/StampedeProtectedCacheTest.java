@@ -0,0 +1,260 @@
+package com.example.redis.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.DoubleSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 캐시 스탬피드 방지 테스트
+ * - 만료 순간 동시 요청 N개가 DB를 N번 조회하던 것이 1번으로 줄어드는지 확인
+ * - L2는 Redis 대신 ConcurrentMapCache로 대체 (Redis 없이 실행 가능)
+ * - 시간은 수동 시계, XFetch 난수는 고정 값, 백그라운드 갱신은 대기열로 받아 직접 실행 (sleep 없음)
+ */
+class StampedeProtectedCacheTest {
+
+    private static final int THREAD_COUNT = 50;
+    private static final long SLOW_QUERY_MS = 200;
+
+    private final AtomicInteger dbCalls = new AtomicInteger();
+    private final MutableClock clock = new MutableClock();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Queue<Runnable> pendingRefreshes = new ConcurrentLinkedQueue<>();
+
+    @Test
+    @DisplayName("보호 없음 - 캐시 미스 순간 동시 요청 수만큼 DB 조회")
+    void withoutProtectionTest() throws InterruptedException {
+        // given: 두 번째 미스가 도착할 때까지 첫 조회가 끝나지 않는 느린 DB
+        Cache cache = new ConcurrentMapCache("products");
+        CountDownLatch secondMiss = new CountDownLatch(2);
+
+        // when: @Cacheable(sync = false)와 같은 get → 미스 → 조회 → put
+        runConcurrently(() -> {
+            Cache.ValueWrapper cached = cache.get("all");
+            if (cached == null) {
+                secondMiss.countDown();
+                secondMiss.await(5, TimeUnit.SECONDS);
+                cache.put("all", slowQuery());
+            }
+        });
+
+        // then
+        System.out.println("보호 없음 - DB 조회 횟수: " + dbCalls.get() + " / 요청 " + THREAD_COUNT);
+        assertThat(secondMiss.getCount()).isZero();
+        assertThat(dbCalls.get()).isGreaterThan(1);
+    }
+
+    @Test
+    @DisplayName("Single Flight - 캐시 미스 순간 동시 요청이 있어도 DB 조회는 1번")
+    void singleFlightTest() throws InterruptedException {
+        // given
+        Cache cache = protectedCache(Duration.ofMinutes(10), Duration.ZERO, () -> 0.0);
+
+        // when: 나머지 요청이 모두 합류할 때까지 적재가 끝나지 않음
+        runConcurrently(() -> cache.get("all", () -> {
+            awaitCoalesced(THREAD_COUNT - 1);
+            return slowQuery();
+        }));
+
+        // then
+        System.out.println("Single Flight - DB 조회 횟수: " + dbCalls.get() + " / 요청 " + THREAD_COUNT);
+        assertThat(dbCalls.get()).isEqualTo(1);
+        assertThat(coalescedCount()).isEqualTo(THREAD_COUNT - 1);
+    }
+
+    @Test
+    @DisplayName("Single Flight - 만료 이벤트마다 DB 조회는 1번")
+    void singleFlightPerExpiryTest() throws InterruptedException {
+        // given: TTL 300ms, stale 응답 없음
+        Cache cache = protectedCache(Duration.ofMillis(300), Duration.ZERO, () -> 0.0);
+        cache.get("all", this::slowQuery);
+        dbCalls.set(0);
+
+        // when: 만료 후 동시 요청
+        clock.advance(400);
+        runConcurrently(() -> cache.get("all", () -> {
+            awaitCoalesced(THREAD_COUNT - 1);
+            return slowQuery();
+        }));
+
+        // then
+        assertThat(dbCalls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Stale-While-Revalidate - 만료 후에도 이전 값을 즉시 응답하고 백그라운드에서 1번 갱신")
+    void staleWhileRevalidateTest() {
+        // given
+        Cache cache = protectedCache(Duration.ofMillis(300), Duration.ofMinutes(1), () -> 0.0);
+        Object first = cache.get("all", this::slowQuery);
+        clock.advance(400);
+
+        // when: 만료된 값을 조회하면 DB를 기다리지 않고 갱신만 예약됨
+        Object stale = cache.get("all", this::slowQuery);
+        Object staleAgain = cache.get("all", this::slowQuery);
+        int callsBeforeRefresh = dbCalls.get();
+        int scheduledRefreshes = pendingRefreshes.size();
+        runPendingRefreshes();
+        Object refreshed = cache.get("all", this::slowQuery);
+
+        // then
+        assertThat(stale).isEqualTo(first);
+        assertThat(staleAgain).isEqualTo(first);
+        assertThat(callsBeforeRefresh).isEqualTo(1);
+        assertThat(scheduledRefreshes).isEqualTo(1);
+        assertThat(refreshed).isNotEqualTo(first);
+        assertThat(dbCalls.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("XFetch - 적재 시간에 비해 만료가 임박하면 만료 전에 백그라운드 갱신")
+    void earlyRefreshTest() {
+        // given: 적재 200ms, TTL 300ms, 난수 0.5 → 만료 약 139ms(200 × ln 2) 전부터 조기 갱신
+        Cache cache = protectedCache(Duration.ofMillis(300), Duration.ZERO, () -> 0.5);
+        Object first = cache.get("all", this::slowQuery);
+
+        // when: 만료 200ms 전에는 갱신하지 않음
+        clock.advance(100);
+        assertThat(cache.get("all", this::slowQuery)).isEqualTo(first);
+        assertThat(pendingRefreshes).isEmpty();
+
+        // when: 만료 100ms 전에는 기존 값을 바로 응답하고 갱신을 한 번만 예약
+        clock.advance(100);
+        for (int i = 0; i < 5; i++) {
+            assertThat(cache.get("all", this::slowQuery)).isEqualTo(first);
+        }
+        assertThat(pendingRefreshes).hasSize(1);
+        runPendingRefreshes();
+
+        // then
+        assertThat(dbCalls.get()).isEqualTo(2);
+        assertThat(cache.get("all", this::slowQuery)).isNotEqualTo(first);
+    }
+
+    @Test
+    @DisplayName("XFetch - 적재 시간이 0인 값(@CachePut 등)은 조기 갱신하지 않음")
+    void noEarlyRefreshWithoutComputeTimeTest() {
+        // given: 난수가 0에 가까워도(ln → -∞) 적재 시간이 0이면 갱신 확률 0
+        Cache cache = protectedCache(Duration.ofMillis(300), Duration.ZERO, () -> 0.999999);
+        cache.put("all", "직접 넣은 값");
+
+        // when
+        clock.advance(299);
+        Object value = cache.get("all", this::slowQuery);
+
+        // then
+        assertThat(value).isEqualTo("직접 넣은 값");
+        assertThat(pendingRefreshes).isEmpty();
+        assertThat(dbCalls.get()).isZero();
+    }
+
+    private Cache protectedCache(Duration ttl, Duration staleTtl, DoubleSupplier random) {
+        return new StampedeProtectedCache(new ConcurrentMapCache("products"), ttl, staleTtl, 1.0,
+                pendingRefreshes::add, meterRegistry, clock, random);
+    }
+
+    /**
+     * 느린 DB 조회 시뮬레이션: 실제로 기다리지 않고 시계를 적재 시간만큼 앞으로 돌림 (호출마다 다른 값 반환)
+     */
+    private String slowQuery() {
+        int call = dbCalls.incrementAndGet();
+        clock.advance(SLOW_QUERY_MS);
+        return "상품 목록 v" + call;
+    }
+
+    private void runPendingRefreshes() {
+        Runnable refresh;
+        while ((refresh = pendingRefreshes.poll()) != null) {
+            refresh.run();
+        }
+    }
+
+    private double coalescedCount() {
+        return meterRegistry.get("cache.stampede.coalesced").counter().count();
+    }
+
+    private void awaitCoalesced(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (coalescedCount() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+
+    private void runConcurrently(ThrowingRunnable task) throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch doneLatch = new CountDownLatch(THREAD_COUNT);
+
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            executorService.submit(() -> {
+                try {
+                    startLatch.await();
+                    task.run();
+                } catch (Exception e) {
+                    System.out.println("예외 발생: " + e.getMessage());
+                } finally {
+                    doneLatch.countDown();
+                }
+            });
+        }
+
+        startLatch.countDown();
+        doneLatch.await(30, TimeUnit.SECONDS);
+        executorService.shutdown();
+    }
+
+    @FunctionalInterface
+    private interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+
+    /**
+     * 테스트에서 직접 앞으로 돌리는 시계
+     */
+    private static final class MutableClock extends Clock {
+
+        private final AtomicLong millis = new AtomicLong(1_000_000L);
+
+        void advance(long deltaMillis) {
+            millis.addAndGet(deltaMillis);
+        }
+
+        @Override
+        public long millis() {
+            return millis.get();
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis.get());
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
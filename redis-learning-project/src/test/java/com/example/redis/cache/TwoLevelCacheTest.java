@@ -0,0 +1,104 @@
+package com.example.redis.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 2단 캐시 (Caffeine L1 + L2) 동작 테스트
+ * - L2는 Redis 대신 ConcurrentMapCache로 대체 (Redis 없이 실행 가능)
+ */
+class TwoLevelCacheTest {
+
+    private ConcurrentMapCache remoteCache;
+    private CacheInvalidationPublisher publisher;
+    private MeterRegistry meterRegistry;
+    private TwoLevelCache cache;
+
+    @BeforeEach
+    void setUp() {
+        remoteCache = new ConcurrentMapCache("product");
+        publisher = mock(CacheInvalidationPublisher.class);
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new TwoLevelCache("product", Caffeine.newBuilder().maximumSize(100).build(),
+                remoteCache, publisher, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("L2에서 읽은 값은 L1에 채워져 다음 조회는 L1에서 적중")
+    void remoteHitPopulatesLocalTest() {
+        // given: 다른 노드가 L2에만 저장한 상태
+        remoteCache.put(1L, "상품1");
+
+        // when
+        Object first = cache.get(1L).get();
+        remoteCache.evict(1L);  // L2가 비어도
+        Object second = cache.get(1L).get();  // L1에서 적중
+
+        // then
+        assertThat(first).isEqualTo("상품1");
+        assertThat(second).isEqualTo("상품1");
+        assertThat(count("l1", "hit")).isEqualTo(1);
+        assertThat(count("l1", "miss")).isEqualTo(1);
+        assertThat(count("l2", "hit")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("put은 L1/L2에 저장하고 다른 노드에 무효화 메시지 발행")
+    void putPublishesInvalidationTest() {
+        // when
+        cache.put(1L, "상품1");
+
+        // then
+        assertThat(remoteCache.get(1L).get()).isEqualTo("상품1");
+        assertThat(cache.get(1L).get()).isEqualTo("상품1");
+        assertThat(count("l1", "hit")).isEqualTo(1);
+        verify(publisher).publishEvict("product", 1L);
+    }
+
+    @Test
+    @DisplayName("무효화 메시지 수신 시 L1만 삭제되고 다음 조회는 L2의 새 값을 읽음")
+    void evictLocalReadsFreshValueTest() {
+        // given
+        cache.put(1L, "이전 값");
+        remoteCache.put(1L, "새 값");  // 다른 노드가 L2를 갱신
+
+        // when
+        cache.evictLocal("1");
+
+        // then
+        assertThat(cache.get(1L).get()).isEqualTo("새 값");
+    }
+
+    @Test
+    @DisplayName("clear는 L1/L2를 모두 비우고 전체 무효화 메시지 발행")
+    void clearTest() {
+        // given
+        cache.put("all", "목록");
+
+        // when
+        cache.clear();
+
+        // then
+        assertThat(cache.get("all")).isNull();
+        assertThat(count("l2", "miss")).isEqualTo(1);
+        verify(publisher).publishClear("product");
+    }
+
+    private double count(String tier, String result) {
+        return meterRegistry.get("cache.tier.gets")
+                .tag("cache", "product")
+                .tag("tier", tier)
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+}
@@ -0,0 +1,208 @@
+package com.example.redis.ranking;
+
+import com.example.redis.domain.RankingSnapshot;
+import com.example.redis.repository.RankingSnapshotRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 랭킹 스냅샷 보호 테스트
+ * - Redis(리더보드), MySQL(JdbcTemplate, Repository)은 mock (Redis/MySQL 없이 실행 가능)
+ * - Redis가 비워진(FLUSHALL) 직후 스냅샷 주기가 돌아도 MySQL 스냅샷이 지워지지 않는지 확인
+ * - 의도한 초기화/승인, 연속 생략 후에는 줄어든 리더보드를 그대로 저장하는지 확인
+ */
+class LeaderboardSnapshotServiceTest {
+
+    private static final long SNAPSHOT_USERS = 1_000;
+
+    private ShardedLeaderboard gameLeaderboard;
+    private RankingSnapshotRepository rankingSnapshotRepository;
+    private JdbcTemplate jdbcTemplate;
+    private StringRedisTemplate stringRedisTemplate;
+    private ValueOperations<String, String> valueOperations;
+    private LeaderboardProperties properties;
+    private LeaderboardSnapshotService snapshotService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        gameLeaderboard = mock(ShardedLeaderboard.class);
+        rankingSnapshotRepository = mock(RankingSnapshotRepository.class);
+        jdbcTemplate = mock(JdbcTemplate.class);
+        stringRedisTemplate = mock(StringRedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        properties = new LeaderboardProperties();
+        snapshotService = new LeaderboardSnapshotService(gameLeaderboard, rankingSnapshotRepository,
+                jdbcTemplate, stringRedisTemplate, properties);
+
+        // 마지막 스냅샷: 1,000명
+        when(rankingSnapshotRepository.count()).thenReturn(SNAPSHOT_USERS);
+    }
+
+    @Test
+    @DisplayName("Redis 유실 후 스냅샷 - 빈 리더보드를 저장하지 않고(DELETE 없음) 스냅샷에서 복원")
+    void flushedRedisRestoresInsteadOfSnapshotTest() {
+        // given: FLUSHALL로 모든 샤드가 비어 있음
+        when(gameLeaderboard.size()).thenReturn(0L);
+        List<RankingSnapshot> rows = List.of(
+                new RankingSnapshot("user1", 300.0, LocalDateTime.now()),
+                new RankingSnapshot("user2", 200.0, LocalDateTime.now()));
+        when(rankingSnapshotRepository.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(rows));
+
+        // when
+        long saved = snapshotService.snapshot();
+
+        // then: 스냅샷 테이블은 그대로, 리더보드는 스냅샷 점수로 복원
+        assertThat(saved).isZero();
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+        verify(jdbcTemplate, never()).update(startsWith("DELETE"), any(Object[].class));
+        verify(gameLeaderboard, never()).forEachBatch(anyInt(), any());
+        verify(gameLeaderboard).addAll(Map.of("user1", 300.0, "user2", 200.0));
+    }
+
+    @Test
+    @DisplayName("일부 유실 - 마지막 스냅샷의 절반 미만이면 저장 생략 (복원도 하지 않음)")
+    void shrunkLeaderboardSkipsSnapshotTest() {
+        // given: 샤드 일부가 유실되어 1,000명 → 300명
+        when(gameLeaderboard.size()).thenReturn(300L);
+        when(valueOperations.increment(anyString())).thenReturn(1L);
+
+        // when
+        long saved = snapshotService.snapshot();
+
+        // then: 남은 사용자의 최신 점수를 오래된 스냅샷으로 덮어쓰지 않도록 복원하지 않음
+        assertThat(saved).isZero();
+        verify(valueOperations).increment("ranking:game:snapshot:skips");
+        verify(jdbcTemplate, never()).update(startsWith("DELETE"), any(Object[].class));
+        verify(gameLeaderboard, never()).forEachBatch(anyInt(), any());
+        verify(gameLeaderboard, never()).addAll(any());
+    }
+
+    @Test
+    @DisplayName("연속 생략 - maxConsecutiveSkips번 생략한 뒤에는 줄어든 인원을 받아들여 저장")
+    void acceptShrunkLeaderboardAfterConsecutiveSkipsTest() {
+        // given: 300명으로 줄어든 상태가 계속됨 (이미 6번 생략)
+        when(gameLeaderboard.size()).thenReturn(300L);
+        when(valueOperations.increment(anyString())).thenReturn(properties.getSnapshot().getMaxConsecutiveSkips() + 1L);
+        givenLeaderboard("user1", "user2");
+
+        // when
+        long saved = snapshotService.snapshot();
+
+        // then: 저장 후 생략 횟수 초기화
+        assertThat(saved).isEqualTo(2);
+        verify(jdbcTemplate).update(eq("DELETE FROM ranking_snapshot WHERE snapshot_at < ?"), any(Object[].class));
+        verify(stringRedisTemplate).delete(List.of("ranking:game:snapshot:accept", "ranking:game:snapshot:skips"));
+    }
+
+    @Test
+    @DisplayName("의도한 초기화 - 승인 표시가 있으면 빈 리더보드도 복원하지 않고 그대로 저장")
+    void acceptedClearSavesEmptyLeaderboardTest() {
+        // given: 관리자 초기화(DELETE /api/ranking/all)로 비워진 리더보드
+        snapshotService.acceptNextSnapshot();
+        when(stringRedisTemplate.hasKey("ranking:game:snapshot:accept")).thenReturn(true);
+        when(gameLeaderboard.size()).thenReturn(0L);
+
+        // when
+        long saved = snapshotService.snapshot();
+
+        // then: 옛 점수를 복원하지 않고 스냅샷 행을 모두 정리
+        assertThat(saved).isZero();
+        verify(valueOperations).set(eq("ranking:game:snapshot:accept"), eq("1"), any());
+        verify(gameLeaderboard, never()).addAll(any());
+        verify(jdbcTemplate).update(eq("DELETE FROM ranking_snapshot WHERE snapshot_at < ?"), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("긴 userId - 컬럼 길이(100자)를 넘는 사용자만 제외하고 나머지는 저장")
+    @SuppressWarnings("unchecked")
+    void skipTooLongUserIdTest() {
+        // given
+        when(gameLeaderboard.size()).thenReturn(1_000L);
+        givenLeaderboard("user1", "u".repeat(RankingSnapshot.USER_ID_MAX_LENGTH + 1), "user2");
+        List<List<Object[]>> batches = new ArrayList<>();
+        when(jdbcTemplate.batchUpdate(startsWith("INSERT"), anyList())).thenAnswer(invocation -> {
+            batches.add(invocation.getArgument(1));
+            return new int[0];
+        });
+
+        // when
+        long saved = snapshotService.snapshot();
+
+        // then
+        assertThat(saved).isEqualTo(2);
+        assertThat(batches.get(0)).extracting(row -> row[0]).containsExactly("user1", "user2");
+    }
+
+    @Test
+    @DisplayName("정상 - 리더보드 전체를 UPSERT하고 이번 스냅샷에 없는 사용자 삭제")
+    void normalSnapshotTest() {
+        // given: 탈퇴 등으로 조금 줄어든 리더보드 (기준 비율 이상)
+        when(gameLeaderboard.size()).thenReturn(900L);
+        givenLeaderboard("user1", "user2");
+
+        // when
+        long saved = snapshotService.snapshot();
+
+        // then
+        assertThat(saved).isEqualTo(2);
+        verify(jdbcTemplate).batchUpdate(startsWith("INSERT"), anyList());
+        verify(jdbcTemplate).update(eq("DELETE FROM ranking_snapshot WHERE snapshot_at < ?"), any(Object[].class));
+        verify(gameLeaderboard, never()).addAll(any());
+    }
+
+    @Test
+    @DisplayName("첫 스냅샷 - 저장된 스냅샷이 없으면 빈 리더보드도 그대로 저장")
+    void firstSnapshotTest() {
+        // given
+        when(rankingSnapshotRepository.count()).thenReturn(0L);
+        when(gameLeaderboard.size()).thenReturn(0L);
+
+        // when
+        long saved = snapshotService.snapshot();
+
+        // then
+        assertThat(saved).isZero();
+        verify(gameLeaderboard).forEachBatch(anyInt(), any());
+        verify(gameLeaderboard, never()).addAll(any());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenLeaderboard(String... userIds) {
+        doAnswer(invocation -> {
+            Map<String, Double> batch = new LinkedHashMap<>();
+            for (int i = 0; i < userIds.length; i++) {
+                batch.put(userIds[i], 100.0 * (userIds.length - i));
+            }
+            ((Consumer<Map<String, Double>>) invocation.getArgument(1)).accept(batch);
+            return null;
+        }).when(gameLeaderboard).forEachBatch(anyInt(), any());
+    }
+}
@@ -0,0 +1,186 @@
+package com.example.redis.ranking;
+
+import com.example.redis.controller.RankingController;
+import com.example.redis.service.RankingService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Clock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 점수 일괄 증가 API 테스트 + 처리량 비교
+ * - docker-compose의 Redis(localhost:6380)가 필요합니다 (MockMvc standalone, MySQL 불필요)
+ * - 단건 API(POST /score/increment) N번 vs 일괄 API 1번
+ */
+class RankingBatchIngestionTest {
+
+    private static final String KEY_PREFIX = "test:ranking:batch";
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private ShardedLeaderboard leaderboard;
+    private MockMvc mockMvc;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", 6380));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        LeaderboardProperties properties = new LeaderboardProperties();
+        leaderboard = new ShardedLeaderboard(redisTemplate, KEY_PREFIX, properties.getShards());
+        WindowedLeaderboard windowed = new WindowedLeaderboard(
+                redisTemplate, leaderboard, properties.getWindows(), Clock.system(properties.getWindows().getZone()));
+        RankingService rankingService = new RankingService(leaderboard, windowed, properties, null, null);
+        mockMvc = MockMvcBuilders.standaloneSetup(new RankingController(
+                rankingService, properties, Jackson2ObjectMapperBuilder.json().build())).build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        redisTemplate.delete(redisTemplate.keys(KEY_PREFIX + ":*"));
+    }
+
+    @Test
+    @DisplayName("JSON 배열 - 같은 사용자는 합산, 새 점수와 전체 순위 응답")
+    void jsonArrayTest() throws Exception {
+        leaderboard.add("top", 1_000);
+
+        mockMvc.perform(post("/api/ranking/score/increment/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                [{"userId": "user1", "delta": 100},
+                                 {"userId": "user2", "delta": 300},
+                                 {"userId": "user1", "delta": 250}]
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.received").value(3))
+                .andExpect(jsonPath("$.users").value(2))
+                .andExpect(jsonPath("$.data[0].userId").value("user1"))
+                .andExpect(jsonPath("$.data[0].score").value(350.0))
+                .andExpect(jsonPath("$.data[0].rank").value(2))
+                .andExpect(jsonPath("$.data[1].userId").value("user2"))
+                .andExpect(jsonPath("$.data[1].rank").value(3));
+
+        assertThat(leaderboard.score("user1")).isEqualTo(350.0);
+    }
+
+    @Test
+    @DisplayName("NDJSON - 한 줄에 항목 1개")
+    void ndjsonTest() throws Exception {
+        mockMvc.perform(post("/api/ranking/score/increment/batch")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content("""
+                                {"userId": "user1", "delta": 10}
+                                {"userId": "user2", "delta": 20}
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.users").value(2))
+                .andExpect(jsonPath("$.data[1].rank").value(1));
+    }
+
+    @Test
+    @DisplayName("NDJSON - JSON 배열과 같이 알 수 없는 필드는 무시")
+    void ndjsonIgnoresUnknownPropertiesTest() throws Exception {
+        mockMvc.perform(post("/api/ranking/score/increment/batch")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content("""
+                                {"userId": "user1", "delta": 10, "source": "game-server"}
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.users").value(1));
+    }
+
+    @Test
+    @DisplayName("잘못된 항목이 있으면 400, 아무것도 반영하지 않음")
+    void rejectInvalidBatchTest() throws Exception {
+        mockMvc.perform(post("/api/ranking/score/increment/batch")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content("""
+                                {"userId": "user1", "delta": 10}
+                                {"userId": "user2"}
+                                """))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("2번째 항목에 userId 또는 delta가 없습니다."));
+
+        mockMvc.perform(post("/api/ranking/score/increment/batch")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content("{\"userId\": \"user1\", \"delta\": 10}\n{broken"))
+                .andExpect(status().isBadRequest());
+
+        assertThat(leaderboard.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("처리량 비교 - 단건 API N번 vs 일괄 API 1번")
+    void throughputBenchmarkTest() throws Exception {
+        // JIT 워밍업
+        run(false, 200);
+        run(true, 200);
+        tearDown();
+
+        System.out.println("=== 점수 증가 처리량 (MockMvc + 로컬 Redis, 샤드 " + leaderboard.getShards() + "개) ===");
+        System.out.printf("%8s %14s %14s %10s%n", "항목 수", "단건(ms)", "일괄(ms)", "배율");
+        for (int count : new int[]{100, 1_000, 5_000}) {
+            long single = run(false, count);
+            tearDown();
+            long batch = run(true, count);
+            tearDown();
+            System.out.printf("%8d %14.1f %14.1f %9.1fx%n",
+                    count, single / 1e6, batch / 1e6, (double) single / batch);
+            assertThat(batch).isLessThan(single);
+        }
+    }
+
+    /**
+     * count명의 점수 증가에 걸린 시간 (ns)
+     */
+    private long run(boolean batch, int count) throws Exception {
+        long start = System.nanoTime();
+        if (batch) {
+            StringBuilder body = new StringBuilder();
+            for (int i = 0; i < count; i++) {
+                body.append("{\"userId\":\"player").append(i).append("\",\"delta\":").append(i % 50).append("}\n");
+            }
+            mockMvc.perform(post("/api/ranking/score/increment/batch")
+                            .contentType(MediaType.APPLICATION_NDJSON)
+                            .content(body.toString()))
+                    .andExpect(status().isOk());
+        } else {
+            for (int i = 0; i < count; i++) {
+                mockMvc.perform(post("/api/ranking/score/increment")
+                                .param("userId", "player" + i)
+                                .param("delta", String.valueOf(i % 50)))
+                        .andExpect(status().isOk());
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        assertThat(leaderboard.size()).isEqualTo(count);
+        return elapsed;
+    }
+}
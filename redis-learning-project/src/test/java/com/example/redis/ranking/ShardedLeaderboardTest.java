@@ -0,0 +1,160 @@
+package com.example.redis.ranking;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 샤딩 리더보드 테스트
+ * - docker-compose의 Redis(localhost:6380)가 필요합니다 (Spring 컨텍스트/MySQL 불필요)
+ * - 같은 데이터를 Java로 정렬한 단일 랭킹(기대값)과 샤드 병합 결과를 비교
+ */
+class ShardedLeaderboardTest {
+
+    private static final String KEY_PREFIX = "test:ranking:sharded";
+    private static final int SHARDS = 4;
+    private static final int USERS = 500;
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private ShardedLeaderboard leaderboard;
+    private List<LeaderboardEntry> expected;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", 6380));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        leaderboard = new ShardedLeaderboard(redisTemplate, KEY_PREFIX, SHARDS);
+        leaderboard.clear();
+
+        // 동점이 많이 생기도록 점수 범위를 좁게 (0 ~ 99)
+        Random random = new Random(42);
+        Map<String, Double> scores = new LinkedHashMap<>();
+        for (int i = 0; i < USERS; i++) {
+            scores.put("user" + i, (double) random.nextInt(100));
+        }
+        leaderboard.addAll(scores);
+        expected = expectedRanking(scores);
+    }
+
+    @AfterEach
+    void tearDown() {
+        leaderboard.clear();
+    }
+
+    @Test
+    @DisplayName("페이지 조회 - 샤드 병합 결과가 단일 랭킹과 같은 순서/순위")
+    void pageTest() {
+        assertThat(leaderboard.size()).isEqualTo(USERS);
+        assertThat(leaderboard.top(10)).isEqualTo(expected.subList(0, 10));
+        assertThat(leaderboard.page(120, 30)).isEqualTo(expected.subList(120, 150));
+        assertThat(leaderboard.page(490, 30)).isEqualTo(expected.subList(490, USERS));
+    }
+
+    @Test
+    @DisplayName("순위 - 동점자는 같은 순위, 다음 순위는 동점자 수만큼 건너뜀")
+    void rankTest() {
+        for (LeaderboardEntry entry : expected) {
+            assertThat(leaderboard.rank(entry.userId())).isEqualTo(entry.rank());
+        }
+        assertThat(leaderboard.rank("unknown")).isNull();
+    }
+
+    @Test
+    @DisplayName("내 주변 순위 - 위/아래 radius명과 각자의 전체 순위")
+    void aroundTest() {
+        for (int index : new int[]{0, 3, 250, USERS - 1}) {
+            LeaderboardEntry me = expected.get(index);
+            List<LeaderboardEntry> around = leaderboard.around(me.userId(), 5);
+
+            assertThat(around).isEqualTo(expected.subList(Math.max(0, index - 5), Math.min(USERS, index + 6)));
+        }
+        assertThat(leaderboard.around("unknown", 5)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("점수 일괄 증가 - 파이프라인 결과가 증가 후 점수")
+    void incrementAllTest() {
+        // given
+        Map<String, Double> deltas = Map.of("user1", 1_000.0, "newUser", 5.5);
+        double before = leaderboard.score("user1");
+
+        // when
+        Map<String, Double> newScores = leaderboard.incrementAll(deltas);
+
+        // then
+        assertThat(newScores).containsEntry("user1", before + 1_000.0).containsEntry("newUser", 5.5);
+        assertThat(leaderboard.rank("user1")).isEqualTo(1L);
+        assertThat(leaderboard.size()).isEqualTo(USERS + 1);
+    }
+
+    @Test
+    @DisplayName("스냅샷 순회 - 모든 샤드의 사용자를 배치 단위로 한 번씩")
+    void forEachBatchTest() {
+        Map<String, Double> scanned = new HashMap<>();
+        List<Integer> batchSizes = new ArrayList<>();
+
+        leaderboard.forEachBatch(100, batch -> {
+            batchSizes.add(batch.size());
+            scanned.putAll(batch);
+        });
+
+        assertThat(scanned).hasSize(USERS);
+        assertThat(batchSizes).allMatch(size -> size <= 100);
+        expected.forEach(entry -> assertThat(scanned).containsEntry(entry.userId(), entry.score()));
+    }
+
+    @Test
+    @DisplayName("페이지 깊이 제한 (상위 10,000위까지)")
+    void pageDepthLimitTest() {
+        assertThatThrownBy(() -> leaderboard.page(ShardedLeaderboard.MAX_PAGE_DEPTH, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * 기대값: 점수 내림차순, 같은 점수는 userId 역순 (ZREVRANGE와 같은 순서), 동점 공동 순위
+     */
+    private List<LeaderboardEntry> expectedRanking(Map<String, Double> scores) {
+        List<Map.Entry<String, Double>> sorted = new ArrayList<>(scores.entrySet());
+        sorted.sort(Map.Entry.<String, Double>comparingByValue().reversed()
+                .thenComparing(Map.Entry.comparingByKey(Comparator.reverseOrder())));
+
+        List<LeaderboardEntry> ranking = new ArrayList<>();
+        long rank = 1;
+        for (int i = 0; i < sorted.size(); i++) {
+            if (i > 0 && !sorted.get(i).getValue().equals(sorted.get(i - 1).getValue())) {
+                rank = i + 1;
+            }
+            ranking.add(new LeaderboardEntry(rank, sorted.get(i).getKey(), sorted.get(i).getValue()));
+        }
+        return ranking;
+    }
+}
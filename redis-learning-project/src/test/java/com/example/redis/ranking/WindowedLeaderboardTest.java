@@ -0,0 +1,146 @@
+package com.example.redis.ranking;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 기간별 리더보드 테스트
+ * - docker-compose의 Redis(localhost:6380)가 필요합니다 (Spring 컨텍스트/MySQL 불필요)
+ * - 고정 시계(Clock)로 시각을 바꿔 가며 시간 버킷 기록과 일간/주간 롤업을 확인
+ */
+class WindowedLeaderboardTest {
+
+    private static final String KEY_PREFIX = "test:ranking:windowed";
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    // 2026-10-19는 월요일 (ISO 2026-W43)
+    private static final LocalDateTime MONDAY_10 = LocalDateTime.of(2026, 10, 19, 10, 15);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private final LeaderboardProperties.Windows properties = new LeaderboardProperties.Windows();
+    private final ShardedLeaderboard allTime = new ShardedLeaderboard(redisTemplate, KEY_PREFIX, 4);
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", 6380));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @AfterEach
+    void tearDown() {
+        // 테스트마다 시각이 달라 clear()의 보관 기간 범위를 벗어나는 키가 있으므로 패턴으로 삭제
+        redisTemplate.delete(redisTemplate.keys(KEY_PREFIX + ":*"));
+    }
+
+    @Test
+    @DisplayName("점수 증가 - 전체 보드와 현재 시간 버킷에 함께 기록, 시간 버킷은 TTL")
+    void incrementWritesAllTimeAndHourlyTest() {
+        // given
+        WindowedLeaderboard leaderboard = at(MONDAY_10);
+
+        // when
+        Double newScore = leaderboard.increment("user1", 100);
+        Map<String, Double> newScores = leaderboard.incrementAll(Map.of("user1", 50.0, "user2", 30.0));
+
+        // then
+        assertThat(newScore).isEqualTo(100.0);
+        assertThat(newScores).containsEntry("user1", 150.0).containsEntry("user2", 30.0);
+
+        ShardedLeaderboard hourly = leaderboard.board(LeaderboardWindow.HOURLY);
+        assertThat(hourly.getKeyPrefix()).isEqualTo(KEY_PREFIX + ":hourly:2026101910");
+        assertThat(hourly.score("user1")).isEqualTo(150.0);
+        assertThat(redisTemplate.getExpire(hourly.shardKeyOf("user1"))).isPositive();
+        assertThat(leaderboard.board(LeaderboardWindow.ALL_TIME).score("user1")).isEqualTo(150.0);
+    }
+
+    @Test
+    @DisplayName("롤업 - 일간은 그날의 시간 버킷 합, 주간은 그 주의 일간 합")
+    void rollupTest() {
+        // given: 월요일 10시/11시, 화요일 9시에 점수 증가
+        at(MONDAY_10).increment("user1", 100);
+        at(MONDAY_10).increment("user2", 10);
+        at(MONDAY_10.plusHours(1)).increment("user1", 20);
+        at(MONDAY_10.plusHours(1)).rollup();
+
+        WindowedLeaderboard tuesday = at(MONDAY_10.plusDays(1).minusHours(1));
+        tuesday.increment("user2", 500);
+
+        // when
+        tuesday.rollup();
+
+        // then
+        ShardedLeaderboard monday = tuesday.board(LeaderboardWindow.DAILY, MONDAY_10);
+        assertThat(monday.score("user1")).isEqualTo(120.0);
+        assertThat(monday.score("user2")).isEqualTo(10.0);
+        assertThat(tuesday.board(LeaderboardWindow.DAILY).top(10))
+                .containsExactly(new LeaderboardEntry(1, "user2", 500.0));
+        assertThat(tuesday.board(LeaderboardWindow.WEEKLY).top(10)).containsExactly(
+                new LeaderboardEntry(1, "user2", 510.0),
+                new LeaderboardEntry(2, "user1", 120.0));
+        assertThat(tuesday.board(LeaderboardWindow.WEEKLY).getKeyPrefix()).isEqualTo(KEY_PREFIX + ":weekly:2026-W43");
+    }
+
+    @Test
+    @DisplayName("자정 직후 첫 롤업에서 전날의 마지막 변경까지 반영")
+    void rollupAcrossMidnightTest() {
+        // given: 일요일(주 마지막 날) 23:59:50, 마지막 롤업은 23:59:30
+        LocalDateTime sundayLate = LocalDateTime.of(2026, 10, 25, 23, 59, 50);
+        at(sundayLate.minusSeconds(20)).rollup();
+        at(sundayLate).increment("user1", 70);
+
+        // when: 다음 롤업은 월요일 00:00:40
+        WindowedLeaderboard nextMonday = at(sundayLate.plusSeconds(50));
+        nextMonday.rollup();
+
+        // then: 지난 일요일/지난 주 보드에 반영, 새 주는 비어 있음
+        assertThat(nextMonday.board(LeaderboardWindow.DAILY, sundayLate).score("user1")).isEqualTo(70.0);
+        assertThat(nextMonday.board(LeaderboardWindow.WEEKLY, sundayLate).score("user1")).isEqualTo(70.0);
+        assertThat(nextMonday.board(LeaderboardWindow.WEEKLY).size()).isZero();
+    }
+
+    @Test
+    @DisplayName("사용자 삭제 - 시간 버킷에서도 지워 다음 롤업에 다시 나타나지 않음")
+    void removeTest() {
+        // given
+        WindowedLeaderboard leaderboard = at(MONDAY_10);
+        leaderboard.increment("cheater", 9_999);
+        leaderboard.increment("user1", 10);
+        leaderboard.rollup();
+
+        // when
+        leaderboard.remove("cheater");
+        leaderboard.rollup();
+
+        // then
+        for (LeaderboardWindow window : LeaderboardWindow.values()) {
+            assertThat(leaderboard.board(window).score("cheater")).isNull();
+            assertThat(leaderboard.board(window).rank("user1")).isEqualTo(1L);
+        }
+    }
+
+    private WindowedLeaderboard at(LocalDateTime dateTime) {
+        Clock clock = Clock.fixed(dateTime.atZone(ZONE).toInstant(), ZONE);
+        return new WindowedLeaderboard(redisTemplate, allTime, properties, clock);
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.redis.search;
+
+import com.example.redis.domain.Product;
+import com.example.redis.repository.ProductRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 상품 검색 벤치마크: LIKE '%keyword%' (MySQL 전체 스캔) vs 인메모리 n-gram 색인
+ * - docker-compose의 MySQL/Redis와 DataLoader의 상품 10,000개가 필요합니다
+ * - 색인 시간은 ID 검색만 측정 (PK 조회는 두 방식 모두 필요하므로 제외)
+ */
+@SpringBootTest
+class ProductSearchBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductSearchBenchmarkTest.class);
+
+    private static final List<String> KEYWORDS = List.of("노트북", "프리미엄 키보드", "요가", "책", "9999");
+    private static final int WARMUP = 20;
+    private static final int ITERATIONS = 100;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductSearchIndex productSearchIndex;
+
+    @Test
+    @DisplayName("같은 검색어에 대해 LIKE 검색과 색인 검색의 평균 응답 시간 비교")
+    void compareLikeAndIndexTest() {
+        assertThat(productSearchIndex.isReady()).isTrue();
+
+        log.info("=== 상품 검색 벤치마크 (상품 {}개, {}회 평균) ===", productSearchIndex.size(), ITERATIONS);
+        log.info(String.format("%-12s %8s %12s %12s", "검색어", "결과 수", "LIKE(µs)", "색인(µs)"));
+
+        for (String keyword : KEYWORDS) {
+            // given
+            List<Long> likeIds = productRepository.searchByName(keyword).stream().map(Product::getId).toList();
+            List<Long> indexIds = productSearchIndex.search(keyword);
+
+            // when
+            long likeMicros = averageMicros(() -> productRepository.searchByName(keyword));
+            long indexMicros = averageMicros(() -> productSearchIndex.search(keyword));
+
+            // then: 색인은 이름 + 설명을 검색하므로 LIKE(이름만) 결과를 모두 포함
+            log.info(String.format("%-12s %8d %12d %12d", keyword, indexIds.size(), likeMicros, indexMicros));
+            assertThat(indexIds).containsAll(likeIds);
+            assertThat(indexMicros).isLessThan(likeMicros);
+        }
+    }
+
+    private long averageMicros(Supplier<?> search) {
+        for (int i = 0; i < WARMUP; i++) {
+            search.get();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            search.get();
+        }
+        return (System.nanoTime() - start) / ITERATIONS / 1_000;
+    }
+}
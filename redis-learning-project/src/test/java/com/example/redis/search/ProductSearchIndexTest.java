@@ -0,0 +1,81 @@
+package com.example.redis.search;
+
+import com.example.redis.domain.Product;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 상품 검색 색인 테스트 (DB 없이 실행 가능)
+ */
+class ProductSearchIndexTest {
+
+    private ProductSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ProductSearchIndex();
+        index.rebuild(List.of(
+                product(1L, "프리미엄 노트북 1", "전자기기 카테고리의 프리미엄 노트북입니다."),
+                product(2L, "노트북 거치대 2", "가구 카테고리의 스탠다드 거치대입니다."),
+                product(3L, "인기 공책 3", "도서 카테고리의 인기 노트입니다."),
+                product(4L, "울트라 마우스 4", "전자기기 카테고리의 울트라 마우스입니다."),
+                product(5L, "Pro Keyboard 5", "전자기기 카테고리의 영문 키보드입니다.")
+        ));
+    }
+
+    @Test
+    @DisplayName("이름으로 시작 > 이름에 포함 > 설명에만 포함 순으로 정렬")
+    void rankingTest() {
+        // when
+        List<Long> ids = index.search("노트");
+
+        // then: 2(이름이 '노트'로 시작), 1(이름에 포함), 3(설명에만 포함)
+        assertThat(ids).containsExactly(2L, 1L, 3L);
+    }
+
+    @Test
+    @DisplayName("bigram이 모두 있어도 실제로 이어져 있지 않으면 제외 (오탐 제거)")
+    void falsePositiveTest() {
+        // given: '노트'와 '트북'은 모두 색인되어 있지만 '노트북'이 아닌 '노트 ... 트북'만 가진 상품
+        index.index(6L, "노트 트북", "");
+
+        // when & then
+        assertThat(index.search("노트북")).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("1글자 검색어, 대소문자 무시")
+    void singleCharAndCaseInsensitiveTest() {
+        assertThat(index.search("책")).containsExactly(3L);
+        assertThat(index.search("KEYBOARD")).containsExactly(5L);
+        assertThat(index.search("  ")).isEmpty();
+        assertThat(index.search("없는상품")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("상품 수정 시 이전 토큰은 제거되고 새 토큰으로 검색")
+    void reindexTest() {
+        // when
+        index.index(4L, "울트라 키보드 4", "전자기기 카테고리의 울트라 키보드입니다.");
+        index.remove(1L);
+
+        // then
+        assertThat(index.search("마우스")).isEmpty();
+        assertThat(index.search("키보드")).containsExactly(4L, 5L);
+        assertThat(index.search("프리미엄")).isEmpty();
+        assertThat(index.size()).isEqualTo(4);
+    }
+
+    private Product product(Long id, String name, String description) {
+        return Product.builder()
+                .id(id)
+                .name(name)
+                .description(description)
+                .build();
+    }
+}
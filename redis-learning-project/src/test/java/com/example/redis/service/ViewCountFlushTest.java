@@ -0,0 +1,163 @@
+package com.example.redis.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 조회수 DB 일괄 반영 테스트
+ * - docker-compose의 Redis(localhost:6380)가 필요합니다 (Spring 컨텍스트/MySQL 불필요)
+ * - JdbcTemplate은 mock으로 두고 실행된 UPDATE 문장과 파라미터를 확인
+ */
+class ViewCountFlushTest {
+
+    private static final long FIRST_POST_ID = 990_101L;
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate stringRedisTemplate;
+    private static RedisTemplate<String, Object> redisTemplate;
+
+    private final List<Long> postIds = new ArrayList<>();
+    private JdbcTemplate jdbcTemplate;
+    private ViewCountService viewCountService;
+    private ViewCountFlushService flushService;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", 6380));
+        connectionFactory.afterPropertiesSet();
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new GenericJackson2JsonRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        stringRedisTemplate.delete(ViewCountService.DIRTY_KEY);
+        jdbcTemplate = mock(JdbcTemplate.class);
+        viewCountService = new ViewCountService(redisTemplate, stringRedisTemplate, null);
+
+        ViewCountFlushProperties properties = new ViewCountFlushProperties();
+        properties.setChunkSize(2);
+        flushService = new ViewCountFlushService(stringRedisTemplate, jdbcTemplate, properties, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        postIds.forEach(viewCountService::resetViewCount);
+        stringRedisTemplate.delete(ViewCountService.DIRTY_KEY);
+    }
+
+    @Test
+    @DisplayName("반영 - 표시된 게시글을 청크마다 UPDATE 1문장으로 저장하고 dirty를 비움")
+    void flushWritesChunksTest() {
+        // given: 게시글 3개 (청크 크기 2 → UPDATE 2번)
+        view(FIRST_POST_ID, 3);
+        view(FIRST_POST_ID + 1, 1);
+        view(FIRST_POST_ID + 2, 2);
+        assertThat(flushService.lagMillis()).isGreaterThanOrEqualTo(0);
+
+        // when
+        long flushed = flushService.flush();
+
+        // then
+        assertThat(flushed).isEqualTo(3);
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        verify(jdbcTemplate, times(2)).update(anyString(), args.capture());
+
+        List<Object> written = new ArrayList<>();
+        args.getAllValues().forEach(values -> written.addAll(Arrays.asList(values)));
+        assertThat(written).containsSubsequence(FIRST_POST_ID, 3L)
+                .containsSubsequence(FIRST_POST_ID + 1, 1L)
+                .containsSubsequence(FIRST_POST_ID + 2, 2L);
+
+        assertThat(stringRedisTemplate.opsForZSet().zCard(ViewCountService.DIRTY_KEY)).isZero();
+        assertThat(flushService.lagMillis()).isZero();
+        assertThat(flushService.flush()).isZero();
+    }
+
+    @Test
+    @DisplayName("반영 후 다시 조회된 게시글만 다음 반영 대상")
+    void incrementAfterFlushMarksDirtyAgainTest() {
+        // given
+        view(FIRST_POST_ID, 1);
+        view(FIRST_POST_ID + 1, 1);
+        flushService.flush();
+
+        // when
+        view(FIRST_POST_ID + 1, 1);
+
+        // then
+        assertThat(stringRedisTemplate.opsForZSet().range(ViewCountService.DIRTY_KEY, 0, -1))
+                .containsExactly(String.valueOf(FIRST_POST_ID + 1));
+    }
+
+    @Test
+    @DisplayName("DB 저장 실패 - 원래 시각으로 dirty에 되돌려 lag가 줄어들지 않음")
+    void failedWriteRestoresDirtyTest() throws InterruptedException {
+        // given
+        view(FIRST_POST_ID, 1);
+        Double markedAt = stringRedisTemplate.opsForZSet().score(ViewCountService.DIRTY_KEY, String.valueOf(FIRST_POST_ID));
+        when(jdbcTemplate.update(anyString(), any(Object[].class)))
+                .thenThrow(new DataAccessResourceFailureException("MySQL 연결 실패"));
+        Thread.sleep(5);
+
+        // when & then
+        assertThatThrownBy(() -> flushService.flush()).isInstanceOf(DataAccessResourceFailureException.class);
+        assertThat(stringRedisTemplate.opsForZSet().score(ViewCountService.DIRTY_KEY, String.valueOf(FIRST_POST_ID)))
+                .isEqualTo(markedAt);
+        assertThat(flushService.lagMillis()).isGreaterThanOrEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("UPDATE 문장 - CASE로 게시글별 값, GREATEST로 조회수 감소 방지")
+    void updateSqlTest() {
+        assertThat(ViewCountFlushService.updateSql(2)).isEqualTo(
+                "UPDATE post SET view_count = GREATEST(view_count, CASE id WHEN ? THEN ? WHEN ? THEN ? END), "
+                        + "updated_at = ? WHERE id IN (?, ?)");
+    }
+
+    private void view(long postId, int times) {
+        if (!postIds.contains(postId)) {
+            postIds.add(postId);
+        }
+        for (int i = 0; i < times; i++) {
+            viewCountService.increaseViewCount(postId);
+        }
+    }
+}
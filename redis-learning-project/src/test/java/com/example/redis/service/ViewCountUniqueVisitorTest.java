@@ -0,0 +1,120 @@
+package com.example.redis.service;
+
+import com.example.redis.dto.ViewStatsResponse;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * 순 방문자 수(HyperLogLog) 테스트
+ * - docker-compose의 Redis(localhost:6380)가 필요합니다 (Spring 컨텍스트/MySQL 불필요)
+ */
+class ViewCountUniqueVisitorTest {
+
+    private static final Long POST_ID = 990_001L;
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate stringRedisTemplate;
+    private static RedisTemplate<String, Object> redisTemplate;
+
+    private ViewCountService viewCountService;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", 6380));
+        connectionFactory.afterPropertiesSet();
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new GenericJackson2JsonRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @AfterEach
+    void tearDown() {
+        viewCountService.resetViewCount(POST_ID);
+    }
+
+    private ViewCountService service() {
+        viewCountService = new ViewCountService(redisTemplate, stringRedisTemplate, null);
+        viewCountService.resetViewCount(POST_ID);
+        return viewCountService;
+    }
+
+    @Test
+    @DisplayName("같은 방문자의 재조회 - 조회수는 증가, 순 방문자 수는 그대로")
+    void repeatedVisitorCountedOnceTest() {
+        // given
+        ViewCountService service = service();
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            service.increaseViewCount(POST_ID, "visitor-1");
+        }
+        service.increaseViewCount(POST_ID, "visitor-2");
+
+        // then
+        ViewStatsResponse stats = service.getViewStats(POST_ID);
+        assertThat(stats.getViewCount()).isEqualTo(4L);
+        assertThat(stats.getUniqueVisitorsToday()).isEqualTo(2L);
+        assertThat(stats.getUniqueVisitorsLast7Days()).isEqualTo(2L);
+        assertThat(stats.getUniqueVisitorsLast30Days()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("방문자 10만 명 - 근사값이 3% 이내 (표준 오차 0.81%), 키 1개 메모리는 12KB 이하")
+    void largeCardinalityApproximationTest() {
+        // given
+        ViewCountService service = service();
+        int visitors = 100_000;
+
+        // when: 파이프라인 1번에 여러 방문자를 기록하기 위해 HLL에 직접 PFADD (조회수 키는 검증 대상 아님)
+        String[] batch = new String[1_000];
+        String key = "view:uv:post:{" + POST_ID + "}:" + DateTimeFormatter.BASIC_ISO_DATE.format(LocalDate.now());
+        for (int i = 0; i < visitors; i += batch.length) {
+            for (int j = 0; j < batch.length; j++) {
+                batch[j] = "visitor-" + (i + j);
+            }
+            stringRedisTemplate.opsForHyperLogLog().add(key, batch);
+        }
+
+        // then
+        Long count = service.getUniqueVisitorCount(POST_ID, LocalDate.now());
+        assertThat(count.doubleValue()).isCloseTo(visitors, within(visitors * 0.03));
+        assertThat(stringRedisTemplate.opsForValue().size(key)).isLessThanOrEqualTo(12 * 1024 + 16L);
+    }
+
+    @Test
+    @DisplayName("기간 조회 - 잘못된 범위는 IllegalArgumentException")
+    void invalidRangeTest() {
+        ViewCountService service = service();
+        LocalDate today = LocalDate.now();
+
+        assertThatThrownBy(() -> service.getUniqueVisitorCount(POST_ID, today, today.minusDays(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.getUniqueVisitorCount(POST_ID, today.minusDays(60), today))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}